@@ -0,0 +1,98 @@
+package com.mongsom.dev.config;
+
+import java.util.Map;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.FixedBackOff;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * 도메인 이벤트 Kafka 설정
+ * - 브로커: spring.kafka.bootstrap-servers (application.yml, 예: ${KAFKA_BOOTSTRAP_SERVERS:localhost:9092})
+ * - Kafka 없이 실행(로컬 개발): domain-events.transport=local
+ *   outbox 이벤트를 서버 안에서 바로 소비자에게 전달하고 토픽 생성/Kafka 리스너는 건너뜀
+ * - 소비 실패 이벤트: 재시도 후 {토픽}.DLT로 이동 (같은 파티션 번호로 보내므로 DLT 파티션 수는 원본과 같게 생성)
+ */
+@Configuration
+public class KafkaConfig {
+
+    public static final String DOMAIN_EVENT_CONTAINER_FACTORY = "domainEventListenerContainerFactory";
+    public static final String DEAD_LETTER_SUFFIX = ".DLT";
+
+    // 도메인 이벤트 토픽 (키: order-주문ID / product-상품ID)
+    @Bean
+    @ConditionalOnProperty(name = "domain-events.transport", havingValue = "kafka", matchIfMissing = true)
+    public NewTopic domainEventTopic(@Value("${domain-events.topic:mongsom.domain-events}") String topic,
+                                     @Value("${domain-events.partitions:3}") int partitions,
+                                     @Value("${domain-events.replicas:1}") short replicas) {
+        return TopicBuilder.name(topic)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "domain-events.transport", havingValue = "kafka", matchIfMissing = true)
+    public NewTopic domainEventDeadLetterTopic(@Value("${domain-events.topic:mongsom.domain-events}") String topic,
+                                               @Value("${domain-events.partitions:3}") int partitions,
+                                               @Value("${domain-events.replicas:1}") short replicas) {
+        return TopicBuilder.name(topic + DEAD_LETTER_SUFFIX)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    // 도메인 이벤트 소비자 전용 (관리자 실시간 피드는 기본 리스너 팩토리 사용)
+    @Bean(DOMAIN_EVENT_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> domainEventListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            KafkaTemplate<Object, Object> kafkaTemplate,
+            @Value("${domain-events.retry-interval-ms:1000}") long retryIntervalMs,
+            @Value("${domain-events.max-retries:2}") long maxRetries) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setCommonErrorHandler(domainEventErrorHandler(kafkaTemplate, new FixedBackOff(retryIntervalMs, maxRetries)));
+        return factory;
+    }
+
+    /**
+     * 배치 중 BatchListenerFailedException으로 알린 이벤트 앞까지 커밋, 그 이벤트만 backOff만큼 재시도 후 DLT로 보내고 나머지 재수신
+     * 역직렬화 실패는 재시도해도 같으므로 바로 DLT로 이동
+     */
+    public static DefaultErrorHandler domainEventErrorHandler(KafkaOperations<?, ?> kafkaOperations, BackOff backOff) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaOperations,
+                (record, exception) -> new TopicPartition(record.topic() + DEAD_LETTER_SUFFIX, record.partition()));
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, backOff);
+        errorHandler.addNotRetryableExceptions(JsonProcessingException.class);
+        return errorHandler;
+    }
+
+    // outbox 릴레이가 한 번에 수백 건을 보내므로 묶어서 전송, 재시도 시 중복/순서 역전 방지
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer domainEventProducerCustomizer() {
+        return producerFactory -> producerFactory.updateConfigs(Map.of(
+                ProducerConfig.ACKS_CONFIG, "all",
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+                ProducerConfig.LINGER_MS_CONFIG, 20,
+                ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024,
+                ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4"));
+    }
+}
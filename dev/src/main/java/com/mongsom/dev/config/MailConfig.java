@@ -0,0 +1,31 @@
+package com.mongsom.dev.config;
+
+import java.util.Properties;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+@Configuration
+public class MailConfig {
+
+    // SMTP 응답이 없을 때 메일 발송 스레드가 무한정 대기하지 않도록 타임아웃 기본값 지정
+    // (spring.mail.properties.mail.smtp.* 에 설정된 값이 있으면 그대로 사용)
+    @Bean
+    public static BeanPostProcessor mailTimeoutPostProcessor(@Value("${mail-queue.smtp-timeout-ms:10000}") String timeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof JavaMailSenderImpl mailSender) {
+                    Properties properties = mailSender.getJavaMailProperties();
+                    properties.putIfAbsent("mail.smtp.connectiontimeout", timeoutMs);
+                    properties.putIfAbsent("mail.smtp.timeout", timeoutMs);
+                    properties.putIfAbsent("mail.smtp.writetimeout", timeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
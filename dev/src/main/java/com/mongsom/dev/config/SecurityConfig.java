@@ -51,6 +51,7 @@ public class SecurityConfig {
                                 "/login/**",
                                 "/oauth2/**",
                                 "/api/v1/admin/**",
+                                "/ws/admin/**",      // 관리자 실시간 알림 (핸드셰이크만 허용, 인증은 STOMP CONNECT에서)
                                 //인증 없이 접근 불가지만 테스트를 위해 허용하는 경로
                                 "/api/auth/**",      // 추가
                                 "/auth/**",          // 추가
@@ -0,0 +1,65 @@
+package com.mongsom.dev.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import com.mongsom.dev.security.AdminStompChannelInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 실시간 알림 (STOMP over WebSocket)
+ * 구독: /topic/admin/orders (CONNECT 시 login/passcode 헤더로 관리자 인증, AdminStompChannelInterceptor)
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final AdminStompChannelInterceptor adminStompChannelInterceptor;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws/admin")
+                .setAllowedOrigins("http://localhost:3000", "https://www.mongsom.co.kr", "https://mongsom.co.kr");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(1);
+        heartbeatScheduler.setThreadNamePrefix("ws-heartbeat-");
+        heartbeatScheduler.initialize();
+
+        // 프록시/로드밸런서 유휴 연결 끊김 방지 (10초)
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[] {10_000, 10_000})
+                .setTaskScheduler(heartbeatScheduler);
+    }
+
+    // 연결별 전송 제한: 느린 클라이언트는 버퍼(256KB)나 전송 시간(10초)을 넘으면 연결 종료 → 재연결 후 목록 재조회
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit(256 * 1024)
+                .setSendTimeLimit(10_000)
+                .setMessageSizeLimit(16 * 1024);
+    }
+
+    // 관리자 수신 메시지는 구독/하트비트뿐이므로 작은 풀로 제한
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(adminStompChannelInterceptor);
+        registration.taskExecutor().corePoolSize(2).maxPoolSize(4);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor().corePoolSize(2).maxPoolSize(8);
+    }
+}
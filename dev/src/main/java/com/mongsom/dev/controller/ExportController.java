@@ -1,5 +1,6 @@
 package com.mongsom.dev.controller;
 
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -11,9 +12,11 @@ import com.mongsom.dev.dto.export.OrderExportDto;
 import com.mongsom.dev.service.OrderExportService;
 import com.mongsom.dev.service.ExcelExportService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -78,6 +81,48 @@ public class ExportController {
         }
     }
     
+    /**
+     * 주문 데이터 엑셀 내보내기 (스트리밍)
+     * 워크북/바이트 배열을 메모리에 만들지 않고 응답 스트림에 바로 기록
+     */
+    @GetMapping("/orders/excel/stream")
+    public void exportOrdersToExcelStream(
+            @RequestParam("deliveryStatus") String deliveryStatus,
+            HttpServletResponse response) {
+        
+        try {
+            log.info("=== 주문 엑셀 스트리밍 내보내기 요청 ===");
+            log.info("배송상태: {}", deliveryStatus);
+            
+            // 1. 배송상태 유효성 검증
+            if (deliveryStatus == null || deliveryStatus.trim().isEmpty()) {
+                log.warn("배송상태 파라미터가 없음");
+                response.setStatus(HttpStatus.BAD_REQUEST.value());
+                return;
+            }
+            
+            // 2. 응답 헤더 설정 (Content-Length 없이 chunked 전송)
+            String fileName = excelExportService.generateFileName(deliveryStatus);
+            response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(fileName, StandardCharsets.UTF_8)
+                    .build()
+                    .toString());
+            
+            // 3. DB 커서에서 읽는 대로 응답 스트림에 기록
+            int rowCount = orderExportService.writeOrdersExcel(deliveryStatus, response.getOutputStream());
+            
+            log.info("=== 엑셀 스트리밍 내보내기 완료 - 파일명: {}, 데이터 건수: {} ===", fileName, rowCount);
+            
+        } catch (Exception e) {
+            log.error("엑셀 스트리밍 내보내기 실패 - deliveryStatus: {}", deliveryStatus, e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            }
+        }
+    }
+    
 //    /**
 //     * 엑셀 내보내기 미리보기 (데이터 건수 확인)
 //     */
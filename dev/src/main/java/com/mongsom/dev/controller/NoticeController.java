@@ -58,6 +58,33 @@ public class NoticeController {
         return ResponseEntity.status(status).body(response);
     }
     
+    // 공지사항 검색 (제목/내용, 관련도순)
+    @GetMapping("/search/{page}")
+    public ResponseEntity<RespDto<NoticeRespDto>> searchNotices(
+            @PathVariable("page") Integer page,
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "size", defaultValue = "10") Integer size) {
+        
+        log.info("공지사항 검색 요청 - keyword: {}, page: {}, size: {}", keyword, page, size);
+        
+        if (keyword.isBlank() || keyword.length() > 50 || page < 0) {
+            log.warn("잘못된 검색 요청 - keyword: {}, page: {}", keyword, page);
+            return ResponseEntity.badRequest().body(
+                RespDto.<NoticeRespDto>builder()
+                        .code(-1)
+                        .data(null)
+                        .build()
+            );
+        }
+        if (size < 1 || size > 100) {
+            size = 10;
+        }
+        
+        RespDto<NoticeRespDto> response = noticeService.searchNotices(keyword.trim(), PageRequest.of(page, size));
+        HttpStatus status = response.getCode() == 1 ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+    
 
     
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.mongsom.dev.controller;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -29,28 +30,27 @@ public class PaymentController {
      * 토스페이먼츠 결제 승인
      */
     @PostMapping("/confirm")
-    public ResponseEntity<RespDto<String>> confirmPayment(
+    public CompletableFuture<ResponseEntity<RespDto<String>>> confirmPayment(
             @RequestBody PaymentConfirmReqDto reqDto) {
         
         log.info("결제 승인 요청 - userCode: {}, paymentKey: {}, orderId: {}, amount: {}", 
         		reqDto.getUserCode(), reqDto.getPaymentKey(), reqDto.getOrderId(), reqDto.getAmount());
         
-        RespDto<String> response = paymentService.confirmPayment(reqDto);
-        
-        return ResponseEntity.ok(response);
+        // PG 응답 대기 동안 요청 스레드를 점유하지 않도록 비동기 응답
+        return paymentService.confirmPayment(reqDto)
+                .thenApply(ResponseEntity::ok);
     }
     
     /**
      * 토스페이먼츠 결제 조회 (paymentKey)
      */
     @GetMapping("/{paymentKey}")
-    public ResponseEntity<Map<String, Object>> getPayment(
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> getPayment(
             @PathVariable("paymentKey") String paymentKey) {
         
         log.info("결제 조회 요청 - paymentKey: {}", paymentKey);
         
-        Map<String, Object> response = paymentService.getPaymentByKey(paymentKey);
-        
-        return ResponseEntity.ok(response);
+        return paymentService.getPaymentByKey(paymentKey)
+                .thenApply(ResponseEntity::ok);
     }
 }
\ No newline at end of file
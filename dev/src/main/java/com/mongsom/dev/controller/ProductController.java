@@ -74,6 +74,33 @@ public class ProductController {
         return ResponseEntity.status(status).body(response);
     }
     
+    /**
+     * 상품 검색 (상품명/설명, 관련도순)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<RespDto<ProductListRespDto>> searchProducts(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") Integer page,
+            @RequestParam(value = "size", defaultValue = "9") Integer size) {
+        
+        log.info("=== 상품 검색 요청 ===");
+        log.info("keyword: {}, page: {}, size: {}", keyword, page, size);
+        
+        if (keyword.isBlank() || keyword.length() > 50 || page < 0 || size < 1 || size > 100) {
+            log.warn("잘못된 검색 요청 - keyword: {}, page: {}, size: {}", keyword, page, size);
+            return ResponseEntity.badRequest().body(
+                RespDto.<ProductListRespDto>builder()
+                        .code(-1)
+                        .data(null)
+                        .build()
+            );
+        }
+        
+        RespDto<ProductListRespDto> response = productService.searchProducts(keyword.trim(), PageRequest.of(page, size));
+        HttpStatus status = response.getCode() == 1 ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+    
     /**
      * 상품 상세 조회
      */
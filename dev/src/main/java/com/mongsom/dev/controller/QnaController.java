@@ -109,6 +109,37 @@ public class QnaController {
         return ResponseEntity.status(status).body(response);
     }
     
+    /**
+     * QNA 검색 (제목/내용, 관련도순)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<RespDto<QnaListRespDto>> searchQna(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") Integer page,
+            @RequestParam(value = "size", defaultValue = "10") Integer size) {
+        
+        log.info("=== QNA 검색 요청 ===");
+        log.info("keyword: {}, page: {}, size: {}", keyword, page, size);
+        
+        if (keyword.isBlank() || keyword.length() > 50 || page < 0 || size < 1 || size > 100) {
+            log.warn("잘못된 검색 요청 - keyword: {}, page: {}, size: {}", keyword, page, size);
+            return ResponseEntity.badRequest().body(
+                RespDto.<QnaListRespDto>builder()
+                    .code(-1)
+                    .data(null)
+                    .build()
+            );
+        }
+        
+        RespDto<QnaListRespDto> response = qnaService.searchQna(keyword.trim(), PageRequest.of(page, size));
+        
+        HttpStatus status = response.getCode() == 1 ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR;
+        
+        log.info("QNA 검색 완료 - code: {}", response.getCode());
+        
+        return ResponseEntity.status(status).body(response);
+    }
+    
     /**
      * 상품별 QNA 목록 조회
      */
@@ -1,13 +1,17 @@
 package com.mongsom.dev.controller.admin;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.mongsom.dev.common.dto.RespDto;
 import com.mongsom.dev.dto.admin.delivery.reqDto.AdminDeliveryUpdateReqDto;
 import com.mongsom.dev.dto.admin.delivery.respDto.AdminDeliveryUpdateRespDto;
+import com.mongsom.dev.dto.admin.delivery.respDto.InvoiceImportRespDto;
 import com.mongsom.dev.service.admin.AdminDeliveryService;
+import com.mongsom.dev.service.admin.InvoiceImportService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +25,7 @@ import jakarta.validation.Valid;
 public class AdminDeliveryController {
     
     private final AdminDeliveryService adminDeliveryService;
+    private final InvoiceImportService invoiceImportService;
     
     /**
      * 배송정보 일괄 업데이트
@@ -50,4 +55,34 @@ public class AdminDeliveryController {
         
         return ResponseEntity.status(status).body(response);
     }
+    
+    /**
+     * 택배사 송장 회신 파일 업로드 (xlsx/csv, "주문번호"/"운송장번호" 열)
+     * 접수 후 바로 작업 ID를 반환하고, 진행 상황은 /invoice/import/{jobId}로 조회
+     */
+    @PostMapping(value = "/invoice/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<RespDto<InvoiceImportRespDto>> importInvoiceFile(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "deliveryCom", required = false) String deliveryCom,
+            @RequestParam(value = "deliveryStatus", required = false) String deliveryStatus) {
+        
+        log.info("=== 송장 파일 업로드 요청 - 파일: {}, 택배사: {}, 배송상태: {} ===", 
+                file.getOriginalFilename(), deliveryCom, deliveryStatus);
+        
+        RespDto<InvoiceImportRespDto> response = invoiceImportService.startImport(file, deliveryCom, deliveryStatus);
+        HttpStatus status = response.getCode() == 1 ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        
+        return ResponseEntity.status(status).body(response);
+    }
+    
+    /**
+     * 송장 파일 업로드 진행 상황 조회
+     */
+    @GetMapping("/invoice/import/{jobId}")
+    public ResponseEntity<RespDto<InvoiceImportRespDto>> getInvoiceImportStatus(@PathVariable("jobId") String jobId) {
+        RespDto<InvoiceImportRespDto> response = invoiceImportService.getImportStatus(jobId);
+        HttpStatus status = response.getCode() == 1 ? HttpStatus.OK : HttpStatus.NOT_FOUND;
+        
+        return ResponseEntity.status(status).body(response);
+    }
 }
\ No newline at end of file
@@ -8,7 +8,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.mongsom.dev.common.dto.RespDto;
+import com.mongsom.dev.dto.admin.order.reqDto.AdminOrderCursorSearchReqDto;
 import com.mongsom.dev.dto.admin.order.reqDto.AdminOrderSearchReqDto;
+import com.mongsom.dev.dto.admin.order.respDto.AdminOrderCursorRespDto;
 import com.mongsom.dev.dto.admin.order.respDto.AdminOrderListRespDto;
 import com.mongsom.dev.service.admin.AdminOrderService;
 
@@ -16,6 +18,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -80,4 +84,78 @@ public class AdminOrderController {
         
         return ResponseEntity.status(status).body(response);
     }
-}
\ No newline at end of file
+    
+    /**
+     * 관리자 주문 검색 (키셋 페이지네이션)
+     * 다음 페이지는 응답의 nextCursorPaymentAt / nextCursorOrderId 를 그대로 전달
+     */
+    @GetMapping("/search")
+    public ResponseEntity<RespDto<AdminOrderCursorRespDto>> searchAdminOrders(
+            @RequestParam(value = "startDate", required = false)
+            @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam(value = "endDate", required = false)
+            @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(value = "orderNum", required = false) String orderNum,
+            @RequestParam(value = "orderStatus", required = false) String orderStatus,
+            @RequestParam(value = "cursorPaymentAt", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorPaymentAt,
+            @RequestParam(value = "cursorOrderId", required = false) Integer cursorOrderId,
+            @RequestParam(value = "size", defaultValue = "20") Integer size,
+            @RequestParam(value = "withCount", defaultValue = "false") Boolean withCount) {
+        
+        log.info("=== 관리자 주문검색 요청 ===");
+        log.info("startDate: {}, endDate: {}, orderNum: {}, status: {}, cursor: {}/{}, size: {}, withCount: {}",
+                startDate, endDate, orderNum, orderStatus, cursorPaymentAt, cursorOrderId, size, withCount);
+        
+        if (size < 1 || size > 100) {
+            log.warn("잘못된 size 값 - size: {}", size);
+            return ResponseEntity.badRequest().body(
+                    RespDto.<AdminOrderCursorRespDto>builder()
+                            .code(-1)
+                            .data(null)
+                            .build()
+            );
+        }
+        
+        AdminOrderCursorSearchReqDto searchDto = AdminOrderCursorSearchReqDto.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .orderNum(orderNum)
+                .orderStatus(orderStatus)
+                .cursorPaymentAt(cursorPaymentAt)
+                .cursorOrderId(cursorOrderId)
+                .size(size)
+                .withCount(withCount)
+                .build();
+        
+        RespDto<AdminOrderCursorRespDto> response = adminOrderService.searchAdminOrders(searchDto);
+        HttpStatus status = response.getCode() == 1 ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        
+        log.info("관리자 주문검색 결과 - code: {}", response.getCode());
+        
+        return ResponseEntity.status(status).body(response);
+    }
+    
+    /**
+     * 관리자 주문 행 부분 조회 (실시간 알림 /topic/admin/orders 의 orderIds 갱신용)
+     */
+    @GetMapping("/rows")
+    public ResponseEntity<RespDto<List<AdminOrderListRespDto.AdminOrderItemDto>>> getAdminOrderRows(
+            @RequestParam("orderIds") List<Integer> orderIds) {
+        
+        if (orderIds.size() > 200) {
+            log.warn("주문 행 조회 개수 초과 - {}건", orderIds.size());
+            return ResponseEntity.badRequest().body(
+                    RespDto.<List<AdminOrderListRespDto.AdminOrderItemDto>>builder()
+                            .code(-1)
+                            .data(null)
+                            .build()
+            );
+        }
+        
+        RespDto<List<AdminOrderListRespDto.AdminOrderItemDto>> response = adminOrderService.getAdminOrderRows(orderIds);
+        HttpStatus status = response.getCode() == 1 ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        
+        return ResponseEntity.status(status).body(response);
+    }
+}
@@ -1,6 +1,7 @@
 package com.mongsom.dev.controller.admin;
 
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,12 +25,15 @@ import com.mongsom.dev.dto.admin.product.respDto.AdminProductRegistRespDto;
 import com.mongsom.dev.dto.admin.product.respDto.AdminProductSelectRespDto;
 import com.mongsom.dev.dto.admin.product.respDto.AdminProductUpdateRespDto;
 import com.mongsom.dev.dto.admin.product.respDto.ChangeProductListRespDto;
+import com.mongsom.dev.dto.admin.product.respDto.ProductCacheStatsRespDto;
 import com.mongsom.dev.service.admin.AdminProductService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/api/v1/admin/product")
 @RequiredArgsConstructor
@@ -119,6 +123,40 @@ public class AdminProductController {
         return ResponseEntity.status(status).body(response);
     }
     
+    // 상품 목록 조회 (키셋 페이지네이션) - 다음 페이지는 응답의 nextCursorCreatedAt / nextCursorProductId 전달
+    @GetMapping("/select/cursor")
+    public ResponseEntity<RespDto<AdminProductListRespDto>> getProductListAfter(
+            @RequestParam(value = "cursorCreatedAt", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(value = "cursorProductId", required = false) Integer cursorProductId,
+            @RequestParam(value = "size", defaultValue = "10") Integer size,
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "premium", defaultValue = "2") Integer premium,
+            @RequestParam(value = "outOfStock", defaultValue = "0") Integer outOfStock,
+            @RequestParam(value = "paused", defaultValue = "0") Integer paused) {
+        
+        log.info("=== 관리자 상품 목록 조회(커서) 요청 - cursor: {}/{}, 크기: {} ===", cursorCreatedAt, cursorProductId, size);
+        
+        if (size < 1 || size > 100) {
+            log.warn("잘못된 size 값 - size: {}", size);
+            return ResponseEntity.badRequest().body(
+                    RespDto.<AdminProductListRespDto>builder()
+                            .code(-1)
+                            .data(null)
+                            .build()
+            );
+        }
+        
+        RespDto<AdminProductListRespDto> response = adminProductService.getProductListAfter(
+                cursorCreatedAt, cursorProductId, size, name, premium, outOfStock, paused);
+        
+        HttpStatus status = response.getCode() == 1 ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        
+        log.info("상품 목록 조회(커서) 결과 - code: {}", response.getCode());
+        
+        return ResponseEntity.status(status).body(response);
+    }
+    
     // 상품 상세 조회 (수정용)
     @GetMapping("/select/detail/{productId}")
     public ResponseEntity<RespDto<AdminProductDetailRespDto>> getProductDetail(
@@ -244,6 +282,13 @@ public class AdminProductController {
         return ResponseEntity.status(status).body(response);
     }
     
+    // 상품 상세 캐시 통계 (적중/미스/만료)
+    @GetMapping("/cache/stats")
+    public ResponseEntity<RespDto<ProductCacheStatsRespDto>> getDetailCacheStats() {
+        RespDto<ProductCacheStatsRespDto> response = adminProductService.getDetailCacheStats();
+        return ResponseEntity.ok(response);
+    }
+    
 //    // 교환/반품 상품 목록 조회
 //    @GetMapping("/change/list/{changeStatus}/{page}")
 //    public ResponseEntity<RespDto<ChangeProductListRespDto>> getChangeProductList(
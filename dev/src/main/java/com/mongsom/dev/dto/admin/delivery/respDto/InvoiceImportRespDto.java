@@ -0,0 +1,37 @@
+package com.mongsom.dev.dto.admin.delivery.respDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvoiceImportRespDto {
+
+    private String jobId;                // 업로드 작업 ID (진행률 조회용)
+    private String fileName;             // 업로드 파일명
+    private String status;               // 대기, 진행중, 완료, 실패
+    private Integer processedRows;       // 처리한 데이터 행 수
+    private Integer successRows;         // 반영 성공 행 수
+    private Integer failedRows;          // 실패 행 수
+    private String message;              // 작업 실패 사유
+    private List<RowErrorDto> errors;    // 행별 오류 (최대 1,000건)
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowErrorDto {
+        private Integer rowNum;          // 파일상 행 번호 (1부터, 헤더 포함)
+        private String orderNum;         // 주문번호
+        private String message;          // 오류 메시지
+    }
+}
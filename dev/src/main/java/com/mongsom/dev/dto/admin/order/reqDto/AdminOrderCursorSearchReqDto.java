@@ -0,0 +1,25 @@
+package com.mongsom.dev.dto.admin.order.reqDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminOrderCursorSearchReqDto {
+    
+    private LocalDate startDate;             // 시작일자 (포함)
+    private LocalDate endDate;               // 끝일자 (포함, 내부적으로 다음날 0시 미만으로 변환)
+    private String orderNum;                 // 주문번호 (일치 또는 앞부분 일치)
+    private String orderStatus;              // 주문상태 (delivery_status)
+    private LocalDateTime cursorPaymentAt;   // 이전 페이지 마지막 행의 결제일시 (첫 페이지는 null)
+    private Integer cursorOrderId;           // 이전 페이지 마지막 행의 주문 ID (첫 페이지는 null)
+    private Integer size;                    // 페이지 크기
+    private Boolean withCount;               // 전체 건수 포함 여부 (기본 false)
+}
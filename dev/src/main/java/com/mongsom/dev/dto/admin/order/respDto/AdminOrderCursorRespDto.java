@@ -0,0 +1,23 @@
+package com.mongsom.dev.dto.admin.order.respDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminOrderCursorRespDto {
+    
+    private List<AdminOrderListRespDto.AdminOrderItemDto> orders;
+    
+    private Boolean hasNext;                     // 다음 페이지 존재 여부
+    private LocalDateTime nextCursorPaymentAt;   // 다음 페이지 요청 시 cursorPaymentAt
+    private Integer nextCursorOrderId;           // 다음 페이지 요청 시 cursorOrderId
+    private Long totalElements;                  // 전체 건수 (withCount=true 인 경우만)
+}
@@ -0,0 +1,33 @@
+package com.mongsom.dev.dto.admin.order.respDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자 실시간 주문 알림 (/topic/admin/orders)
+ * 일정 간격 동안 발생한 이벤트를 하나로 합친 요약
+ * 클라이언트는 orderIds만 /api/v1/admin/order/rows 로 다시 조회, overflow면 목록 전체를 새로 조회
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminOrderFeedRespDto {
+
+    private Integer newOrderCount;                // 신규 주문
+    private Integer paymentConfirmedCount;        // 결제 완료
+    private Integer cancelledCount;               // 주문 취소
+    private Integer deliveryStatusChangedCount;   // 배송상태 변경
+    private Integer changeRequestCount;           // 교환/반품 신청
+    private Integer changeStatusChangedCount;     // 교환/반품 상태 변경
+
+    private List<Integer> orderIds;               // 변경된 주문 ID (overflow면 빈 목록)
+    private List<Integer> changeIds;              // 변경된 교환/반품 ID (overflow면 빈 목록)
+    private Boolean overflow;                     // 변경 건수가 많아 ID 목록을 생략한 경우
+    private LocalDateTime sentAt;
+}
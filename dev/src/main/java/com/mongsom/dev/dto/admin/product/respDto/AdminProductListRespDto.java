@@ -22,6 +22,10 @@ public class AdminProductListRespDto {
     private Boolean hasNext;
     private Boolean hasPrevious;
     
+    // 키셋 페이지네이션 (cursor 조회 시에만 사용)
+    private LocalDateTime nextCursorCreatedAt;
+    private Integer nextCursorProductId;
+    
     @Data
     @Builder
     @NoArgsConstructor
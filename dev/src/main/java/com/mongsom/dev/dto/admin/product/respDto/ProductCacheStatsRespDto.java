@@ -0,0 +1,21 @@
+package com.mongsom.dev.dto.admin.product.respDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductCacheStatsRespDto {
+    
+    private Long size;          // 현재 캐시된 상품 수 (추정치)
+    private Long maxSize;       // 최대 캐시 상품 수
+    private Long ttlSeconds;    // 만료 시간(초)
+    private Long hitCount;      // 적중 횟수
+    private Long missCount;     // 미스 횟수
+    private Double hitRate;     // 적중률 (0.0 ~ 1.0)
+    private Long evictionCount; // 크기/만료로 제거된 횟수
+}
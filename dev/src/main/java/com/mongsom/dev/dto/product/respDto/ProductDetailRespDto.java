@@ -33,6 +33,7 @@ public class ProductDetailRespDto {
     // === 연관 정보 ===
     private List<ProductImageDto> productImages;
     private List<OptionTypeDto> optionTypes;
+    private ReviewSummaryRespDto reviewSummary; // 리뷰/QNA 요약
     
     @Data
     @Builder
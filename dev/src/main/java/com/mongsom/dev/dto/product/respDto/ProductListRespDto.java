@@ -32,6 +32,7 @@ public class ProductListRespDto {
         private Integer stockStatus;
         private String mainImageUrl; // 대표 이미지
         private Integer reviewCount; // 리뷰 개수
+        private Double averageRating; // 평균 평점
         private Integer orderCount; // 주문 개수 (인기도)
         
         // 할인율이 있는지 확인
@@ -81,6 +82,7 @@ public class ProductListRespDto {
                 case "latest": return "최신순";
                 case "popular": return "인기순";
                 case "review": return "리뷰많은순";
+                case "relevance": return "관련도순";
                 default: return "최신순";
             }
         }
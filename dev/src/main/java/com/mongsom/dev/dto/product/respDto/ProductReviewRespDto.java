@@ -21,6 +21,7 @@ import lombok.Setter;
 @Builder
 public class ProductReviewRespDto {
     
+    private ReviewSummaryRespDto summary; // 리뷰 요약 (평균 평점, 평점 분포)
     private List<ReviewItemDto> items;
     private PaginationDto pagination;
     
@@ -0,0 +1,55 @@
+package com.mongsom.dev.dto.product.respDto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.mongsom.dev.entity.ProductStats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 리뷰/QNA 요약 (노출 리뷰 기준)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewSummaryRespDto {
+    
+    private Integer reviewCount;                 // 리뷰 수
+    private Double averageRating;                // 평균 평점 (소수 첫째 자리, 평점 없으면 0.0)
+    private Map<Integer, Integer> ratingCounts;  // 평점별 리뷰 수 (5점 → 1점 순)
+    private Integer photoReviewCount;            // 포토 리뷰 수
+    private Integer qnaCount;                    // QNA 수
+    
+    public static ReviewSummaryRespDto from(ProductStats stats) {
+        Map<Integer, Integer> ratingCounts = new LinkedHashMap<>();
+        ratingCounts.put(5, stats.getRating5Count());
+        ratingCounts.put(4, stats.getRating4Count());
+        ratingCounts.put(3, stats.getRating3Count());
+        ratingCounts.put(2, stats.getRating2Count());
+        ratingCounts.put(1, stats.getRating1Count());
+        
+        return ReviewSummaryRespDto.builder()
+                .reviewCount(stats.getReviewCount())
+                .averageRating(averageRating(stats))
+                .ratingCounts(ratingCounts)
+                .photoReviewCount(stats.getPhotoReviewCount())
+                .qnaCount(stats.getQnaCount())
+                .build();
+    }
+    
+    // 평균 평점 (소수 첫째 자리 반올림)
+    public static double averageRating(ProductStats stats) {
+        return stats.getRatedCount() > 0
+                ? Math.round(stats.getRatingSum() * 10.0 / stats.getRatedCount()) / 10.0
+                : 0.0;
+    }
+    
+    public static ReviewSummaryRespDto empty() {
+        return from(ProductStats.builder().build());
+    }
+}
@@ -0,0 +1,73 @@
+package com.mongsom.dev.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 메일 (MailQueueService가 기록/발송)
+ * 발송 완료 시 본문은 지움 (임시 비밀번호 등 민감 정보 보관 방지)
+ */
+@Entity
+@Table(name = "mail_queue", indexes = {
+        @Index(name = "idx_mail_queue_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_mail_queue_claim_token", columnList = "claim_token")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailQueue {
+
+    public static final String STATUS_PENDING = "대기";
+    public static final String STATUS_SENDING = "발송중";
+    public static final String STATUS_SENT = "완료";
+    public static final String STATUS_FAILED = "실패";
+
+    public static final String TYPE_TEMP_PASSWORD = "임시비밀번호";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_id")
+    private Long mailId;
+
+    @Column(name = "mail_type", nullable = false, length = 30)
+    private String mailType; // 임시비밀번호 등
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "body", columnDefinition = "TEXT")
+    private String body; // 발송 완료 후 null
+
+    @Column(name = "status", nullable = false, length = 10)
+    private String status; // 대기, 발송중, 완료, 실패
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken; // 발송 작업이 선점한 배치 식별자
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
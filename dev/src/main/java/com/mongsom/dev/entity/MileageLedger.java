@@ -0,0 +1,51 @@
+package com.mongsom.dev.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마일리지 변동 원장 (추가만 하고 수정/삭제하지 않음)
+ * user_mst.mileage 변경과 같은 트랜잭션에서 기록되며, 변경 직후 잔액을 함께 저장
+ */
+@Entity
+@Table(name = "mileage_ledger", indexes = {
+        @Index(name = "idx_mileage_ledger_user_code", columnList = "user_code, ledger_id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MileageLedger {
+    
+    public static final String REASON_ORDER_USE = "주문사용";
+    public static final String REASON_ORDER_CANCEL_REFUND = "주문취소환불";
+    public static final String REASON_ADMIN_CHARGE = "관리자충전";
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ledger_id")
+    private Long ledgerId;
+    
+    @Column(name = "user_code", nullable = false)
+    private Long userCode;
+    
+    @Column(name = "amount", nullable = false)
+    private Integer amount; // 적립 +, 사용 -
+    
+    @Column(name = "balance_after", nullable = false)
+    private Integer balanceAfter; // 변경 후 잔액
+    
+    @Column(name = "reason", nullable = false, length = 20)
+    private String reason; // 주문사용, 주문취소환불, 관리자충전
+    
+    @Column(name = "order_id")
+    private Integer orderId; // 주문 관련 변동만
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -8,9 +8,8 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -22,7 +21,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "order_item")
+@Table(name = "order_item", indexes = {
+        @Index(name = "idx_order_item_payment_at", columnList = "payment_at, order_id"),
+        @Index(name = "idx_order_item_status_payment_at", columnList = "delivery_status, payment_at, order_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,8 +33,7 @@ import lombok.Setter;
 public class OrderItem {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "order_id")
+    @Column(name = "order_id")  // OrderIdAllocator(order_item_seq)에서 발급
     private Integer orderId;
     
     @Column(name = "order_num", nullable = false, unique = true, length = 255)
@@ -0,0 +1,50 @@
+package com.mongsom.dev.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트 outbox (transactional outbox)
+ * 업무 변경과 같은 트랜잭션에서 기록되고, OutboxRelay가 Kafka로 발행한 뒤 published_at을 채움
+ */
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_event_published_at", columnList = "published_at, event_id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "event_type", nullable = false, length = 40)
+    private String eventType; // DomainEventType
+
+    @Column(name = "aggregate_key", nullable = false, length = 40)
+    private String aggregateKey; // Kafka 메시지 키 (order-주문ID, product-상품ID)
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload; // DomainEvent JSON (eventId 제외)
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt; // 미발행이면 null
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken; // 전송 중인 릴레이의 선점 토큰
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+}
@@ -0,0 +1,58 @@
+package com.mongsom.dev.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 승인 멱등성 기록 (paymentKey 기준)
+ * 승인 처리 중(PROCESSING) 선점 후 결과(DONE/FAILED)를 저장해 중복 승인 요청에 재사용
+ * PG 승인 후 DB 반영이 실패하면 pg_approved = true로 남겨 재시도 시 승인 API를 다시 호출하지 않음
+ */
+@Entity
+@Table(name = "payment_confirmation", indexes = {
+        @Index(name = "idx_payment_confirmation_order_num", columnList = "order_num, status")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentConfirmation {
+    
+    public static final String STATUS_PROCESSING = "PROCESSING";
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_FAILED = "FAILED";
+    
+    @Id
+    @Column(name = "payment_key", length = 200)
+    private String paymentKey;
+    
+    @Column(name = "order_num", nullable = false, length = 100)
+    private String orderNum;
+    
+    @Column(name = "status", nullable = false, length = 20)
+    private String status; // PROCESSING, DONE, FAILED
+    
+    @Column(name = "pg_approved", nullable = false)
+    private Boolean pgApproved; // PG 승인 완료 여부 (DB 반영 전 실패 시 재승인 대신 결제 조회)
+    
+    @Column(name = "result_code")
+    private Integer resultCode; // RespDto code
+    
+    @Column(name = "result_message", length = 500)
+    private String resultMessage; // RespDto data
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    public boolean isProcessing() {
+        return STATUS_PROCESSING.equals(this.status);
+    }
+}
@@ -13,7 +13,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "product")
+@Table(name = "product", indexes = {
+        @Index(name = "idx_product_delete_status_created_at", columnList = "delete_status, created_at, product_id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,77 @@
+package com.mongsom.dev.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 인기도/리뷰 요약/QNA 수 집계 (정렬 및 상품 목록/상세 표시용 비정규화 테이블)
+ * 주문/리뷰/QNA 변경 시 증감, 주기적 대사(재계산 비교)로 보정
+ */
+@Entity
+@Table(name = "product_stats", indexes = {
+        @Index(name = "idx_product_stats_order_count", columnList = "order_count, product_id"),
+        @Index(name = "idx_product_stats_review_count", columnList = "review_count, product_id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductStats {
+    
+    @Id
+    @Column(name = "product_id")
+    private Integer productId;
+    
+    @Column(name = "order_count", nullable = false)
+    @Builder.Default
+    private Integer orderCount = 0; // 정상 주문(order_status = 0) 상세 건수
+    
+    @Column(name = "review_count", nullable = false)
+    @Builder.Default
+    private Integer reviewCount = 0; // 노출 리뷰(admin_hidden = 0) 건수
+    
+    // 이하 리뷰 요약은 모두 노출 리뷰 기준
+    @Column(name = "rating_sum", nullable = false)
+    @Builder.Default
+    private Long ratingSum = 0L; // 평점 합계
+    
+    @Column(name = "rated_count", nullable = false)
+    @Builder.Default
+    private Integer ratedCount = 0; // 평점이 있는 리뷰 건수 (평균 계산용)
+    
+    @Column(name = "rating_1_count", nullable = false)
+    @Builder.Default
+    private Integer rating1Count = 0;
+    
+    @Column(name = "rating_2_count", nullable = false)
+    @Builder.Default
+    private Integer rating2Count = 0;
+    
+    @Column(name = "rating_3_count", nullable = false)
+    @Builder.Default
+    private Integer rating3Count = 0;
+    
+    @Column(name = "rating_4_count", nullable = false)
+    @Builder.Default
+    private Integer rating4Count = 0;
+    
+    @Column(name = "rating_5_count", nullable = false)
+    @Builder.Default
+    private Integer rating5Count = 0;
+    
+    @Column(name = "photo_review_count", nullable = false)
+    @Builder.Default
+    private Integer photoReviewCount = 0; // 이미지가 있는 리뷰 건수
+    
+    @Column(name = "qna_count", nullable = false)
+    @Builder.Default
+    private Integer qnaCount = 0; // QNA 건수
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -64,7 +64,8 @@ public class User {
     @Column(name = "provider", nullable = false)
     private String provider;
     
-    @Column(name = "mileage", nullable = false)
+    // 잔액 변경은 MileageService(조건부 UPDATE + 원장 기록)로만 처리, 회원정보 저장 시에는 덮어쓰지 않음
+    @Column(name = "mileage", nullable = false, updatable = false)
     @Builder.Default
     private Integer mileage = 0;
     
@@ -128,48 +129,7 @@ public class User {
         this.email = withdrawnEmail;
     }
     
-    // 마일리지 관련 메서드
-    public void useMileage(Integer amount) {
-        if (this.mileage >= amount) {
-            this.mileage -= amount;
-        } else {
-            throw new IllegalArgumentException("보유 마일리지가 부족합니다.");
-        }
-    }
-    
-    /**
-     * 마일리지 설정 (직접 설정)
-     */
-    public void updateMileage(Integer mileage) {
-        this.mileage = mileage != null ? mileage : 0;
-    }
-    
-    /**
-     * 마일리지 추가 (적립)
-     */
-    public void addMileage(Integer amount) {
-        if (amount != null && amount > 0) {
-            this.mileage = (this.mileage != null ? this.mileage : 0) + amount;
-        }
-    }
-    
-    /**
-     * 마일리지 차감 (사용)
-     */
-    public boolean deductMileage(Integer amount) {
-        if (amount == null || amount <= 0) {
-            return false;  // 잘못된 차감 금액
-        }
-        
-        Integer currentMileage = this.mileage != null ? this.mileage : 0;
-        
-        if (currentMileage < amount) {
-            return false;  // 마일리지 부족
-        }
-        
-        this.mileage = currentMileage - amount;
-        return true;
-    }
+    // 마일리지 관련 메서드 (잔액 변경은 MileageService 사용)
     
     /**
      * 마일리지 사용 가능 여부 확인
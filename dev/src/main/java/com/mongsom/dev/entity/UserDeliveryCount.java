@@ -0,0 +1,45 @@
+package com.mongsom.dev.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 최근 3개월 배송상태 건수 (마이페이지 배지용 비정규화 테이블)
+ * 주문 상태 변경 시 해당 사용자 재계산, 3개월이 지난 주문은 주기적 스윕으로 재계산
+ */
+@Entity
+@Table(name = "user_delivery_count")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserDeliveryCount {
+    
+    @Id
+    @Column(name = "user_code")
+    private Long userCode;
+    
+    @Column(name = "payment_completed", nullable = false)
+    @Builder.Default
+    private Integer paymentCompleted = 0; // 결제완료
+    
+    @Column(name = "preparing", nullable = false)
+    @Builder.Default
+    private Integer preparing = 0;        // 상품준비중
+    
+    @Column(name = "shipping", nullable = false)
+    @Builder.Default
+    private Integer shipping = 0;         // 배송중
+    
+    @Column(name = "delivered", nullable = false)
+    @Builder.Default
+    private Integer delivered = 0;        // 배송완료
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
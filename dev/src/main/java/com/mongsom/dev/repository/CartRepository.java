@@ -1,5 +1,7 @@
 package com.mongsom.dev.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -71,13 +73,22 @@ public interface CartRepository extends JpaRepository<Cart, Integer> {
     @Query("DELETE FROM Cart c WHERE c.userCode = :userCode")
     int deleteByUserCode(@Param("userCode") Long userCode);
 
+    // 주문/결제 완료 후 장바구니 비우기 - 기준 시각 이후에 담은 항목은 남김
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.userCode = :userCode AND c.createdAt <= :before")
+    int deleteByUserCodeAndCreatedAtBefore(
+            @Param("userCode") Long userCode,
+            @Param("before") LocalDateTime before);
+
     /**
-     * 사용자별 장바구니 조회 (상품, 옵션조합 정보 포함)
+     * 사용자별 장바구니 조회 (상품, 옵션 값, 옵션 타입 정보 포함)
      */
     @Query("SELECT c FROM Cart c " +
     	       "LEFT JOIN FETCH c.product p " +
     	       "LEFT JOIN FETCH c.optionValue1 ov1 " +
+    	       "LEFT JOIN FETCH ov1.optionType ot1 " +
     	       "LEFT JOIN FETCH c.optionValue2 ov2 " +
+    	       "LEFT JOIN FETCH ov2.optionType ot2 " +
     	       "WHERE c.userCode = :userCode " +
     	       "ORDER BY c.createdAt DESC")
     	List<Cart> findByUserCodeWithDetails(@Param("userCode") Long userCode);
@@ -147,4 +158,11 @@ public interface CartRepository extends JpaRepository<Cart, Integer> {
     @Query("DELETE FROM Cart c WHERE c.option2 = :optionValueId")
     int deleteByOption2(@Param("optionValueId") Integer optionValueId);
     
+    /**
+     * 옵션1 또는 옵션2가 주어진 옵션 값 중 하나인 장바구니 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.option1 IN :optionValueIds OR c.option2 IN :optionValueIds")
+    int deleteByOptionValueIdIn(@Param("optionValueIds") Collection<Integer> optionValueIds);
+    
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.mongsom.dev.repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mongsom.dev.entity.OrderItem;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 배송정보 일괄 수정 반영 (주문 수와 무관하게 JDBC 배치/다중 행 INSERT로 처리)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeliveryJdbcRepository {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 배송상태/택배사/송장번호/결제일시 일괄 수정
+     */
+    public void updateDeliveryInfo(List<OrderItem> orderItems) {
+        if (orderItems.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("UPDATE order_item SET delivery_status = ?, delivery_com = ?, invoice_num = ?, "
+                        + "payment_at = ?, updated_at = NOW() WHERE order_id = ?",
+                orderItems.stream()
+                        .map(orderItem -> new Object[] {orderItem.getDeliveryStatus(), orderItem.getDeliveryCom(),
+                                orderItem.getInvoiceNum(),
+                                orderItem.getPaymentAt() != null ? Timestamp.valueOf(orderItem.getPaymentAt()) : null,
+                                orderItem.getOrderId()})
+                        .toList());
+    }
+
+    /**
+     * 송장번호 일괄 수정 (택배사/배송상태는 값이 있을 때만 변경)
+     */
+    public void updateInvoices(Map<Integer, String> invoiceNumByOrderId, String deliveryCom, String deliveryStatus) {
+        if (invoiceNumByOrderId.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("UPDATE order_item SET invoice_num = ?, delivery_com = COALESCE(?, delivery_com), "
+                        + "delivery_status = COALESCE(?, delivery_status), updated_at = NOW() WHERE order_id = ?",
+                invoiceNumByOrderId.entrySet().stream()
+                        .map(entry -> new Object[] {entry.getValue(), deliveryCom, deliveryStatus, entry.getKey()})
+                        .toList());
+    }
+
+    /**
+     * 무통장입금 결제 정보 일괄 수정 (계좌이체 결제완료로 변경)
+     */
+    public void updateBankTransferPayments(List<OrderItem> orderItems) {
+        if (orderItems.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("UPDATE payments SET payment_method = '계좌이체', payment_amount = ?, "
+                        + "payment_status = '결제완료', payment_key = NULL, pg_provider = NULL, updated_at = NOW() "
+                        + "WHERE order_id = ?",
+                orderItems.stream()
+                        .map(orderItem -> new Object[] {orderItem.getFinalPrice(), orderItem.getOrderId()})
+                        .toList());
+    }
+
+    /**
+     * 무통장입금 결제 정보 일괄 생성
+     */
+    public void insertBankTransferPayments(List<OrderItem> orderItems) {
+        for (int from = 0; from < orderItems.size(); from += MAX_ROWS_PER_STATEMENT) {
+            int to = Math.min(from + MAX_ROWS_PER_STATEMENT, orderItems.size());
+
+            StringBuilder sql = new StringBuilder("INSERT INTO payments (order_id, user_code, payment_method, "
+                    + "payment_amount, payment_status, payment_key, pg_provider, created_at, updated_at) VALUES ");
+            List<Object> args = new ArrayList<>((to - from) * 3);
+            for (int i = from; i < to; i++) {
+                OrderItem orderItem = orderItems.get(i);
+                sql.append(i == from ? "" : ", ").append("(?, ?, '계좌이체', ?, '결제완료', NULL, NULL, NOW(), NOW())");
+                args.add(orderItem.getOrderId());
+                args.add(orderItem.getUserCode());
+                args.add(orderItem.getFinalPrice());
+            }
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.mongsom.dev.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mongsom.dev.entity.OutboxEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도메인 이벤트 outbox(outbox_event) / 소비 이력(processed_event)
+ * outbox 기록은 호출자 트랜잭션(JPA와 같은 커넥션)에 참여
+ * 발행은 "미발행·미선점 → claim_token" 조건부 UPDATE로 선점해 서버가 여러 대여도 한 서버만 전송
+ */
+@Repository
+@RequiredArgsConstructor
+public class DomainEventJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * outbox 일괄 기록 (JDBC 배치)
+     */
+    public void insertOutbox(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO outbox_event (event_type, aggregate_key, payload, created_at) "
+                        + "VALUES (?, ?, ?, NOW())",
+                events.stream()
+                        .map(event -> new Object[] {event.getEventType(), event.getAggregateKey(), event.getPayload()})
+                        .toList());
+    }
+
+    /**
+     * 미발행 이벤트를 최대 limit건 선점 후 조회 (기록 순)
+     * claimedBefore 이전에 선점된 채 남은 이벤트(전송 도중 서버 종료)는 다시 선점 대상
+     */
+    public List<OutboxEvent> claimUnpublished(String claimToken, LocalDateTime now, LocalDateTime claimedBefore, int limit) {
+        List<Long> candidateIds = jdbcTemplate.queryForList("SELECT event_id FROM outbox_event "
+                        + "WHERE published_at IS NULL AND (claim_token IS NULL OR claimed_at < ?) ORDER BY event_id LIMIT ?",
+                Long.class, Timestamp.valueOf(claimedBefore), limit);
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(candidateIds.size(), "?"));
+        Object[] params = new Object[candidateIds.size() + 3];
+        params[0] = claimToken;
+        params[1] = Timestamp.valueOf(now);
+        for (int i = 0; i < candidateIds.size(); i++) {
+            params[i + 2] = candidateIds.get(i);
+        }
+        params[params.length - 1] = Timestamp.valueOf(claimedBefore);
+        jdbcTemplate.update("UPDATE outbox_event SET claim_token = ?, claimed_at = ? "
+                + "WHERE event_id IN (" + placeholders + ") AND published_at IS NULL "
+                + "AND (claim_token IS NULL OR claimed_at < ?)", params);
+
+        return jdbcTemplate.query("SELECT event_id, event_type, aggregate_key, payload FROM outbox_event "
+                        + "WHERE claim_token = ? AND published_at IS NULL ORDER BY event_id",
+                (rs, rowNum) -> OutboxEvent.builder()
+                        .eventId(rs.getLong("event_id"))
+                        .eventType(rs.getString("event_type"))
+                        .aggregateKey(rs.getString("aggregate_key"))
+                        .payload(rs.getString("payload"))
+                        .build(),
+                claimToken);
+    }
+
+    /**
+     * 전송 실패분 선점 해제 (다음 주기에 재전송)
+     */
+    public int releaseClaim(String claimToken) {
+        return jdbcTemplate.update("UPDATE outbox_event SET claim_token = NULL, claimed_at = NULL "
+                + "WHERE claim_token = ? AND published_at IS NULL", claimToken);
+    }
+
+    public int markPublished(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(eventIds.size(), "?"));
+        return jdbcTemplate.update("UPDATE outbox_event SET published_at = NOW(), claim_token = NULL WHERE event_id IN (" + placeholders + ")",
+                eventIds.toArray());
+    }
+
+    public int deletePublishedBefore(LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM outbox_event WHERE published_at < ?", Timestamp.valueOf(before));
+    }
+
+    /**
+     * 소비 이력 기록
+     *
+     * @return 처음 처리하는 이벤트면 true (이미 처리한 이벤트면 false)
+     */
+    public boolean markProcessed(String consumer, Long eventId) {
+        return jdbcTemplate.update("INSERT IGNORE INTO processed_event (consumer, event_id, processed_at) "
+                + "VALUES (?, ?, NOW())", consumer, eventId) == 1;
+    }
+
+    public int deleteProcessedBefore(LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM processed_event WHERE processed_at < ?", Timestamp.valueOf(before));
+    }
+}
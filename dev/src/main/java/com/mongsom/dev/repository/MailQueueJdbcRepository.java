@@ -0,0 +1,112 @@
+package com.mongsom.dev.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mongsom.dev.entity.MailQueue;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 발송 대기 메일(mail_queue)
+ * 선점은 "대기 → 발송중 + claim_token" 조건부 UPDATE로 처리해 서버가 여러 대여도 한 번만 발송
+ */
+@Repository
+@RequiredArgsConstructor
+public class MailQueueJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 메일 기록 (호출자 트랜잭션에 참여, 커밋되어야 발송 대상이 됨)
+     */
+    public void insert(String mailType, String recipient, String subject, String body, LocalDateTime now) {
+        jdbcTemplate.update("INSERT INTO mail_queue (mail_type, recipient, subject, body, status, attempt_count, "
+                        + "next_attempt_at, created_at) VALUES (?, ?, ?, ?, ?, 0, ?, ?)",
+                mailType, recipient, subject, body, MailQueue.STATUS_PENDING, Timestamp.valueOf(now), Timestamp.valueOf(now));
+    }
+
+    /**
+     * 발송 시각이 된 메일을 최대 limit건 선점 후 조회
+     */
+    public List<MailQueue> claimDue(String claimToken, LocalDateTime now, int limit) {
+        List<Long> candidateIds = jdbcTemplate.queryForList("SELECT mail_id FROM mail_queue "
+                        + "WHERE status = ? AND next_attempt_at <= ? ORDER BY mail_id LIMIT ?",
+                Long.class, MailQueue.STATUS_PENDING, Timestamp.valueOf(now), limit);
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(candidateIds.size(), "?"));
+        Object[] params = new Object[candidateIds.size() + 4];
+        params[0] = MailQueue.STATUS_SENDING;
+        params[1] = claimToken;
+        params[2] = Timestamp.valueOf(now);
+        for (int i = 0; i < candidateIds.size(); i++) {
+            params[i + 3] = candidateIds.get(i);
+        }
+        params[params.length - 1] = MailQueue.STATUS_PENDING;
+        jdbcTemplate.update("UPDATE mail_queue SET status = ?, claim_token = ?, claimed_at = ? "
+                + "WHERE mail_id IN (" + placeholders + ") AND status = ?", params);
+
+        return jdbcTemplate.query("SELECT mail_id, mail_type, recipient, subject, body, attempt_count FROM mail_queue "
+                        + "WHERE claim_token = ? AND status = ? ORDER BY mail_id",
+                (rs, rowNum) -> MailQueue.builder()
+                        .mailId(rs.getLong("mail_id"))
+                        .mailType(rs.getString("mail_type"))
+                        .recipient(rs.getString("recipient"))
+                        .subject(rs.getString("subject"))
+                        .body(rs.getString("body"))
+                        .attemptCount(rs.getInt("attempt_count"))
+                        .build(),
+                claimToken, MailQueue.STATUS_SENDING);
+    }
+
+    public void markSent(List<Long> mailIds, LocalDateTime now) {
+        if (mailIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("UPDATE mail_queue SET status = ?, body = NULL, attempt_count = attempt_count + 1, "
+                        + "sent_at = ?, claim_token = NULL, last_error = NULL WHERE mail_id = ?",
+                mailIds.stream()
+                        .map(mailId -> new Object[] {MailQueue.STATUS_SENT, Timestamp.valueOf(now), mailId})
+                        .toList());
+    }
+
+    /**
+     * 발송 실패 → 다음 시도 예약
+     */
+    public void markRetry(Long mailId, LocalDateTime nextAttemptAt, String error) {
+        jdbcTemplate.update("UPDATE mail_queue SET status = ?, attempt_count = attempt_count + 1, next_attempt_at = ?, "
+                        + "claim_token = NULL, last_error = ? WHERE mail_id = ?",
+                MailQueue.STATUS_PENDING, Timestamp.valueOf(nextAttemptAt), error, mailId);
+    }
+
+    /**
+     * 재시도 횟수 초과 → 발송 포기 (본문 삭제)
+     */
+    public void markFailed(Long mailId, String error) {
+        jdbcTemplate.update("UPDATE mail_queue SET status = ?, body = NULL, attempt_count = attempt_count + 1, "
+                        + "claim_token = NULL, last_error = ? WHERE mail_id = ?",
+                MailQueue.STATUS_FAILED, error, mailId);
+    }
+
+    /**
+     * 발송 도중 서버가 종료되어 발송중으로 남은 메일을 대기로 되돌림
+     */
+    public int releaseStaleClaims(LocalDateTime claimedBefore) {
+        return jdbcTemplate.update("UPDATE mail_queue SET status = ?, claim_token = NULL "
+                        + "WHERE status = ? AND claimed_at < ?",
+                MailQueue.STATUS_PENDING, MailQueue.STATUS_SENDING, Timestamp.valueOf(claimedBefore));
+    }
+
+    public int deleteFinishedBefore(LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM mail_queue WHERE status IN (?, ?) AND created_at < ?",
+                MailQueue.STATUS_SENT, MailQueue.STATUS_FAILED, Timestamp.valueOf(before));
+    }
+}
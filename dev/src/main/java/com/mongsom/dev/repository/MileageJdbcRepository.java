@@ -0,0 +1,57 @@
+package com.mongsom.dev.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 마일리지 잔액 변경/원장 기록
+ * 잔액은 엔티티를 읽지 않고 조건부 UPDATE 한 번으로 변경하므로 동시 차감 시에도 유실/음수 잔액이 없음
+ */
+@Repository
+@RequiredArgsConstructor
+public class MileageJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 잔액이 충분할 때만 차감
+     *
+     * @return 차감 여부 (잔액 부족 또는 사용자 없음이면 false)
+     */
+    public boolean deduct(Long userCode, int amount) {
+        return jdbcTemplate.update("UPDATE user_mst SET mileage = mileage - ? WHERE user_code = ? AND mileage >= ?",
+                amount, userCode, amount) == 1;
+    }
+
+    /**
+     * 적립
+     *
+     * @return 적립 여부 (사용자 없음이면 false)
+     */
+    public boolean add(Long userCode, int amount) {
+        return jdbcTemplate.update("UPDATE user_mst SET mileage = mileage + ? WHERE user_code = ?",
+                amount, userCode) == 1;
+    }
+
+    /**
+     * 원장 기록 (잔액 변경 직후 같은 트랜잭션에서 호출, 변경 후 잔액을 함께 저장)
+     */
+    public void insertLedger(Long userCode, int amount, String reason, Integer orderId) {
+        jdbcTemplate.update("INSERT INTO mileage_ledger (user_code, amount, balance_after, reason, order_id, created_at) "
+                        + "SELECT user_code, ?, mileage, ?, ?, NOW() FROM user_mst WHERE user_code = ?",
+                amount, reason, orderId, userCode);
+    }
+
+    /**
+     * 현재 잔액 (사용자 없음이면 null)
+     */
+    public Integer findBalance(Long userCode) {
+        List<Integer> balances = jdbcTemplate.queryForList("SELECT mileage FROM user_mst WHERE user_code = ?",
+                Integer.class, userCode);
+        return balances.isEmpty() ? null : balances.get(0);
+    }
+}
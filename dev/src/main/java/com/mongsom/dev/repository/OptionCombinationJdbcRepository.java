@@ -0,0 +1,74 @@
+package com.mongsom.dev.repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 옵션 조합/조합-옵션값 매핑 일괄 저장 (IDENTITY 키라 JPA 배치가 불가하므로 다중 행 INSERT로 처리)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OptionCombinationJdbcRepository {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조합 일괄 저장 (keys[i], stockStatuses[i] 가 한 행)
+     */
+    public void insertCombinations(Integer productId, String[] keys, int[] stockStatuses) {
+        for (int from = 0; from < keys.length; from += MAX_ROWS_PER_STATEMENT) {
+            int to = Math.min(from + MAX_ROWS_PER_STATEMENT, keys.length);
+
+            StringBuilder sql = new StringBuilder("INSERT INTO product_option_combination "
+                    + "(product_id, combination_key, stock_status, is_deleted, created_at, updated_at) VALUES ");
+            Object[] args = new Object[(to - from) * 3];
+            for (int i = from, a = 0; i < to; i++) {
+                sql.append(i == from ? "" : ", ").append("(?, ?, ?, 0, NOW(), NOW())");
+                args[a++] = productId;
+                args[a++] = keys[i];
+                args[a++] = stockStatuses[i];
+            }
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+
+    /**
+     * 상품의 조합 키 → 조합 ID
+     */
+    public Map<String, Integer> findCombinationIdsByProductId(Integer productId) {
+        Map<String, Integer> idsByKey = new HashMap<>();
+        jdbcTemplate.query("SELECT combination_key, combination_id FROM product_option_combination "
+                        + "WHERE product_id = ? AND is_deleted = 0",
+                rs -> {
+                    idsByKey.put(rs.getString(1), rs.getInt(2));
+                },
+                productId);
+        return idsByKey;
+    }
+
+    /**
+     * 조합-옵션값 매핑 일괄 저장 (combinationIds[i], optionValueIds[i] 가 한 행)
+     */
+    public void insertMappings(int[] combinationIds, int[] optionValueIds) {
+        for (int from = 0; from < combinationIds.length; from += MAX_ROWS_PER_STATEMENT) {
+            int to = Math.min(from + MAX_ROWS_PER_STATEMENT, combinationIds.length);
+
+            StringBuilder sql = new StringBuilder("INSERT INTO option_combination_mapping "
+                    + "(combination_id, option_value_id, created_at) VALUES ");
+            Object[] args = new Object[(to - from) * 2];
+            for (int i = from, a = 0; i < to; i++) {
+                sql.append(i == from ? "" : ", ").append("(?, ?, NOW())");
+                args[a++] = combinationIds[i];
+                args[a++] = optionValueIds[i];
+            }
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+}
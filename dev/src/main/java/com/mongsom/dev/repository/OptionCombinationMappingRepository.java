@@ -3,6 +3,9 @@ package com.mongsom.dev.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.mongsom.dev.entity.OptionCombinationMapping;
@@ -11,4 +14,10 @@ import com.mongsom.dev.entity.OptionCombinationMapping;
 public interface OptionCombinationMappingRepository extends JpaRepository<OptionCombinationMapping, Integer> {
     List<OptionCombinationMapping> findByCombinationId(Integer combinationId);
     void deleteByCombinationId(Integer combinationId);
+
+    // 상품의 모든 조합-옵션값 매핑 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM OptionCombinationMapping ocm WHERE ocm.combinationId IN "
+            + "(SELECT poc.combinationId FROM ProductOptionCombination poc WHERE poc.productId = :productId)")
+    int deleteByProductId(@Param("productId") Integer productId);
 }
\ No newline at end of file
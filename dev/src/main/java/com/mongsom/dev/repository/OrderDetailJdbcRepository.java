@@ -0,0 +1,65 @@
+package com.mongsom.dev.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mongsom.dev.entity.OrderDetail;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 상세 일괄 저장 (IDENTITY 키라 JPA 배치가 불가하므로 다중 행 INSERT 한 번으로 처리)
+ * 생성된 order_detail_id는 채워지지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderDetailJdbcRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO order_detail "
+            + "(order_id, user_code, product_id, option1, option2, quantity, base_price, option_price, "
+            + "unit_total_price, line_total_price, review_status, order_status, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertAll(List<OrderDetail> orderDetails) {
+        int inserted = 0;
+        for (int from = 0; from < orderDetails.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<OrderDetail> chunk = orderDetails.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, orderDetails.size()));
+            inserted += insertChunk(chunk);
+        }
+        return inserted;
+    }
+
+    private int insertChunk(List<OrderDetail> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(chunk.size() * 13);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            OrderDetail detail = chunk.get(i);
+            sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+            args.add(detail.getOrderId());
+            args.add(detail.getUserCode());
+            args.add(detail.getProductId());
+            args.add(detail.getOption1());
+            args.add(detail.getOption2());
+            args.add(detail.getQuantity());
+            args.add(detail.getBasePrice());
+            args.add(detail.getOptionPrice());
+            args.add(detail.getUnitTotalPrice());
+            args.add(detail.getLineTotalPrice());
+            args.add(detail.getReviewStatus());
+            args.add(detail.getOrderStatus());
+            args.add(detail.getCreatedAt() != null ? Timestamp.valueOf(detail.getCreatedAt()) : now);
+        }
+
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
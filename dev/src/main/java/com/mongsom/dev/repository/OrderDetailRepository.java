@@ -1,5 +1,6 @@
 package com.mongsom.dev.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -115,9 +116,22 @@ List<Object[]> findOrderDetailItemsByOrderId(@Param("orderId") Integer orderId);
     // 관리자 주문 조회용 - orderId로 주문 상세 목록 조회
     List<OrderDetail> findByOrderId(Integer orderId);
     
+    // 주문 목록 페이지용 - 여러 주문의 상세 + 상품 일괄 조회 (N+1 방지)
+    @Query("SELECT od FROM OrderDetail od LEFT JOIN FETCH od.product " +
+           "WHERE od.orderId IN :orderIds ORDER BY od.orderId, od.orderDetailId")
+    List<OrderDetail> findByOrderIdInWithProduct(@Param("orderIds") Collection<Integer> orderIds);
+    
     // 상품별 주문 개수 조회 (정상 주문만)
     long countByProductIdAndOrderStatus(Integer productId, Integer orderStatus);
     
+    // 여러 상품의 주문 개수 일괄 조회 (상품 목록 N+1 방지) - [productId, count]
+    @Query("SELECT od.productId, COUNT(od) FROM OrderDetail od " +
+           "WHERE od.productId IN :productIds " +
+           "AND od.orderStatus = :orderStatus " +
+           "GROUP BY od.productId")
+    List<Object[]> countGroupByProductIdInAndOrderStatus(@Param("productIds") List<Integer> productIds,
+                                                          @Param("orderStatus") Integer orderStatus);
+    
     // 상품별 총 주문 수량 조회
     @Query("SELECT COALESCE(SUM(od.quantity), 0) FROM OrderDetail od WHERE od.productId = :productId AND od.orderStatus = 0")
     Long getTotalQuantityByProductId(@Param("productId") Integer productId);
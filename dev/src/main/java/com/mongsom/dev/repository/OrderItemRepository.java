@@ -4,18 +4,24 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.mongsom.dev.entity.OrderItem;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Integer> {
     
@@ -101,21 +107,6 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Integer> {
     @Query("UPDATE OrderItem oi SET oi.deliveryStatus = ?2 WHERE oi.orderId = ?1")
     int updateDeliveryStatus(Integer orderId, String deliveryStatus);
     
-    /**
-     * 최근 3개월 내 배송 상태별 건수 조회 (수정됨)
-     * Native Query 사용으로 날짜 비교 문제 해결
-     */
-    @Query(value = "SELECT " +
-                   "COUNT(CASE WHEN delivery_status = '결제완료' THEN 1 END) as paymentCompleted, " +
-                   "COUNT(CASE WHEN delivery_status = '상품준비중' THEN 1 END) as preparing, " +
-                   "COUNT(CASE WHEN delivery_status = '배송중' THEN 1 END) as shipping, " +
-                   "COUNT(CASE WHEN delivery_status = '배송완료' THEN 1 END) as delivered " +
-                   "FROM order_item " +
-                   "WHERE user_code = :userCode " +
-                   "AND payment_at >= DATE_SUB(CURRENT_TIMESTAMP, INTERVAL 3 MONTH)",
-           nativeQuery = true)
-    List<Object[]> findDeliveryCountByUserCodeAndRecentThreeMonths(@Param("userCode") Long userCode);
-    
     /**
      * 대안: 개별 쿼리로 각 상태별 건수 조회 (더 명확함)
      */
@@ -133,41 +124,102 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Integer> {
     Page<OrderItem> findByUserCodeOrderByPaymentAtDesc(Long userCode, Pageable pageable);
     
     /**
-     * 관리자 주문 조회 (검색 조건 포함)
+     * 관리자 주문 목록 조회 (검색 조건 포함, 주문자명/결제상태 함께 조회)
+     * 결제상태는 주문당 한 행이 되도록 최신 결제 행에서 조회 (결제 행이 여러 개여도 주문 중복 없음)
+     * 행 구성: [orderId, orderNum, userCode, userName, paymentAt, finalPrice, deliveryStatus, invoiceNum, paymentStatus]
      */
-    @Query(value = "SELECT DISTINCT oi.* FROM order_item oi " +
+    @Query(value = "SELECT oi.order_id, oi.order_num, oi.user_code, u.name, oi.payment_at, oi.final_price, " +
+            "oi.delivery_status, oi.invoice_num, " +
+            "(SELECT p.payment_status FROM payments p WHERE p.order_id = oi.order_id " +
+            " ORDER BY p.payment_id DESC LIMIT 1) AS payment_status " +
+            "FROM order_item oi " +
             "LEFT JOIN user_mst u ON oi.user_code = u.user_code " +
             "WHERE " +
             "(:startDate IS NULL OR DATE(oi.payment_at) >= :startDate) " +
             "AND (:endDate IS NULL OR DATE(oi.payment_at) <= :endDate) " +
             "AND (" +
-            "    :searchKeyword IS NULL OR :searchKeyword = '' OR " +  // 이것도 추가하면 좋음
+            "    :searchKeyword IS NULL OR :searchKeyword = '' OR " +
             "    CAST(oi.order_num AS CHAR) LIKE CONCAT('%', :searchKeyword, '%') OR " +
             "    CAST(oi.invoice_num AS CHAR) LIKE CONCAT('%', :searchKeyword, '%') OR " +
             "    CAST(u.phone AS CHAR) LIKE CONCAT('%', :searchKeyword, '%') OR " +
             "    CAST(u.name AS CHAR) LIKE CONCAT('%', :searchKeyword, '%')" +
             ") " +
-            "AND (:orderStatus IS NULL OR :orderStatus = '' OR oi.delivery_status = :orderStatus) " +  // 여기 수정
+            "AND (:orderStatus IS NULL OR :orderStatus = '' OR oi.delivery_status = :orderStatus) " +
             "ORDER BY oi.payment_at DESC",
-    countQuery = "SELECT COUNT(DISTINCT oi.order_id) FROM order_item oi " +
+    countQuery = "SELECT COUNT(*) FROM order_item oi " +
                 "LEFT JOIN user_mst u ON oi.user_code = u.user_code " +
                 "WHERE " +
                 "(:startDate IS NULL OR DATE(oi.payment_at) >= :startDate) " +
                 "AND (:endDate IS NULL OR DATE(oi.payment_at) <= :endDate) " +
                 "AND (" +
-                "    :searchKeyword IS NULL OR :searchKeyword = '' OR " +  // 이것도 추가하면 좋음
+                "    :searchKeyword IS NULL OR :searchKeyword = '' OR " +
                 "    CAST(oi.order_num AS CHAR) LIKE CONCAT('%', :searchKeyword, '%') OR " +
                 "    CAST(oi.invoice_num AS CHAR) LIKE CONCAT('%', :searchKeyword, '%') OR " +
                 "    CAST(u.phone AS CHAR) LIKE CONCAT('%', :searchKeyword, '%') OR " +
                 "    CAST(u.name AS CHAR) LIKE CONCAT('%', :searchKeyword, '%')" +
                 ") " +
-                "AND (:orderStatus IS NULL OR :orderStatus = '' OR oi.delivery_status = :orderStatus)",  // 여기도 수정
+                "AND (:orderStatus IS NULL OR :orderStatus = '' OR oi.delivery_status = :orderStatus)",
+    nativeQuery = true)
+    Page<Object[]> findAdminOrderRows(@Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate,
+                                      @Param("searchKeyword") String searchKeyword,
+                                      @Param("orderStatus") String orderStatus,
+                                      Pageable pageable);
+    
+    /**
+     * 관리자 주문 검색 (키셋 페이지네이션)
+     * - 결제일시 반열림 구간 [from, to), 주문번호 접두사 일치 → (payment_at, order_id) 인덱스 범위 스캔
+     * - 첫 페이지는 cursorPaymentAt = to, cursorOrderId = Integer.MAX_VALUE 로 호출
+     * 행 구성: findAdminOrderRows 와 동일
+     */
+    @Query(value = "SELECT oi.order_id, oi.order_num, oi.user_code, u.name, oi.payment_at, oi.final_price, " +
+            "oi.delivery_status, oi.invoice_num, " +
+            "(SELECT p.payment_status FROM payments p WHERE p.order_id = oi.order_id " +
+            " ORDER BY p.payment_id DESC LIMIT 1) AS payment_status " +
+            "FROM order_item oi " +
+            "LEFT JOIN user_mst u ON oi.user_code = u.user_code " +
+            "WHERE oi.payment_at >= :from AND oi.payment_at < :to " +
+            "AND (oi.payment_at < :cursorPaymentAt " +
+            "     OR (oi.payment_at = :cursorPaymentAt AND oi.order_id < :cursorOrderId)) " +
+            "AND (:orderNumPrefix IS NULL OR oi.order_num LIKE CONCAT(:orderNumPrefix, '%')) " +
+            "AND (:orderStatus IS NULL OR oi.delivery_status = :orderStatus) " +
+            "ORDER BY oi.payment_at DESC, oi.order_id DESC",
+    nativeQuery = true)
+    List<Object[]> findAdminOrderRowsAfter(@Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to,
+                                           @Param("cursorPaymentAt") LocalDateTime cursorPaymentAt,
+                                           @Param("cursorOrderId") Integer cursorOrderId,
+                                           @Param("orderNumPrefix") String orderNumPrefix,
+                                           @Param("orderStatus") String orderStatus,
+                                           Pageable pageable);
+    
+    /**
+     * 관리자 주문 목록 행 (실시간 알림으로 받은 주문만 다시 조회)
+     * 행 구성: findAdminOrderRows 와 동일
+     */
+    @Query(value = "SELECT oi.order_id, oi.order_num, oi.user_code, u.name, oi.payment_at, oi.final_price, " +
+            "oi.delivery_status, oi.invoice_num, " +
+            "(SELECT p.payment_status FROM payments p WHERE p.order_id = oi.order_id " +
+            " ORDER BY p.payment_id DESC LIMIT 1) AS payment_status " +
+            "FROM order_item oi " +
+            "LEFT JOIN user_mst u ON oi.user_code = u.user_code " +
+            "WHERE oi.order_id IN (:orderIds) " +
+            "ORDER BY oi.payment_at DESC, oi.order_id DESC",
     nativeQuery = true)
-Page<OrderItem> findAdminOrders(@Param("startDate") LocalDate startDate,
-                            @Param("endDate") LocalDate endDate,
-                            @Param("searchKeyword") String searchKeyword,
-                            @Param("orderStatus") String orderStatus,
-                            Pageable pageable);
+    List<Object[]> findAdminOrderRowsByOrderIdIn(@Param("orderIds") Collection<Integer> orderIds);
+    
+    /**
+     * 관리자 주문 검색 건수 (요청 시에만 사용)
+     */
+    @Query(value = "SELECT COUNT(*) FROM order_item oi " +
+            "WHERE oi.payment_at >= :from AND oi.payment_at < :to " +
+            "AND (:orderNumPrefix IS NULL OR oi.order_num LIKE CONCAT(:orderNumPrefix, '%')) " +
+            "AND (:orderStatus IS NULL OR oi.delivery_status = :orderStatus)",
+    nativeQuery = true)
+    long countAdminOrderRows(@Param("from") LocalDateTime from,
+                             @Param("to") LocalDateTime to,
+                             @Param("orderNumPrefix") String orderNumPrefix,
+                             @Param("orderStatus") String orderStatus);
     
     /**
      * 주문 ID로 OrderItem 삭제
@@ -183,4 +235,40 @@ Page<OrderItem> findAdminOrders(@Param("startDate") LocalDate startDate,
     @Query("SELECT o FROM OrderItem o WHERE o.deliveryStatus = ?1 ORDER BY o.paymentAt DESC")
     List<OrderItem> findByDeliveryStatusOrderByPaymentAtDesc(String deliveryStatus);
     
+    /**
+     * 배송 상태별 엑셀 내보내기 행 조회 (주문 + 상품 + 옵션명 단일 조인)
+     * 행 구성: [orderId, orderNum, receivedUserName, receivedUserPhone, receivedUserAddress,
+     *          receivedUserAddress2, message, productId, productName, option1, option1Name, option2, option2Name, quantity]
+     * 커서 기반 순방향 조회이므로 반드시 트랜잭션 안에서 사용 후 close 할 것
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT oi.orderId, oi.orderNum, oi.receivedUserName, oi.receivedUserPhone, " +
+           "oi.receivedUserAddress, oi.receivedUserAddress2, oi.message, " +
+           "od.productId, p.name, od.option1, ov1.valueName, od.option2, ov2.valueName, od.quantity " +
+           "FROM OrderItem oi " +
+           "JOIN OrderDetail od ON od.orderId = oi.orderId " +
+           "JOIN Product p ON p.productId = od.productId " +
+           "LEFT JOIN ProductOptionValue ov1 ON ov1.optionValueId = od.option1 " +
+           "LEFT JOIN ProductOptionValue ov2 ON ov2.optionValueId = od.option2 " +
+           "WHERE oi.deliveryStatus = :deliveryStatus " +
+           "ORDER BY oi.paymentAt DESC, oi.orderId DESC, od.orderDetailId ASC")
+    Stream<Object[]> streamExportRowsByDeliveryStatus(@Param("deliveryStatus") String deliveryStatus);
+    
+    /**
+     * 배송정보 일괄 수정 대상 주문 조회
+     * 변경분은 JDBC 배치로 반영하므로 읽기 전용으로 조회 (더티 체킹에 의한 행별 UPDATE 방지)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT o FROM OrderItem o WHERE o.orderId IN :orderIds")
+    List<OrderItem> findByOrderIdIn(@Param("orderIds") Collection<Integer> orderIds);
+    
+    /**
+     * 주문번호로 주문 ID 일괄 조회 (송장 파일 업로드용) - [orderNum, orderId, userCode]
+     */
+    @Query("SELECT o.orderNum, o.orderId, o.userCode FROM OrderItem o WHERE o.orderNum IN :orderNums")
+    List<Object[]> findOrderIdsByOrderNumIn(@Param("orderNums") Collection<String> orderNums);
+    
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.mongsom.dev.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mongsom.dev.entity.PaymentConfirmation;
+
+@Repository
+public interface PaymentConfirmationRepository extends JpaRepository<PaymentConfirmation, String> {
+    
+    // 승인 처리 선점 (이미 기록이 있으면 0 반환)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO payment_confirmation (payment_key, order_num, status, pg_approved, created_at, updated_at) " +
+                   "VALUES (:paymentKey, :orderNum, 'PROCESSING', 0, NOW(), NOW())", nativeQuery = true)
+    int insertProcessing(@Param("paymentKey") String paymentKey, @Param("orderNum") String orderNum);
+    
+    // 처리 중 상태로 오래 방치된 기록 인수 (처리하던 인스턴스가 중단된 경우, updated_at NULL은 선점 해제된 PG 승인 건)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE payment_confirmation SET updated_at = NOW() " +
+                   "WHERE payment_key = :paymentKey AND status = 'PROCESSING' " +
+                   "AND (updated_at IS NULL OR updated_at < :staleBefore)",
+           nativeQuery = true)
+    int takeOverStale(@Param("paymentKey") String paymentKey, @Param("staleBefore") LocalDateTime staleBefore);
+    
+    // 처리 결과 저장
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE payment_confirmation " +
+                   "SET status = :status, result_code = :resultCode, result_message = :resultMessage, updated_at = NOW() " +
+                   "WHERE payment_key = :paymentKey", nativeQuery = true)
+    int complete(@Param("paymentKey") String paymentKey,
+                 @Param("status") String status,
+                 @Param("resultCode") Integer resultCode,
+                 @Param("resultMessage") String resultMessage);
+    
+    // PG 승인 완료 기록 (DB 반영 트랜잭션 전에 별도 커밋)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE payment_confirmation SET pg_approved = 1, updated_at = NOW() " +
+                   "WHERE payment_key = :paymentKey AND status = 'PROCESSING'", nativeQuery = true)
+    int markPgApproved(@Param("paymentKey") String paymentKey);
+    
+    // 일시적 오류 시 선점 해제 (재시도 허용) - PG 미승인 건
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM payment_confirmation " +
+                   "WHERE payment_key = :paymentKey AND status = 'PROCESSING' AND pg_approved = 0",
+           nativeQuery = true)
+    int release(@Param("paymentKey") String paymentKey);
+    
+    // 일시적 오류 시 선점 해제 - PG 승인 건은 기록을 남기고 즉시 인수 가능하도록 updated_at만 비움
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE payment_confirmation SET updated_at = NULL " +
+                   "WHERE payment_key = :paymentKey AND status = 'PROCESSING' AND pg_approved = 1",
+           nativeQuery = true)
+    int releaseApproved(@Param("paymentKey") String paymentKey);
+    
+    // 주문번호 기준 승인 완료 기록 조회
+    Optional<PaymentConfirmation> findFirstByOrderNumAndStatus(String orderNum, String status);
+}
@@ -1,5 +1,6 @@
 package com.mongsom.dev.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +32,10 @@ public interface PaymentsRepository extends JpaRepository<Payments, Integer> {
     @Query("SELECT p FROM Payments p WHERE p.orderId = :orderId")
     Optional<Payments> findByOrderId2(@Param("orderId") Integer orderId);
     
+    // 결제 정보가 있는 주문 ID 일괄 조회
+    @Query("SELECT DISTINCT p.orderId FROM Payments p WHERE p.orderId IN :orderIds")
+    List<Integer> findOrderIdsWithPayment(@Param("orderIds") Collection<Integer> orderIds);
+    
     // 특정 사용자의 결제 내역 조회
     @Query("SELECT p FROM Payments p WHERE p.userCode = :userCode ORDER BY p.createdAt DESC")
     List<Payments> findByUserCodeOrderByCreatedAtDesc(@Param("userCode") Long userCode);
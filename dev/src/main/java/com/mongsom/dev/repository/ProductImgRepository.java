@@ -1,5 +1,6 @@
 package com.mongsom.dev.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,15 +15,15 @@ import com.mongsom.dev.entity.ProductImg;
 public interface ProductImgRepository extends JpaRepository<ProductImg, Integer> {
     
     // 특정 상품의 이미지들 조회
-    @Query("SELECT pi FROM ProductImg pi WHERE pi.productId = :productId ORDER BY pi.createdAt")
+    @Query("SELECT pi FROM ProductImg pi WHERE pi.productId = :productId ORDER BY pi.createdAt, pi.productImgId")
     List<ProductImg> findByProductId(@Param("productId") Integer productId);
     
     // 여러 상품의 이미지들 조회 (N+1 해결용)
-    @Query("SELECT pi FROM ProductImg pi WHERE pi.productId IN :productIds ORDER BY pi.productId, pi.createdAt")
+    @Query("SELECT pi FROM ProductImg pi WHERE pi.productId IN :productIds ORDER BY pi.productId, pi.createdAt, pi.productImgId")
     List<ProductImg> findByProductIdInOrderByProductIdAndCreatedAt(@Param("productIds") List<Integer> productIds);
     
     // 상품별 이미지 URL들만 조회
-    @Query(value = "SELECT product_img_url FROM product_img WHERE product_id = :productId ORDER BY created_at", nativeQuery = true)
+    @Query(value = "SELECT product_img_url FROM product_img WHERE product_id = :productId ORDER BY created_at, product_img_id", nativeQuery = true)
     List<String> findImgUrlsByProductId(@Param("productId") Integer productId);
     
     // 상품의 이미지 개수 조회
@@ -30,7 +31,7 @@ public interface ProductImgRepository extends JpaRepository<ProductImg, Integer>
     Long countByProductId(@Param("productId") Integer productId);
     
     // 상품의 첫 번째 이미지 조회
-    @Query("SELECT pi FROM ProductImg pi WHERE pi.productId = :productId ORDER BY pi.createdAt LIMIT 1")
+    @Query("SELECT pi FROM ProductImg pi WHERE pi.productId = :productId ORDER BY pi.createdAt, pi.productImgId LIMIT 1")
     ProductImg findFirstByProductId(@Param("productId") Integer productId);
     
     // 특정 이미지 URL 존재 여부 확인
@@ -42,6 +43,11 @@ public interface ProductImgRepository extends JpaRepository<ProductImg, Integer>
     @Query("DELETE FROM ProductImg p WHERE p.productId = :productId")
     void deleteByProductId(@Param("productId") Integer productId);
     
+    // 이미지 ID 목록으로 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM ProductImg p WHERE p.productImgId IN :productImgIds")
+    int deleteByProductImgIdIn(@Param("productImgIds") Collection<Integer> productImgIds);
+    
     // 상품 ID와 이미지 URL로 존재 여부 확인
     boolean existsByProductIdAndProductImgUrl(Integer productId, String productImgUrl);
 }
\ No newline at end of file
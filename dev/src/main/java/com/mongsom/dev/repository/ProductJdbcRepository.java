@@ -0,0 +1,112 @@
+package com.mongsom.dev.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mongsom.dev.entity.ProductImg;
+import com.mongsom.dev.entity.ProductOptionType;
+import com.mongsom.dev.entity.ProductOptionValue;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 수정 시 이미지/옵션 변경분 일괄 반영
+ * 신규 행은 다중 행 INSERT, 수정 행은 JDBC 배치 UPDATE로 처리 (행마다 save 호출 없이 문장 수 최소화)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductJdbcRepository {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미지 일괄 추가 (목록 순서대로 저장)
+     */
+    public void insertImages(Integer productId, List<String> imageUrls) {
+        for (int from = 0; from < imageUrls.size(); from += MAX_ROWS_PER_STATEMENT) {
+            int to = Math.min(from + MAX_ROWS_PER_STATEMENT, imageUrls.size());
+
+            StringBuilder sql = new StringBuilder("INSERT INTO product_img "
+                    + "(product_id, product_img_url, created_at, updated_at) VALUES ");
+            List<Object> args = new ArrayList<>((to - from) * 2);
+            for (int i = from; i < to; i++) {
+                sql.append(i == from ? "" : ", ").append("(?, ?, NOW(), NOW())");
+                args.add(productId);
+                args.add(imageUrls.get(i));
+            }
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+
+    /**
+     * 이미지 URL 일괄 수정
+     */
+    public void updateImageUrls(List<ProductImg> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("UPDATE product_img SET product_img_url = ?, updated_at = NOW() WHERE product_img_id = ?",
+                images.stream()
+                        .map(img -> new Object[] {img.getProductImgUrl(), img.getProductImgId()})
+                        .toList());
+    }
+
+    /**
+     * 옵션 타입 일괄 수정
+     */
+    public void updateOptionTypes(List<ProductOptionType> optionTypes) {
+        if (optionTypes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("UPDATE product_option_type SET type_name = ?, is_required = ?, sort_order = ?, "
+                        + "updated_at = NOW() WHERE option_type_id = ?",
+                optionTypes.stream()
+                        .map(type -> new Object[] {type.getTypeName(), type.getIsRequired(), type.getSortOrder(),
+                                type.getOptionTypeId()})
+                        .toList());
+    }
+
+    /**
+     * 옵션 값 일괄 추가
+     */
+    public void insertOptionValues(List<ProductOptionValue> optionValues) {
+        for (int from = 0; from < optionValues.size(); from += MAX_ROWS_PER_STATEMENT) {
+            int to = Math.min(from + MAX_ROWS_PER_STATEMENT, optionValues.size());
+
+            StringBuilder sql = new StringBuilder("INSERT INTO product_option_value "
+                    + "(option_type_id, value_name, price_adjustment, stock_status, sort_order, is_deleted, "
+                    + "created_at, updated_at) VALUES ");
+            List<Object> args = new ArrayList<>((to - from) * 5);
+            for (int i = from; i < to; i++) {
+                ProductOptionValue value = optionValues.get(i);
+                sql.append(i == from ? "" : ", ").append("(?, ?, ?, ?, ?, 0, NOW(), NOW())");
+                args.add(value.getOptionTypeId());
+                args.add(value.getValueName());
+                args.add(value.getPriceAdjustment());
+                args.add(value.getStockStatus());
+                args.add(value.getSortOrder());
+            }
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+
+    /**
+     * 옵션 값 일괄 수정
+     */
+    public void updateOptionValues(List<ProductOptionValue> optionValues) {
+        if (optionValues.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("UPDATE product_option_value SET value_name = ?, price_adjustment = ?, stock_status = ?, "
+                        + "sort_order = ?, updated_at = NOW() WHERE option_value_id = ?",
+                optionValues.stream()
+                        .map(value -> new Object[] {value.getValueName(), value.getPriceAdjustment(),
+                                value.getStockStatus(), value.getSortOrder(), value.getOptionValueId()})
+                        .toList());
+    }
+}
@@ -3,6 +3,7 @@ package com.mongsom.dev.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,7 +12,10 @@ import com.mongsom.dev.entity.ProductOptionCombination;
 
 @Repository
 public interface ProductOptionCombinationRepository extends JpaRepository<ProductOptionCombination, Integer> {
-    void deleteByProductId(Integer productId);
+    // 상품의 조합 일괄 삭제 (매핑은 OptionCombinationMappingRepository.deleteByProductId로 먼저 삭제)
+    @Modifying
+    @Query("DELETE FROM ProductOptionCombination poc WHERE poc.productId = :productId")
+    int deleteByProductId(@Param("productId") Integer productId);
     
     // 삭제되지 않은 조합만 조회
     @Query("SELECT poc FROM ProductOptionCombination poc WHERE poc.productId = :productId AND poc.isDeleted = 0")
@@ -1,8 +1,10 @@
 package com.mongsom.dev.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -47,4 +49,17 @@ public interface ProductOptionTypeRepository extends JpaRepository<ProductOption
            "ORDER BY ot.sortOrder ASC")
     List<ProductOptionType> findByProductIdAndNotDeleted(@Param("productId") Integer productId);
     
+    /**
+     * 상품의 옵션 타입 전체 조회 (삭제 표시된 것 포함, 상품 수정 비교용)
+     */
+    @Query("SELECT pot FROM ProductOptionType pot WHERE pot.productId = :productId")
+    List<ProductOptionType> findAllByProductIdIncludingDeleted(@Param("productId") Integer productId);
+    
+    /**
+     * 옵션 타입 일괄 삭제 (옵션 값은 ProductOptionValueRepository.deleteByOptionTypeIdIn으로 먼저 삭제)
+     */
+    @Modifying
+    @Query("DELETE FROM ProductOptionType pot WHERE pot.optionTypeId IN :optionTypeIds")
+    int deleteByOptionTypeIdIn(@Param("optionTypeIds") Collection<Integer> optionTypeIds);
+    
 }
\ No newline at end of file
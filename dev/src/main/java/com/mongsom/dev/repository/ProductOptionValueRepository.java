@@ -1,9 +1,11 @@
 package com.mongsom.dev.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -84,10 +86,30 @@ public interface ProductOptionValueRepository extends JpaRepository<ProductOptio
     Optional<ProductOptionValue> findByIdWithOptionType(@Param("optionValueId") Integer optionValueId);
     
     /**
-     * 옵션 값 ID로 옵션명 조회
+     * 옵션 값 이름 일괄 조회 - [optionValueId, valueName]
      */
-    @Query("SELECT pov.valueName FROM ProductOptionValue pov WHERE pov.optionValueId = :optionValueId")
-    Optional<String> findValueNameById(@Param("optionValueId") Integer optionValueId);
+    @Query("SELECT pov.optionValueId, pov.valueName FROM ProductOptionValue pov WHERE pov.optionValueId IN :optionValueIds")
+    List<Object[]> findValueNamesByIdIn(@Param("optionValueIds") Collection<Integer> optionValueIds);
+    
+    /**
+     * 여러 옵션 타입의 값 전체 조회 (삭제 표시된 것 포함, 상품 수정 비교용)
+     */
+    @Query("SELECT pov FROM ProductOptionValue pov WHERE pov.optionTypeId IN :optionTypeIds")
+    List<ProductOptionValue> findByOptionTypeIdInIncludingDeleted(@Param("optionTypeIds") Collection<Integer> optionTypeIds);
+    
+    /**
+     * 옵션 값 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ProductOptionValue pov WHERE pov.optionValueId IN :optionValueIds")
+    int deleteByOptionValueIdIn(@Param("optionValueIds") Collection<Integer> optionValueIds);
+    
+    /**
+     * 옵션 타입에 속한 값 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ProductOptionValue pov WHERE pov.optionTypeId IN :optionTypeIds")
+    int deleteByOptionTypeIdIn(@Param("optionTypeIds") Collection<Integer> optionTypeIds);
     
     /**
      * 옵션 값 ID로 전체 정보 조회 (선택적)
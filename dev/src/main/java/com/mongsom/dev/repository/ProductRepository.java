@@ -1,5 +1,7 @@
 package com.mongsom.dev.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,28 +38,25 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
     // 1. 전체 상품 최신순
     Page<Product> findByDeleteStatusAndIsAvailableOrderByCreatedAtDesc(Integer deleteStatus, Integer isAvailable, Pageable pageable);
 
-    // 2. 전체 상품 인기순
-    @Query(value = "SELECT p.* FROM product p " +
-                   "LEFT JOIN (SELECT od.product_id, COUNT(*) as order_count " +
-                   "           FROM order_detail od " +
-                   "           WHERE od.order_status = 0 " +
-                   "           GROUP BY od.product_id) o ON p.product_id = o.product_id " +
+    // 2. 전체 상품 인기순 (product_stats 정렬 인덱스 사용, 집계 행은 상품 등록 시 생성)
+    @Query(value = "SELECT p.* FROM product_stats ps " +
+                   "JOIN product p ON p.product_id = ps.product_id " +
                    "WHERE p.delete_status = 0 AND p.is_available = 1 " +
-                   "ORDER BY COALESCE(o.order_count, 0) DESC, p.product_id DESC",
-            countQuery = "SELECT COUNT(p.product_id) FROM product p WHERE p.delete_status = 0 AND p.is_available = 1",
+                   "ORDER BY ps.order_count DESC, ps.product_id DESC",
+            countQuery = "SELECT COUNT(*) FROM product_stats ps " +
+                         "JOIN product p ON p.product_id = ps.product_id " +
+                         "WHERE p.delete_status = 0 AND p.is_available = 1",
             nativeQuery = true)
     Page<Product> findAllOrderByPopularityDesc(Pageable pageable);
 
-    // 3. 전체 상품 리뷰많은순
-    @Query(value = "SELECT p.* FROM product p " +
-                   "LEFT JOIN (" +
-                   "    SELECT product_id, COUNT(*) as review_count " +
-                   "    FROM user_review " +
-                   "    GROUP BY product_id" +
-                   ") r ON p.product_id = r.product_id " +
+    // 3. 전체 상품 리뷰많은순 (product_stats 정렬 인덱스 사용, 집계 행은 상품 등록 시 생성)
+    @Query(value = "SELECT p.* FROM product_stats ps " +
+                   "JOIN product p ON p.product_id = ps.product_id " +
                    "WHERE p.delete_status = 0 AND p.is_available = 1 " +
-                   "ORDER BY COALESCE(r.review_count, 0) DESC, p.product_id DESC",
-            countQuery = "SELECT COUNT(*) FROM product WHERE delete_status = 0 AND is_available = 1",
+                   "ORDER BY ps.review_count DESC, ps.product_id DESC",
+            countQuery = "SELECT COUNT(*) FROM product_stats ps " +
+                         "JOIN product p ON p.product_id = ps.product_id " +
+                         "WHERE p.delete_status = 0 AND p.is_available = 1",
             nativeQuery = true)
     Page<Product> findAllOrderByReviewCountDesc(Pageable pageable);
 
@@ -66,28 +65,25 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
     // 4. 프리미엄 상품 최신순
     Page<Product> findByPremiumAndDeleteStatusAndIsAvailableOrderByCreatedAtDesc(Integer premium, Integer deleteStatus, Integer isAvailable, Pageable pageable);
 
-    // 5. 프리미엄 상품 인기순
-    @Query(value = "SELECT p.* FROM product p " +
-                   "LEFT JOIN (SELECT od.product_id, COUNT(*) as order_count " +
-                   "           FROM order_detail od " +
-                   "           WHERE od.order_status = 0 " +
-                   "           GROUP BY od.product_id) o ON p.product_id = o.product_id " +
+    // 5. 프리미엄 상품 인기순 (product_stats 정렬 인덱스 사용, 집계 행은 상품 등록 시 생성)
+    @Query(value = "SELECT p.* FROM product_stats ps " +
+                   "JOIN product p ON p.product_id = ps.product_id " +
                    "WHERE p.delete_status = 0 AND p.is_available = 1 AND p.premium = :premium " +
-                   "ORDER BY COALESCE(o.order_count, 0) DESC, p.product_id DESC",
-            countQuery = "SELECT COUNT(p.product_id) FROM product p WHERE p.delete_status = 0 AND p.is_available = 1 AND p.premium = :premium",
+                   "ORDER BY ps.order_count DESC, ps.product_id DESC",
+            countQuery = "SELECT COUNT(*) FROM product_stats ps " +
+                         "JOIN product p ON p.product_id = ps.product_id " +
+                         "WHERE p.delete_status = 0 AND p.is_available = 1 AND p.premium = :premium",
             nativeQuery = true)
     Page<Product> findByPremiumOrderByPopularityDesc(@Param("premium") Integer premium, Pageable pageable);
 
-    // 6. 프리미엄 상품 리뷰많은순
-    @Query(value = "SELECT p.* FROM product p " +
-                   "LEFT JOIN (" +
-                   "    SELECT product_id, COUNT(*) as review_count " +
-                   "    FROM user_review " +
-                   "    GROUP BY product_id" +
-                   ") r ON p.product_id = r.product_id " +
+    // 6. 프리미엄 상품 리뷰많은순 (product_stats 정렬 인덱스 사용, 집계 행은 상품 등록 시 생성)
+    @Query(value = "SELECT p.* FROM product_stats ps " +
+                   "JOIN product p ON p.product_id = ps.product_id " +
                    "WHERE p.delete_status = 0 AND p.is_available = 1 AND p.premium = :premium " +
-                   "ORDER BY COALESCE(r.review_count, 0) DESC, p.product_id DESC",
-            countQuery = "SELECT COUNT(*) FROM product WHERE delete_status = 0 AND is_available = 1 AND premium = :premium",
+                   "ORDER BY ps.review_count DESC, ps.product_id DESC",
+            countQuery = "SELECT COUNT(*) FROM product_stats ps " +
+                         "JOIN product p ON p.product_id = ps.product_id " +
+                         "WHERE p.delete_status = 0 AND p.is_available = 1 AND p.premium = :premium",
             nativeQuery = true)
     Page<Product> findByPremiumOrderByReviewCountDesc(@Param("premium") Integer premium, Pageable pageable);
     
@@ -118,6 +114,9 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
     // 상품명으로 검색 (LIKE %name%)
     Page<Product> findByNameContainingAndDeleteStatus(String name, Integer deleteStatus, Pageable pageable);
     
+    // 상품명으로 검색 - 판매중 상품만 (사용자 검색 한 글자 검색어)
+    Page<Product> findByNameContainingAndDeleteStatusAndIsAvailable(String name, Integer deleteStatus, Integer isAvailable, Pageable pageable);
+    
     // 상품명 + 프리미엄 조건 모두 적용
     Page<Product> findByNameContainingAndPremiumAndDeleteStatus(String name, Integer premium, Integer deleteStatus, Pageable pageable);
     
@@ -131,7 +130,7 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
     
     // 관리자 상품 목록 조회 (검색 조건 포함)
     @Query(value = "SELECT p.*, " +
-                   "       (SELECT pi.product_img_url FROM product_img pi WHERE pi.product_id = p.product_id ORDER BY pi.created_at LIMIT 1) as first_image_url, " +
+                   "       (SELECT pi.product_img_url FROM product_img pi WHERE pi.product_id = p.product_id ORDER BY pi.created_at, pi.product_img_id LIMIT 1) as first_image_url, " +
                    "       (SELECT COUNT(*) FROM product_img pi WHERE pi.product_id = p.product_id) as image_count, " +
                    "       (SELECT COUNT(*) FROM product_option_type pot WHERE pot.product_id = p.product_id) as option_type_count, " +
                    "       (SELECT COUNT(*) FROM product_option_value pov JOIN product_option_type pot ON pov.option_type_id = pot.option_type_id WHERE pot.product_id = p.product_id) as total_option_value_count " +
@@ -159,6 +158,36 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
     @Query("SELECT pot.typeName FROM ProductOptionType pot WHERE pot.productId = :productId AND pot.isDeleted = 0 ORDER BY pot.sortOrder")
     List<String> findOptionTypeNamesByProductId(@Param("productId") Integer productId);
     
+    // 여러 상품의 옵션 타입명들 일괄 조회 (삭제된 것 제외) - [productId, typeName]
+    @Query("SELECT pot.productId, pot.typeName FROM ProductOptionType pot " +
+           "WHERE pot.productId IN :productIds AND pot.isDeleted = 0 ORDER BY pot.productId, pot.sortOrder")
+    List<Object[]> findOptionTypeNamesByProductIdIn(@Param("productIds") Collection<Integer> productIds);
+    
+    // 관리자 상품 목록 조회 (키셋 페이지네이션, created_at/product_id 내림차순)
+    // 행 구성은 findProductsWithDetails 와 동일, 첫 페이지는 cursorCreatedAt = 먼 미래, cursorProductId = Integer.MAX_VALUE
+    @Query(value = "SELECT p.*, " +
+                   "       (SELECT pi.product_img_url FROM product_img pi WHERE pi.product_id = p.product_id ORDER BY pi.created_at, pi.product_img_id LIMIT 1) as first_image_url, " +
+                   "       (SELECT COUNT(*) FROM product_img pi WHERE pi.product_id = p.product_id) as image_count, " +
+                   "       (SELECT COUNT(*) FROM product_option_type pot WHERE pot.product_id = p.product_id) as option_type_count, " +
+                   "       (SELECT COUNT(*) FROM product_option_value pov JOIN product_option_type pot ON pov.option_type_id = pot.option_type_id WHERE pot.product_id = p.product_id) as total_option_value_count " +
+                   "FROM product p " +
+                   "WHERE p.delete_status = 0 " +
+                   "AND (p.created_at < :cursorCreatedAt " +
+                   "     OR (p.created_at = :cursorCreatedAt AND p.product_id < :cursorProductId)) " +
+                   "AND (:name IS NULL OR p.name LIKE CONCAT('%', :name, '%')) " +
+                   "AND (:premium = 2 OR p.premium = :premium) " +
+                   "AND (:outOfStock = 0 OR (:outOfStock = 1 AND p.stock_status = 0)) " +
+                   "AND (:paused = 0 OR (:paused = 1 AND p.is_available = 0)) " +
+                   "ORDER BY p.created_at DESC, p.product_id DESC",
+           nativeQuery = true)
+    List<Object[]> findProductsWithDetailsAfter(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                @Param("cursorProductId") Integer cursorProductId,
+                                                @Param("name") String name,
+                                                @Param("premium") Integer premium,
+                                                @Param("outOfStock") Integer outOfStock,
+                                                @Param("paused") Integer paused,
+                                                Pageable pageable);
+    
     /**
      * 상품 상세 조회 - 이미지, 옵션 타입, 옵션 값 모두 한번에 조회
      */
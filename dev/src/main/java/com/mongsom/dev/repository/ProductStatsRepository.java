@@ -0,0 +1,157 @@
+package com.mongsom.dev.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mongsom.dev.entity.ProductStats;
+
+@Repository
+public interface ProductStatsRepository extends JpaRepository<ProductStats, Integer> {
+
+    String STATS_COLUMNS = "product_id, order_count, review_count, rating_sum, rated_count, " +
+                           "rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, " +
+                           "photo_review_count, qna_count, updated_at";
+
+    // 원본 테이블 기준 상품별 집계 (재계산/대사 공용, 리뷰 요약은 노출 리뷰만)
+    String STATS_SOURCE_SELECT =
+            "SELECT p.product_id, " +
+            "       COALESCE(o.order_count, 0) AS order_count, " +
+            "       COALESCE(r.review_count, 0) AS review_count, " +
+            "       COALESCE(r.rating_sum, 0) AS rating_sum, " +
+            "       COALESCE(r.rated_count, 0) AS rated_count, " +
+            "       COALESCE(r.rating_1_count, 0) AS rating_1_count, " +
+            "       COALESCE(r.rating_2_count, 0) AS rating_2_count, " +
+            "       COALESCE(r.rating_3_count, 0) AS rating_3_count, " +
+            "       COALESCE(r.rating_4_count, 0) AS rating_4_count, " +
+            "       COALESCE(r.rating_5_count, 0) AS rating_5_count, " +
+            "       COALESCE(r.photo_review_count, 0) AS photo_review_count, " +
+            "       COALESCE(q.qna_count, 0) AS qna_count, " +
+            "       NOW() AS updated_at " +
+            "FROM product p " +
+            "LEFT JOIN (SELECT od.product_id, COUNT(*) AS order_count " +
+            "           FROM order_detail od WHERE od.order_status = 0 " +
+            "           GROUP BY od.product_id) o ON o.product_id = p.product_id " +
+            "LEFT JOIN (SELECT ur.product_id, COUNT(*) AS review_count, " +
+            "                  SUM(CASE WHEN ur.review_rating BETWEEN 1 AND 5 THEN ur.review_rating ELSE 0 END) AS rating_sum, " +
+            "                  COUNT(CASE WHEN ur.review_rating BETWEEN 1 AND 5 THEN 1 END) AS rated_count, " +
+            "                  COUNT(CASE WHEN ur.review_rating = 1 THEN 1 END) AS rating_1_count, " +
+            "                  COUNT(CASE WHEN ur.review_rating = 2 THEN 1 END) AS rating_2_count, " +
+            "                  COUNT(CASE WHEN ur.review_rating = 3 THEN 1 END) AS rating_3_count, " +
+            "                  COUNT(CASE WHEN ur.review_rating = 4 THEN 1 END) AS rating_4_count, " +
+            "                  COUNT(CASE WHEN ur.review_rating = 5 THEN 1 END) AS rating_5_count, " +
+            "                  COUNT(CASE WHEN EXISTS (SELECT 1 FROM review_img ri WHERE ri.review_id = ur.review_id) " +
+            "                             THEN 1 END) AS photo_review_count " +
+            "           FROM user_review ur WHERE ur.admin_hidden = 0 " +
+            "           GROUP BY ur.product_id) r ON r.product_id = p.product_id " +
+            "LEFT JOIN (SELECT qn.product_code, COUNT(*) AS qna_count " +
+            "           FROM qna qn GROUP BY qn.product_code) q ON q.product_code = p.product_id ";
+
+    String STATS_UPSERT_UPDATE =
+            "ON DUPLICATE KEY UPDATE order_count = VALUES(order_count), " +
+            "                        review_count = VALUES(review_count), " +
+            "                        rating_sum = VALUES(rating_sum), " +
+            "                        rated_count = VALUES(rated_count), " +
+            "                        rating_1_count = VALUES(rating_1_count), " +
+            "                        rating_2_count = VALUES(rating_2_count), " +
+            "                        rating_3_count = VALUES(rating_3_count), " +
+            "                        rating_4_count = VALUES(rating_4_count), " +
+            "                        rating_5_count = VALUES(rating_5_count), " +
+            "                        photo_review_count = VALUES(photo_review_count), " +
+            "                        qna_count = VALUES(qna_count), " +
+            "                        updated_at = NOW()";
+
+    // 상품 등록 시 집계 행 생성 (이미 있으면 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO product_stats (product_id, updated_at) " +
+                   "VALUES (:productId, NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("productId") Integer productId);
+
+    // 주문 개수 증감 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO product_stats (product_id, order_count, updated_at) " +
+                   "VALUES (:productId, GREATEST(:delta, 0), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE order_count = GREATEST(order_count + :delta, 0), updated_at = NOW()",
+           nativeQuery = true)
+    int addOrderCount(@Param("productId") Integer productId, @Param("delta") Integer delta);
+
+    // 리뷰 요약 증감 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO product_stats (product_id, review_count, rating_sum, rated_count, " +
+                   "rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, " +
+                   "photo_review_count, updated_at) " +
+                   "VALUES (:productId, GREATEST(:reviewCount, 0), GREATEST(:ratingSum, 0), GREATEST(:ratedCount, 0), " +
+                   "GREATEST(:rating1, 0), GREATEST(:rating2, 0), GREATEST(:rating3, 0), GREATEST(:rating4, 0), " +
+                   "GREATEST(:rating5, 0), GREATEST(:photoReviewCount, 0), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE review_count = GREATEST(review_count + :reviewCount, 0), " +
+                   "                        rating_sum = GREATEST(rating_sum + :ratingSum, 0), " +
+                   "                        rated_count = GREATEST(rated_count + :ratedCount, 0), " +
+                   "                        rating_1_count = GREATEST(rating_1_count + :rating1, 0), " +
+                   "                        rating_2_count = GREATEST(rating_2_count + :rating2, 0), " +
+                   "                        rating_3_count = GREATEST(rating_3_count + :rating3, 0), " +
+                   "                        rating_4_count = GREATEST(rating_4_count + :rating4, 0), " +
+                   "                        rating_5_count = GREATEST(rating_5_count + :rating5, 0), " +
+                   "                        photo_review_count = GREATEST(photo_review_count + :photoReviewCount, 0), " +
+                   "                        updated_at = NOW()",
+           nativeQuery = true)
+    int addReviewSummary(@Param("productId") Integer productId,
+                         @Param("reviewCount") Integer reviewCount,
+                         @Param("ratingSum") Integer ratingSum,
+                         @Param("ratedCount") Integer ratedCount,
+                         @Param("rating1") Integer rating1,
+                         @Param("rating2") Integer rating2,
+                         @Param("rating3") Integer rating3,
+                         @Param("rating4") Integer rating4,
+                         @Param("rating5") Integer rating5,
+                         @Param("photoReviewCount") Integer photoReviewCount);
+
+    // QNA 개수 증감 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO product_stats (product_id, qna_count, updated_at) " +
+                   "VALUES (:productId, GREATEST(:delta, 0), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE qna_count = GREATEST(qna_count + :delta, 0), updated_at = NOW()",
+           nativeQuery = true)
+    int addQnaCount(@Param("productId") Integer productId, @Param("delta") Integer delta);
+
+    // 집계 행이 없는 상품만 원본 기준으로 생성 (기존 행은 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO product_stats (" + STATS_COLUMNS + ") " +
+                   STATS_SOURCE_SELECT +
+                   "WHERE NOT EXISTS (SELECT 1 FROM product_stats ps WHERE ps.product_id = p.product_id)",
+           nativeQuery = true)
+    int insertMissing();
+
+    // 지정 상품만 재계산
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO product_stats (" + STATS_COLUMNS + ") " +
+                   STATS_SOURCE_SELECT +
+                   "WHERE p.product_id IN (:productIds) " +
+                   STATS_UPSERT_UPDATE,
+           nativeQuery = true)
+    int rebuildByProductIdIn(@Param("productIds") List<Integer> productIds);
+
+    // 집계 행과 원본 재계산 값이 다른 상품 (행 누락 포함)
+    @Query(value = "SELECT c.product_id FROM (" + STATS_SOURCE_SELECT + ") c " +
+                   "LEFT JOIN product_stats ps ON ps.product_id = c.product_id " +
+                   "WHERE ps.product_id IS NULL " +
+                   "   OR ps.order_count <> c.order_count " +
+                   "   OR ps.review_count <> c.review_count " +
+                   "   OR ps.rating_sum <> c.rating_sum " +
+                   "   OR ps.rated_count <> c.rated_count " +
+                   "   OR ps.rating_1_count <> c.rating_1_count " +
+                   "   OR ps.rating_2_count <> c.rating_2_count " +
+                   "   OR ps.rating_3_count <> c.rating_3_count " +
+                   "   OR ps.rating_4_count <> c.rating_4_count " +
+                   "   OR ps.rating_5_count <> c.rating_5_count " +
+                   "   OR ps.photo_review_count <> c.photo_review_count " +
+                   "   OR ps.qna_count <> c.qna_count",
+           nativeQuery = true)
+    List<Integer> findDriftedProductIds();
+}
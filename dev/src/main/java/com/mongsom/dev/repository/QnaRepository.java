@@ -19,6 +19,11 @@ public interface QnaRepository extends JpaRepository<Qna, Integer> {
      */
     Page<Qna> findAllByOrderByCreatedAtDesc(Pageable pageable);
     
+    /**
+     * 제목 검색 (한 글자 검색어용, 최신순)
+     */
+    Page<Qna> findByQnaTitleContainingOrderByCreatedAtDesc(String keyword, Pageable pageable);
+    
     /**
      * 사용자별 QNA 조회 (추가됨)
      */
@@ -28,6 +28,9 @@ public interface ReviewImgRepository extends JpaRepository<ReviewImg, Integer> {
     // 리뷰 ID로 리뷰 이미지 엔티티 조회
     List<ReviewImg> findByReviewIdOrderByReviewImgId(Integer reviewId);
     
+    // 리뷰 이미지 존재 여부 (포토 리뷰 판별)
+    boolean existsByReviewId(Integer reviewId);
+    
     // 리뷰 ID로 기존 이미지 삭제 (수정 시 사용)
     @Modifying
     @Query("DELETE FROM ReviewImg ri WHERE ri.reviewId = :reviewId")
@@ -0,0 +1,97 @@
+package com.mongsom.dev.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mongsom.dev.service.search.SearchDocType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 역색인(search_token): (문서 종류, 토큰) → 문서 ID, 가중치
+ * PK (doc_type, token, doc_id) 범위 조회로 토큰별 문서 목록을 읽고 문서별로 합산해 순위를 매김
+ * 문서 종류별 전체 색인 완료 여부는 search_index_state에 기록 (재생성 도중 중단되면 기록이 없어 다시 생성)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 문서 토큰 교체 (기존 토큰 삭제 후 재등록)
+     */
+    public void replace(SearchDocType docType, Integer docId, Map<String, Integer> weights) {
+        delete(docType, docId);
+        if (weights.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(weights.size());
+        weights.forEach((token, weight) -> rows.add(new Object[] {docType.name(), token, docId, weight}));
+        // 기동 시 색인과 수정이 겹쳐도 실패하지 않도록 중복 키는 덮어씀
+        jdbcTemplate.batchUpdate("INSERT INTO search_token (doc_type, token, doc_id, weight) VALUES (?, ?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE weight = VALUES(weight)", rows);
+    }
+
+    public void delete(SearchDocType docType, Integer docId) {
+        jdbcTemplate.update("DELETE FROM search_token WHERE doc_type = ? AND doc_id = ?", docType.name(), docId);
+    }
+
+    /**
+     * 검색어 토큰을 모두 포함한 문서 ID (점수 높은 순, 같으면 최신 문서 먼저)
+     */
+    public List<Integer> search(SearchDocType docType, List<String> tokens, long offset, int limit) {
+        Object[] params = params(docType, tokens, limit, offset);
+        return jdbcTemplate.queryForList("SELECT doc_id FROM search_token "
+                + "WHERE doc_type = ? AND token IN (" + placeholders(tokens) + ") "
+                + "GROUP BY doc_id HAVING COUNT(*) = ? "
+                + "ORDER BY SUM(weight) DESC, doc_id DESC LIMIT ? OFFSET ?", Integer.class, params);
+    }
+
+    public long count(SearchDocType docType, List<String> tokens) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT doc_id FROM search_token "
+                + "WHERE doc_type = ? AND token IN (" + placeholders(tokens) + ") "
+                + "GROUP BY doc_id HAVING COUNT(*) = ?) matched", Long.class, params(docType, tokens));
+        return count == null ? 0 : count;
+    }
+
+    public boolean isBuilt(SearchDocType docType) {
+        List<Integer> built = jdbcTemplate.queryForList("SELECT 1 FROM search_index_state WHERE doc_type = ?",
+                Integer.class, docType.name());
+        return !built.isEmpty();
+    }
+
+    public void markBuilt(SearchDocType docType) {
+        jdbcTemplate.update("INSERT INTO search_index_state (doc_type, built_at) VALUES (?, NOW()) "
+                + "ON DUPLICATE KEY UPDATE built_at = NOW()", docType.name());
+    }
+
+    public void clearBuilt(SearchDocType docType) {
+        jdbcTemplate.update("DELETE FROM search_index_state WHERE doc_type = ?", docType.name());
+    }
+
+    public int deleteAll(SearchDocType docType) {
+        return jdbcTemplate.update("DELETE FROM search_token WHERE doc_type = ?", docType.name());
+    }
+
+    // [doc_type, 토큰..., 토큰 수, 추가 파라미터...]
+    private static Object[] params(SearchDocType docType, List<String> tokens, Object... extra) {
+        Object[] params = new Object[tokens.size() + 2 + extra.length];
+        params[0] = docType.name();
+        for (int i = 0; i < tokens.size(); i++) {
+            params[i + 1] = tokens.get(i);
+        }
+        params[tokens.size() + 1] = tokens.size();
+        System.arraycopy(extra, 0, params, tokens.size() + 2, extra.length);
+        return params;
+    }
+
+    private static String placeholders(List<String> tokens) {
+        return String.join(", ", Collections.nCopies(tokens.size(), "?"));
+    }
+}
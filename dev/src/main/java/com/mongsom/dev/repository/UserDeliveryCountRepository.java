@@ -0,0 +1,80 @@
+package com.mongsom.dev.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mongsom.dev.entity.UserDeliveryCount;
+
+@Repository
+public interface UserDeliveryCountRepository extends JpaRepository<UserDeliveryCount, Long> {
+    
+    // 지정 사용자 재계산 (주문이 없는 사용자는 행이 생기지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO user_delivery_count (user_code, payment_completed, preparing, shipping, delivered, updated_at) " +
+                   "SELECT oi.user_code, " +
+                   "       COUNT(CASE WHEN oi.payment_at >= :cutoff AND oi.delivery_status = '결제완료' THEN 1 END), " +
+                   "       COUNT(CASE WHEN oi.payment_at >= :cutoff AND oi.delivery_status = '상품준비중' THEN 1 END), " +
+                   "       COUNT(CASE WHEN oi.payment_at >= :cutoff AND oi.delivery_status = '배송중' THEN 1 END), " +
+                   "       COUNT(CASE WHEN oi.payment_at >= :cutoff AND oi.delivery_status = '배송완료' THEN 1 END), " +
+                   "       NOW() " +
+                   "FROM order_item oi " +
+                   "WHERE oi.user_code IN (:userCodes) " +
+                   "GROUP BY oi.user_code " +
+                   "ON DUPLICATE KEY UPDATE payment_completed = VALUES(payment_completed), " +
+                   "                        preparing = VALUES(preparing), " +
+                   "                        shipping = VALUES(shipping), " +
+                   "                        delivered = VALUES(delivered), " +
+                   "                        updated_at = NOW()",
+           nativeQuery = true)
+    int recompute(@Param("userCodes") Collection<Long> userCodes, @Param("cutoff") LocalDateTime cutoff);
+    
+    // 주문이 있는 전체 사용자 재계산 (기동 시)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO user_delivery_count (user_code, payment_completed, preparing, shipping, delivered, updated_at) " +
+                   "SELECT oi.user_code, " +
+                   "       COUNT(CASE WHEN oi.payment_at >= :cutoff AND oi.delivery_status = '결제완료' THEN 1 END), " +
+                   "       COUNT(CASE WHEN oi.payment_at >= :cutoff AND oi.delivery_status = '상품준비중' THEN 1 END), " +
+                   "       COUNT(CASE WHEN oi.payment_at >= :cutoff AND oi.delivery_status = '배송중' THEN 1 END), " +
+                   "       COUNT(CASE WHEN oi.payment_at >= :cutoff AND oi.delivery_status = '배송완료' THEN 1 END), " +
+                   "       NOW() " +
+                   "FROM order_item oi " +
+                   "WHERE oi.user_code IS NOT NULL " +
+                   "GROUP BY oi.user_code " +
+                   "ON DUPLICATE KEY UPDATE payment_completed = VALUES(payment_completed), " +
+                   "                        preparing = VALUES(preparing), " +
+                   "                        shipping = VALUES(shipping), " +
+                   "                        delivered = VALUES(delivered), " +
+                   "                        updated_at = NOW()",
+           nativeQuery = true)
+    int recomputeAll(@Param("cutoff") LocalDateTime cutoff);
+    
+    // [from, cutoff) 구간 결제 주문이 있는 사용자 재계산 (3개월이 지나 집계에서 빠지는 주문 반영)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO user_delivery_count (user_code, payment_completed, preparing, shipping, delivered, updated_at) " +
+                   "SELECT oi.user_code, " +
+                   "       COUNT(CASE WHEN oi.payment_at >= :cutoff AND oi.delivery_status = '결제완료' THEN 1 END), " +
+                   "       COUNT(CASE WHEN oi.payment_at >= :cutoff AND oi.delivery_status = '상품준비중' THEN 1 END), " +
+                   "       COUNT(CASE WHEN oi.payment_at >= :cutoff AND oi.delivery_status = '배송중' THEN 1 END), " +
+                   "       COUNT(CASE WHEN oi.payment_at >= :cutoff AND oi.delivery_status = '배송완료' THEN 1 END), " +
+                   "       NOW() " +
+                   "FROM order_item oi " +
+                   "WHERE oi.user_code IN (SELECT e.user_code FROM order_item e " +
+                   "                       WHERE e.payment_at >= :from AND e.payment_at < :cutoff) " +
+                   "GROUP BY oi.user_code " +
+                   "ON DUPLICATE KEY UPDATE payment_completed = VALUES(payment_completed), " +
+                   "                        preparing = VALUES(preparing), " +
+                   "                        shipping = VALUES(shipping), " +
+                   "                        delivered = VALUES(delivered), " +
+                   "                        updated_at = NOW()",
+           nativeQuery = true)
+    int recomputeExpired(@Param("from") LocalDateTime from, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -47,6 +47,12 @@ public interface UserReviewRepository extends JpaRepository<UserReview, Integer>
     @Query("SELECT AVG(ur.reviewRating) FROM UserReview ur WHERE ur.productId = :productId")
     Double getAverageRatingByProductId(@Param("productId") Integer productId);
     
+    // 여러 상품의 리뷰 개수 일괄 조회 (상품 목록 N+1 방지) - [productId, count]
+    @Query("SELECT ur.productId, COUNT(ur) FROM UserReview ur " +
+           "WHERE ur.productId IN :productIds " +
+           "GROUP BY ur.productId")
+    List<Object[]> countGroupByProductIdIn(@Param("productIds") List<Integer> productIds);
+    
     
     /**
      * 작성 가능한 리뷰 조회 (review_status = 0, 배송완료)
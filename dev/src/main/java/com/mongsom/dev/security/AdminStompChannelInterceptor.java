@@ -0,0 +1,72 @@
+package com.mongsom.dev.security;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.mongsom.dev.entity.User;
+import com.mongsom.dev.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 실시간 알림(STOMP) 인증
+ * - CONNECT: STOMP login/passcode 헤더를 관리자 계정(provider='ADMIN')으로 확인, 실패 시 ERROR 프레임 후 연결 종료
+ * - SUBSCRIBE: /topic/admin/** 은 관리자로 연결한 세션만 구독 가능
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdminStompChannelInterceptor implements ChannelInterceptor {
+
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+    private static final String ADMIN_TOPIC_PREFIX = "/topic/admin/";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            String login = accessor.getLogin();
+            String passcode = accessor.getPasscode();
+            Optional<User> admin = login == null ? Optional.empty() : userRepository.findAdminByUserId(login);
+            if (admin.isEmpty() || passcode == null || !passwordEncoder.matches(passcode, admin.get().getPassword())) {
+                log.warn("관리자 실시간 알림 인증 실패 - login: {}", login);
+                throw new MessagingException(message, "관리자 인증 실패");
+            }
+            accessor.setUser(new UsernamePasswordAuthenticationToken(new CustomUserDetails(admin.get()), null,
+                    List.of(new SimpleGrantedAuthority(ROLE_ADMIN))));
+        } else if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            String destination = accessor.getDestination();
+            if (destination != null && destination.startsWith(ADMIN_TOPIC_PREFIX) && !isAdmin(accessor)) {
+                throw new MessagingException(message, "관리자만 구독할 수 있습니다");
+            }
+        }
+        return message;
+    }
+
+    private static boolean isAdmin(StompHeaderAccessor accessor) {
+        return accessor.getUser() instanceof Authentication authentication
+                && authentication.getAuthorities().stream()
+                        .anyMatch(authority -> ROLE_ADMIN.equals(authority.getAuthority()));
+    }
+}
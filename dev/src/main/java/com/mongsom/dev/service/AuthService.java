@@ -3,8 +3,6 @@ package com.mongsom.dev.service;
 import java.util.Optional;
 import java.util.Random;
 
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +16,7 @@ import com.mongsom.dev.dto.auth.reqDto.UpdateUserReqDto;
 import com.mongsom.dev.dto.auth.respDto.FindIdRespDto;
 import com.mongsom.dev.dto.auth.respDto.LoginRespDto;
 import com.mongsom.dev.dto.auth.respDto.UserInfoRespDto;
+import com.mongsom.dev.entity.MailQueue;
 import com.mongsom.dev.entity.Provider;
 import com.mongsom.dev.entity.Role;
 import com.mongsom.dev.entity.Status;
@@ -35,7 +34,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final CartRepository cartRepository;
-    private final JavaMailSender mailSender;
+    private final MailQueueService mailQueueService;
     
     // 회원가입
     @Transactional
@@ -280,7 +279,7 @@ public class AuthService {
             user.updatePassword(encodedPassword);
             userRepository.save(user);
             
-            // 이메일 발송
+            // 이메일 발송 요청 (실제 발송은 MailQueueService가 커밋 후 처리)
             sendPasswordEmail(reqDto.getEmail(), tempPassword);
 
             return RespDto.<String>builder()
@@ -311,26 +310,16 @@ public class AuthService {
     }
     
     /**
-     * 임시 비밀번호 이메일 발송
+     * 임시 비밀번호 이메일 발송 요청 (비밀번호 변경과 같은 트랜잭션으로 큐에 기록)
      */
     private void sendPasswordEmail(String email, String tempPassword) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(email);
-            message.setSubject("몽솜 임시 비밀번호 안내");
-            message.setText("안녕하세요. 몽솜입니다.\n\n" +
-                           "비밀번호는\n" +
-                           tempPassword + "\n" +
-                           "입니다.\n\n" +
-                           "로그인 후 반드시 비밀번호를 변경해주세요.");
-            
-            mailSender.send(message);
-            log.info("임시 비밀번호 이메일 발송 완료 - email: {}", email);
-            
-        } catch (Exception e) {
-            log.error("이메일 발송 실패 - email: {}, error: {}", email, e.getMessage());
-            throw new RuntimeException("이메일 발송에 실패했습니다.");
-        }
+        mailQueueService.enqueue(MailQueue.TYPE_TEMP_PASSWORD, email, "몽솜 임시 비밀번호 안내",
+                "안녕하세요. 몽솜입니다.\n\n" +
+                "비밀번호는\n" +
+                tempPassword + "\n" +
+                "입니다.\n\n" +
+                "로그인 후 반드시 비밀번호를 변경해주세요.");
+        log.info("임시 비밀번호 이메일 발송 요청 - email: {}", email);
     }
     //회원정보수정
     @Transactional
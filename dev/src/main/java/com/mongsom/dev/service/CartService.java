@@ -16,13 +16,10 @@ import com.mongsom.dev.dto.cart.reqDto.CartUpdateQuantityReqDto;
 import com.mongsom.dev.dto.cart.respDto.CartRespDto;
 import com.mongsom.dev.entity.Cart;
 import com.mongsom.dev.entity.Product;
-import com.mongsom.dev.entity.ProductImg;
 import com.mongsom.dev.entity.ProductOptionType;
 import com.mongsom.dev.entity.ProductOptionValue;
 import com.mongsom.dev.entity.User;
 import com.mongsom.dev.repository.CartRepository;
-import com.mongsom.dev.repository.ProductImgRepository;
-import com.mongsom.dev.repository.ProductOptionTypeRepository;
 import com.mongsom.dev.repository.ProductOptionValueRepository;
 import com.mongsom.dev.repository.ProductRepository;
 import com.mongsom.dev.repository.UserRepository;
@@ -39,11 +36,10 @@ import lombok.extern.slf4j.Slf4j;
 public class CartService {
     
     private final CartRepository cartRepository;
-    private final ProductImgRepository productImgRepository;
+    private final ProductMainImageLoader productMainImageLoader;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final ProductOptionValueRepository productOptionValueRepository;
-    private final ProductOptionTypeRepository productOptionTypeRepository;
     
     /**
      * 장바구니 추가 (가격 계산 포함)
@@ -240,39 +236,23 @@ public class CartService {
     }
 
     /**
-     * Cart를 CartItemDto로 변환 (수정된 버전)
+     * Cart를 CartItemDto로 변환
+     * 옵션 값/옵션 타입은 findByUserCodeWithDetails에서 함께 조회된 엔티티 사용
      */
-    private CartRespDto.CartItemDto convertToCartItemDto(Cart cart) {
+    private CartRespDto.CartItemDto convertToCartItemDto(Cart cart, Map<Integer, String> mainImageMap) {
         // 상품 기본 정보
         Product product = cart.getProduct();
-        String mainImageUrl = null;
-        if (product != null && product.getProductImages() != null && !product.getProductImages().isEmpty()) {
-            mainImageUrl = product.getProductImages().get(0).getProductImgUrl();
-        }
+        String mainImageUrl = mainImageMap.get(cart.getProductId());
         
         // 옵션 정보 수집 (저장된 가격 사용)
         List<CartRespDto.OptionInfo> selectedOptions = new ArrayList<>();
         
-        if (cart.getOption1() != null) {
-            Optional<ProductOptionValue> option1Opt = productOptionValueRepository.findById(cart.getOption1());
-            option1Opt.ifPresent(optionValue -> {
-                selectedOptions.add(CartRespDto.OptionInfo.builder()
-                        .optionTypeName(getOptionTypeName(optionValue.getOptionTypeId()))
-                        .optionValueName(optionValue.getValueName())
-                        .priceAdjustment(optionValue.getPriceAdjustment())
-                        .build());
-            });
+        if (cart.getOption1() != null && cart.getOptionValue1() != null) {
+            selectedOptions.add(toOptionInfo(cart.getOptionValue1()));
         }
         
-        if (cart.getOption2() != null) {
-            Optional<ProductOptionValue> option2Opt = productOptionValueRepository.findById(cart.getOption2());
-            option2Opt.ifPresent(optionValue -> {
-                selectedOptions.add(CartRespDto.OptionInfo.builder()
-                        .optionTypeName(getOptionTypeName(optionValue.getOptionTypeId()))
-                        .optionValueName(optionValue.getValueName())
-                        .priceAdjustment(optionValue.getPriceAdjustment())
-                        .build());
-            });
+        if (cart.getOption2() != null && cart.getOptionValue2() != null) {
+            selectedOptions.add(toOptionInfo(cart.getOptionValue2()));
         }
         
         // 저장된 가격 정보 사용 (DB에 저장된 계산된 값)
@@ -307,15 +287,18 @@ public class CartService {
         try {
             log.info("장바구니 조회 시작 - userCode: {}", userCode);
             
-            // 1. 장바구니 아이템들 조회
+            // 1. 장바구니 아이템들 조회 (상품, 옵션 값, 옵션 타입 fetch join)
             List<Cart> cartItems = cartRepository.findByUserCodeWithDetails(userCode);
             
-            // 2. DTO 변환
+            // 2. 대표 이미지 일괄 조회 (장바구니 크기와 상관없이 1회)
+            Map<Integer, String> mainImageMap = productMainImageLoader.load(cartItems, Cart::getProductId);
+            
+            // 3. DTO 변환
             List<CartRespDto.CartItemDto> cartItemDtos = cartItems.stream()
-                    .map(this::convertToCartItemDto)
+                    .map(cart -> convertToCartItemDto(cart, mainImageMap))
                     .collect(Collectors.toList());
             
-            // 3. 응답 생성
+            // 4. 응답 생성
             CartRespDto responseData = CartRespDto.from(cartItemDtos);
             
             log.info("장바구니 조회 완료 - 아이템 수: {}, 총 금액: {}", 
@@ -414,10 +397,13 @@ public class CartService {
         }
     }
 
-    private String getOptionTypeName(Integer optionTypeId) {
-        return productOptionTypeRepository.findById(optionTypeId)
-                .map(ProductOptionType::getTypeName)
-                .orElse("알 수 없음");
+    private CartRespDto.OptionInfo toOptionInfo(ProductOptionValue optionValue) {
+        ProductOptionType optionType = optionValue.getOptionType();
+        return CartRespDto.OptionInfo.builder()
+                .optionTypeName(optionType != null ? optionType.getTypeName() : "알 수 없음")
+                .optionValueName(optionValue.getValueName())
+                .priceAdjustment(optionValue.getPriceAdjustment())
+                .build();
     }
     
     
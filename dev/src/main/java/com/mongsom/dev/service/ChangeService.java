@@ -12,6 +12,8 @@ import com.mongsom.dev.entity.OrderItem;
 import com.mongsom.dev.repository.ChangeItemRepository;
 import com.mongsom.dev.repository.OrderDetailRepository;
 import com.mongsom.dev.repository.OrderItemRepository;
+import com.mongsom.dev.service.event.DomainEvent;
+import com.mongsom.dev.service.event.DomainEventPublisher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +28,8 @@ public class ChangeService {
     private final ChangeItemRepository changeItemRepository;
     private final OrderDetailRepository orderDetailRepository;
     private final OrderItemRepository orderItemRepository;
+    private final ProductStatsService productStatsService;
+    private final DomainEventPublisher domainEventPublisher;
     
     /**
      * 교환/반품 신청
@@ -115,9 +119,18 @@ public class ChangeService {
             
             // 7. OrderDetail의 order_status 업데이트
             int newOrderStatus = "교환".equals(reqDto.getChangeType()) ? 2 : 3;
+            boolean wasNormal = Integer.valueOf(0).equals(orderDetail.getOrderStatus());
             orderDetail.setOrderStatus(newOrderStatus);
             orderDetailRepository.save(orderDetail);
             
+            if (wasNormal) {
+                productStatsService.addOrderCount(orderDetail.getProductId(), -1);
+            }
+            
+            domainEventPublisher.publish(DomainEvent.changeRequested(savedChangeItem.getChangeId(),
+                    savedChangeItem.getOrderId(), savedChangeItem.getUserCode(),
+                    savedChangeItem.getChangeType(), savedChangeItem.getChangeStatus()));
+            
             log.info("교환/반품 신청 완료 - changeId: {}, orderDetailId: {}, type: {}, status: {}", 
                     savedChangeItem.getChangeId(), reqDto.getOrderDetailId(), 
                     reqDto.getChangeType(), newOrderStatus);
@@ -176,9 +189,14 @@ public class ChangeService {
             Optional<OrderDetail> orderDetailOpt = orderDetailRepository.findById(reqDto.getOrderDetailId());
             if (orderDetailOpt.isPresent()) {
                 OrderDetail orderDetail = orderDetailOpt.get();
+                boolean wasNormal = Integer.valueOf(0).equals(orderDetail.getOrderStatus());
                 orderDetail.setOrderStatus(0); // 정상 상태로 복원
                 orderDetailRepository.save(orderDetail);
                 
+                if (!wasNormal) {
+                    productStatsService.addOrderCount(orderDetail.getProductId(), 1);
+                }
+                
                 log.info("OrderDetail 상태 복원 완료 - orderDetailId: {}, orderStatus: 0", 
                         reqDto.getOrderDetailId());
             }
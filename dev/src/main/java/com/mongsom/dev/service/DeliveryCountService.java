@@ -0,0 +1,104 @@
+package com.mongsom.dev.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.mongsom.dev.dto.delivery.respDto.DeliveryCountRespDto;
+import com.mongsom.dev.entity.UserDeliveryCount;
+import com.mongsom.dev.repository.UserDeliveryCountRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마이페이지 배송 건수 배지용 집계(user_delivery_count) 관리
+ * 집계 대상은 결제일시가 최근 3개월 이내인 주문의 결제완료/상품준비중/배송중/배송완료 건수
+ * 주문 상태 변경 이벤트 소비 시 해당 사용자를 주문에서 다시 계산하고, 3개월이 지난 주문은 주기적 스윕으로 차감
+ * (증감 방식은 조회 시 생성/기동 시 재계산이 이미 반영한 주문을 이벤트가 한 번 더 더하므로 사용하지 않음)
+ * 재계산은 호출자 트랜잭션에 참여하므로 실패 시 예외를 그대로 전달 (이벤트 소비는 재수신으로 재시도)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeliveryCountService {
+    
+    private static final int WINDOW_MONTHS = 3;
+    
+    private final UserDeliveryCountRepository userDeliveryCountRepository;
+    
+    // 스윕이 반영을 마친 결제일시 경계 (기동 후 첫 스윕은 전체 재계산으로 설정)
+    private volatile LocalDateTime sweptUntil;
+    
+    /**
+     * 사용자 배송 건수 조회 (집계 행이 없으면 주문에서 계산해 생성)
+     */
+    public DeliveryCountRespDto getCounts(Long userCode) {
+        Optional<UserDeliveryCount> count = userDeliveryCountRepository.findById(userCode);
+        if (count.isEmpty()) {
+            userDeliveryCountRepository.recompute(List.of(userCode), cutoff());
+            count = userDeliveryCountRepository.findById(userCode);
+        }
+        return count.map(c -> DeliveryCountRespDto.of(c.getPaymentCompleted(), c.getPreparing(),
+                        c.getShipping(), c.getDelivered()))
+                .orElseGet(DeliveryCountRespDto::empty);
+    }
+    
+    /**
+     * 주문 상태/결제일시가 바뀐 사용자 재계산 (변경 커밋 후 이벤트 소비 시 호출)
+     */
+    public void refresh(Collection<Long> userCodes) {
+        Set<Long> targets = userCodes.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (targets.isEmpty()) {
+            return;
+        }
+        userDeliveryCountRepository.recompute(targets, cutoff());
+    }
+    
+    /**
+     * 3개월이 지난 주문 차감 (기본 10분 간격)
+     * 직전 스윕 이후 경계를 넘은 주문이 있는 사용자만 재계산
+     * 기동 후 첫 스윕(또는 전체 재계산 실패 후)은 서버가 내려가 있던 동안 경계를 넘은 주문까지 반영하도록 전체 재계산
+     */
+    @Scheduled(fixedDelayString = "${delivery-count.sweep-interval-ms:600000}")
+    public void sweepExpired() {
+        if (sweptUntil == null) {
+            recomputeAll();
+            return;
+        }
+        LocalDateTime cutoff = cutoff();
+        LocalDateTime from = sweptUntil;
+        try {
+            long start = System.currentTimeMillis();
+            int affected = userDeliveryCountRepository.recomputeExpired(from, cutoff);
+            sweptUntil = cutoff;
+            log.info("배송 건수 만료 스윕 완료 - 구간: {} ~ {}, 반영 행: {}, 소요: {}ms",
+                    from, cutoff, affected, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("배송 건수 만료 스윕 실패 - 구간: {} ~ {}", from, cutoff, e);
+        }
+    }
+    
+    private void recomputeAll() {
+        LocalDateTime cutoff = cutoff();
+        try {
+            long start = System.currentTimeMillis();
+            int affected = userDeliveryCountRepository.recomputeAll(cutoff);
+            sweptUntil = cutoff;
+            log.info("배송 건수 전체 재계산 완료 - 반영 행: {}, 소요: {}ms", affected, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("배송 건수 전체 재계산 실패", e);
+        }
+    }
+    
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now().minusMonths(WINDOW_MONTHS);
+    }
+}
@@ -1,7 +1,7 @@
 package com.mongsom.dev.service;
 
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
 
 import com.mongsom.dev.dto.export.OrderExportDto;
@@ -10,9 +10,11 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -25,14 +27,41 @@ public class ExcelExportService {
         "배송메세지", "운임구분", "택배수량", "택배운임"
     };
     
+    // 컬럼 너비 고정값 (1/256 문자 단위, autoSize 대신 사용)
+    private static final int[] COLUMN_WIDTHS = {
+        4500, 3500, 4000, 4000,
+        15000, 8000, 6000, 2500,
+        8000, 2500, 2500, 2500
+    };
+    
+    // 메모리에 유지할 행 수 (초과분은 임시 파일로 flush)
+    private static final int ROW_ACCESS_WINDOW = 100;
+    
     /**
      * 주문 데이터를 엑셀 파일로 변환
      */
     public byte[] generateOrderExcel(List<OrderExportDto> orders, String deliveryStatus) {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            
-            log.info("엑셀 파일 생성 시작 - 데이터 건수: {}, 배송상태: {}", orders.size(), deliveryStatus);
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            writeOrderExcel(orders.stream(), deliveryStatus, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            log.error("엑셀 파일 생성 실패 - 데이터 건수: {}", orders.size(), e);
+            throw new RuntimeException("엑셀 파일 생성 중 오류가 발생했습니다.", e);
+        }
+    }
+    
+    /**
+     * 주문 데이터를 엑셀로 스트리밍 출력 (SXSSF)
+     * 최근 ROW_ACCESS_WINDOW 행만 메모리에 유지하므로 건수와 무관하게 메모리 사용량이 일정
+     * 
+     * @return 작성된 데이터 행 수
+     */
+    public int writeOrderExcel(Stream<OrderExportDto> orders, String deliveryStatus, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        
+        try {
+            log.info("엑셀 스트리밍 생성 시작 - 배송상태: {}", deliveryStatus);
             
             // 1. 워크시트 생성 (원본 파일과 동일한 시트명)
             Sheet sheet = workbook.createSheet("엑셀파일첫행-제목있음(주소1,2로분리)");
@@ -41,26 +70,30 @@ public class ExcelExportService {
             CellStyle headerStyle = createHeaderStyle(workbook);
             CellStyle dataStyle = createDataStyle(workbook);
             
-            // 3. 헤더 행 생성 (1행)
-            createHeaderRow(sheet, headerStyle);
+            // 3. 컬럼 너비 고정 (autoSize는 전체 행을 메모리에 요구하므로 사용하지 않음)
+            applyColumnWidths(sheet);
             
-            // 4. 데이터 행 생성 (2행부터)
-            createDataRows(sheet, orders, dataStyle);
+            // 4. 헤더 행 생성 (1행)
+            createHeaderRow(sheet, headerStyle);
             
-            // 5. 컬럼 너비 자동 조정
-            autoSizeColumns(sheet);
+            // 5. 데이터 행 생성 (2행부터, 한 행씩)
+            int[] rowIndex = {1};
+            orders.forEachOrdered(order -> createDataRow(sheet.createRow(rowIndex[0]++), order, dataStyle));
+            int dataRowCount = rowIndex[0] - 1;
             
-            // 6. 엑셀 파일을 바이트 배열로 변환
+            // 6. 출력 스트림으로 직접 기록
             workbook.write(out);
+            out.flush();
             
-            log.info("엑셀 파일 생성 완료 - 총 {}행 (헤더 1행 + 데이터 {}행)", 
-                    orders.size() + 1, orders.size());
+            log.info("엑셀 스트리밍 생성 완료 - 총 {}행 (헤더 1행 + 데이터 {}행)", 
+                    dataRowCount + 1, dataRowCount);
             
-            return out.toByteArray();
+            return dataRowCount;
             
-        } catch (IOException e) {
-            log.error("엑셀 파일 생성 실패 - 데이터 건수: {}", orders.size(), e);
-            throw new RuntimeException("엑셀 파일 생성 중 오류가 발생했습니다.", e);
+        } finally {
+            // 임시 파일 정리
+            workbook.dispose();
+            workbook.close();
         }
     }
     
@@ -133,20 +166,6 @@ public class ExcelExportService {
         log.debug("헤더 행 생성 완료 - 컬럼 수: {}", EXCEL_HEADERS.length);
     }
     
-    /**
-     * 데이터 행들 생성 (2행부터)
-     */
-    private void createDataRows(Sheet sheet, List<OrderExportDto> orders, CellStyle dataStyle) {
-        for (int i = 0; i < orders.size(); i++) {
-            Row row = sheet.createRow(i + 1);  // 2행부터 시작 (i+1)
-            OrderExportDto order = orders.get(i);
-            
-            createDataRow(row, order, dataStyle);
-        }
-        
-        log.debug("데이터 행 생성 완료 - 행 수: {}", orders.size());
-    }
-    
     /**
      * 개별 데이터 행 생성
      */
@@ -189,22 +208,12 @@ public class ExcelExportService {
     }
     
     /**
-     * 컬럼 너비 자동 조정
+     * 컬럼 너비 고정 설정
      */
-    private void autoSizeColumns(Sheet sheet) {
-        for (int i = 0; i < EXCEL_HEADERS.length; i++) {
-            sheet.autoSizeColumn(i);
-            
-            // 최대/최소 너비 제한
-            int currentWidth = sheet.getColumnWidth(i);
-            if (currentWidth > 15000) {  // 최대 너비 제한
-                sheet.setColumnWidth(i, 15000);
-            } else if (currentWidth < 2000) {  // 최소 너비 제한
-                sheet.setColumnWidth(i, 2000);
-            }
+    private void applyColumnWidths(Sheet sheet) {
+        for (int i = 0; i < COLUMN_WIDTHS.length; i++) {
+            sheet.setColumnWidth(i, COLUMN_WIDTHS[i]);
         }
-        
-        log.debug("컬럼 너비 자동 조정 완료");
     }
     
     /**
@@ -0,0 +1,235 @@
+package com.mongsom.dev.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mongsom.dev.entity.MailQueue;
+import com.mongsom.dev.repository.MailQueueJdbcRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 발송 큐
+ * - enqueue: 호출자 트랜잭션 안에서 mail_queue에 기록만 함 (SMTP 대기 없음, 롤백되면 메일도 나가지 않음)
+ * - drain: 주기적으로 발송할 메일을 선점해 작업 스레드(기본 2개)에 나눠 보냄
+ *   스레드마다 묶음을 send(...) 한 번으로 보내 SMTP 연결 하나를 재사용
+ * - 실패 시 30초부터 두 배씩(최대 1시간) 늦춰 재시도, MAX_ATTEMPTS회 실패하면 실패 처리
+ */
+@Service
+@Slf4j
+public class MailQueueService {
+
+    static final int MAX_ATTEMPTS = 6;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final Duration STALE_CLAIM = Duration.ofMinutes(10);
+    private static final int RETENTION_DAYS = 7;
+
+    private final MailQueueJdbcRepository mailQueueJdbcRepository;
+    private final JavaMailSender mailSender;
+    private final int batchSize;
+    private final int workers;
+    private final String from;
+    private final ExecutorService executor;
+
+    public MailQueueService(MailQueueJdbcRepository mailQueueJdbcRepository,
+                            JavaMailSender mailSender,
+                            @Value("${mail-queue.batch-size:50}") int batchSize,
+                            @Value("${mail-queue.workers:2}") int workers,
+                            @Value("${mail-queue.from:}") String from) {
+        this.mailQueueJdbcRepository = mailQueueJdbcRepository;
+        this.mailSender = mailSender;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.from = from;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "mail-sender-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 메일 발송 요청 (호출자 트랜잭션에 참여)
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public void enqueue(String mailType, String to, String subject, String text) {
+        mailQueueJdbcRepository.insert(mailType, to, subject, text, LocalDateTime.now());
+    }
+
+    /**
+     * 발송 시각이 된 메일 발송 (기본 2초 간격, 한 번에 batchSize건)
+     * 서버가 여러 대여도 선점(claim_token)된 메일만 보내므로 중복 발송 없음
+     */
+    @Scheduled(fixedDelayString = "${mail-queue.poll-interval-ms:2000}")
+    public void drain() {
+        List<MailQueue> claimed;
+        try {
+            claimed = mailQueueJdbcRepository.claimDue(UUID.randomUUID().toString(), LocalDateTime.now(), batchSize);
+        } catch (Exception e) {
+            log.error("메일 발송 대상 선점 실패", e);
+            return;
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (List<MailQueue> chunk : split(claimed, workers)) {
+            futures.add(executor.submit(() -> sendChunk(chunk)));
+        }
+        // 다음 선점은 이번 묶음이 끝난 뒤에 (작업 스레드 수 이상으로 SMTP 연결을 열지 않음)
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("메일 발송 작업 실패", e);
+            }
+        }
+    }
+
+    /**
+     * 묶음 발송 (SMTP 연결 하나로 전송) 후 건별 결과 기록
+     */
+    private void sendChunk(List<MailQueue> chunk) {
+        Map<SimpleMailMessage, MailQueue> byMessage = new IdentityHashMap<>();
+        for (MailQueue mail : chunk) {
+            byMessage.put(toMessage(mail), mail);
+        }
+        SimpleMailMessage[] messages = byMessage.keySet().toArray(new SimpleMailMessage[0]);
+
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            // 건별 실패가 있으면 해당 메일만, 없으면(연결 자체 실패 등) 전체 실패
+            if (e.getFailedMessages().isEmpty()) {
+                putAll(failures, messages, e);
+            } else {
+                failures.putAll(e.getFailedMessages());
+            }
+        } catch (Exception e) {
+            putAll(failures, messages, e);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sentIds = new ArrayList<>();
+        for (Map.Entry<SimpleMailMessage, MailQueue> entry : byMessage.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                sentIds.add(entry.getValue().getMailId());
+            } else {
+                recordFailure(entry.getValue(), failure, now);
+            }
+        }
+        mailQueueJdbcRepository.markSent(sentIds, now);
+
+        if (!failures.isEmpty()) {
+            log.warn("메일 발송 일부 실패 - 전체: {}, 실패: {}", chunk.size(), failures.size());
+        }
+    }
+
+    private void recordFailure(MailQueue mail, Exception failure, LocalDateTime now) {
+        int attempts = mail.getAttemptCount() + 1;
+        String error = truncate(failure.getMessage() != null ? failure.getMessage() : failure.getClass().getName());
+
+        if (attempts >= MAX_ATTEMPTS) {
+            mailQueueJdbcRepository.markFailed(mail.getMailId(), error);
+            log.error("메일 발송 최종 실패 - mailId: {}, type: {}, error: {}", mail.getMailId(), mail.getMailType(), error);
+            return;
+        }
+        mailQueueJdbcRepository.markRetry(mail.getMailId(), now.plus(backoff(attempts)), error);
+    }
+
+    static Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    /**
+     * 발송 도중 서버가 종료되어 발송중으로 남은 메일 복구 (5분 간격)
+     */
+    @Scheduled(fixedDelay = 300_000)
+    public void releaseStaleClaims() {
+        try {
+            int released = mailQueueJdbcRepository.releaseStaleClaims(LocalDateTime.now().minus(STALE_CLAIM));
+            if (released > 0) {
+                log.warn("발송중으로 남은 메일 재대기 - {}건", released);
+            }
+        } catch (Exception e) {
+            log.error("발송중 메일 복구 실패", e);
+        }
+    }
+
+    /**
+     * 처리 끝난 메일 정리 (매일 04:40, 7일 보관)
+     */
+    @Scheduled(cron = "0 40 4 * * *")
+    public void purgeFinished() {
+        try {
+            int deleted = mailQueueJdbcRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(RETENTION_DAYS));
+            log.info("발송 완료 메일 정리 - {}건", deleted);
+        } catch (Exception e) {
+            log.error("발송 완료 메일 정리 실패", e);
+        }
+    }
+
+    private SimpleMailMessage toMessage(MailQueue mail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        if (!from.isBlank()) {
+            message.setFrom(from);
+        }
+        message.setTo(mail.getRecipient());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getBody());
+        return message;
+    }
+
+    private static List<List<MailQueue>> split(List<MailQueue> mails, int parts) {
+        int chunkSize = (mails.size() + parts - 1) / parts;
+        List<List<MailQueue>> chunks = new ArrayList<>();
+        for (int start = 0; start < mails.size(); start += chunkSize) {
+            chunks.add(mails.subList(start, Math.min(start + chunkSize, mails.size())));
+        }
+        return chunks;
+    }
+
+    private static void putAll(Map<Object, Exception> failures, SimpleMailMessage[] messages, Exception e) {
+        for (SimpleMailMessage message : messages) {
+            failures.put(message, e);
+        }
+    }
+
+    private static String truncate(String error) {
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,66 @@
+package com.mongsom.dev.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mongsom.dev.repository.MileageJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마일리지 사용/적립
+ * 잔액 변경(조건부 UPDATE)과 원장(mileage_ledger) 기록을 한 트랜잭션으로 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MileageService {
+    
+    private final MileageJdbcRepository mileageJdbcRepository;
+    
+    /**
+     * 마일리지 차감
+     *
+     * @param reason  원장 사유 (MileageLedger.REASON_*)
+     * @param orderId 관련 주문 ID (없으면 null)
+     * @return 차감 여부 (잔액 부족/사용자 없음/잘못된 금액이면 false, 잔액 변경 없음)
+     */
+    @Transactional
+    public boolean deduct(Long userCode, Integer amount, String reason, Integer orderId) {
+        if (amount == null || amount <= 0) {
+            return false;
+        }
+        if (!mileageJdbcRepository.deduct(userCode, amount)) {
+            log.warn("마일리지 차감 불가 (잔액 부족 또는 사용자 없음) - userCode: {}, 차감요청: {}", userCode, amount);
+            return false;
+        }
+        mileageJdbcRepository.insertLedger(userCode, -amount, reason, orderId);
+        return true;
+    }
+    
+    /**
+     * 마일리지 적립
+     *
+     * @return 적립 여부 (사용자 없음/잘못된 금액이면 false)
+     */
+    @Transactional
+    public boolean add(Long userCode, Integer amount, String reason, Integer orderId) {
+        if (amount == null || amount <= 0) {
+            return false;
+        }
+        if (!mileageJdbcRepository.add(userCode, amount)) {
+            log.warn("마일리지 적립 불가 (사용자 없음) - userCode: {}, 적립요청: {}", userCode, amount);
+            return false;
+        }
+        mileageJdbcRepository.insertLedger(userCode, amount, reason, orderId);
+        return true;
+    }
+    
+    /**
+     * 현재 잔액 (사용자 없음이면 null)
+     */
+    public Integer getBalance(Long userCode) {
+        return mileageJdbcRepository.findBalance(userCode);
+    }
+}
@@ -0,0 +1,216 @@
+package com.mongsom.dev.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.mongsom.dev.dto.order.respDto.MyOrderDetailRespDto;
+import com.mongsom.dev.dto.order.respDto.MyOrderListRespDto;
+import com.mongsom.dev.entity.OrderDetail;
+import com.mongsom.dev.entity.OrderItem;
+import com.mongsom.dev.entity.Product;
+import com.mongsom.dev.repository.ChangeItemRepository;
+import com.mongsom.dev.repository.OrderDetailRepository;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마이페이지 주문내역/주문상세 DTO 조립
+ * 주문 수와 상관없이 IN 조회 몇 번으로 상세, 상품, 대표 이미지, 옵션명, 교환/반품 상태를 모아 메모리에서 조립 (N+1 방지)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MyOrderAssembler {
+
+    private final OrderDetailRepository orderDetailRepository;
+    private final ProductMainImageLoader productMainImageLoader;
+    private final ChangeItemRepository changeItemRepository;
+    private final OptionNameDictionary optionNameDictionary;
+
+    /**
+     * 주문 목록 페이지 조립 (주문별 첫 번째 상품을 대표 상품으로 표시)
+     */
+    public List<MyOrderListRespDto.MyOrderItemDto> toOrderList(List<OrderItem> orderItems) {
+        if (orderItems.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 주문 상세 + 상품 일괄 조회
+        List<Integer> orderIds = orderItems.stream()
+                .map(OrderItem::getOrderId)
+                .collect(Collectors.toList());
+        Map<Integer, List<OrderDetail>> detailsByOrderId = orderDetailRepository.findByOrderIdInWithProduct(orderIds)
+                .stream()
+                .collect(Collectors.groupingBy(OrderDetail::getOrderId, LinkedHashMap::new, Collectors.toList()));
+
+        // 2. 대표 상품의 이미지, 옵션명 일괄 조회
+        List<OrderDetail> firstDetails = detailsByOrderId.values().stream()
+                .map(details -> details.get(0))
+                .collect(Collectors.toList());
+        Map<Integer, String> mainImages = productMainImageLoader.load(firstDetails, OrderDetail::getProductId);
+        Int2ObjectMap<String> optionNames = optionNameDictionary.getNamesOf(firstDetails);
+
+        // 3. 조립
+        List<MyOrderListRespDto.MyOrderItemDto> orderList = new ArrayList<>(orderItems.size());
+        for (OrderItem orderItem : orderItems) {
+            List<OrderDetail> details = detailsByOrderId.get(orderItem.getOrderId());
+            MyOrderListRespDto.ProductInfoDto productInfo;
+            if (details == null) {
+                log.warn("주문 상세를 찾을 수 없음 - orderId: {}", orderItem.getOrderId());
+                productInfo = emptyProductInfo();
+            } else {
+                productInfo = toProductInfo(details.get(0), details.size(), mainImages, optionNames);
+            }
+
+            orderList.add(MyOrderListRespDto.MyOrderItemDto.builder()
+                    .orderId(orderItem.getOrderId())
+                    .orderNum(orderItem.getOrderNum())
+                    .paymentAt(orderItem.getPaymentAt())
+                    .productInfo(productInfo)
+                    .finalPrice(orderItem.getFinalPrice())
+                    .deliveryPrice(orderItem.getDeliveryPrice())
+                    .deliveryStatus(orderItem.getDeliveryStatus())
+                    .build());
+        }
+        return orderList;
+    }
+
+    /**
+     * 주문상세 상품 목록 조립 (교환/반품 상태 포함)
+     */
+    public List<MyOrderDetailRespDto.OrderItemDetail> toOrderItemDetails(List<OrderDetail> orderDetails) {
+        if (orderDetails.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, String> mainImages = productMainImageLoader.load(orderDetails, OrderDetail::getProductId);
+        Int2ObjectMap<String> optionNames = optionNameDictionary.getNamesOf(orderDetails);
+        Map<Integer, String> changeStatuses = loadChangeStatuses(orderDetails);
+
+        List<MyOrderDetailRespDto.OrderItemDetail> items = new ArrayList<>(orderDetails.size());
+        for (OrderDetail orderDetail : orderDetails) {
+            Product product = orderDetail.getProduct();
+
+            // orderStatus가 2(교환) 또는 3(반품)이면 change_item의 changeStatus 표시
+            String changeStatus = null;
+            Integer orderStatus = orderDetail.getOrderStatus();
+            if (orderStatus != null && (orderStatus == 2 || orderStatus == 3)) {
+                changeStatus = changeStatuses.get(orderDetail.getOrderDetailId());
+                if (changeStatus == null) {
+                    // change_item에 데이터가 없는 경우 (데이터 정합성 문제)
+                    log.warn("orderStatus가 {}이지만 change_item 데이터 없음 - orderDetailId: {}",
+                            orderStatus, orderDetail.getOrderDetailId());
+                    changeStatus = "정보없음";
+                }
+            }
+
+            items.add(MyOrderDetailRespDto.OrderItemDetail.builder()
+                    .orderDetailId(orderDetail.getOrderDetailId())
+                    .productId(orderDetail.getProductId())
+                    .productName(product != null ? product.getName() : "알 수 없는 상품")
+                    .orderStatus(orderStatus)
+                    .changeStatus(changeStatus)
+                    .productImgUrl(mainImages.get(orderDetail.getProductId()))
+
+                    // 옵션 정보
+                    .option1(orderDetail.getOption1())
+                    .option2(orderDetail.getOption2())
+                    .option1Name(optionName(optionNames, orderDetail.getOption1()))
+                    .option2Name(optionName(optionNames, orderDetail.getOption2()))
+
+                    // 가격 및 수량 정보
+                    .quantity(orderDetail.getQuantity())
+                    .basePrice(orderDetail.getBasePrice())
+                    .optionPrice(orderDetail.getOptionPrice())
+                    .lineTotalPrice(orderDetail.getLineTotalPrice())
+                    .build());
+        }
+        return items;
+    }
+
+    private MyOrderListRespDto.ProductInfoDto toProductInfo(OrderDetail orderDetail, int totalProductCount,
+                                                            Map<Integer, String> mainImages,
+                                                            Int2ObjectMap<String> optionNames) {
+        Product product = orderDetail.getProduct();
+
+        // 상품명에 "외 N개" 추가 (다중 상품인 경우)
+        String productName = product != null ? product.getName() : "알 수 없는 상품";
+        if (totalProductCount > 1) {
+            productName = productName + " 외 " + (totalProductCount - 1) + "개";
+        }
+
+        String option1Name = optionName(optionNames, orderDetail.getOption1());
+        String option2Name = optionName(optionNames, orderDetail.getOption2());
+
+        return MyOrderListRespDto.ProductInfoDto.builder()
+                .productId(orderDetail.getProductId())
+                .productName(productName)
+                .option1(orderDetail.getOption1())
+                .option2(orderDetail.getOption2())
+                .option1Name(option1Name)
+                .option2Name(option2Name)
+                .quantity(orderDetail.getQuantity())
+                .productImgUrl(mainImages.get(orderDetail.getProductId()))
+                .optionSummary(buildOptionSummary(option1Name, option2Name))
+                .build();
+    }
+
+    /**
+     * 빈 상품 정보 (주문 상세가 없는 경우)
+     */
+    private MyOrderListRespDto.ProductInfoDto emptyProductInfo() {
+        return MyOrderListRespDto.ProductInfoDto.builder()
+                .productId(null)
+                .productName("정보없음")
+                .quantity(0)
+                .optionSummary("정보없음")
+                .build();
+    }
+
+    /**
+     * 교환/반품 중인 주문 상세의 changeStatus 일괄 조회
+     */
+    private Map<Integer, String> loadChangeStatuses(List<OrderDetail> orderDetails) {
+        List<Integer> changedIds = orderDetails.stream()
+                .filter(od -> od.getOrderStatus() != null && (od.getOrderStatus() == 2 || od.getOrderStatus() == 3))
+                .map(OrderDetail::getOrderDetailId)
+                .collect(Collectors.toList());
+        if (changedIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Integer, String> changeStatuses = new HashMap<>();
+        for (Object[] row : changeItemRepository.findChangeStatusByOrderDetailIds(changedIds)) {
+            changeStatuses.put(((Number) row[0]).intValue(), (String) row[1]);
+        }
+        return changeStatuses;
+    }
+
+    private String optionName(Int2ObjectMap<String> optionNames, Integer optionValueId) {
+        return optionValueId != null ? optionNames.get(optionValueId.intValue()) : null;
+    }
+
+    /**
+     * 옵션 요약 생성 (500ml, 블랙)
+     */
+    private String buildOptionSummary(String option1Name, String option2Name) {
+        List<String> optionParts = new ArrayList<>();
+
+        if (option1Name != null && !option1Name.isEmpty()) {
+            optionParts.add(option1Name);
+        }
+        if (option2Name != null && !option2Name.isEmpty()) {
+            optionParts.add(option2Name);
+        }
+
+        return optionParts.isEmpty() ? null : String.join(", ", optionParts);
+    }
+}
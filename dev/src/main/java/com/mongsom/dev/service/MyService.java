@@ -21,7 +21,6 @@ import com.mongsom.dev.dto.review.reqDto.ReviewUpdateReqDto;
 import com.mongsom.dev.dto.review.respDto.AdminReviewDetailRespDto;
 import com.mongsom.dev.dto.review.respDto.AdminReviewListRespDto;
 import com.mongsom.dev.dto.review.respDto.MyReviewRespDto;
-import com.mongsom.dev.entity.ChangeItem;
 import com.mongsom.dev.entity.OrderDetail;
 import com.mongsom.dev.entity.OrderItem;
 import com.mongsom.dev.entity.Payments;
@@ -29,16 +28,17 @@ import com.mongsom.dev.entity.Product;
 import com.mongsom.dev.entity.ReviewImg;
 import com.mongsom.dev.entity.User;
 import com.mongsom.dev.entity.UserReview;
-import com.mongsom.dev.repository.ChangeItemRepository;
 import com.mongsom.dev.repository.OrderDetailRepository;
 import com.mongsom.dev.repository.OrderItemRepository;
 import com.mongsom.dev.repository.PaymentsRepository;
-import com.mongsom.dev.repository.ProductOptionValueRepository;
 import com.mongsom.dev.repository.ProductRepository;
 import com.mongsom.dev.repository.ReviewImgRepository;
 import com.mongsom.dev.repository.UserRepository;
 import com.mongsom.dev.repository.UserReviewRepository;
+import com.mongsom.dev.service.event.DomainEvent;
+import com.mongsom.dev.service.event.DomainEventPublisher;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -55,8 +55,11 @@ public class MyService {
     private final ReviewImgRepository reviewImgRepository;
     private final UserRepository userRepository;
     private final UserReviewRepository userReviewRepository;
-    private final ProductOptionValueRepository productOptionValueRepository;
-    private final ChangeItemRepository changeItemRepository;
+    private final OptionNameDictionary optionNameDictionary;
+    private final MyOrderAssembler myOrderAssembler;
+    private final ProductStatsService productStatsService;
+    private final DeliveryCountService deliveryCountService;
+    private final DomainEventPublisher domainEventPublisher;
     
     /**
      * 작성 가능한 리뷰 조회 (review_status = 0, 배송완료)
@@ -79,10 +82,13 @@ public class MyService {
             Page<OrderDetail> orderDetailPage = orderDetailRepository
                     .findReviewableOrderDetails(userCode, pageable);
             
+            // 옵션명 일괄 조회 (페이지 단위 1회)
+            Int2ObjectMap<String> optionNames = optionNameDictionary.getNamesOf(orderDetailPage.getContent());
+            
             // DTO 변환
             List<MyReviewRespDto.MyReviewItemDto> items = orderDetailPage.getContent()
                     .stream()
-                    .map(this::convertToMyReviewItemDto)
+                    .map(orderDetail -> convertToMyReviewItemDto(orderDetail, optionNames))
                     .collect(Collectors.toList());
             
             // 페이지 정보 생성
@@ -139,10 +145,15 @@ public class MyService {
             Page<Object[]> resultPage = orderDetailRepository
                     .findWrittenReviewsWithReviewInfo(userCode, pageable);
             
+            // 옵션명 일괄 조회 (페이지 단위 1회)
+            Int2ObjectMap<String> optionNames = optionNameDictionary.getNamesOf(resultPage.getContent().stream()
+                    .map(result -> (OrderDetail) result[0])
+                    .collect(Collectors.toList()));
+            
             // DTO 변환
             List<MyReviewRespDto.MyReviewItemDto> items = resultPage.getContent()
                     .stream()
-                    .map(this::convertToMyReviewItemDtoWithReview)
+                    .map(result -> convertToMyReviewItemDtoWithReview(result, optionNames))
                     .collect(Collectors.toList());
             
             // 페이지 정보 생성
@@ -181,7 +192,8 @@ public class MyService {
     /**
      * OrderDetail을 MyReviewItemDto로 변환 (가격 정보 제거)
      */
-    private MyReviewRespDto.MyReviewItemDto convertToMyReviewItemDto(OrderDetail orderDetail) {
+    private MyReviewRespDto.MyReviewItemDto convertToMyReviewItemDto(OrderDetail orderDetail,
+                                                                     Int2ObjectMap<String> optionNames) {
         // 상품 정보 가져오기
         var product = orderDetail.getProduct();
         
@@ -199,11 +211,11 @@ public class MyService {
         String option2Name = null;
         
         if (orderDetail.hasOption1()) {
-            option1Name = getOptionValueName(orderDetail.getOption1());
+            option1Name = optionNames.get(orderDetail.getOption1().intValue());
         }
         
         if (orderDetail.hasOption2()) {
-            option2Name = getOptionValueName(orderDetail.getOption2());
+            option2Name = optionNames.get(orderDetail.getOption2().intValue());
         }
 
         
@@ -263,7 +275,8 @@ public class MyService {
     /**
      * OrderDetail + UserReview를 MyReviewItemDto로 변환 (리뷰 내용 포함)
      */
-    private MyReviewRespDto.MyReviewItemDto convertToMyReviewItemDtoWithReview(Object[] result) {
+    private MyReviewRespDto.MyReviewItemDto convertToMyReviewItemDtoWithReview(Object[] result,
+                                                                               Int2ObjectMap<String> optionNames) {
         OrderDetail orderDetail = (OrderDetail) result[0];
         UserReview userReview = (UserReview) result[1]; // null일 수 있음
         
@@ -284,11 +297,11 @@ public class MyService {
         String option2Name = null;
         
         if (orderDetail.hasOption1()) {
-            option1Name = getOptionValueName(orderDetail.getOption1());
+            option1Name = optionNames.get(orderDetail.getOption1().intValue());
         }
         
         if (orderDetail.hasOption2()) {
-            option2Name = getOptionValueName(orderDetail.getOption2());
+            option2Name = optionNames.get(orderDetail.getOption2().intValue());
         }
         
         // 선택된 옵션들 정보 수집 (기존 로직)
@@ -353,19 +366,10 @@ public class MyService {
     }
     
     /**
-     * 옵션 값 이름 조회 헬퍼 메서드
+     * 옵션 값 이름 조회 헬퍼 메서드 (옵션명 사전 캐시 사용)
      */
     private String getOptionValueName(Integer optionValueId) {
-        try {
-            if (optionValueId == null) return null;
-            
-            Optional<String> valueNameOpt = productOptionValueRepository.findValueNameById(optionValueId);
-            return valueNameOpt.orElse("옵션-" + optionValueId);
-            
-        } catch (Exception e) {
-            log.warn("옵션 이름 조회 실패 - optionValueId: {}", optionValueId, e);
-            return "옵션-" + optionValueId;
-        }
+        return optionNameDictionary.getName(optionValueId);
     }
     
     /**
@@ -393,9 +397,15 @@ public class MyService {
             }
             
             UserReview review = reviewOpt.get();
+            boolean wasVisible = review.isVisible();
             review.hideByAdmin();
             userReviewRepository.save(review);
             
+            if (wasVisible) {
+                productStatsService.reviewRemoved(review.getProductId(), review.getReviewRating(),
+                        reviewImgRepository.existsByReviewId(reviewId));
+            }
+            
             log.info("리뷰 숨김 처리 완료 - reviewId: {}", reviewId);
             
             return RespDto.<String>builder()
@@ -430,9 +440,15 @@ public class MyService {
             }
             
             UserReview review = reviewOpt.get();
+            boolean wasHidden = review.isHidden();
             review.showByAdmin();
             userReviewRepository.save(review);
             
+            if (wasHidden) {
+                productStatsService.reviewAdded(review.getProductId(), review.getReviewRating(),
+                        reviewImgRepository.existsByReviewId(reviewId));
+            }
+            
             log.info("리뷰 숨김 해제 완료 - reviewId: {}", reviewId);
             
             return RespDto.<String>builder()
@@ -488,6 +504,11 @@ public class MyService {
             // 3. 리뷰 삭제 (Cascade로 이미지도 함께 삭제됨)
             userReviewRepository.delete(review);
             
+            // 4. 노출 중이던 리뷰면 상품 리뷰 요약 차감
+            if (review.isVisible()) {
+                productStatsService.reviewRemoved(review.getProductId(), review.getReviewRating(), !imageUrls.isEmpty());
+            }
+            
             log.info("리뷰 완전 삭제 완료 - reviewId: {}, orderDetailId: {}", reviewId, orderDetailId);
             
             return RespDto.<String>builder()
@@ -538,11 +559,19 @@ public class MyService {
                         ));
             }
             
-            // DTO 변환 (리뷰 이미지 포함)
+            // 주문 상세 + 옵션명 일괄 조회 (이후 findById는 영속성 컨텍스트에서 조회됨)
+            List<OrderDetail> reviewOrderDetails = orderDetailRepository.findAllById(reviewPage.getContent()
+                    .stream()
+                    .map(UserReview::getOrderDetailId)
+                    .distinct()
+                    .collect(Collectors.toList()));
+            Int2ObjectMap<String> optionNames = optionNameDictionary.getNamesOf(reviewOrderDetails);
+            
+            // DTO 변환 (리뷰 이미지, 옵션명 포함)
             final Map<Integer, List<String>> finalReviewImagesMap = reviewImagesMap;
             List<AdminReviewListRespDto.AdminReviewItemDto> reviews = reviewPage.getContent()
                     .stream()
-                    .map(review -> convertToAdminReviewItemDto(review, finalReviewImagesMap))
+                    .map(review -> convertToAdminReviewItemDto(review, finalReviewImagesMap, optionNames))
                     .collect(Collectors.toList());
             
             AdminReviewListRespDto.PaginationDto pagination = AdminReviewListRespDto.PaginationDto.builder()
@@ -576,7 +605,8 @@ public class MyService {
     /**
      * UserReview를 AdminReviewItemDto로 변환 (수정됨) - 리뷰 이미지 포함
      */
-    private AdminReviewListRespDto.AdminReviewItemDto convertToAdminReviewItemDto(UserReview review, Map<Integer, List<String>> reviewImagesMap) {
+    private AdminReviewListRespDto.AdminReviewItemDto convertToAdminReviewItemDto(UserReview review, Map<Integer, List<String>> reviewImagesMap,
+                                                                               Int2ObjectMap<String> optionNames) {
         // 1. 사용자명 조회
         String userName = "알 수 없음";
         Optional<User> userOpt = userRepository.findByUserCode(review.getUserCode());
@@ -613,10 +643,10 @@ public class MyService {
             
             // 옵션명 조회
             if (option1 != null) {
-                option1Name = getOptionValueName(option1);
+                option1Name = optionNames.get(option1.intValue());
             }
             if (option2 != null) {
-                option2Name = getOptionValueName(option2);
+                option2Name = optionNames.get(option2.intValue());
             }
             
             // 옵션 요약 생성
@@ -854,6 +884,7 @@ public class MyService {
             UserReview savedReview = userReviewRepository.save(userReview);
             
             // 5. 리뷰 이미지 저장
+            boolean hasPhoto = false;
             if (reqDto.getReviewImgUrls() != null && !reqDto.getReviewImgUrls().isEmpty()) {
                 List<ReviewImg> reviewImgs = reqDto.getReviewImgUrls().stream()
                         .filter(url -> url != null && !url.trim().isEmpty())
@@ -861,6 +892,7 @@ public class MyService {
                         .collect(Collectors.toList());
                 
                 reviewImgRepository.saveAll(reviewImgs);
+                hasPhoto = !reviewImgs.isEmpty();
                 log.info("리뷰 이미지 저장 완료 - reviewId: {}, 이미지 수: {}", 
                         savedReview.getReviewId(), reviewImgs.size());
             }
@@ -869,6 +901,13 @@ public class MyService {
             orderDetail.setReviewStatus(1);
             orderDetailRepository.save(orderDetail);
             
+            // 7. 상품 리뷰 요약 반영 (수정/삭제/숨김과 같이 리뷰 저장 트랜잭션 안에서 증감)
+            productStatsService.reviewAdded(savedReview.getProductId(), savedReview.getReviewRating(), hasPhoto);
+            
+            // 8. 리뷰 작성 이벤트 (관리자 실시간 알림용)
+            domainEventPublisher.publish(DomainEvent.reviewWritten(savedReview.getProductId(), reqDto.getUserCode(),
+                    savedReview.getReviewRating(), hasPhoto));
+            
             log.info("리뷰 작성 완료 - reviewId: {}, userCode: {}", 
                     savedReview.getReviewId(), reqDto.getUserCode());
             
@@ -919,6 +958,8 @@ public class MyService {
             }
             
             UserReview review = reviewOpt.get();
+            Integer oldRating = review.getReviewRating();
+            boolean oldHasPhoto = reviewImgRepository.existsByReviewId(reqDto.getReviewId());
             
             // 2. 리뷰 정보 업데이트
             review.setReviewRating(reqDto.getReviewRating());
@@ -930,6 +971,7 @@ public class MyService {
             reviewImgRepository.deleteByReviewId(reqDto.getReviewId());
             
             // 4. 새 이미지 저장
+            boolean newHasPhoto = false;
             if (reqDto.getReviewImgUrls() != null && !reqDto.getReviewImgUrls().isEmpty()) {
                 List<ReviewImg> reviewImgs = reqDto.getReviewImgUrls().stream()
                         .filter(url -> url != null && !url.trim().isEmpty())
@@ -937,10 +979,17 @@ public class MyService {
                         .collect(Collectors.toList());
                 
                 reviewImgRepository.saveAll(reviewImgs);
+                newHasPhoto = !reviewImgs.isEmpty();
                 log.info("리뷰 이미지 업데이트 완료 - reviewId: {}, 새 이미지 수: {}", 
                         reqDto.getReviewId(), reviewImgs.size());
             }
             
+            // 5. 노출 중인 리뷰면 평점/포토 변경분 집계 반영
+            if (review.isVisible()) {
+                productStatsService.reviewUpdated(review.getProductId(), oldRating, oldHasPhoto,
+                        review.getReviewRating(), newHasPhoto);
+            }
+            
             log.info("리뷰 수정 완료 - reviewId: {}, userCode: {}", 
                     reqDto.getReviewId(), reqDto.getUserCode());
             
@@ -976,8 +1025,8 @@ public class MyService {
                         .build();
             }
             
-            // 방법 1: 단일 쿼리로 모든 건수 조회
-            DeliveryCountRespDto deliveryCount = getDeliveryCountByNativeQuery(userCode);
+            // 사용자별 집계 행 조회 (주문 스캔 없이 PK 조회)
+            DeliveryCountRespDto deliveryCount = deliveryCountService.getCounts(userCode);
             
             log.info("배송 건수 조회 완료 - userCode: {}, 결제완료: {}, 상품준비중: {}, 배송중: {}, 배송완료: {}", 
                     userCode, deliveryCount.getPaymentCompleted(), deliveryCount.getPreparing(), 
@@ -997,33 +1046,6 @@ public class MyService {
         }
     }
     
-    /**
-     * Native Query 사용 (MySQL DATE_SUB 함수 활용)
-     */
-    private DeliveryCountRespDto getDeliveryCountByNativeQuery(Long userCode) {
-    	List<Object[]> result = orderItemRepository.findDeliveryCountByUserCodeAndRecentThreeMonths(userCode);
-        
-        
-        if (!result.isEmpty()) {
-            Object[] row = result.get(0);
-
-            Number paymentCompleted = (Number) row[0];
-            Number preparing = (Number) row[1];
-            Number shipping = (Number) row[2];
-            Number delivered = (Number) row[3];
-
-            return DeliveryCountRespDto.of(
-                paymentCompleted.intValue(),
-                preparing.intValue(),
-                shipping.intValue(),
-                delivered.intValue()
-            );
-        }
-        
-       
-        return DeliveryCountRespDto.empty();
-    }
-    
     /**
      * 사용자 주문내역 조회 (MyOrderListRespDto 기반)
      */
@@ -1036,11 +1058,8 @@ public class MyService {
             // 1. 사용자의 주문 목록 조회 (결제일시 내림차순)
             Page<OrderItem> orderItemPage = orderItemRepository.findByUserCodeOrderByPaymentAtDesc(userCode, pageable);
             
-            // 2. DTO 변환
-            List<MyOrderListRespDto.MyOrderItemDto> orderList = orderItemPage.getContent()
-                    .stream()
-                    .map(this::convertToMyOrderItemDto)
-                    .collect(Collectors.toList());
+            // 2. DTO 변환 (상세/상품/이미지/옵션명 일괄 조회)
+            List<MyOrderListRespDto.MyOrderItemDto> orderList = myOrderAssembler.toOrderList(orderItemPage.getContent());
             
             // 3. 페이징 정보 생성
             MyOrderListRespDto.PaginationDto pagination = MyOrderListRespDto.PaginationDto.builder()
@@ -1094,9 +1113,9 @@ public class MyService {
             
             OrderItem orderItem = orderItemOpt.get();
             
-            // 주문의 모든 상품 조회
+            // 주문의 모든 상품 조회 (상품 함께 조회)
             List<OrderDetail> orderDetails = orderDetailRepository
-                    .findByOrderIdOrderByOrderDetailIdAsc(orderId);
+                    .findByOrderIdInWithProduct(List.of(orderId));
             
             if (orderDetails.isEmpty()) {
                 log.warn("주문 상품이 없음 - orderId: {}", orderId);
@@ -1126,128 +1145,6 @@ public class MyService {
         }
     }
     
-    /**
-     * OrderItem을 MyOrderItemDto로 변환
-     */
-    private MyOrderListRespDto.MyOrderItemDto convertToMyOrderItemDto(OrderItem orderItem) {
-        // 1. 해당 주문의 OrderDetail 목록 조회
-        List<OrderDetail> orderDetails = orderDetailRepository.findByOrderId(orderItem.getOrderId());
-        
-        if (orderDetails.isEmpty()) {
-            log.warn("주문 상세를 찾을 수 없음 - orderId: {}", orderItem.getOrderId());
-            return createEmptyMyOrderItemDto(orderItem);
-        }
-        
-        // 2. 첫 번째 OrderDetail을 대표 상품으로 사용
-        OrderDetail firstOrderDetail = orderDetails.get(0);
-        
-        // 3. 상품 정보 구성
-        MyOrderListRespDto.ProductInfoDto productInfo = buildMyProductInfo(firstOrderDetail, orderDetails.size());
-        
-        return MyOrderListRespDto.MyOrderItemDto.builder()
-                .orderId(orderItem.getOrderId())
-                .orderNum(orderItem.getOrderNum())
-                .paymentAt(orderItem.getPaymentAt())
-                .productInfo(productInfo)
-                .finalPrice(orderItem.getFinalPrice())
-                .deliveryPrice(orderItem.getDeliveryPrice())
-                .deliveryStatus(orderItem.getDeliveryStatus())
-                .build();
-    }
-    /**
-     * 상품 정보 구성 (MyOrderListRespDto 기준)
-     */
-    private MyOrderListRespDto.ProductInfoDto buildMyProductInfo(OrderDetail orderDetail, int totalProductCount) {
-        Product product = orderDetail.getProduct();
-        
-        // 1. 상품 기본 정보
-        Integer productId = orderDetail.getProductId();
-        String productName = product != null ? product.getName() : "알 수 없는 상품";
-        
-        // 2. 상품명에 "외 N개" 추가 (다중 상품인 경우)
-        if (totalProductCount > 1) {
-            productName = productName + " 외 " + (totalProductCount - 1) + "개";
-        }
-        
-        // 3. 상품 대표 이미지 조회 (첫 번째 이미지)
-        String productImgUrl = null;
-        if (product != null && product.getProductImages() != null && !product.getProductImages().isEmpty()) {
-            productImgUrl = product.getProductImages().get(0).getProductImgUrl();
-            log.debug("상품 이미지 조회 성공 - productId: {}, imageUrl: {}", productId, productImgUrl);
-        } else {
-            log.debug("상품 이미지 없음 - productId: {}", productId);
-        }
-        
-        // 4. 옵션 정보 조회
-        Integer option1 = orderDetail.getOption1();
-        Integer option2 = orderDetail.getOption2();
-        String option1Name = null;
-        String option2Name = null;
-        
-        if (option1 != null) {
-            option1Name = getOptionValueName(option1);
-        }
-        if (option2 != null) {
-            option2Name = getOptionValueName(option2);
-        }
-        
-        // 5. 옵션 요약 생성 (500ml, 블랙)
-        String optionSummary = buildOptionSummary(option1Name, option2Name);
-        
-        return MyOrderListRespDto.ProductInfoDto.builder()
-                .productId(productId)
-                .productName(productName)
-                .option1(option1)
-                .option2(option2)
-                .option1Name(option1Name)
-                .option2Name(option2Name)
-                .quantity(orderDetail.getQuantity())
-                .productImgUrl(productImgUrl)
-                .optionSummary(optionSummary)
-                .build();
-    }
-    
-    /**
-     * 옵션 요약 생성 (500ml, 블랙)
-     */
-    private String buildOptionSummary(String option1Name, String option2Name) {
-        List<String> optionParts = new ArrayList<>();
-        
-        if (option1Name != null && !option1Name.isEmpty()) {
-            optionParts.add(option1Name);
-        }
-        if (option2Name != null && !option2Name.isEmpty()) {
-            optionParts.add(option2Name);
-        }
-        
-        return optionParts.isEmpty() ? null : String.join(", ", optionParts);
-    }
-    
-    /**
-     * 빈 MyOrderItemDto 생성 (오류 케이스용)
-     */
-    private MyOrderListRespDto.MyOrderItemDto createEmptyMyOrderItemDto(OrderItem orderItem) {
-        return MyOrderListRespDto.MyOrderItemDto.builder()
-                .orderId(orderItem.getOrderId())
-                .orderNum(orderItem.getOrderNum())
-                .paymentAt(orderItem.getPaymentAt())
-                .productInfo(MyOrderListRespDto.ProductInfoDto.builder()
-                        .productId(null)
-                        .productName("정보없음")
-                        .option1(null)
-                        .option2(null)
-                        .option1Name(null)
-                        .option2Name(null)
-                        .quantity(0)
-                        .productImgUrl(null)
-                        .optionSummary("정보없음")
-                        .build())
-                .finalPrice(orderItem.getFinalPrice())
-                .deliveryPrice(orderItem.getDeliveryPrice())
-                .deliveryStatus(orderItem.getDeliveryStatus())
-                .build();
-    }
-    
     /**
      * OrderItem + OrderDetails를 MyOrderDetailRespDto로 변환
      */
@@ -1313,9 +1210,7 @@ public class MyService {
                 .build();
         
         // 주문 상품 목록
-        List<MyOrderDetailRespDto.OrderItemDetail> orderItems = orderDetails.stream()
-                .map(this::convertToOrderItemDetail)
-                .collect(Collectors.toList());
+        List<MyOrderDetailRespDto.OrderItemDetail> orderItems = myOrderAssembler.toOrderItemDetails(orderDetails);
         
         return MyOrderDetailRespDto.builder()
                 .orderInfo(orderInfo)
@@ -1325,70 +1220,6 @@ public class MyService {
                 .build();
     }
     
-    /**
-     * OrderDetail을 OrderItemDetail로 변환
-     */
-    private MyOrderDetailRespDto.OrderItemDetail convertToOrderItemDetail(OrderDetail orderDetail) {
-        Product product = orderDetail.getProduct();
-        
-        // 대표 상품 이미지 1개 조회
-        String productImgUrl = null;
-        if (product != null && product.getProductImages() != null && !product.getProductImages().isEmpty()) {
-            productImgUrl = product.getProductImages().get(0).getProductImgUrl();
-        }
-        
-        // 옵션명 조회
-        String option1Name = null;
-        String option2Name = null;
-        
-        if (orderDetail.hasOption1()) {
-            option1Name = getOptionValueName(orderDetail.getOption1());
-        }
-        if (orderDetail.hasOption2()) {
-            option2Name = getOptionValueName(orderDetail.getOption2());
-        }
-        
-        // ===== changeStatus 조회 (추가됨) =====
-        String changeStatus = null;
-        Integer orderStatus = orderDetail.getOrderStatus();
-        
-        // orderStatus가 2(교환) 또는 3(반품)이면 change_item에서 changeStatus 조회
-        if (orderStatus != null && (orderStatus == 2 || orderStatus == 3)) {
-            Optional<ChangeItem> changeItemOpt = changeItemRepository.findByOrderDetailId(orderDetail.getOrderDetailId());
-            if (changeItemOpt.isPresent()) {
-                changeStatus = changeItemOpt.get().getChangeStatus();
-                log.debug("changeStatus 조회 완료 - orderDetailId: {}, orderStatus: {}, changeStatus: {}", 
-                        orderDetail.getOrderDetailId(), orderStatus, changeStatus);
-            } else {
-                // change_item에 데이터가 없는 경우 (데이터 정합성 문제)
-                log.warn("orderStatus가 {0}이지만 change_item 데이터 없음 - orderDetailId: {}", 
-                        orderStatus, orderDetail.getOrderDetailId());
-                changeStatus = "정보없음";
-            }
-        }
-        
-        return MyOrderDetailRespDto.OrderItemDetail.builder()
-                .orderDetailId(orderDetail.getOrderDetailId())
-                .productId(orderDetail.getProductId())
-                .productName(product != null ? product.getName() : "알 수 없는 상품")
-                .orderStatus(orderDetail.getOrderStatus())
-                .changeStatus(changeStatus)
-                .productImgUrl(productImgUrl)
-                
-                // 옵션 정보
-                .option1(orderDetail.getOption1())
-                .option2(orderDetail.getOption2())
-                .option1Name(option1Name)
-                .option2Name(option2Name)
-                
-                // 가격 및 수량 정보
-                .quantity(orderDetail.getQuantity())
-                .basePrice(orderDetail.getBasePrice())
-                .optionPrice(orderDetail.getOptionPrice())
-                .lineTotalPrice(orderDetail.getLineTotalPrice())
-                .build();
-    }
-    
     /**
      * 주문별 배송정보 조회
      */
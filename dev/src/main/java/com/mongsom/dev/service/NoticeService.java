@@ -12,6 +12,9 @@ import com.mongsom.dev.dto.notice.respDto.NoticeDetailRespDto;
 import com.mongsom.dev.dto.notice.respDto.NoticeRespDto;
 import com.mongsom.dev.entity.Notice;
 import com.mongsom.dev.repository.NoticeRepository;
+import com.mongsom.dev.service.search.SearchDocType;
+import com.mongsom.dev.service.search.SearchIndexService;
+import com.mongsom.dev.service.search.SearchTokenizer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 public class NoticeService {
     
     private final NoticeRepository noticeRepository;
+    private final SearchIndexService searchIndexService;
     
     //공지사항리스트조회
     @Transactional(readOnly = true)
@@ -52,6 +56,38 @@ public class NoticeService {
                     .build();
         }
     }
+    //공지사항검색 (제목/내용, 관련도순)
+    @Transactional(readOnly = true)
+    public RespDto<NoticeRespDto> searchNotices(String keyword, Pageable pageable) {
+        try {
+            log.info("공지사항 검색 시작 - keyword: {}, page: {}, size: {}", 
+                    keyword, pageable.getPageNumber(), pageable.getPageSize());
+            
+            Page<Notice> noticePage;
+            if (SearchTokenizer.isSearchable(keyword)) {
+                Page<Integer> noticeIds = searchIndexService.search(SearchDocType.NOTICE, keyword, pageable);
+                noticePage = SearchIndexService.toPage(noticeIds,
+                        noticeRepository.findAllById(noticeIds.getContent()), Notice::getNoticeId);
+            } else {
+                // 한 글자 검색어는 제목만 LIKE 검색
+                noticePage = noticeRepository.findByTitleContaining(keyword, pageable);
+            }
+            
+            log.info("공지사항 검색 완료 - keyword: {}, totalElements: {}", keyword, noticePage.getTotalElements());
+            
+            return RespDto.<NoticeRespDto>builder()
+                    .code(1)
+                    .data(NoticeRespDto.from(noticePage))
+                    .build();
+                    
+        } catch (Exception e) {
+            log.error("공지사항 검색 실패 - keyword: {}", keyword, e);
+            return RespDto.<NoticeRespDto>builder()
+                    .code(-1)
+                    .data(null)
+                    .build();
+        }
+    }
     //공지사항상세조회
     @Transactional(readOnly = true)
     public RespDto<NoticeDetailRespDto> getNoticeDetail(Integer noticeId) {
@@ -0,0 +1,227 @@
+package com.mongsom.dev.service;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mongsom.dev.entity.OrderDetail;
+import com.mongsom.dev.repository.ProductOptionValueRepository;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 옵션 값 ID -> 옵션명 사전 (주문/교환/리뷰 화면 공용)
+ * 캐시에 없는 ID만 IN 쿼리 한 번으로 채우며, 관리자 옵션 수정 시 무효화
+ */
+@Component
+@Slf4j
+public class OptionNameDictionary {
+
+    private final ProductOptionValueRepository productOptionValueRepository;
+    private final int maxSize;
+
+    private final Int2ObjectOpenHashMap<String> names = new Int2ObjectOpenHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public OptionNameDictionary(ProductOptionValueRepository productOptionValueRepository,
+                                @Value("${product.option-name-cache.max-size:50000}") int maxSize) {
+        this.productOptionValueRepository = productOptionValueRepository;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 옵션명 단건 조회 (null ID는 null, 존재하지 않는 옵션은 "옵션-{id}")
+     */
+    public String getName(Integer optionValueId) {
+        if (optionValueId == null) {
+            return null;
+        }
+
+        String name = cached(optionValueId);
+        if (name != null) {
+            return name;
+        }
+
+        IntArrayList missing = new IntArrayList(1);
+        missing.add(optionValueId.intValue());
+        return load(missing).get(optionValueId.intValue());
+    }
+
+    /**
+     * 옵션명 일괄 조회 - 요청한 모든 ID(null 제외)에 대해 이름을 채워 반환
+     */
+    public Int2ObjectMap<String> getNames(Collection<Integer> optionValueIds) {
+        Int2ObjectOpenHashMap<String> result = new Int2ObjectOpenHashMap<>();
+        if (optionValueIds == null || optionValueIds.isEmpty()) {
+            return result;
+        }
+
+        IntSet missing = new IntOpenHashSet();
+        lock.readLock().lock();
+        try {
+            for (Integer id : optionValueIds) {
+                if (id == null) {
+                    continue;
+                }
+                String name = names.get(id.intValue());
+                if (name != null) {
+                    result.put(id.intValue(), name);
+                } else {
+                    missing.add(id.intValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!missing.isEmpty()) {
+            result.putAll(load(new IntArrayList(missing)));
+        }
+        return result;
+    }
+
+    /**
+     * 주문 상세 목록의 option1/option2 옵션명을 한 번에 조회
+     */
+    public Int2ObjectMap<String> getNamesOf(Collection<OrderDetail> orderDetails) {
+        IntSet ids = new IntOpenHashSet();
+        for (OrderDetail orderDetail : orderDetails) {
+            if (orderDetail.getOption1() != null) {
+                ids.add(orderDetail.getOption1().intValue());
+            }
+            if (orderDetail.getOption2() != null) {
+                ids.add(orderDetail.getOption2().intValue());
+            }
+        }
+        return getNames(ids);
+    }
+
+    /**
+     * 옵션 값 캐시 무효화 (즉시 + 트랜잭션 커밋 후 한 번 더)
+     */
+    public void evict(Integer optionValueId) {
+        if (optionValueId == null) {
+            return;
+        }
+
+        remove(optionValueId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(optionValueId);
+                }
+            });
+        }
+
+        log.debug("옵션명 캐시 무효화 - optionValueId: {}", optionValueId);
+    }
+
+    /**
+     * 여러 옵션 값 캐시 무효화
+     */
+    public void evict(Collection<Integer> optionValueIds) {
+        if (optionValueIds == null) {
+            return;
+        }
+        optionValueIds.forEach(this::evict);
+    }
+
+    /**
+     * 전체 무효화 (즉시 + 트랜잭션 커밋 후 한 번 더)
+     */
+    public void evictAll() {
+        clear();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+    }
+
+    private String cached(int optionValueId) {
+        lock.readLock().lock();
+        try {
+            return names.get(optionValueId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            names.clear();
+            names.trim();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(int optionValueId) {
+        lock.writeLock().lock();
+        try {
+            names.remove(optionValueId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 캐시에 없는 ID를 IN 쿼리 한 번으로 조회 후 저장
+     * DB에 없는 옵션은 캐시하지 않고 "옵션-{id}"로 대체
+     */
+    private Int2ObjectMap<String> load(IntList missing) {
+        Int2ObjectOpenHashMap<String> loaded = new Int2ObjectOpenHashMap<>(missing.size());
+
+        try {
+            Int2ObjectOpenHashMap<String> found = new Int2ObjectOpenHashMap<>(missing.size());
+            for (Object[] row : productOptionValueRepository.findValueNamesByIdIn(missing)) {
+                String valueName = (String) row[1];
+                if (valueName != null) {
+                    found.put(((Number) row[0]).intValue(), valueName);
+                }
+            }
+
+            if (!found.isEmpty()) {
+                lock.writeLock().lock();
+                try {
+                    if (names.size() + found.size() > maxSize) {
+                        log.info("옵션명 캐시 최대 크기 초과로 초기화 - size: {}", names.size());
+                        names.clear();
+                    }
+                    names.putAll(found);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+            loaded.putAll(found);
+
+        } catch (Exception e) {
+            log.warn("옵션명 일괄 조회 실패 - optionValueIds: {}", missing, e);
+        }
+
+        for (int i = 0; i < missing.size(); i++) {
+            int id = missing.getInt(i);
+            if (!loaded.containsKey(id)) {
+                loaded.put(id, "옵션-" + id);
+            }
+        }
+        return loaded;
+    }
+}
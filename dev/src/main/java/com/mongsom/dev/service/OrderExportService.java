@@ -4,21 +4,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.mongsom.dev.dto.export.OrderExportDto;
-import com.mongsom.dev.entity.OrderItem;
-import com.mongsom.dev.entity.OrderDetail;
-import com.mongsom.dev.entity.Product;
 import com.mongsom.dev.repository.OrderItemRepository;
-import com.mongsom.dev.repository.OrderDetailRepository;
-import com.mongsom.dev.repository.ProductRepository;
-import com.mongsom.dev.repository.ProductOptionValueRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -26,29 +22,20 @@ import java.util.stream.Collectors;
 public class OrderExportService {
     
     private final OrderItemRepository orderItemRepository;
-    private final OrderDetailRepository orderDetailRepository;
-    private final ProductRepository productRepository;
-    private final ProductOptionValueRepository productOptionValueRepository;
+    private final ExcelExportService excelExportService;
     
     /**
      * 배송 상태별 주문 데이터 조회 (엑셀 내보내기용)
+     * 주문/상품/옵션명을 단일 조인 쿼리로 조회 (주문별 N+1 제거)
      */
     @Transactional(readOnly = true)
     public List<OrderExportDto> getOrdersForExport(String deliveryStatus) {
         try {
             log.info("엑셀 내보내기용 주문 조회 시작 - deliveryStatus: {}", deliveryStatus);
             
-            // 1. 배송 상태별 주문 목록 조회 (결제일시 내림차순)
-            List<OrderItem> orderItems = orderItemRepository.findByDeliveryStatusOrderByPaymentAtDesc(deliveryStatus);
-            
-            log.info("조회된 주문 수: {}", orderItems.size());
-            
-            // 2. 각 주문의 상품별로 행 생성
-            List<OrderExportDto> exportData = new ArrayList<>();
-            
-            for (OrderItem orderItem : orderItems) {
-                List<OrderExportDto> orderRows = processOrderItem(orderItem);
-                exportData.addAll(orderRows);
+            List<OrderExportDto> exportData;
+            try (Stream<Object[]> rows = orderItemRepository.streamExportRowsByDeliveryStatus(deliveryStatus)) {
+                exportData = rows.map(this::toExportDto).collect(Collectors.toList());
             }
             
             log.info("엑셀 내보내기용 데이터 생성 완료 - 총 행 수: {}", exportData.size());
@@ -62,86 +49,60 @@ public class OrderExportService {
     }
     
     /**
-     * 하나의 주문에서 각 상품별로 OrderExportDto 생성
+     * 배송 상태별 주문 엑셀을 출력 스트림에 바로 기록
+     * DB 커서에서 읽은 행을 한 줄씩 엑셀 작성기로 넘기므로 전체 목록을 메모리에 올리지 않음
+     * 
+     * @return 기록된 데이터 행 수
      */
-    private List<OrderExportDto> processOrderItem(OrderItem orderItem) {
-        try {
-            // 1. 해당 주문의 상품 목록 조회
-            List<OrderDetail> orderDetails = orderDetailRepository.findByOrderId(orderItem.getOrderId());
-            
-            if (orderDetails.isEmpty()) {
-                log.warn("주문 상세를 찾을 수 없음 - orderId: {}", orderItem.getOrderId());
-                return new ArrayList<>();
-            }
-            
-            // 2. 각 상품별로 행 데이터 생성
-            List<OrderExportDto> orderRows = new ArrayList<>();
-            
-            for (OrderDetail orderDetail : orderDetails) {
-                OrderExportDto exportDto = createExportDto(orderItem, orderDetail);
-                if (exportDto != null) {
-                    orderRows.add(exportDto);
-                }
-            }
-            
-            log.debug("주문 처리 완료 - orderId: {}, 상품 수: {}", orderItem.getOrderId(), orderRows.size());
-            
-            return orderRows;
-            
-        } catch (Exception e) {
-            log.error("주문 처리 실패 - orderId: {}", orderItem.getOrderId(), e);
-            return new ArrayList<>();
+    @Transactional(readOnly = true)
+    public int writeOrdersExcel(String deliveryStatus, OutputStream out) throws IOException {
+        log.info("엑셀 스트리밍 내보내기 시작 - deliveryStatus: {}", deliveryStatus);
+        
+        try (Stream<Object[]> rows = orderItemRepository.streamExportRowsByDeliveryStatus(deliveryStatus)) {
+            int rowCount = excelExportService.writeOrderExcel(rows.map(this::toExportDto), deliveryStatus, out);
+            log.info("엑셀 스트리밍 내보내기 완료 - 총 행 수: {}", rowCount);
+            return rowCount;
         }
     }
     
     /**
-     * OrderItem + OrderDetail로부터 OrderExportDto 생성
+     * 조인 조회 결과 한 행을 OrderExportDto로 변환
+     * 행 구성은 OrderItemRepository.streamExportRowsByDeliveryStatus 참고
      */
-    private OrderExportDto createExportDto(OrderItem orderItem, OrderDetail orderDetail) {
-        try {
-            // 1. 상품 정보 조회
-            Optional<Product> productOpt = productRepository.findById(orderDetail.getProductId());
-            if (productOpt.isEmpty()) {
-                log.warn("상품을 찾을 수 없음 - productId: {}", orderDetail.getProductId());
-                return null;
-            }
-            
-            Product product = productOpt.get();
-            
-            // 2. 수하인 주소 조합 (address + address2)
-            String receiverAddress = combineAddress(
-                orderItem.getReceivedUserAddress(), 
-                orderItem.getReceivedUserAddress2()
-            );
-            
-            // 3. 옵션 정보 조회 및 조합
-            String productOption = combineOptions(orderDetail.getOption1(), orderDetail.getOption2());
-            
-            // 4. OrderExportDto 생성
-            return OrderExportDto.builder()
-                    .orderNum(orderItem.getOrderNum())
-                    .receiverName(orderItem.getReceivedUserName())
-                    .receiverPhone(orderItem.getReceivedUserPhone())
-                    .receiverTel(orderItem.getReceivedUserPhone())  // 동일값
-                    .receiverAddress(receiverAddress)
-                    .deliveryMessage(orderItem.getMessage())
-                    .productName(product.getName())
-                    .productOption(productOption)
-                    .quantity(orderDetail.getQuantity())
-                    .shippingType("010")        // 고정값
-                    .packageCount(1)            // 고정값
-                    .shippingCost(2750)         // 고정값
-                    .orderId(orderItem.getOrderId())
-                    .productId(orderDetail.getProductId())
-                    .option1(orderDetail.getOption1())
-                    .option2(orderDetail.getOption2())
-                    .build();
-            
-        } catch (Exception e) {
-            log.error("ExportDto 생성 실패 - orderId: {}, productId: {}", 
-                    orderItem.getOrderId(), orderDetail.getProductId(), e);
-            return null;
-        }
+    private OrderExportDto toExportDto(Object[] row) {
+        Integer orderId = (Integer) row[0];
+        String orderNum = (String) row[1];
+        String receivedUserName = (String) row[2];
+        String receivedUserPhone = (String) row[3];
+        String receivedUserAddress = (String) row[4];
+        String receivedUserAddress2 = (String) row[5];
+        String message = (String) row[6];
+        Integer productId = (Integer) row[7];
+        String productName = (String) row[8];
+        Integer option1 = (Integer) row[9];
+        String option1Name = (String) row[10];
+        Integer option2 = (Integer) row[11];
+        String option2Name = (String) row[12];
+        Integer quantity = (Integer) row[13];
+        
+        return OrderExportDto.builder()
+                .orderNum(orderNum)
+                .receiverName(receivedUserName)
+                .receiverPhone(receivedUserPhone)
+                .receiverTel(receivedUserPhone)  // 동일값
+                .receiverAddress(combineAddress(receivedUserAddress, receivedUserAddress2))
+                .deliveryMessage(message)
+                .productName(productName)
+                .productOption(combineOptions(option1, option1Name, option2, option2Name))
+                .quantity(quantity)
+                .shippingType("010")        // 고정값
+                .packageCount(1)            // 고정값
+                .shippingCost(2750)         // 고정값
+                .orderId(orderId)
+                .productId(productId)
+                .option1(option1)
+                .option2(option2)
+                .build();
     }
     
     /**
@@ -158,23 +119,17 @@ public class OrderExportService {
     /**
      * 옵션 정보 조합 (option1 + option2 이름)
      */
-    private String combineOptions(Integer option1, Integer option2) {
+    private String combineOptions(Integer option1, String option1Name, Integer option2, String option2Name) {
         List<String> optionNames = new ArrayList<>();
         
-        // option1 이름 조회
-        if (option1 != null) {
-            String option1Name = getOptionValueName(option1);
-            if (option1Name != null && !option1Name.isEmpty()) {
-                optionNames.add(option1Name);
-            }
+        String name1 = resolveOptionName(option1, option1Name);
+        if (name1 != null && !name1.isEmpty()) {
+            optionNames.add(name1);
         }
         
-        // option2 이름 조회
-        if (option2 != null) {
-            String option2Name = getOptionValueName(option2);
-            if (option2Name != null && !option2Name.isEmpty()) {
-                optionNames.add(option2Name);
-            }
+        String name2 = resolveOptionName(option2, option2Name);
+        if (name2 != null && !name2.isEmpty()) {
+            optionNames.add(name2);
         }
         
         // 옵션명 조합
@@ -186,19 +141,11 @@ public class OrderExportService {
     }
     
     /**
-     * 옵션 값 이름 조회 헬퍼 메서드
+     * 옵션 값 이름 결정 (옵션 값이 삭제되어 조인되지 않으면 "옵션-{id}")
      */
-    private String getOptionValueName(Integer optionValueId) {
-        try {
-            if (optionValueId == null) return null;
-            
-            Optional<String> valueNameOpt = productOptionValueRepository.findValueNameById(optionValueId);
-            return valueNameOpt.orElse("옵션-" + optionValueId);
-            
-        } catch (Exception e) {
-            log.warn("옵션 이름 조회 실패 - optionValueId: {}", optionValueId, e);
-            return "옵션-" + optionValueId;
-        }
+    private String resolveOptionName(Integer optionValueId, String valueName) {
+        if (optionValueId == null) return null;
+        return valueName != null ? valueName : "옵션-" + optionValueId;
     }
     
 //    /**
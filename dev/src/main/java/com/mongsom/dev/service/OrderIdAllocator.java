@@ -0,0 +1,48 @@
+package com.mongsom.dev.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 ID(order_item.order_id) 발급기
+ * - order_item_seq 시퀀스에서 블록 단위(pooled-lo)로 받아 메모리에서 순차 발급
+ * - INSERT 전에 ID를 알 수 있어 주문번호(mongsom_주문ID)를 한 번에 저장 가능
+ * - 시퀀스 INCREMENT BY 값과 allocation-size가 반드시 같아야 함
+ */
+@Component
+@Slf4j
+public class OrderIdAllocator {
+
+    private static final String NEXT_BLOCK_SQL = "SELECT NEXT VALUE FOR order_item_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int allocationSize;
+
+    private long next;
+    private long blockEnd;
+
+    public OrderIdAllocator(JdbcTemplate jdbcTemplate,
+                            @Value("${order.id-allocation-size:50}") int allocationSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.allocationSize = allocationSize;
+    }
+
+    /**
+     * 다음 주문 ID 발급 (블록 소진 시에만 DB 조회)
+     */
+    public synchronized int nextId() {
+        if (next >= blockEnd) {
+            Long blockStart = jdbcTemplate.queryForObject(NEXT_BLOCK_SQL, Long.class);
+            if (blockStart == null) {
+                throw new IllegalStateException("주문 ID 시퀀스 조회 실패");
+            }
+            next = blockStart;
+            blockEnd = blockStart + allocationSize;
+            log.debug("주문 ID 블록 할당 - {} ~ {}", blockStart, blockEnd - 1);
+        }
+        return Math.toIntExact(next++);
+    }
+}
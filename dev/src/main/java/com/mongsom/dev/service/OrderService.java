@@ -1,11 +1,15 @@
 package com.mongsom.dev.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import com.mongsom.dev.common.dto.RespDto;
 import com.mongsom.dev.dto.order.reqDto.OrderCancelReqDto;
@@ -14,18 +18,22 @@ import com.mongsom.dev.dto.order.reqDto.PaymentUpdateReqDto;
 import com.mongsom.dev.dto.order.respDto.MileageRespDto;
 import com.mongsom.dev.dto.order.respDto.OrderCancelRespDto;
 import com.mongsom.dev.dto.order.respDto.OrderCreateRespDto;
+import com.mongsom.dev.entity.MileageLedger;
 import com.mongsom.dev.entity.OrderDetail;
 import com.mongsom.dev.entity.OrderItem;
 import com.mongsom.dev.entity.Payments;
 import com.mongsom.dev.entity.Product;
 import com.mongsom.dev.entity.User;
-import com.mongsom.dev.repository.CartRepository;
+import com.mongsom.dev.repository.OrderDetailJdbcRepository;
 import com.mongsom.dev.repository.OrderDetailRepository;
 import com.mongsom.dev.repository.OrderItemRepository;
 import com.mongsom.dev.repository.PaymentsRepository;
 import com.mongsom.dev.repository.ProductRepository;
 import com.mongsom.dev.repository.UserRepository;
+import com.mongsom.dev.service.event.DomainEvent;
+import com.mongsom.dev.service.event.DomainEventPublisher;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,7 +47,12 @@ public class OrderService {
     private final PaymentsRepository paymentsRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
-    private final CartRepository cartRepository;
+    private final ProductStatsService productStatsService;
+    private final MileageService mileageService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final OrderIdAllocator orderIdAllocator;
+    private final OrderDetailJdbcRepository orderDetailJdbcRepository;
+    private final EntityManager entityManager;
     
     // 주문생성
     @Transactional
@@ -70,11 +83,16 @@ public class OrderService {
                         .build();
             }
             
-            // 3. 상품 존재 확인
-            for (OrderCreateReqDto.OrderDetailDto detail : reqDto.getOrderDetails()) {
-                Optional<Product> productOpt = productRepository.findById(detail.getProductId());
-                if (productOpt.isEmpty()) {
-                    log.warn("존재하지 않는 상품 - productId: {}", detail.getProductId());
+            // 3. 상품 존재 확인 (IN 조회 1회)
+            Set<Integer> productIds = reqDto.getOrderDetails().stream()
+                    .map(OrderCreateReqDto.OrderDetailDto::getProductId)
+                    .collect(Collectors.toSet());
+            Set<Integer> existingProductIds = productRepository.findAllById(productIds).stream()
+                    .map(Product::getProductId)
+                    .collect(Collectors.toSet());
+            for (Integer productId : productIds) {
+                if (!existingProductIds.contains(productId)) {
+                    log.warn("존재하지 않는 상품 - productId: {}", productId);
                     return RespDto.<OrderCreateRespDto>builder()
                             .code(-1)
                             .data(null)
@@ -85,11 +103,16 @@ public class OrderService {
             // 4. delivery_status_reason 설정
             String deliveryStatusReason = "CARD".equals(reqDto.getPaymentType()) ? "일반결제" : "무통장입금";
             
-            // 5. 무통장입금인 경우 마일리지 즉시 차감
+            // 5. 주문 ID 발급 (마일리지 원장에 주문 ID를 남기기 위해 차감 전에 발급)
+            Integer orderId = orderIdAllocator.nextId();
+            String orderNum = "mongsom_" + orderId;
+            
+            // 5-1. 무통장입금인 경우 마일리지 즉시 차감 (잔액 조건부 차감, 부족하면 실패)
             if ("무통장입금".equals(deliveryStatusReason) && reqDto.getUsedMileage() > 0) {
                 log.info("=== 무통장입금 마일리지 즉시 차감 시작 ===");
                 
-                boolean mileageDeducted = deductMileageForBankTransfer(user, reqDto.getUsedMileage());
+                boolean mileageDeducted = mileageService.deduct(reqDto.getUserCode(), reqDto.getUsedMileage(),
+                        MileageLedger.REASON_ORDER_USE, orderId);
                 if (!mileageDeducted) {
                     log.error("무통장입금 마일리지 차감 실패 - userCode: {}, usedMileage: {}", 
                             reqDto.getUserCode(), reqDto.getUsedMileage());
@@ -105,8 +128,9 @@ public class OrderService {
                 log.info("일반결제(카드) - 마일리지는 결제 승인 후 차감 예정");
             }
             
-            // 6. OrderItem 생성 및 저장
+            // 6. OrderItem 생성 및 저장 (ID를 미리 발급받아 주문번호까지 INSERT 한 번으로 저장)
             OrderItem orderItem = OrderItem.builder()
+                    .orderId(orderId)
                     .userCode(reqDto.getUserCode())
                     .receivedUserName(reqDto.getReceivedUserName())
                     .receivedUserPhone(reqDto.getReceivedUserPhone())
@@ -122,20 +146,18 @@ public class OrderService {
                     .deliveryStatus("결제대기")  // 고정값
                     .deliveryStatusReason(deliveryStatusReason)
                     .paymentAt(LocalDateTime.now())
-                    .orderNum("temp")
+                    .orderNum(orderNum)
                     .build();
             
-            OrderItem savedOrderItem = orderItemRepository.save(orderItem);
-            Integer orderId = savedOrderItem.getOrderId();
-            
-            // 6-1. orderNum 생성 및 업데이트 (mongsom_orderId 형식)
-            String orderNum = "mongsom_" + orderId;
-            savedOrderItem.setOrderNum(orderNum);
-            orderItemRepository.save(savedOrderItem);
+            // 할당 ID라 save()는 merge(SELECT 후 INSERT)가 되므로 persist 사용
+            // 이어지는 JDBC INSERT보다 먼저 반영되도록 즉시 flush
+            entityManager.persist(orderItem);
+            entityManager.flush();
             
-            log.info("주문 기본 정보 저장 완료 - orderId: {}", orderId);
+            log.info("주문 기본 정보 저장 완료 - orderId: {}, orderNum: {}", orderId, orderNum);
             
-            // 6. OrderDetail 생성 및 저장 (새로운 구조)
+            // 6-1. OrderDetail 생성 및 일괄 저장 (다중 행 INSERT 1회)
+            List<OrderDetail> savedOrderDetails = new ArrayList<>();
             for (OrderCreateReqDto.OrderDetailDto detailDto : reqDto.getOrderDetails()) {
                 OrderDetail orderDetail = OrderDetail.createOrderDetail(
                     orderId,
@@ -148,8 +170,12 @@ public class OrderService {
                     detailDto.getOptionPrice()
                 );
                 
-                orderDetailRepository.save(orderDetail);
+                savedOrderDetails.add(orderDetail);
             }
+            orderDetailJdbcRepository.insertAll(savedOrderDetails);
+            
+            // 6-2. 상품 인기도 집계 반영
+            productStatsService.orderDetailsPlaced(savedOrderDetails);
             
             log.info("주문 상세 정보 저장 완료 - orderId: {}, 상품 수: {}", orderId, reqDto.getOrderDetails().size());
             
@@ -181,17 +207,9 @@ public class OrderService {
 //                    .deliveryStatus("결제대기")           // 추가 정보
                     .build();
             
-            // 9. 장바구니 삭제
-            if ("무통장입금".equals(deliveryStatusReason)) {
-                log.info("=== 무통장입금 장바구니 삭제 시작 ===");
-                
-                int deletedCartCount = cartRepository.deleteByUserCode(reqDto.getUserCode());
-                log.info("장바구니 삭제 완료 - userCode: {}, 삭제된 항목 수: {}", 
-                        reqDto.getUserCode(), deletedCartCount);
-                
-            } else {
-                log.info("일반결제(카드) - 장바구니 삭제는 결제 승인 후 차감 예정");
-            }
+            // 9. 주문 생성 이벤트 (무통장입금은 장바구니 삭제를 이벤트 소비자가 처리, 카드는 결제 승인 후)
+            domainEventPublisher.publish(DomainEvent.orderCreated(orderId, reqDto.getUserCode(),
+                    "무통장입금".equals(deliveryStatusReason)));
             
             return RespDto.<OrderCreateRespDto>builder()
                     .code(1)
@@ -201,6 +219,8 @@ public class OrderService {
         } catch (Exception e) {
             log.error("주문 생성 실패 - userCode: {}, finalPrice: {}", 
                     reqDto.getUserCode(), reqDto.getFinalPrice(), e);
+            // 마일리지 차감/원장, 주문, 주문 상세(JDBC)가 일부만 반영되지 않도록 전체 롤백
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return RespDto.<OrderCreateRespDto>builder()
                     .code(-1)
                     .data(null)
@@ -208,40 +228,6 @@ public class OrderService {
         }
     }
    
-    /**
-     * 무통장입금용 마일리지 차감
-     */
-    private boolean deductMileageForBankTransfer(User user, Integer usedMileage) {
-        try {
-            log.info("무통장입금 마일리지 차감 - userCode: {}, 차감금액: {}", 
-                    user.getUserCode(), usedMileage);
-            
-            Integer currentMileage = user.getMileage();
-            
-            // User 엔티티의 비즈니스 메서드로 마일리지 차감
-            boolean deductSuccess = user.deductMileage(usedMileage);
-            
-            if (!deductSuccess) {
-                log.error("마일리지 차감 실패 - userCode: {}, 보유: {}, 사용요청: {}", 
-                        user.getUserCode(), currentMileage, usedMileage);
-                return false;
-            }
-            
-            // 변경된 사용자 정보 저장
-            userRepository.save(user);
-            
-            Integer newMileage = user.getMileage();
-            log.info("무통장입금 마일리지 차감 완료 - userCode: {}, 기존: {} → 변경: {} (차감: {})", 
-                    user.getUserCode(), currentMileage, newMileage, usedMileage);
-            
-            return true;
-            
-        } catch (Exception e) {
-            log.error("무통장입금 마일리지 차감 중 오류 발생", e);
-            return false;
-        }
-    }
-    
     // 주문취소
     @Transactional
     public RespDto<Boolean> cancelOrder(OrderCancelReqDto reqDto) {
@@ -291,9 +277,15 @@ public class OrderService {
             }
             
             // 5. 주문 상세 취소 처리 (order_status = 1)
+            boolean wasNormal = orderDetail.getOrderStatus().equals(0);
             orderDetail.setOrderStatus(1);
             orderDetailRepository.save(orderDetail);
             
+            // 5-1. 정상 주문이었던 경우 상품 인기도 차감
+            if (wasNormal) {
+                productStatsService.addOrderCount(orderDetail.getProductId(), -1);
+            }
+            
             log.info("주문 상세 취소 완료 - orderDetailId: {}", reqDto.getOrderDetailId());
             
             // 6. 해당 주문의 모든 상세 조회
@@ -308,8 +300,11 @@ public class OrderService {
                 Optional<OrderItem> orderItemOpt = orderItemRepository.findById(reqDto.getOrderId());
                 if (orderItemOpt.isPresent()) {
                     OrderItem orderItem = orderItemOpt.get();
+                    String previousStatus = orderItem.getDeliveryStatus();
                     orderItem.setDeliveryStatus("주문취소");
                     orderItemRepository.save(orderItem);
+                    domainEventPublisher.publish(DomainEvent.orderCancelled(orderItem.getOrderId(),
+                            orderItem.getUserCode(), previousStatus, orderItem.getPaymentAt()));
                     
                     log.info("주문 전체 취소 완료 - orderId: {}, deliveryStatus: '주문취소'", reqDto.getOrderId());
                 }
@@ -391,8 +386,9 @@ public class OrderService {
             );
             
             // 4-1. 결제 완료 시 주문 상태 업데이트
+            int orderUpdatedRows = 0;
             if ("COMPLETED".equals(reqDto.getPaymentStatus()) && updatedRows > 0) {
-                int orderUpdatedRows = orderItemRepository.updateDeliveryStatus(
+                orderUpdatedRows = orderItemRepository.updateDeliveryStatus(
                     reqDto.getOrderId(), "결제완료");
                 
                 log.info("주문 상태 업데이트 완료 - orderId: {}, deliveryStatus: 결제완료, 업데이트된 행: {}", 
@@ -400,23 +396,22 @@ public class OrderService {
                 
                 // 4-2. 마일리지 차감 (결제 완료 시)
                 if (order.getUsedMileage() > 0) {
-                    Optional<User> userOpt = userRepository.findUserByUserCode(reqDto.getUserCode());
-                    if (userOpt.isPresent()) {
-                        User user = userOpt.get();
-                        user.useMileage(order.getUsedMileage());
-                        userRepository.save(user);
-                        
-                        log.info("마일리지 차감 완료 - userCode: {}, 사용마일리지: {}, 잔여마일리지: {}", 
-                                reqDto.getUserCode(), order.getUsedMileage(), user.getMileage());
+                    if (!mileageService.deduct(reqDto.getUserCode(), order.getUsedMileage(),
+                            MileageLedger.REASON_ORDER_USE, order.getOrderId())) {
+                        throw new IllegalArgumentException("보유 마일리지가 부족합니다.");
                     }
+                    
+                    log.info("마일리지 차감 완료 - userCode: {}, 사용마일리지: {}", 
+                            reqDto.getUserCode(), order.getUsedMileage());
                 }
             }
             
-            // 5. 결제 완료 시 장바구니 삭제
+            // 5. 결제 완료 이벤트 (배송 건수/장바구니 삭제는 이벤트 소비자가 처리)
             if ("COMPLETED".equals(reqDto.getPaymentStatus())) {
-                int deletedCartCount = cartRepository.deleteByUserCode(reqDto.getUserCode());
-                log.info("장바구니 삭제 완료 - userCode: {}, 삭제된 항목 수: {}", 
-                        reqDto.getUserCode(), deletedCartCount);
+                boolean statusUpdated = orderUpdatedRows > 0; // 4-1에서 결제완료로 변경됨
+                domainEventPublisher.publish(DomainEvent.paymentConfirmed(order.getOrderId(), order.getUserCode(),
+                        statusUpdated ? order.getDeliveryStatus() : null, order.getPaymentAt(),
+                        statusUpdated ? "결제완료" : null, order.getPaymentAt()));
             }
             
             if (updatedRows > 0) {
@@ -440,6 +435,8 @@ public class OrderService {
         } catch (Exception e) {
             log.error("결제 정보 업데이트 실패 - orderId: {}, userCode: {}, error: {}", 
                     reqDto.getOrderId(), reqDto.getUserCode(), e.getMessage());
+            // 마일리지 부족 등으로 실패하면 결제 완료/결제완료 상태 변경도 함께 롤백
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return RespDto.<String>builder()
                     .code(-1)
                     .data("결제 정보 업데이트 중 오류가 발생했습니다.")
@@ -525,7 +522,8 @@ public class OrderService {
             if ("무통장입금".equals(orderItem.getDeliveryStatusReason()) && orderItem.getUsedMileage() > 0) {
                 log.info("=== 무통장입금 주문취소 - 마일리지 환불 시작 ===");
                 
-                mileageRefunded = refundMileageForCancelledOrder(orderItem.getUserCode(), orderItem.getUsedMileage());
+                mileageRefunded = mileageService.add(orderItem.getUserCode(), orderItem.getUsedMileage(),
+                        MileageLedger.REASON_ORDER_CANCEL_REFUND, orderId);
                 if (!mileageRefunded) {
                     log.error("마일리지 환불 실패 - orderId: {}, userCode: {}, usedMileage: {}", 
                             orderId, orderItem.getUserCode(), orderItem.getUsedMileage());
@@ -560,40 +558,6 @@ public class OrderService {
         }
     }
     
-    /**
-     * 주문 취소 시 마일리지 환불
-     */
-    private boolean refundMileageForCancelledOrder(Long userCode, Integer refundMileage) {
-        try {
-            log.info("주문취소 마일리지 환불 시작 - userCode: {}, 환불금액: {}", userCode, refundMileage);
-            
-            // 1. 사용자 조회
-            Optional<User> userOpt = userRepository.findUserByUserCode(userCode);
-            if (userOpt.isEmpty()) {
-                log.error("사용자를 찾을 수 없음 - userCode: {}", userCode);
-                return false;
-            }
-            
-            User user = userOpt.get();
-            Integer currentMileage = user.getMileage();
-            
-            // 2. 마일리지 환불 (적립)
-            user.addMileage(refundMileage);  // User 엔티티의 addMileage 메서드 사용
-            userRepository.save(user);
-            
-            Integer newMileage = user.getMileage();
-            log.info("주문취소 마일리지 환불 완료 - userCode: {}, 기존: {} → 변경: {} (환불: {})", 
-                    userCode, currentMileage, newMileage, refundMileage);
-            
-            return true;
-            
-        } catch (Exception e) {
-            log.error("주문취소 마일리지 환불 중 오류 발생 - userCode: {}, refundMileage: {}", 
-                    userCode, refundMileage, e);
-            return false;
-        }
-    }
-    
     /**
      * 주문 취소 실행 (데이터 삭제 처리)
      */
@@ -609,6 +573,7 @@ public class OrderService {
         
         log.info("OrderDetail 삭제 시작 - orderId: {}, 삭제 대상: {}건", orderId, deletedOrderDetailsCount);
         orderDetailRepository.deleteByOrderId(orderId);
+        productStatsService.orderDetailsRemoved(orderDetails);
         log.info("OrderDetail 삭제 완료 - orderId: {}", orderId);
         
         // 2. Payment 삭제 (있는 경우만)
@@ -627,6 +592,8 @@ public class OrderService {
         log.info("OrderItem 삭제 시작 - orderId: {}", orderId);
         orderItemRepository.deleteByOrderId(orderId);
         log.info("OrderItem 삭제 완료 - orderId: {}", orderId);
+        domainEventPublisher.publish(DomainEvent.orderCancelled(orderId, orderItem.getUserCode(),
+                previousStatus, orderItem.getPaymentAt()));
         
         // 4. 응답 데이터 생성
         return OrderCancelRespDto.builder()
@@ -0,0 +1,183 @@
+package com.mongsom.dev.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.mongsom.dev.common.dto.RespDto;
+import com.mongsom.dev.entity.PaymentConfirmation;
+import com.mongsom.dev.repository.PaymentConfirmationRepository;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 승인 멱등성 처리 (DB 기록 기반, 다중 인스턴스 안전)
+ * - 최초 요청만 PROCESSING 기록을 선점해 토스 승인/DB 반영 수행
+ * - 완료된 요청은 저장된 결과를 그대로 반환
+ * - 다른 인스턴스가 처리 중이면 결과가 저장될 때까지 대기
+ */
+@Service
+@Slf4j
+public class PaymentIdempotencyService {
+
+    private static final long POLL_INTERVAL_MS = 200;
+
+    private final PaymentConfirmationRepository paymentConfirmationRepository;
+    private final long leaseSeconds;
+    private final long waitMs;
+
+    public PaymentIdempotencyService(PaymentConfirmationRepository paymentConfirmationRepository,
+                                     @Value("${payment.idempotency.lease-seconds:120}") long leaseSeconds,
+                                     @Value("${payment.idempotency.wait-ms:10000}") long waitMs) {
+        this.paymentConfirmationRepository = paymentConfirmationRepository;
+        this.leaseSeconds = leaseSeconds;
+        this.waitMs = waitMs;
+    }
+
+    /**
+     * 승인 처리 선점 시도
+     */
+    public Claim claim(String paymentKey, String orderNum) {
+        // 1. 같은 주문이 이미 다른 paymentKey로 승인 완료된 경우
+        Optional<PaymentConfirmation> doneOpt = paymentConfirmationRepository
+                .findFirstByOrderNumAndStatus(orderNum, PaymentConfirmation.STATUS_DONE);
+        if (doneOpt.isPresent()) {
+            log.info("이미 승인 완료된 주문 - orderNum: {}, paymentKey: {}", orderNum, doneOpt.get().getPaymentKey());
+            return Claim.completed(toResult(doneOpt.get()));
+        }
+
+        // 2. paymentKey 선점
+        if (paymentConfirmationRepository.insertProcessing(paymentKey, orderNum) == 1) {
+            return Claim.acquired();
+        }
+
+        // 3. 이미 기록이 있는 경우
+        Optional<PaymentConfirmation> recordOpt = paymentConfirmationRepository.findById(paymentKey);
+        if (recordOpt.isEmpty()) {
+            // 선점 직후 해제된 경우 - 한 번 더 시도
+            return paymentConfirmationRepository.insertProcessing(paymentKey, orderNum) == 1
+                    ? Claim.acquired()
+                    : Claim.inProgress();
+        }
+
+        PaymentConfirmation record = recordOpt.get();
+        if (!record.isProcessing()) {
+            log.info("중복 승인 요청 - 저장된 결과 반환 - paymentKey: {}, status: {}", paymentKey, record.getStatus());
+            return Claim.completed(toResult(record));
+        }
+
+        // 4. 처리 중 기록이 오래되었거나 선점 해제된 PG 승인 건이면 인수
+        if (paymentConfirmationRepository.takeOverStale(paymentKey, LocalDateTime.now().minusSeconds(leaseSeconds)) == 1) {
+            boolean pgApproved = paymentConfirmationRepository.findById(paymentKey)
+                    .map(taken -> Boolean.TRUE.equals(taken.getPgApproved()))
+                    .orElse(false);
+            log.warn("처리 중단된 승인 기록 인수 - paymentKey: {}, pgApproved: {}", paymentKey, pgApproved);
+            return Claim.acquired(pgApproved);
+        }
+
+        return Claim.inProgress();
+    }
+
+    /**
+     * 다른 인스턴스가 처리 중인 승인 결과 대기 (대기 시간 초과 시 처리 중 응답)
+     */
+    public CompletableFuture<RespDto<String>> awaitResult(String paymentKey) {
+        return poll(paymentKey, System.currentTimeMillis() + waitMs);
+    }
+
+    private CompletableFuture<RespDto<String>> poll(String paymentKey, long deadline) {
+        return CompletableFuture
+                .supplyAsync(() -> paymentConfirmationRepository.findById(paymentKey),
+                        CompletableFuture.delayedExecutor(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS))
+                .thenCompose(recordOpt -> {
+                    if (recordOpt.isPresent() && !recordOpt.get().isProcessing()) {
+                        return CompletableFuture.completedFuture(toResult(recordOpt.get()));
+                    }
+                    if (recordOpt.isEmpty() || System.currentTimeMillis() >= deadline) {
+                        // 선점 해제(일시적 오류)되었거나 대기 시간 초과 - 재시도 안내
+                        return CompletableFuture.completedFuture(RespDto.<String>builder()
+                                .code(-1)
+                                .data("결제 승인 처리 중입니다. 잠시 후 다시 시도해주세요.")
+                                .build());
+                    }
+                    return poll(paymentKey, deadline);
+                });
+    }
+
+    /**
+     * 처리 결과 저장 (이후 중복 요청은 이 결과를 반환)
+     */
+    public void complete(String paymentKey, RespDto<String> result) {
+        String status = result.getCode() == 1 ? PaymentConfirmation.STATUS_DONE : PaymentConfirmation.STATUS_FAILED;
+        paymentConfirmationRepository.complete(paymentKey, status, result.getCode(), result.getData());
+        log.info("승인 결과 저장 - paymentKey: {}, status: {}", paymentKey, status);
+    }
+
+    /**
+     * PG 승인 완료 기록 (이후 DB 반영이 실패해도 재시도는 승인 대신 결제 조회로 처리)
+     */
+    public void markPgApproved(String paymentKey) {
+        paymentConfirmationRepository.markPgApproved(paymentKey);
+    }
+
+    /**
+     * 일시적 오류(타임아웃, PG 5xx, DB 오류 등) 시 선점 해제 - 같은 paymentKey로 재시도 가능
+     * PG 승인 건은 기록을 지우지 않고 바로 인수할 수 있는 상태로 둠
+     */
+    public void release(String paymentKey) {
+        try {
+            paymentConfirmationRepository.release(paymentKey);
+            paymentConfirmationRepository.releaseApproved(paymentKey);
+            log.info("승인 선점 해제 - paymentKey: {}", paymentKey);
+        } catch (Exception e) {
+            log.warn("승인 선점 해제 실패 (lease 만료 후 인수됨) - paymentKey: {}", paymentKey, e);
+        }
+    }
+
+    private RespDto<String> toResult(PaymentConfirmation record) {
+        return RespDto.<String>builder()
+                .code(record.getResultCode())
+                .data(record.getResultMessage())
+                .build();
+    }
+
+    /**
+     * 선점 결과
+     */
+    @Getter
+    public static class Claim {
+
+        public enum Type { ACQUIRED, COMPLETED, IN_PROGRESS }
+
+        private final Type type;
+        private final RespDto<String> result;
+        private final boolean pgApproved; // 인수한 기록이 이미 PG 승인된 건인지
+
+        private Claim(Type type, RespDto<String> result, boolean pgApproved) {
+            this.type = type;
+            this.result = result;
+            this.pgApproved = pgApproved;
+        }
+
+        static Claim acquired() {
+            return acquired(false);
+        }
+
+        static Claim acquired(boolean pgApproved) {
+            return new Claim(Type.ACQUIRED, null, pgApproved);
+        }
+
+        static Claim completed(RespDto<String> result) {
+            return new Claim(Type.COMPLETED, result, false);
+        }
+
+        static Claim inProgress() {
+            return new Claim(Type.IN_PROGRESS, null, false);
+        }
+    }
+}
@@ -1,47 +1,50 @@
 package com.mongsom.dev.service;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mongsom.dev.common.dto.RespDto;
 import com.mongsom.dev.dto.payment.reqDto.PaymentConfirmReqDto;
+import com.mongsom.dev.entity.MileageLedger;
 import com.mongsom.dev.entity.OrderItem;
 import com.mongsom.dev.entity.Payments;
-import com.mongsom.dev.entity.User;
-import com.mongsom.dev.repository.CartRepository;
 import com.mongsom.dev.repository.OrderItemRepository;
 import com.mongsom.dev.repository.PaymentsRepository;
-import com.mongsom.dev.repository.UserRepository;
+import com.mongsom.dev.service.event.DomainEvent;
+import com.mongsom.dev.service.event.DomainEventPublisher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.net.http.HttpTimeoutException;
 import java.time.LocalDateTime;
-import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentService {
     
-    private final RestTemplate restTemplate;
+    private final TossPaymentClient tossPaymentClient;
+    private final PaymentIdempotencyService paymentIdempotencyService;
+    private final TransactionTemplate transactionTemplate;
     private final ObjectMapper objectMapper;
     private final OrderItemRepository orderItemRepository;
     private final PaymentsRepository paymentsRepository;
-    private final CartRepository cartRepository;
-    private final UserRepository userRepository;
+    private final MileageService mileageService;
+    private final DomainEventPublisher domainEventPublisher;
     
-    @Value("${toss.secret-key}")
-    private String tossSecretKey;
+    // 진행 중인 승인 요청 (paymentKey -> 처리 결과)
+    private final ConcurrentMap<String, CompletableFuture<RespDto<String>>> inFlightConfirms = new ConcurrentHashMap<>();
     
     // 토스페이먼츠 카드사 코드 매핑 테이블
     private static final Map<String, String> CARD_ISSUER_MAP = new HashMap<>();
@@ -76,254 +79,304 @@ public class PaymentService {
     
     /**
      * 토스페이먼츠 결제 승인 (마일리지 차감 포함)
+     * 같은 paymentKey의 중복 요청은 진행 중인 처리에 합류하거나 저장된 결과를 반환
      */
-    @Transactional
-    public RespDto<String> confirmPayment(PaymentConfirmReqDto reqDto) {
-        try {
-            log.info("=== 토스페이먼츠 결제 승인 요청 시작 ===");
-            log.info("paymentKey: {}, orderId: {}, amount: {}, userCode: {}",
-                    reqDto.getPaymentKey(), reqDto.getOrderId(), reqDto.getAmount(), reqDto.getUserCode());
+    public CompletableFuture<RespDto<String>> confirmPayment(PaymentConfirmReqDto reqDto) {
+        log.info("=== 토스페이먼츠 결제 승인 요청 시작 ===");
+        log.info("paymentKey: {}, orderId: {}, amount: {}, userCode: {}",
+                reqDto.getPaymentKey(), reqDto.getOrderId(), reqDto.getAmount(), reqDto.getUserCode());
 
-            // 1. 토스페이먼츠 API 엔드포인트
-            String url = "https://api.tosspayments.com/v1/payments/confirm";
+        String paymentKey = reqDto.getPaymentKey();
+        if (paymentKey == null || paymentKey.isBlank() || reqDto.getOrderId() == null) {
+            return CompletableFuture.completedFuture(RespDto.<String>builder()
+                    .code(-1)
+                    .data("결제 승인 요청 정보가 올바르지 않습니다.")
+                    .build());
+        }
 
-            // 2. 인증 헤더 생성 (Secret Key를 Base64 인코딩)
-            String encodedAuth = Base64.getEncoder()
-                    .encodeToString((tossSecretKey + ":").getBytes());
+        // 1. 같은 인스턴스 내 동시 중복 요청은 하나의 처리 결과를 공유
+        CompletableFuture<RespDto<String>> created = new CompletableFuture<>();
+        CompletableFuture<RespDto<String>> existing = inFlightConfirms.putIfAbsent(paymentKey, created);
+        if (existing != null) {
+            log.info("동일 paymentKey 승인 처리 진행 중 - 결과 공유 - paymentKey: {}", paymentKey);
+            return existing;
+        }
 
-            // 3. 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", "Basic " + encodedAuth);
+        confirmOnce(reqDto).whenComplete((result, e) -> {
+            inFlightConfirms.remove(paymentKey, created);
+            if (e != null) {
+                created.complete(confirmFailure(e));
+            } else {
+                created.complete(result);
+            }
+        });
+        return created;
+    }
 
-            // 4. 요청 바디 생성
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("paymentKey", reqDto.getPaymentKey());
-            requestBody.put("orderId", reqDto.getOrderId());
-            requestBody.put("amount", reqDto.getAmount());
+    /**
+     * DB 멱등성 기록 선점 후 승인 처리 (다른 인스턴스의 중복 요청 차단)
+     */
+    private CompletableFuture<RespDto<String>> confirmOnce(PaymentConfirmReqDto reqDto) {
+        String paymentKey = reqDto.getPaymentKey();
 
-            // 5. HTTP 요청 생성
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
+        PaymentIdempotencyService.Claim claim;
+        try {
+            claim = paymentIdempotencyService.claim(paymentKey, reqDto.getOrderId());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
 
-            // 6. 토스페이먼츠 API 호출
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, request, Map.class);
+        switch (claim.getType()) {
+            case COMPLETED:
+                return CompletableFuture.completedFuture(claim.getResult());
+            case IN_PROGRESS:
+                log.info("다른 인스턴스에서 승인 처리 중 - 결과 대기 - paymentKey: {}", paymentKey);
+                return paymentIdempotencyService.awaitResult(paymentKey);
+            default:
+                return executeConfirm(reqDto, claim.isPgApproved());
+        }
+    }
 
-            // 7. 응답 로깅
-            log.info("=== 토스페이먼츠 응답 ===");
-            log.info("Status Code: {}", response.getStatusCode());
-            log.info("Response Body: {}", objectMapper.writeValueAsString(response.getBody()));
+    /**
+     * 토스 승인 호출 + 결과 반영
+     * 외부 API 호출은 트랜잭션 밖에서 비동기로 수행하고, 승인 결과 반영만 짧은 트랜잭션으로 처리
+     * 이미 PG 승인된 건(이전 시도의 DB 반영 실패)이거나 토스가 "이미 처리된 결제"로 응답하면 결제 조회 결과로 반영
+     */
+    private CompletableFuture<RespDto<String>> executeConfirm(PaymentConfirmReqDto reqDto, boolean pgApproved) {
+        String paymentKey = reqDto.getPaymentKey();
 
-            Map<String, Object> responseBody = response.getBody();
+        CompletableFuture<Map<String, Object>> approval;
+        if (pgApproved) {
+            log.info("PG 승인 완료 건 재처리 - 결제 조회로 반영 - paymentKey: {}", paymentKey);
+            approval = tossPaymentClient.getPayment(paymentKey);
+        } else {
+            approval = tossPaymentClient.confirm(paymentKey, reqDto.getOrderId(), reqDto.getAmount())
+                    .exceptionallyCompose(throwable -> isAlreadyProcessed(unwrap(throwable))
+                            ? tossPaymentClient.getPayment(paymentKey)
+                            : CompletableFuture.failedFuture(throwable));
+        }
 
-            // 8. 응답이 성공이면 DB 업데이트 진행
-            if (responseBody != null && "DONE".equals(responseBody.get("status"))) {
-                log.info("=== DB 업데이트 시작 ===");
-                
-                String orderNum = (String) responseBody.get("orderId");  // mongsom_100023
-                String method = (String) responseBody.get("method");  // "카드"
-                Integer totalAmount = (Integer) responseBody.get("totalAmount");  // 68000
-                String paymentKey = (String) responseBody.get("paymentKey");  // "tviva20250929143411SGeO6"
-                
-                log.info("orderNum: {}, method: {}, totalAmount: {}, paymentKey: {}", 
-                        orderNum, method, totalAmount, paymentKey);
-                
-                // 8-1. orderNum으로 주문 조회
-                Optional<OrderItem> orderItemOpt = orderItemRepository.findByOrderNum(orderNum);
-                
-                if (orderItemOpt.isEmpty()) {
-                    log.error("주문을 찾을 수 없음 - orderNum: {}", orderNum);
-                    return RespDto.<String>builder()
-                            .code(-1)
-                            .data("주문을 찾을 수 없습니다.")
-                            .build();
-                }
-                
-                OrderItem orderItem = orderItemOpt.get();
-                Integer orderId = orderItem.getOrderId();
-                Long userCode = orderItem.getUserCode();
-                Integer usedMileage = orderItem.getUsedMileage();
-                
-                log.info("주문 조회 성공 - orderId: {}, userCode: {}, usedMileage: {}", 
-                        orderId, userCode, usedMileage);
-                
-                // 8-2. 마일리지 차감 처리 (결제 승인과 동시에)
-                if (usedMileage > 0) {
-                    log.info("=== 마일리지 차감 처리 시작 ===");
-                    boolean mileageDeducted = deductUserMileage(userCode, usedMileage);
-                    
-                    if (!mileageDeducted) {
-                        log.error("마일리지 차감 실패 - userCode: {}, usedMileage: {}", userCode, usedMileage);
-                        return RespDto.<String>builder()
-                                .code(-1)
-                                .data("마일리지 차감에 실패했습니다.")
-                                .build();
+        return approval
+                .thenApply(responseBody -> {
+                    logResponse("토스페이먼츠 응답", responseBody);
+
+                    // 응답이 성공이면 DB 업데이트 진행 (결과 기록도 같은 트랜잭션에서 저장, 반영 실패는 롤백 후 선점 해제)
+                    if (responseBody != null && "DONE".equals(responseBody.get("status"))) {
+                        // DB 반영이 실패해도 재시도가 승인 API를 다시 호출하지 않도록 먼저 기록
+                        paymentIdempotencyService.markPgApproved(paymentKey);
+                        return transactionTemplate.execute(status -> {
+                            RespDto<String> result = applyConfirmResult(reqDto, responseBody);
+                            paymentIdempotencyService.complete(paymentKey, result);
+                            return result;
+                        });
                     }
-                    
-                    log.info("마일리지 차감 완료 - userCode: {}, 차감금액: {}", userCode, usedMileage);
-                } else {
-                    log.info("사용한 마일리지 없음 - usedMileage: {}", usedMileage);
-                }
-                
-                // 8-3. OrderItem 업데이트
-                orderItem.setDeliveryStatus("결제완료");
-                orderItem.setPaymentAt(LocalDateTime.now());
-                orderItemRepository.save(orderItem);
-                
-                log.info("OrderItem 업데이트 완료 - orderId: {}, deliveryStatus: 결제완료", orderId);
-                
-                // 8-4. Payments 조회
-                List<Payments> paymentList = paymentsRepository.findByOrderId(orderId);
-                
-                if (paymentList == null || paymentList.isEmpty()) {
-                    log.error("결제 정보를 찾을 수 없음 - orderId: {}", orderId);
-                    return RespDto.<String>builder()
+
+                    log.warn("결제 상태가 DONE이 아님 - status: {}", responseBody != null ? responseBody.get("status") : "null");
+                    RespDto<String> result = RespDto.<String>builder()
                             .code(-1)
-                            .data("결제 정보를 찾을 수 없습니다.")
+                            .data("결제 승인 실패")
                             .build();
-                }
-                
-                // 8-5. Payments 업데이트 (카드사명 매핑 포함)
-                for (Payments payment : paymentList) {
-                    // 카드사 정보 추출
-                    String paymentMethodInfo = extractPaymentMethodInfo(responseBody);
-                    
-                    payment.setPaymentMethod(paymentMethodInfo);
-                    payment.setPaymentAmount(totalAmount);
-                    payment.setPaymentStatus("결제완료");
-                    payment.setPaymentKey(paymentKey);
-                    paymentsRepository.save(payment);
-                    
-                    log.info("Payments 업데이트 완료 - paymentId: {}, orderId: {}, method: {}, amount: {}, status: 결제완료", 
-                            payment.getPaymentId(), orderId, paymentMethodInfo, totalAmount);
-                }
-                
-                // 8-6. 결제 완료 시 장바구니 삭제
-                int deletedCartCount = cartRepository.deleteByUserCode(reqDto.getUserCode());
-                log.info("장바구니 삭제 완료 - userCode: {}, 삭제된 항목 수: {}", 
-                        reqDto.getUserCode(), deletedCartCount);
-                
-                log.info("=== DB 업데이트 완료 ===");
-                
-                return RespDto.<String>builder()
-                        .code(1)
-                        .data("결제가 승인되었습니다.")
-                        .build();
-                
-            } else {
-                log.warn("결제 상태가 DONE이 아님 - status: {}", responseBody != null ? responseBody.get("status") : "null");
-                return RespDto.<String>builder()
-                        .code(-1)
-                        .data("결제 승인 실패")
-                        .build();
+                    paymentIdempotencyService.complete(paymentKey, result);
+                    return result;
+                })
+                .exceptionally(throwable -> {
+                    Throwable e = unwrap(throwable);
+                    RespDto<String> result = confirmFailure(e);
+
+                    // PG가 거절(4xx)한 요청은 결과 확정, 그 외(타임아웃, 5xx, DB 오류)는 재시도 허용
+                    if (e instanceof TossPaymentClient.TossApiException apiException
+                            && apiException.getStatusCode() / 100 == 4) {
+                        try {
+                            paymentIdempotencyService.complete(paymentKey, result);
+                        } catch (Exception ex) {
+                            log.warn("승인 실패 결과 저장 실패 - paymentKey: {}", paymentKey, ex);
+                            paymentIdempotencyService.release(paymentKey);
+                        }
+                    } else {
+                        paymentIdempotencyService.release(paymentKey);
+                    }
+                    return result;
+                });
+    }
+
+    private static boolean isAlreadyProcessed(Throwable e) {
+        return e instanceof TossPaymentClient.TossApiException apiException
+                && apiException.getResponseBody() != null
+                && apiException.getResponseBody().contains("ALREADY_PROCESSED_PAYMENT");
+    }
+
+    /**
+     * 결제 승인 결과 DB 반영 (주문/결제 상태, 마일리지 차감, 결제 완료 이벤트)
+     * PG 승인 후라 실패를 결과로 확정하지 않고 예외로 롤백 - 선점 해제 후 재시도가 결제 조회로 다시 반영
+     */
+    private RespDto<String> applyConfirmResult(PaymentConfirmReqDto reqDto, Map<String, Object> responseBody) {
+        log.info("=== DB 업데이트 시작 ===");
+        
+        String orderNum = (String) responseBody.get("orderId");  // mongsom_100023
+        String method = (String) responseBody.get("method");  // "카드"
+        Integer totalAmount = (Integer) responseBody.get("totalAmount");  // 68000
+        String paymentKey = (String) responseBody.get("paymentKey");  // "tviva20250929143411SGeO6"
+        
+        log.info("orderNum: {}, method: {}, totalAmount: {}, paymentKey: {}", 
+                orderNum, method, totalAmount, paymentKey);
+        
+        // 1. orderNum으로 주문 조회
+        Optional<OrderItem> orderItemOpt = orderItemRepository.findByOrderNum(orderNum);
+        
+        if (orderItemOpt.isEmpty()) {
+            log.error("주문을 찾을 수 없음 - orderNum: {}", orderNum);
+            throw new ConfirmApplyException("주문을 찾을 수 없습니다.");
+        }
+        
+        OrderItem orderItem = orderItemOpt.get();
+        Integer orderId = orderItem.getOrderId();
+        Long userCode = orderItem.getUserCode();
+        Integer usedMileage = orderItem.getUsedMileage();
+        
+        log.info("주문 조회 성공 - orderId: {}, userCode: {}, usedMileage: {}", 
+                orderId, userCode, usedMileage);
+        
+        // 2. 마일리지 차감 처리 (결제 승인과 동시에)
+        if (usedMileage > 0) {
+            log.info("=== 마일리지 차감 처리 시작 ===");
+            boolean mileageDeducted = mileageService.deduct(userCode, usedMileage, MileageLedger.REASON_ORDER_USE, orderId);
+            
+            if (!mileageDeducted) {
+                log.error("마일리지 차감 실패 - userCode: {}, usedMileage: {}", userCode, usedMileage);
+                throw new ConfirmApplyException("마일리지 차감에 실패했습니다.");
             }
+            
+            log.info("마일리지 차감 완료 - userCode: {}, 차감금액: {}", userCode, usedMileage);
+        } else {
+            log.info("사용한 마일리지 없음 - usedMileage: {}", usedMileage);
+        }
+        
+        // 3. OrderItem 업데이트
+        String previousStatus = orderItem.getDeliveryStatus();
+        LocalDateTime previousPaymentAt = orderItem.getPaymentAt();
+        orderItem.setDeliveryStatus("결제완료");
+        orderItem.setPaymentAt(LocalDateTime.now());
+        orderItemRepository.save(orderItem);
+        
+        log.info("OrderItem 업데이트 완료 - orderId: {}, deliveryStatus: 결제완료", orderId);
+        
+        // 4. Payments 조회
+        List<Payments> paymentList = paymentsRepository.findByOrderId(orderId);
+        
+        if (paymentList == null || paymentList.isEmpty()) {
+            log.error("결제 정보를 찾을 수 없음 - orderId: {}", orderId);
+            throw new ConfirmApplyException("결제 정보를 찾을 수 없습니다.");
+        }
+        
+        // 5. Payments 업데이트 (카드사명 매핑 포함)
+        for (Payments payment : paymentList) {
+            // 카드사 정보 추출
+            String paymentMethodInfo = extractPaymentMethodInfo(responseBody);
+            
+            payment.setPaymentMethod(paymentMethodInfo);
+            payment.setPaymentAmount(totalAmount);
+            payment.setPaymentStatus("결제완료");
+            payment.setPaymentKey(paymentKey);
+            paymentsRepository.save(payment);
+            
+            log.info("Payments 업데이트 완료 - paymentId: {}, orderId: {}, method: {}, amount: {}, status: 결제완료", 
+                    payment.getPaymentId(), orderId, paymentMethodInfo, totalAmount);
+        }
+        
+        // 6. 결제 완료 이벤트 (배송 건수/장바구니 삭제는 이벤트 소비자가 처리)
+        domainEventPublisher.publish(DomainEvent.paymentConfirmed(orderId, userCode, previousStatus, previousPaymentAt,
+                orderItem.getDeliveryStatus(), orderItem.getPaymentAt()));
+        
+        log.info("=== DB 업데이트 완료 ===");
+        
+        return RespDto.<String>builder()
+                .code(1)
+                .data("결제가 승인되었습니다.")
+                .build();
+    }
 
-        } catch (HttpClientErrorException e) {
+    /**
+     * 결제 승인 실패 응답 생성 (PG 오류 / 타임아웃 / DB 오류)
+     */
+    private RespDto<String> confirmFailure(Throwable throwable) {
+        Throwable e = unwrap(throwable);
+
+        if (e instanceof TossPaymentClient.TossApiException apiException) {
             log.error("토스페이먼츠 API 호출 실패", e);
-            log.error("Status Code: {}", e.getStatusCode());
-            log.error("Response Body: {}", e.getResponseBodyAsString());
+            log.error("Status Code: {}", apiException.getStatusCode());
+            log.error("Response Body: {}", apiException.getResponseBody());
             
             return RespDto.<String>builder()
                     .code(-1)
-                    .data("토스페이먼츠 API 호출 실패: " + e.getStatusCode())
+                    .data("토스페이먼츠 API 호출 실패: " + apiException.getStatusCode())
                     .build();
-                    
-        } catch (Exception e) {
-            log.error("결제 승인 처리 중 오류 발생", e);
+        }
+
+        if (e instanceof ConfirmApplyException) {
+            log.error("PG 승인 완료 건 DB 반영 실패 (재시도 시 다시 반영) - {}", e.getMessage());
             
             return RespDto.<String>builder()
                     .code(-1)
-                    .data("결제 승인 처리 중 오류 발생: " + e.getMessage())
+                    .data(e.getMessage())
                     .build();
         }
-    }
-    
-    /**
-     * 사용자 마일리지 차감 처리
-     */
-    private boolean deductUserMileage(Long userCode, Integer usedMileage) {
-        try {
-            log.info("마일리지 차감 시작 - userCode: {}, 차감금액: {}", userCode, usedMileage);
-            
-            // 1. 사용자 조회
-            Optional<User> userOpt = userRepository.findUserByUserCode(userCode);
-            if (userOpt.isEmpty()) {
-                log.error("사용자를 찾을 수 없음 - userCode: {}", userCode);
-                return false;
-            }
-            
-            User user = userOpt.get();
-            Integer currentMileage = user.getMileage();
-            
-            log.info("현재 마일리지 - userCode: {}, 보유: {}, 사용: {}", userCode, currentMileage, usedMileage);
-            
-            // 2. 마일리지 부족 재확인
-            if (currentMileage < usedMileage) {
-                log.error("마일리지 부족 - userCode: {}, 보유: {}, 사용요청: {}", userCode, currentMileage, usedMileage);
-                return false;
-            }
-            
-            // 3. 마일리지 차감
-            Integer newMileage = currentMileage - usedMileage;
-            user.setMileage(newMileage);
-            userRepository.save(user);
-            
-            log.info("마일리지 차감 완료 - userCode: {}, 기존: {} → 변경: {} (차감: {})", 
-                    userCode, currentMileage, newMileage, usedMileage);
-            
-            return true;
+
+        if (e instanceof HttpTimeoutException) {
+            log.error("토스페이먼츠 응답 시간 초과", e);
             
-        } catch (Exception e) {
-            log.error("마일리지 차감 중 오류 발생 - userCode: {}, usedMileage: {}", userCode, usedMileage, e);
-            return false;
+            return RespDto.<String>builder()
+                    .code(-1)
+                    .data("토스페이먼츠 응답 시간이 초과되었습니다.")
+                    .build();
         }
+
+        log.error("결제 승인 처리 중 오류 발생", e);
+        
+        return RespDto.<String>builder()
+                .code(-1)
+                .data("결제 승인 처리 중 오류 발생: " + e.getMessage())
+                .build();
     }
     
     /**
      * 토스페이먼츠 결제 조회 (paymentKey 사용)
      */
-    public Map<String, Object> getPaymentByKey(String paymentKey) {
+    public CompletableFuture<Map<String, Object>> getPaymentByKey(String paymentKey) {
+        log.info("=== 토스페이먼츠 결제 조회 요청 시작 ===");
+        log.info("paymentKey: {}", paymentKey);
+        
+        return tossPaymentClient.getPayment(paymentKey)
+                .thenApply(responseBody -> {
+                    logResponse("토스페이먼츠 결제 조회 응답", responseBody);
+                    return responseBody;
+                })
+                .exceptionally(throwable -> {
+                    Throwable e = unwrap(throwable);
+                    log.error("토스페이먼츠 결제 조회 실패", e);
+                    
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("error", true);
+                    errorResponse.put("message", e.getMessage());
+                    
+                    return errorResponse;
+                });
+    }
+    
+    private void logResponse(String title, Map<String, Object> responseBody) {
         try {
-            log.info("=== 토스페이먼츠 결제 조회 요청 시작 ===");
-            log.info("paymentKey: {}", paymentKey);
-            
-            // 1. 토스페이먼츠 API 엔드포인트
-            String url = "https://api.tosspayments.com/v1/payments/" + paymentKey;
-            
-            // 2. 인증 헤더 생성 (Secret Key를 Base64 인코딩)
-            String encodedAuth = Base64.getEncoder()
-                    .encodeToString((tossSecretKey + ":").getBytes());
-            
-            // 3. 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Basic " + encodedAuth);
-            
-            // 4. HTTP 요청 생성
-            HttpEntity<Void> request = new HttpEntity<>(headers);
-            
-            // 5. 토스페이먼츠 API 호출 (GET)
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url, 
-                    HttpMethod.GET, 
-                    request, 
-                    Map.class
-            );
-            
-            // 6. 응답 로깅
-            log.info("=== 토스페이먼츠 결제 조회 응답 ===");
-            log.info("Status Code: {}", response.getStatusCode());
-            log.info("Response Body: {}", objectMapper.writeValueAsString(response.getBody()));
-            
-            return response.getBody();
-            
+            log.info("=== {} ===", title);
+            log.info("Response Body: {}", objectMapper.writeValueAsString(responseBody));
         } catch (Exception e) {
-            log.error("토스페이먼츠 결제 조회 실패", e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", true);
-            errorResponse.put("message", e.getMessage());
-            
-            return errorResponse;
+            log.warn("응답 로깅 실패", e);
+        }
+    }
+    
+    private Throwable unwrap(Throwable throwable) {
+        Throwable e = throwable;
+        while ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            e = e.getCause();
         }
+        return e;
     }
     
     /**
@@ -400,4 +453,14 @@ public class PaymentService {
         String cardCompanyName = CARD_ISSUER_MAP.get(issuerCode);
         return cardCompanyName != null ? cardCompanyName : "카드(" + issuerCode + ")";
     }
+    
+    /**
+     * PG 승인 완료 후 DB 반영 실패 (트랜잭션 롤백, 결과 확정 없이 선점 해제)
+     */
+    static class ConfirmApplyException extends RuntimeException {
+        
+        ConfirmApplyException(String message) {
+            super(message);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.mongsom.dev.service;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.mongsom.dev.dto.admin.product.respDto.ProductCacheStatsRespDto;
+import com.mongsom.dev.dto.product.respDto.ProductDetailRespDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 상세(ProductDetailRespDto) 인메모리 캐시
+ * 크기/TTL 기준으로 만료되며, 관리자 상품 수정 시 명시적으로 무효화
+ */
+@Component
+@Slf4j
+public class ProductDetailCache {
+    
+    private final Cache<Integer, ProductDetailRespDto> cache;
+    private final long maxSize;
+    private final long ttlSeconds;
+    
+    @Autowired
+    public ProductDetailCache(@Value("${product.detail-cache.max-size:1000}") long maxSize,
+                              @Value("${product.detail-cache.ttl-seconds:600}") long ttlSeconds) {
+        this(maxSize, ttlSeconds, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+    
+    // 테스트용 (만료 기준 시각, 크기 초과 정리 실행 스레드 지정)
+    ProductDetailCache(long maxSize, long ttlSeconds, Ticker ticker, Executor executor) {
+        this.maxSize = maxSize;
+        this.ttlSeconds = ttlSeconds;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats()
+                .build();
+    }
+    
+    /**
+     * 캐시 조회 (없으면 null)
+     */
+    public ProductDetailRespDto get(Integer productId) {
+        return cache.getIfPresent(productId);
+    }
+    
+    /**
+     * 조립된 상품 상세 저장 (정상 판매 중인 상품만 저장)
+     */
+    public void put(Integer productId, ProductDetailRespDto productDetail) {
+        cache.put(productId, productDetail);
+    }
+    
+    /**
+     * 상품 캐시 무효화 (즉시 + 트랜잭션 커밋 후 한 번 더)
+     * 커밋 전 다른 요청이 이전 데이터로 다시 채우는 경우를 막기 위해 커밋 후에도 제거
+     */
+    public void evict(Integer productId) {
+        if (productId == null) {
+            return;
+        }
+        
+        cache.invalidate(productId);
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(productId);
+                }
+            });
+        }
+        
+        log.debug("상품 상세 캐시 무효화 - productId: {}", productId);
+    }
+    
+    /**
+     * 전체 무효화
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+    
+    /**
+     * 캐시 적중/미스/만료 통계
+     */
+    public ProductCacheStatsRespDto getStats() {
+        CacheStats stats = cache.stats();
+        return ProductCacheStatsRespDto.builder()
+                .size(cache.estimatedSize())
+                .maxSize(maxSize)
+                .ttlSeconds(ttlSeconds)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
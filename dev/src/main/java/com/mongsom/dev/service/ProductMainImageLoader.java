@@ -0,0 +1,49 @@
+package com.mongsom.dev.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.mongsom.dev.entity.ProductImg;
+import com.mongsom.dev.repository.ProductImgRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품별 대표 이미지(가장 먼저 등록된 이미지) 일괄 조회 (목록/장바구니/주문 화면 공용)
+ * 상품 수와 관계없이 IN 쿼리 한 번
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductMainImageLoader {
+
+    private final ProductImgRepository productImgRepository;
+
+    /**
+     * @param items       상품 ID를 가진 항목 (상품, 장바구니, 주문 상세 등)
+     * @param productIdOf 항목 → 상품 ID
+     * @return 상품 ID → 대표 이미지 URL (이미지가 없는 상품은 없음)
+     */
+    public <T> Map<Integer, String> load(Collection<T> items, Function<T, Integer> productIdOf) {
+        List<Integer> productIds = items.stream()
+                .map(productIdOf)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Integer, String> mainImages = new HashMap<>();
+        for (ProductImg img : productImgRepository.findByProductIdInOrderByProductIdAndCreatedAt(productIds)) {
+            mainImages.putIfAbsent(img.getProductId(), img.getProductImgUrl());
+        }
+        return mainImages;
+    }
+}
@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,18 +19,21 @@ import com.mongsom.dev.dto.product.reqDto.ProductListReqDto;
 import com.mongsom.dev.dto.product.respDto.ProductDetailRespDto;
 import com.mongsom.dev.dto.product.respDto.ProductListRespDto;
 import com.mongsom.dev.dto.product.respDto.ProductReviewRespDto;
+import com.mongsom.dev.dto.product.respDto.ReviewSummaryRespDto;
 import com.mongsom.dev.entity.Product;
 import com.mongsom.dev.entity.ProductImg;
 import com.mongsom.dev.entity.ProductOptionType;
 import com.mongsom.dev.entity.ProductOptionValue;
 import com.mongsom.dev.entity.ReviewImg;
 import com.mongsom.dev.entity.UserReview;
-import com.mongsom.dev.repository.OrderDetailRepository;
 import com.mongsom.dev.repository.ProductImgRepository;
 import com.mongsom.dev.repository.ProductOptionTypeRepository;
 import com.mongsom.dev.repository.ProductRepository;
 import com.mongsom.dev.repository.ReviewImgRepository;
 import com.mongsom.dev.repository.UserReviewRepository;
+import com.mongsom.dev.service.search.SearchDocType;
+import com.mongsom.dev.service.search.SearchIndexService;
+import com.mongsom.dev.service.search.SearchTokenizer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,8 +47,11 @@ public class ProductService {
     private final UserReviewRepository userReviewRepository;
     private final ReviewImgRepository reviewImgRepository;
     private final ProductImgRepository productImgRepository;
-    private final OrderDetailRepository orderDetailRepository;
     private final ProductOptionTypeRepository productOptionTypeRepository;
+    private final ProductStatsLoader productStatsLoader;
+    private final ProductDetailCache productDetailCache;
+    private final ProductStatsService productStatsService;
+    private final SearchIndexService searchIndexService;
     
     /**
      * 상품 목록 조회 (전체/프리미엄, 정렬별)
@@ -60,12 +67,16 @@ public class ProductService {
             // 2. 조건에 따른 상품 조회
             Page<Product> productPage = getProductPageByCondition(reqDto, pageable);
             
-            // 3. DTO 변환
+            // 3. 리뷰/주문 개수, 대표 이미지 일괄 조회 (N+1 방지)
+            Map<Integer, ProductStatsLoader.StatsView> statsMap = productStatsLoader.load(productPage.getContent());
+            
+            // 4. DTO 변환
             List<ProductListRespDto.ProductItemDto> productItems = productPage.getContent().stream()
-                    .map(this::convertToProductItemDto)
+                    .map(product -> convertToProductItemDto(product,
+                            statsMap.getOrDefault(product.getProductId(), ProductStatsLoader.StatsView.empty())))
                     .collect(Collectors.toList());
             
-            // 4. 응답 생성
+            // 5. 응답 생성
             ProductListRespDto responseData = ProductListRespDto.from(
                     productItems, 
                     productPage, 
@@ -92,6 +103,52 @@ public class ProductService {
         }
     }
 
+    /**
+     * 상품 검색 (검색 색인, 관련도순)
+     * 한 글자 검색어는 색인 토큰과 맞지 않으므로 상품명 LIKE 검색(최신순)
+     */
+    @Transactional(readOnly = true)
+    public RespDto<ProductListRespDto> searchProducts(String keyword, Pageable pageable) {
+        try {
+            log.info("상품 검색 시작 - keyword: {}, page: {}, size: {}",
+                    keyword, pageable.getPageNumber(), pageable.getPageSize());
+            
+            Page<Product> productPage;
+            if (SearchTokenizer.isSearchable(keyword)) {
+                Page<Integer> productIds = searchIndexService.search(SearchDocType.PRODUCT, keyword, pageable);
+                // 색인 반영 전에 판매중단/삭제된 상품은 제외
+                List<Product> products = productRepository.findAllById(productIds.getContent()).stream()
+                        .filter(product -> product.getDeleteStatus() == 0 && product.getIsAvailable() == 1)
+                        .collect(Collectors.toList());
+                productPage = SearchIndexService.toPage(productIds, products, Product::getProductId);
+            } else {
+                productPage = productRepository.findByNameContainingAndDeleteStatusAndIsAvailable(keyword, 0, 1,
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                                Sort.by(Sort.Direction.DESC, "createdAt")));
+            }
+            
+            Map<Integer, ProductStatsLoader.StatsView> statsMap = productStatsLoader.load(productPage.getContent());
+            List<ProductListRespDto.ProductItemDto> productItems = productPage.getContent().stream()
+                    .map(product -> convertToProductItemDto(product,
+                            statsMap.getOrDefault(product.getProductId(), ProductStatsLoader.StatsView.empty())))
+                    .collect(Collectors.toList());
+            
+            log.info("상품 검색 완료 - keyword: {}, 총 개수: {}", keyword, productPage.getTotalElements());
+            
+            return RespDto.<ProductListRespDto>builder()
+                    .code(1)
+                    .data(ProductListRespDto.from(productItems, productPage, null, "relevance"))
+                    .build();
+            
+        } catch (Exception e) {
+            log.error("상품 검색 실패 - keyword: {}", keyword, e);
+            return RespDto.<ProductListRespDto>builder()
+                    .code(-1)
+                    .data(null)
+                    .build();
+        }
+    }
+
     /**
      * 조건에 따른 상품 페이지 조회
      */
@@ -129,19 +186,7 @@ public class ProductService {
     /**
      * Product 엔티티를 ProductItemDto로 변환
      */
-    private ProductListRespDto.ProductItemDto convertToProductItemDto(Product product) {
-        // 대표 이미지 조회 (첫 번째 이미지)
-        String mainImageUrl = null;
-        if (product.getProductImages() != null && !product.getProductImages().isEmpty()) {
-            mainImageUrl = product.getProductImages().get(0).getProductImgUrl();
-        }
-        
-        // 리뷰 개수 조회 (별도 쿼리 또는 연관관계로)
-        Integer reviewCount = getReviewCount(product.getProductId());
-        
-        // 주문 개수 조회 (별도 쿼리 또는 연관관계로)  
-        Integer orderCount = getOrderCount(product.getProductId());
-        
+    private ProductListRespDto.ProductItemDto convertToProductItemDto(Product product, ProductStatsLoader.StatsView stats) {
         return ProductListRespDto.ProductItemDto.builder()
                 .productId(product.getProductId())
                 .name(product.getName())
@@ -151,36 +196,13 @@ public class ProductService {
                 .discountPer(product.getDiscountPer())
                 .premium(product.getPremium())
                 .stockStatus(product.getStockStatus())
-                .mainImageUrl(mainImageUrl)
-                .reviewCount(reviewCount)
-                .orderCount(orderCount)
+                .mainImageUrl(stats.getMainImageUrl())
+                .reviewCount(stats.getReviewCount())
+                .averageRating(stats.getAverageRating())
+                .orderCount(stats.getOrderCount())
                 .build();
     }
 
-    /**
-     * 상품의 리뷰 개수 조회
-     */
-    private Integer getReviewCount(Integer productId) {
-        try {
-            return Math.toIntExact(userReviewRepository.countByProductId(productId));
-        } catch (Exception e) {
-            log.warn("리뷰 개수 조회 실패 - productId: {}", productId);
-            return 0;
-        }
-    }
-
-    /**
-     * 상품의 주문 개수 조회  
-     */
-    private Integer getOrderCount(Integer productId) {
-        try {
-            return Math.toIntExact(orderDetailRepository.countByProductIdAndOrderStatus(productId, 0));
-        } catch (Exception e) {
-            log.warn("주문 개수 조회 실패 - productId: {}", productId);
-            return 0;
-        }
-    }
-
     /**
      * 상품 상세 조회 (수정된 버전)
      */
@@ -188,6 +210,16 @@ public class ProductService {
         try {
             log.info("상품 상세 조회 시작 - productId: {}", productId);
             
+            // 0. 캐시 조회 (관리자 수정 시 무효화됨)
+            ProductDetailRespDto cachedDetail = productDetailCache.get(productId);
+            if (cachedDetail != null) {
+                log.info("상품 상세 캐시 적중 - productId: {}", productId);
+                return RespDto.<ProductDetailRespDto>builder()
+                        .code(1)
+                        .data(cachedDetail)
+                        .build();
+            }
+            
             // 1. 기본 상품 조회 (상태 체크용)
             Optional<Product> productOpt = productRepository.findByIdOnly(productId);
             if (productOpt.isEmpty()) {
@@ -227,6 +259,8 @@ public class ProductService {
             
             // 6. DTO 변환
             ProductDetailRespDto productDetail = convertToProductDetailDto(product, optionTypes);
+            productDetail.setReviewSummary(productStatsService.getReviewSummary(productId));
+            productDetailCache.put(productId, productDetail);
             
             log.info("상품 상세 조회 완료 - productId: {}, 상품명: {}, 옵션타입 수: {}", 
                     productId, product.getName(), optionTypes.size());
@@ -337,10 +371,14 @@ public class ProductService {
 	            reviewPage = userReviewRepository.findByProductIdOrderByCreatedAtDesc(productCode, pageable);
 	        }
 	        
+	        // 리뷰 요약 (집계 테이블)
+	        ReviewSummaryRespDto summary = productStatsService.getReviewSummary(productCode);
+	        
 	        if (reviewPage.isEmpty()) {
 	            return RespDto.<ProductReviewRespDto>builder()
 	                    .code(1)
 	                    .data(ProductReviewRespDto.builder()
+	                            .summary(summary)
 	                            .items(List.of())
 	                            .pagination(ProductReviewRespDto.PaginationDto.from(reviewPage))
 	                            .build())
@@ -376,6 +414,7 @@ public class ProductService {
 	                .collect(Collectors.toList());
 	        
 	        ProductReviewRespDto productReviewRespDto = ProductReviewRespDto.from(reviewItems, reviewPage);
+	        productReviewRespDto.setSummary(summary);
 	        
 	        log.info("상품 리뷰 조회 성공 - productCode: {}, sortBy: {}, 조회된 리뷰 수: {}", 
 	                productCode, sortBy, reviewItems.size());
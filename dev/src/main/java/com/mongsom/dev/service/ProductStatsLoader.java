@@ -0,0 +1,97 @@
+package com.mongsom.dev.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.mongsom.dev.dto.product.respDto.ReviewSummaryRespDto;
+import com.mongsom.dev.entity.Product;
+import com.mongsom.dev.entity.ProductStats;
+import com.mongsom.dev.repository.ProductStatsRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 목록용 통계(리뷰 개수, 평균 평점, 주문 개수, 대표 이미지) 일괄 조회
+ * 집계 테이블(product_stats) PK 조회 1회 + 대표 이미지 조회 1회로 처리 (N+1 방지)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductStatsLoader {
+
+    private final ProductStatsRepository productStatsRepository;
+    private final ProductMainImageLoader productMainImageLoader;
+
+    /**
+     * 상품 목록의 통계를 상품 ID별로 조회
+     */
+    public Map<Integer, StatsView> load(List<Product> products) {
+        if (products == null || products.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Integer> productIds = products.stream()
+                .map(Product::getProductId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        // 1. 리뷰 개수/평균 평점/주문 개수 (집계 테이블)
+        Map<Integer, ProductStats> aggregateMap = new HashMap<>();
+        for (ProductStats aggregate : productStatsRepository.findAllById(productIds)) {
+            aggregateMap.put(aggregate.getProductId(), aggregate);
+        }
+
+        // 2. 대표 이미지 (상품별 첫 번째 이미지)
+        Map<Integer, String> mainImageMap = productMainImageLoader.load(productIds, Function.identity());
+
+        Map<Integer, StatsView> statsMap = new HashMap<>();
+        for (Integer productId : productIds) {
+            ProductStats aggregate = aggregateMap.get(productId);
+            if (aggregate == null) {
+                statsMap.put(productId, StatsView.builder()
+                        .reviewCount(0)
+                        .averageRating(0.0)
+                        .orderCount(0)
+                        .mainImageUrl(mainImageMap.get(productId))
+                        .build());
+                continue;
+            }
+            statsMap.put(productId, StatsView.builder()
+                    .reviewCount(aggregate.getReviewCount())
+                    .averageRating(ReviewSummaryRespDto.averageRating(aggregate))
+                    .orderCount(aggregate.getOrderCount())
+                    .mainImageUrl(mainImageMap.get(productId))
+                    .build());
+        }
+
+        log.debug("상품 통계 일괄 조회 완료 - 상품 수: {}", productIds.size());
+        return statsMap;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class StatsView {
+        private Integer reviewCount;
+        private Double averageRating;
+        private Integer orderCount;
+        private String mainImageUrl;
+
+        public static StatsView empty() {
+            return StatsView.builder()
+                    .reviewCount(0)
+                    .averageRating(0.0)
+                    .orderCount(0)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.mongsom.dev.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.mongsom.dev.dto.product.respDto.ReviewSummaryRespDto;
+import com.mongsom.dev.entity.OrderDetail;
+import com.mongsom.dev.repository.ProductStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 인기순/리뷰많은순 정렬 및 리뷰 요약(평균 평점, 평점 분포, 포토 리뷰/QNA 수)용 집계(product_stats) 관리
+ * 주문/리뷰/QNA 변경 시 호출자의 트랜잭션 안에서 증감하고, 매일 원본과 대사해 어긋난 상품만 재계산
+ * 증감 실패는 호출자 트랜잭션과 함께 롤백되도록 예외를 그대로 전달 (잡아도 트랜잭션은 이미 롤백 대상)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductStatsService {
+    
+    private static final int REVIEW_DELTA_SIZE = 9;
+    private static final int DRIFT_LOG_LIMIT = 20;
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+    
+    private final ProductStatsRepository productStatsRepository;
+    private final ProductDetailCache productDetailCache;
+    
+    /**
+     * 상품 등록 시 집계 행 생성
+     */
+    public void initProduct(Integer productId) {
+        productStatsRepository.insertIfAbsent(productId);
+    }
+    
+    /**
+     * 주문 상세 생성 (정상 주문 상품별 +건수)
+     */
+    public void orderDetailsPlaced(Collection<OrderDetail> orderDetails) {
+        applyOrderDelta(orderDetails, 1);
+    }
+    
+    /**
+     * 주문 상세 취소/삭제 (정상 주문이던 상품별 -건수)
+     */
+    public void orderDetailsRemoved(Collection<OrderDetail> orderDetails) {
+        applyOrderDelta(orderDetails, -1);
+    }
+    
+    /**
+     * 단일 상품 주문 개수 증감
+     */
+    public void addOrderCount(Integer productId, int delta) {
+        productStatsRepository.addOrderCount(productId, delta);
+    }
+    
+    /**
+     * 노출 리뷰 추가 (작성/숨김해제)
+     */
+    public void reviewAdded(Integer productId, Integer rating, boolean hasPhoto) {
+        int[] delta = new int[REVIEW_DELTA_SIZE];
+        addReviewDelta(delta, rating, hasPhoto, 1);
+        applyReviewDelta(productId, delta);
+    }
+    
+    /**
+     * 노출 리뷰 제외 (삭제/숨김)
+     */
+    public void reviewRemoved(Integer productId, Integer rating, boolean hasPhoto) {
+        int[] delta = new int[REVIEW_DELTA_SIZE];
+        addReviewDelta(delta, rating, hasPhoto, -1);
+        applyReviewDelta(productId, delta);
+    }
+    
+    /**
+     * 노출 리뷰 수정 (평점/이미지 변경분만 반영)
+     */
+    public void reviewUpdated(Integer productId, Integer oldRating, boolean oldHasPhoto,
+                              Integer newRating, boolean newHasPhoto) {
+        int[] delta = new int[REVIEW_DELTA_SIZE];
+        addReviewDelta(delta, oldRating, oldHasPhoto, -1);
+        addReviewDelta(delta, newRating, newHasPhoto, 1);
+        applyReviewDelta(productId, delta);
+    }
+    
+    /**
+     * QNA 개수 증감 (작성/삭제)
+     */
+    public void addQnaCount(Integer productId, int delta) {
+        if (productId == null) {
+            return;
+        }
+        productStatsRepository.addQnaCount(productId, delta);
+        productDetailCache.evict(productId);
+    }
+    
+    /**
+     * 상품 리뷰 요약 조회 (집계 행이 없으면 0건)
+     */
+    public ReviewSummaryRespDto getReviewSummary(Integer productId) {
+        return productStatsRepository.findById(productId)
+                .map(ReviewSummaryRespDto::from)
+                .orElseGet(ReviewSummaryRespDto::empty);
+    }
+    
+    /**
+     * 집계 대사 (매일 새벽 4시)
+     * 원본 테이블로 다시 계산한 값과 다른 상품을 찾아 기록하고 해당 상품만 재계산
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        List<Integer> driftedProductIds = productStatsRepository.findDriftedProductIds();
+        if (driftedProductIds.isEmpty()) {
+            log.info("상품 집계 대사 완료 - 불일치 없음, 소요: {}ms", System.currentTimeMillis() - start);
+            return;
+        }
+        
+        log.warn("상품 집계 불일치 감지 - 상품 수: {}, 상품 ID(최대 {}개): {}", driftedProductIds.size(),
+                DRIFT_LOG_LIMIT, driftedProductIds.subList(0, Math.min(DRIFT_LOG_LIMIT, driftedProductIds.size())));
+        
+        int affected = 0;
+        for (int from = 0; from < driftedProductIds.size(); from += REBUILD_CHUNK_SIZE) {
+            List<Integer> chunk = driftedProductIds.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, driftedProductIds.size()));
+            affected += productStatsRepository.rebuildByProductIdIn(chunk);
+            chunk.forEach(productDetailCache::evict);
+        }
+        log.info("상품 집계 대사 완료 - 보정 행: {}, 소요: {}ms", affected, System.currentTimeMillis() - start);
+    }
+    
+    /**
+     * 기동 시 집계 행이 없는 상품만 생성 (최초 배포 시 전체 생성, 이후는 대부분 0건)
+     * 인기순/리뷰많은순은 product_stats 기준 INNER JOIN이라 행이 없으면 목록에서 빠짐
+     * 기존 행은 덮어쓰지 않으므로 기동 중 증감분이 사라지지 않고, 값 오차는 새벽 대사에서 보정
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            long start = System.currentTimeMillis();
+            int inserted = productStatsRepository.insertMissing();
+            log.info("상품 집계 누락 행 생성 완료 - 생성 행: {}, 소요: {}ms", inserted, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("기동 시 상품 집계 누락 행 생성 실패", e);
+        }
+    }
+    
+    // [리뷰 수, 평점 합, 평점 있는 리뷰 수, 1점, 2점, 3점, 4점, 5점, 포토 리뷰 수]
+    private void addReviewDelta(int[] delta, Integer rating, boolean hasPhoto, int sign) {
+        delta[0] += sign;
+        if (rating != null && rating >= 1 && rating <= 5) {
+            delta[1] += sign * rating;
+            delta[2] += sign;
+            delta[2 + rating] += sign;
+        }
+        if (hasPhoto) {
+            delta[8] += sign;
+        }
+    }
+    
+    private void applyReviewDelta(Integer productId, int[] delta) {
+        if (Arrays.stream(delta).allMatch(value -> value == 0)) {
+            return;
+        }
+        productStatsRepository.addReviewSummary(productId, delta[0], delta[1], delta[2],
+                delta[3], delta[4], delta[5], delta[6], delta[7], delta[8]);
+        productDetailCache.evict(productId);
+    }
+    
+    private void applyOrderDelta(Collection<OrderDetail> orderDetails, int sign) {
+        if (orderDetails == null || orderDetails.isEmpty()) {
+            return;
+        }
+        
+        // 정상 주문(order_status = 0)만 인기도에 반영
+        Map<Integer, Long> countByProduct = orderDetails.stream()
+                .filter(detail -> detail.getOrderStatus() == null || detail.getOrderStatus() == 0)
+                .collect(Collectors.groupingBy(OrderDetail::getProductId, Collectors.counting()));
+        
+        countByProduct.forEach((productId, count) -> addOrderCount(productId, sign * count.intValue()));
+    }
+}
@@ -21,6 +21,9 @@ import com.mongsom.dev.entity.Qna;
 import com.mongsom.dev.entity.User;
 import com.mongsom.dev.repository.QnaRepository;
 import com.mongsom.dev.repository.UserRepository;
+import com.mongsom.dev.service.search.SearchDocType;
+import com.mongsom.dev.service.search.SearchIndexService;
+import com.mongsom.dev.service.search.SearchTokenizer;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +36,8 @@ public class QnaService {
     
     private final QnaRepository qnaRepository;
     private final UserRepository userRepository;
+    private final ProductStatsService productStatsService;
+    private final SearchIndexService searchIndexService;
     
     /**
      * QNA 목록 조회 (페이징)
@@ -86,6 +91,57 @@ public class QnaService {
         }
     }
     
+    /**
+     * QNA 검색 (제목/내용, 관련도순 페이징)
+     * 비밀글은 제목만 색인되어 있음, 한 글자 검색어는 제목 LIKE 검색(최신순)
+     */
+    @Transactional
+    public RespDto<QnaListRespDto> searchQna(String keyword, Pageable pageable) {
+        try {
+            log.info("QNA 검색 시작 - keyword: {}, page: {}, size: {}", 
+                    keyword, pageable.getPageNumber(), pageable.getPageSize());
+            
+            Page<Qna> qnaPage;
+            if (SearchTokenizer.isSearchable(keyword)) {
+                Page<Integer> qnaCodes = searchIndexService.search(SearchDocType.QNA, keyword, pageable);
+                qnaPage = SearchIndexService.toPage(qnaCodes,
+                        qnaRepository.findAllById(qnaCodes.getContent()), Qna::getQnaCode);
+            } else {
+                qnaPage = qnaRepository.findByQnaTitleContainingOrderByCreatedAtDesc(keyword, pageable);
+            }
+            
+            List<QnaListRespDto.QnaItemDto> qnaList = qnaPage.getContent()
+                    .stream()
+                    .map(this::convertToQnaItemDto)
+                    .collect(Collectors.toList());
+            
+            QnaListRespDto.PaginationInfo pagination = QnaListRespDto.PaginationInfo.builder()
+                    .currentPage(qnaPage.getNumber())
+                    .pageSize(qnaPage.getSize())
+                    .totalPages(qnaPage.getTotalPages())
+                    .totalElements(qnaPage.getTotalElements())
+                    .hasNext(qnaPage.hasNext())
+                    .hasPrevious(qnaPage.hasPrevious())
+                    .build();
+            
+            log.info("QNA 검색 완료 - keyword: {}, 총 {}건", keyword, qnaPage.getTotalElements());
+            
+            return RespDto.<QnaListRespDto>builder()
+                    .code(1)
+                    .data(QnaListRespDto.builder()
+                            .qnaList(qnaList)
+                            .pagination(pagination)
+                            .build())
+                    .build();
+            
+        } catch (Exception e) {
+            log.error("QNA 검색 실패 - keyword: {}", keyword, e);
+            return RespDto.<QnaListRespDto>builder()
+                    .code(-1)
+                    .build();
+        }
+    }
+    
     /**
      * Qna 엔티티를 QnaItemDto로 변환 (수정됨)
      */
@@ -264,6 +320,8 @@ public class QnaService {
             
             // 저장
             Qna savedQna = qnaRepository.save(qna);
+            productStatsService.addQnaCount(savedQna.getProductCode(), 1);
+            searchIndexService.indexQna(savedQna);
             
             log.info("QNA 생성 완료 - qnaCode: {}, title: {}", 
                     savedQna.getQnaCode(), savedQna.getQnaTitle());
@@ -321,6 +379,7 @@ public class QnaService {
             qna.setOrderId(reqDto.getOrderId());
             qna.setLockStatus(reqDto.getLockStatus());
             qnaRepository.save(qna);
+            searchIndexService.indexQna(qna);
             
             log.info("QNA 수정 완료 - qnaCode: {}, title: {}", 
                     reqDto.getQnaCode(), qna.getQnaTitle());
@@ -371,6 +430,8 @@ public class QnaService {
             
             // 하드 딜리트
             qnaRepository.delete(qna);
+            productStatsService.addQnaCount(qna.getProductCode(), -1);
+            searchIndexService.remove(SearchDocType.QNA, qnaCode);
             
             log.info("QNA 삭제 완료 - qnaCode: {}, title: {}", qnaCode, qna.getQnaTitle());
             
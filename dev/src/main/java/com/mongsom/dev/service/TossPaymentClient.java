@@ -0,0 +1,165 @@
+package com.mongsom.dev.service;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토스페이먼츠 API 전용 클라이언트
+ * - keep-alive 커넥션 재사용 (JDK HttpClient 내부 풀)
+ * - 연결/응답 타임아웃
+ * - 동시 요청 수 제한 (초과 시 대기 후 거절)
+ * DB 트랜잭션 밖에서 호출할 것
+ */
+@Component
+@Slf4j
+public class TossPaymentClient {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String authorization;
+    private final Duration readTimeout;
+    private final long acquireTimeoutMs;
+    private final Semaphore permits;
+
+    public TossPaymentClient(ObjectMapper objectMapper,
+                             @Value("${toss.secret-key}") String secretKey,
+                             @Value("${toss.base-url:https://api.tosspayments.com}") String baseUrl,
+                             @Value("${toss.connect-timeout-ms:3000}") long connectTimeoutMs,
+                             @Value("${toss.read-timeout-ms:20000}") long readTimeoutMs,
+                             @Value("${toss.max-concurrency:20}") int maxConcurrency,
+                             @Value("${toss.acquire-timeout-ms:2000}") long acquireTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.permits = new Semaphore(maxConcurrency);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+
+    /**
+     * 결제 승인 (POST /v1/payments/confirm)
+     */
+    public CompletableFuture<Map<String, Object>> confirm(String paymentKey, String orderId, Integer amount) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("paymentKey", paymentKey);
+        requestBody.put("orderId", orderId);
+        requestBody.put("amount", amount);
+
+        try {
+            HttpRequest request = requestBuilder("/v1/payments/confirm")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(requestBody)))
+                    .build();
+            return send(request);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 결제 조회 (GET /v1/payments/{paymentKey})
+     */
+    public CompletableFuture<Map<String, Object>> getPayment(String paymentKey) {
+        HttpRequest request = requestBuilder("/v1/payments/" + URLEncoder.encode(paymentKey, StandardCharsets.UTF_8))
+                .GET()
+                .build();
+        return send(request);
+    }
+
+    private HttpRequest.Builder requestBuilder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(readTimeout)
+                .header("Authorization", authorization);
+    }
+
+    private CompletableFuture<Map<String, Object>> send(HttpRequest request) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (!acquired) {
+            log.warn("토스페이먼츠 동시 요청 한도 초과 - uri: {}", request.uri());
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("토스페이먼츠 동시 요청 한도를 초과했습니다."));
+        }
+
+        long start = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .whenComplete((response, e) -> {
+                    permits.release();
+                    log.info("토스페이먼츠 호출 완료 - {} {}, status: {}, {}ms",
+                            request.method(), request.uri().getPath(),
+                            response != null ? response.statusCode() : "-",
+                            (System.nanoTime() - start) / 1_000_000);
+                })
+                .thenApply(this::toBody);
+    }
+
+    private Map<String, Object> toBody(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new TossApiException(response.statusCode(), response.body());
+        }
+
+        try {
+            return objectMapper.readValue(response.body(), MAP_TYPE);
+        } catch (Exception e) {
+            throw new IllegalStateException("토스페이먼츠 응답 파싱 실패", e);
+        }
+    }
+
+    /**
+     * 현재 사용 가능한 동시 요청 수 (모니터링용)
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 토스페이먼츠 API 오류 응답 (2xx 이외)
+     */
+    @Getter
+    public static class TossApiException extends RuntimeException {
+
+        private final int statusCode;
+        private final String responseBody;
+
+        public TossApiException(int statusCode, String responseBody) {
+            super("토스페이먼츠 API 오류 - status: " + statusCode);
+            this.statusCode = statusCode;
+            this.responseBody = responseBody;
+        }
+    }
+}
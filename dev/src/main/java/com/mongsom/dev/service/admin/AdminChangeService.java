@@ -20,9 +20,12 @@ import com.mongsom.dev.repository.ChangeItemRepository;
 import com.mongsom.dev.repository.OrderItemRepository;
 import com.mongsom.dev.repository.PaymentsRepository;
 import com.mongsom.dev.repository.OrderDetailRepository;
-import com.mongsom.dev.repository.ProductOptionValueRepository;
 import com.mongsom.dev.repository.UserRepository;
+import com.mongsom.dev.service.OptionNameDictionary;
+import com.mongsom.dev.service.event.DomainEvent;
+import com.mongsom.dev.service.event.DomainEventPublisher;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -40,9 +43,10 @@ public class AdminChangeService {
     private final ChangeItemRepository changeItemRepository;
     private final OrderItemRepository orderItemRepository;
     private final OrderDetailRepository orderDetailRepository;
-    private final ProductOptionValueRepository productOptionValueRepository;
+    private final OptionNameDictionary optionNameDictionary;
     private final PaymentsRepository paymentsRepository;
     private final UserRepository userRepository;
+    private final DomainEventPublisher domainEventPublisher;
     
     /**
      * 관리자 교환/반품 목록 조회
@@ -66,10 +70,18 @@ public class AdminChangeService {
             // 교환/반품 목록 조회
             Page<ChangeItem> changeItemPage = changeItemRepository.findAdminChangeList(changeType, pageable);
             
+            // 주문 상세 + 옵션명 일괄 조회 (이후 findById는 영속성 컨텍스트에서 조회됨)
+            List<OrderDetail> pageOrderDetails = orderDetailRepository.findAllById(changeItemPage.getContent()
+                    .stream()
+                    .map(ChangeItem::getOrderDetailId)
+                    .distinct()
+                    .collect(Collectors.toList()));
+            Int2ObjectMap<String> optionNames = optionNameDictionary.getNamesOf(pageOrderDetails);
+            
             // DTO 변환
             List<AdminChangeListRespDto.AdminChangeItemDto> changes = changeItemPage.getContent()
                     .stream()
-                    .map(this::convertToAdminChangeItemDto)
+                    .map(changeItem -> convertToAdminChangeItemDto(changeItem, optionNames))
                     .collect(Collectors.toList());
             
             // 페이지 정보 생성
@@ -120,7 +132,8 @@ public class AdminChangeService {
     /**
      * ChangeItem을 AdminChangeItemDto로 변환
      */
-    private AdminChangeListRespDto.AdminChangeItemDto convertToAdminChangeItemDto(ChangeItem changeItem) {
+    private AdminChangeListRespDto.AdminChangeItemDto convertToAdminChangeItemDto(ChangeItem changeItem,
+                                                                                 Int2ObjectMap<String> optionNames) {
         // 1. OrderItem 조회
         Optional<OrderItem> orderItemOpt = orderItemRepository.findByOrderId(changeItem.getOrderId());
         if (orderItemOpt.isEmpty()) {
@@ -140,7 +153,7 @@ public class AdminChangeService {
         OrderDetail orderDetail = orderDetailOpt.get();
         
         // 3. 상품정보 구성
-        AdminChangeListRespDto.ProductInfoDto productInfo = buildProductInfo(orderDetail);
+        AdminChangeListRespDto.ProductInfoDto productInfo = buildProductInfo(orderDetail, optionNames);
         
         return AdminChangeListRespDto.AdminChangeItemDto.builder()
                 .requestedAt(changeItem.getRequestedAt())
@@ -183,7 +196,8 @@ public class AdminChangeService {
     /**
      * 상품정보 구성
      */
-    private AdminChangeListRespDto.ProductInfoDto buildProductInfo(OrderDetail orderDetail) {
+    private AdminChangeListRespDto.ProductInfoDto buildProductInfo(OrderDetail orderDetail,
+                                                                   Int2ObjectMap<String> optionNames) {
         Product product = orderDetail.getProduct();
         
         // 상품명
@@ -202,10 +216,10 @@ public class AdminChangeService {
         String option2Name = null;
         
         if (option1 != null) {
-            option1Name = getOptionValueName(option1);
+            option1Name = optionNames.get(option1.intValue());
         }
         if (option2 != null) {
-            option2Name = getOptionValueName(option2);
+            option2Name = optionNames.get(option2.intValue());
         }
         
         // 옵션 조합 생성
@@ -243,19 +257,10 @@ public class AdminChangeService {
     }
     
     /**
-     * 옵션 값 이름 조회 헬퍼 메서드
+     * 옵션 값 이름 조회 헬퍼 메서드 (옵션명 사전 캐시 사용)
      */
     private String getOptionValueName(Integer optionValueId) {
-        try {
-            if (optionValueId == null) return null;
-            
-            Optional<String> valueNameOpt = productOptionValueRepository.findValueNameById(optionValueId);
-            return valueNameOpt.orElse("옵션-" + optionValueId);
-            
-        } catch (Exception e) {
-            log.warn("옵션 이름 조회 실패 - optionValueId: {}", optionValueId, e);
-            return "옵션-" + optionValueId;
-        }
+        return optionNameDictionary.getName(optionValueId);
     }
     
     /**
@@ -569,6 +574,9 @@ public class AdminChangeService {
             changeItem.setProcessedAt(processedAt);
             
             ChangeItem updatedChangeItem = changeItemRepository.save(changeItem);
+            domainEventPublisher.publish(DomainEvent.changeStatusChanged(updatedChangeItem.getChangeId(),
+                    updatedChangeItem.getOrderId(), updatedChangeItem.getUserCode(), updatedChangeItem.getChangeType(),
+                    previousStatus, updatedChangeItem.getChangeStatus()));
             
             // 4. 응답 데이터 생성
             AdminChangeStatusUpdateRespDto responseData = AdminChangeStatusUpdateRespDto.builder()
@@ -2,22 +2,30 @@ package com.mongsom.dev.service.admin;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import com.mongsom.dev.common.dto.RespDto;
 import com.mongsom.dev.dto.admin.delivery.reqDto.AdminDeliveryUpdateReqDto;
 import com.mongsom.dev.dto.admin.delivery.respDto.AdminDeliveryUpdateRespDto;
 import com.mongsom.dev.entity.OrderItem;
-import com.mongsom.dev.entity.Payments;
+import com.mongsom.dev.repository.DeliveryJdbcRepository;
 import com.mongsom.dev.repository.OrderItemRepository;
-import com.mongsom.dev.repository.PaymentsRepository;
+import com.mongsom.dev.service.event.DomainEvent;
+import com.mongsom.dev.service.event.DomainEventPublisher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,23 +33,39 @@ import java.util.Optional;
 public class AdminDeliveryService {
     
     private final OrderItemRepository orderItemRepository;
-    private final PaymentsRepository paymentsRepository;
+    private final DeliveryJdbcRepository deliveryJdbcRepository;
+    private final DomainEventPublisher domainEventPublisher;
+    private final BankTransferPaymentProcessor bankTransferPaymentProcessor;
     
     /**
      * 배송정보 일괄 업데이트
+     * 대상 주문은 IN 조회 한 번으로 읽고, 변경분은 한 트랜잭션 안에서 JDBC 배치로 반영
      */
     @Transactional
     public RespDto<AdminDeliveryUpdateRespDto> updateDeliveryInfoBatch(AdminDeliveryUpdateReqDto reqDto) {
         try {
             log.info("배송정보 일괄 업데이트 시작 - 총 {}건", reqDto.getDeliveryUpdates().size());
             
+            // 1. 대상 주문 일괄 조회
+            Set<Integer> orderIds = reqDto.getDeliveryUpdates().stream()
+                    .map(AdminDeliveryUpdateReqDto.DeliveryUpdateItemDto::getOrderId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            Map<Integer, OrderItem> orderItems = orderIds.isEmpty()
+                    ? Map.of()
+                    : orderItemRepository.findByOrderIdIn(orderIds).stream()
+                            .collect(Collectors.toMap(OrderItem::getOrderId, Function.identity()));
+            
+            // 2. 요청 순서대로 변경 적용 (같은 주문이 여러 번 오면 마지막 값 반영)
             List<AdminDeliveryUpdateRespDto.UpdateResultDto> results = new ArrayList<>();
+            Map<Integer, OrderItem> updatedOrders = new LinkedHashMap<>();
+            Map<Integer, OrderItem> bankTransferOrders = new LinkedHashMap<>();
             int successCount = 0;
             int failureCount = 0;
             
-            // 각 배송정보 업데이트 처리
             for (AdminDeliveryUpdateReqDto.DeliveryUpdateItemDto item : reqDto.getDeliveryUpdates()) {
-                AdminDeliveryUpdateRespDto.UpdateResultDto result = processDeliveryUpdate(item);
+                AdminDeliveryUpdateRespDto.UpdateResultDto result = applyDeliveryUpdate(
+                        item, orderItems.get(item.getOrderId()), updatedOrders, bankTransferOrders);
                 results.add(result);
                 
                 if (result.getSuccess()) {
@@ -51,6 +75,14 @@ public class AdminDeliveryService {
                 }
             }
             
+            // 3. 일괄 반영
+            deliveryJdbcRepository.updateDeliveryInfo(new ArrayList<>(updatedOrders.values()));
+            bankTransferPaymentProcessor.processPayments(new ArrayList<>(bankTransferOrders.values()));
+            domainEventPublisher.publishAll(updatedOrders.values().stream()
+                    .map(order -> DomainEvent.deliveryStatusChanged(order.getOrderId(), order.getUserCode(),
+                            order.getDeliveryStatus()))
+                    .toList());
+            
             // 배치 결과 생성
             AdminDeliveryUpdateRespDto.BatchResultDto batchResult = AdminDeliveryUpdateRespDto.BatchResultDto.builder()
                     .totalCount(reqDto.getDeliveryUpdates().size())
@@ -66,7 +98,8 @@ public class AdminDeliveryService {
                     .results(results)
                     .build();
             
-            log.info("배송정보 일괄 업데이트 완료 - 성공: {}건, 실패: {}건", successCount, failureCount);
+            log.info("배송정보 일괄 업데이트 완료 - 성공: {}건, 실패: {}건 (무통장입금 처리: {}건)", 
+                    successCount, failureCount, bankTransferOrders.size());
             
             return RespDto.<AdminDeliveryUpdateRespDto>builder()
                     .code(1)
@@ -75,6 +108,8 @@ public class AdminDeliveryService {
             
         } catch (Exception e) {
             log.error("배송정보 일괄 업데이트 실패", e);
+            // 일부 주문만 반영되지 않도록 전체 롤백
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return RespDto.<AdminDeliveryUpdateRespDto>builder()
                     .code(-1)
                     .data(null)
@@ -83,121 +118,51 @@ public class AdminDeliveryService {
     }
     
     /**
-     * 개별 배송정보 업데이트 처리
+     * 개별 배송정보 변경 적용 (메모리상 주문에 반영 후 일괄 반영 대상에 추가)
      */
-    private AdminDeliveryUpdateRespDto.UpdateResultDto processDeliveryUpdate(
-            AdminDeliveryUpdateReqDto.DeliveryUpdateItemDto item) {
-        try {
-            log.debug("배송정보 업데이트 처리 시작 - orderId: {}", item.getOrderId());
-            
-            // 1. OrderItem 조회
-            Optional<OrderItem> orderItemOpt = orderItemRepository.findByOrderId(item.getOrderId());
-            if (orderItemOpt.isEmpty()) {
-                log.warn("존재하지 않는 주문 - orderId: {}", item.getOrderId());
-                return AdminDeliveryUpdateRespDto.UpdateResultDto.builder()
-                        .orderId(item.getOrderId())
-                        .success(false)
-                        .message("존재하지 않는 주문입니다.")
-                        .bankTransferProcessed(false)
-                        .build();
-            }
-            
-            OrderItem orderItem = orderItemOpt.get();
-            boolean bankTransferProcessed = false;
-            
-            // 2. 배송정보 기본 업데이트
-            orderItem.setDeliveryStatus(item.getDeliveryStatus());
-            if (item.getDeliveryCom() != null) {
-                orderItem.setDeliveryCom(item.getDeliveryCom());
-            }
-            if (item.getInvoiceNum() != null) {
-                orderItem.setInvoiceNum(item.getInvoiceNum());
-            }
-            
-            // 3. 무통장입금 특별 처리 로직
-            if ("결제완료".equals(item.getDeliveryStatus()) && 
-                "무통장입금".equals(orderItem.getDeliveryStatusReason())) {
-                
-                log.info("무통장입금 처리 시작 - orderId: {}", item.getOrderId());
-                
-                // 3-1. payment_at 현재 시간으로 업데이트
-                orderItem.setPaymentAt(LocalDateTime.now());
-                
-                // 3-2. payments 테이블 처리
-                processBankTransferPayment(orderItem);
-                bankTransferProcessed = true;
-                
-                log.info("무통장입금 처리 완료 - orderId: {}", item.getOrderId());
-            }
-            
-            // 4. OrderItem 저장
-            orderItemRepository.save(orderItem);
-            
-            log.debug("배송정보 업데이트 완료 - orderId: {}, status: {}", 
-                    item.getOrderId(), item.getDeliveryStatus());
-            
-            String message = bankTransferProcessed ? 
-                    "배송정보가 업데이트되었습니다. (무통장입금 처리 완료)" : 
-                    "배송정보가 업데이트되었습니다.";
-            
-            return AdminDeliveryUpdateRespDto.UpdateResultDto.builder()
-                    .orderId(item.getOrderId())
-                    .success(true)
-                    .message(message)
-                    .bankTransferProcessed(bankTransferProcessed)
-                    .build();
-            
-        } catch (Exception e) {
-            log.error("배송정보 업데이트 실패 - orderId: {}", item.getOrderId(), e);
+    private AdminDeliveryUpdateRespDto.UpdateResultDto applyDeliveryUpdate(
+            AdminDeliveryUpdateReqDto.DeliveryUpdateItemDto item, OrderItem orderItem,
+            Map<Integer, OrderItem> updatedOrders, Map<Integer, OrderItem> bankTransferOrders) {
+        // 1. 주문 존재 확인
+        if (orderItem == null) {
+            log.warn("존재하지 않는 주문 - orderId: {}", item.getOrderId());
             return AdminDeliveryUpdateRespDto.UpdateResultDto.builder()
                     .orderId(item.getOrderId())
                     .success(false)
-                    .message("업데이트 중 오류가 발생했습니다: " + e.getMessage())
+                    .message("존재하지 않는 주문입니다.")
                     .bankTransferProcessed(false)
                     .build();
         }
-    }
-    
-    /**
-     * 무통장입금 payments 테이블 처리
-     */
-    private void processBankTransferPayment(OrderItem orderItem) {
-        try {
-            Optional<Payments> existingPaymentOpt = paymentsRepository.findByOrderId2(orderItem.getOrderId());
-            
-            if (existingPaymentOpt.isPresent()) {
-                // 기존 Payment 업데이트
-                Payments existingPayment = existingPaymentOpt.get();
-                existingPayment.setPaymentMethod("계좌이체");
-                existingPayment.setPaymentAmount(orderItem.getFinalPrice());
-                existingPayment.setPaymentStatus("결제완료");
-                existingPayment.setPaymentKey(null);
-                existingPayment.setPgProvider(null);
-                
-                paymentsRepository.save(existingPayment);
-                
-                log.debug("기존 Payment 업데이트 완료 - orderId: {}", orderItem.getOrderId());
-                
-            } else {
-                // 새로운 Payment 생성
-                Payments newPayment = Payments.builder()
-                        .orderId(orderItem.getOrderId())
-                        .userCode(orderItem.getUserCode())
-                        .paymentMethod("계좌이체")
-                        .paymentAmount(orderItem.getFinalPrice())
-                        .paymentStatus("결제완료")
-                        .paymentKey(null)
-                        .pgProvider(null)
-                        .build();
-                
-                paymentsRepository.save(newPayment);
-                
-                log.debug("새로운 Payment 생성 완료 - orderId: {}", orderItem.getOrderId());
-            }
-            
-        } catch (Exception e) {
-            log.error("무통장입금 Payment 처리 실패 - orderId: {}", orderItem.getOrderId(), e);
-            throw new RuntimeException("Payment 처리 실패", e);
+        
+        boolean bankTransferProcessed = false;
+        
+        // 2. 배송정보 기본 업데이트
+        orderItem.setDeliveryStatus(item.getDeliveryStatus());
+        if (item.getDeliveryCom() != null) {
+            orderItem.setDeliveryCom(item.getDeliveryCom());
+        }
+        if (item.getInvoiceNum() != null) {
+            orderItem.setInvoiceNum(item.getInvoiceNum());
+        }
+        
+        // 3. 무통장입금 특별 처리 로직 (payment_at 현재 시간, payments 는 일괄 처리)
+        if (BankTransferPaymentProcessor.isBankTransferCompletion(item.getDeliveryStatus(), orderItem)) {
+            orderItem.setPaymentAt(LocalDateTime.now());
+            bankTransferOrders.put(orderItem.getOrderId(), orderItem);
+            bankTransferProcessed = true;
         }
+        
+        updatedOrders.put(orderItem.getOrderId(), orderItem);
+        
+        String message = bankTransferProcessed ? 
+                "배송정보가 업데이트되었습니다. (무통장입금 처리 완료)" : 
+                "배송정보가 업데이트되었습니다.";
+        
+        return AdminDeliveryUpdateRespDto.UpdateResultDto.builder()
+                .orderId(item.getOrderId())
+                .success(true)
+                .message(message)
+                .bankTransferProcessed(bankTransferProcessed)
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -9,6 +9,8 @@ import com.mongsom.dev.dto.admin.notice.reqDto.NoticeCreateReqDto;
 import com.mongsom.dev.dto.admin.notice.reqDto.NoticeUpdateReqDto;
 import com.mongsom.dev.entity.Notice;
 import com.mongsom.dev.repository.NoticeRepository;
+import com.mongsom.dev.service.search.SearchDocType;
+import com.mongsom.dev.service.search.SearchIndexService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminNoticeService {
     
     private final NoticeRepository noticeRepository;
+    private final SearchIndexService searchIndexService;
     
     // 공지사항 등록
     @Transactional
@@ -31,7 +34,8 @@ public class AdminNoticeService {
                     .writer("관리자")
                     .build();
             
-            noticeRepository.save(notice);
+            Notice savedNotice = noticeRepository.save(notice);
+            searchIndexService.indexNotice(savedNotice);
             
             log.info("공지사항 등록 완료 - title: {}", reqDto.getTitle());
             return RespDto.<Boolean>builder()
@@ -73,6 +77,7 @@ public class AdminNoticeService {
             // updatedAt은 @UpdateTimestamp로 자동 갱신
             
             noticeRepository.save(notice);
+            searchIndexService.indexNotice(notice);
             
             log.info("=== 공지사항 수정 완료 - noticeId: {} ===", noticeId);
             
@@ -109,6 +114,7 @@ public class AdminNoticeService {
             
             // 2. 공지사항 삭제
             noticeRepository.deleteById(noticeId);
+            searchIndexService.remove(SearchDocType.NOTICE, noticeId);
             
             log.info("=== 공지사항 삭제 완료 - noticeId: {} ===", noticeId);
             
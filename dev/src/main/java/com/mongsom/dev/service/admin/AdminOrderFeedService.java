@@ -0,0 +1,157 @@
+package com.mongsom.dev.service.admin;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.common.TopicPartition;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongsom.dev.dto.admin.order.respDto.AdminOrderFeedRespDto;
+import com.mongsom.dev.service.event.DomainEvent;
+import com.mongsom.dev.service.event.DomainEventType;
+import com.mongsom.dev.service.event.LocalDomainEvents;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 실시간 주문 알림
+ * - 커밋된 도메인 이벤트(outbox → Kafka)를 서버마다 별도 컨슈머 그룹으로 받아 자기 WebSocket 세션에 전달
+ *   그룹 ID는 서버별로 고정(admin-feed.instance-id, 기본 HOSTNAME)해 재시작마다 그룹이 새로 쌓이지 않게 하고
+ *   파티션 할당 시 끝으로 이동해 재시작 전 이벤트는 받지 않음
+ * - 이벤트마다 보내지 않고 FLUSH 간격(기본 1초) 동안 모아 요약 한 건으로 전송 (같은 주문은 한 번만)
+ * - 모인 ID가 MAX_IDS를 넘으면 ID 목록 대신 overflow로 알려 목록 전체를 다시 조회하게 함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminOrderFeedService implements ConsumerSeekAware {
+
+    public static final String TOPIC = "/topic/admin/orders";
+    static final int MAX_IDS = 200;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    private FeedBuffer buffer = new FeedBuffer();
+
+    @KafkaListener(topics = "${domain-events.topic:mongsom.domain-events}",
+                   groupId = "${admin-feed.consumer-group:mongsom-admin-feed}-${admin-feed.instance-id:${HOSTNAME:local}}",
+                   batch = "true",
+                   autoStartup = "#{'${domain-events.transport:kafka}' == 'kafka'}",
+                   properties = {"auto.offset.reset=latest", "enable.auto.commit=true"})
+    public void consume(List<String> messages) {
+        for (String message : messages) {
+            try {
+                offer(objectMapper.readValue(message, DomainEvent.class));
+            } catch (JsonProcessingException e) {
+                log.warn("관리자 알림 이벤트 역직렬화 실패 - message: {}", message);
+            }
+        }
+    }
+
+    // 서버 재시작 전 이벤트는 필요 없으므로 커밋된 오프셋과 관계없이 최신 위치부터 수신
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToEnd(assignments.keySet());
+    }
+
+    // domain-events.transport=local (Kafka 없이 실행, 서버 한 대 기준)
+    @EventListener
+    public void consumeLocal(LocalDomainEvents events) {
+        consume(events.getMessages());
+    }
+
+    public synchronized void offer(DomainEvent event) {
+        if (event.getEventType() == null || event.getEventType() == DomainEventType.REVIEW_WRITTEN) {
+            return;
+        }
+        buffer.add(event);
+    }
+
+    /**
+     * 모인 이벤트 요약 전송 (기본 1초 간격, 없으면 전송하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${admin-feed.flush-interval-ms:1000}")
+    public void flush() {
+        FeedBuffer drained;
+        synchronized (this) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            drained = buffer;
+            buffer = new FeedBuffer();
+        }
+
+        try {
+            messagingTemplate.convertAndSend(TOPIC, drained.toRespDto());
+        } catch (Exception e) {
+            log.warn("관리자 실시간 알림 전송 실패", e);
+        }
+    }
+
+    /**
+     * 전송 간격 동안 모은 이벤트 (offer/flush는 서비스 락 안에서만 접근)
+     */
+    private static class FeedBuffer {
+
+        private final Map<DomainEventType, Integer> counts = new EnumMap<>(DomainEventType.class);
+        private final Set<Integer> orderIds = new LinkedHashSet<>();
+        private final Set<Integer> changeIds = new LinkedHashSet<>();
+        private boolean overflow;
+
+        void add(DomainEvent event) {
+            counts.merge(event.getEventType(), 1, Integer::sum);
+            if (overflow) {
+                return;
+            }
+            if (event.getOrderId() != null) {
+                orderIds.add(event.getOrderId());
+            }
+            if (event.getChangeId() != null) {
+                changeIds.add(event.getChangeId());
+            }
+            if (orderIds.size() + changeIds.size() > MAX_IDS) {
+                overflow = true;
+                orderIds.clear();
+                changeIds.clear();
+            }
+        }
+
+        boolean isEmpty() {
+            return counts.isEmpty();
+        }
+
+        AdminOrderFeedRespDto toRespDto() {
+            return AdminOrderFeedRespDto.builder()
+                    .newOrderCount(count(DomainEventType.ORDER_CREATED))
+                    .paymentConfirmedCount(count(DomainEventType.PAYMENT_CONFIRMED))
+                    .cancelledCount(count(DomainEventType.ORDER_CANCELLED))
+                    .deliveryStatusChangedCount(count(DomainEventType.DELIVERY_STATUS_CHANGED))
+                    .changeRequestCount(count(DomainEventType.CHANGE_REQUESTED))
+                    .changeStatusChangedCount(count(DomainEventType.CHANGE_STATUS_CHANGED))
+                    .orderIds(new ArrayList<>(orderIds))
+                    .changeIds(new ArrayList<>(changeIds))
+                    .overflow(overflow)
+                    .sentAt(LocalDateTime.now())
+                    .build();
+        }
+
+        private int count(DomainEventType type) {
+            return counts.getOrDefault(type, 0);
+        }
+    }
+}
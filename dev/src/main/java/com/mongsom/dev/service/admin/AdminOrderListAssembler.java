@@ -0,0 +1,133 @@
+package com.mongsom.dev.service.admin;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.mongsom.dev.dto.admin.order.respDto.AdminOrderListRespDto;
+import com.mongsom.dev.entity.OrderDetail;
+import com.mongsom.dev.entity.Product;
+import com.mongsom.dev.repository.OrderDetailRepository;
+import com.mongsom.dev.service.OptionNameDictionary;
+import com.mongsom.dev.service.ProductMainImageLoader;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 주문 목록 DTO 조립
+ * 주문/주문자/결제상태는 목록 조회 한 번(findAdminOrderRows)으로 받고,
+ * 대표 상품 정보(상세+상품, 이미지, 옵션명)는 페이지 단위 IN 조회로 모아 조립 (페이지 크기와 무관한 쿼리 수)
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminOrderListAssembler {
+
+    private final OrderDetailRepository orderDetailRepository;
+    private final ProductMainImageLoader productMainImageLoader;
+    private final OptionNameDictionary optionNameDictionary;
+
+    /**
+     * findAdminOrderRows 결과 행 → AdminOrderItemDto
+     * 행 구성: [orderId, orderNum, userCode, userName, paymentAt, finalPrice, deliveryStatus, invoiceNum, paymentStatus]
+     */
+    public List<AdminOrderListRespDto.AdminOrderItemDto> toOrderItems(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 주문 상세 + 상품 일괄 조회
+        List<Integer> orderIds = rows.stream()
+                .map(row -> ((Number) row[0]).intValue())
+                .collect(Collectors.toList());
+        Map<Integer, List<OrderDetail>> detailsByOrderId = orderDetailRepository.findByOrderIdInWithProduct(orderIds)
+                .stream()
+                .collect(Collectors.groupingBy(OrderDetail::getOrderId, LinkedHashMap::new, Collectors.toList()));
+
+        // 2. 대표 상품의 이미지, 옵션명 일괄 조회
+        List<OrderDetail> firstDetails = detailsByOrderId.values().stream()
+                .map(details -> details.get(0))
+                .collect(Collectors.toList());
+        Map<Integer, String> mainImages = productMainImageLoader.load(firstDetails, OrderDetail::getProductId);
+        Int2ObjectMap<String> optionNames = optionNameDictionary.getNamesOf(firstDetails);
+
+        // 3. 조립
+        List<AdminOrderListRespDto.AdminOrderItemDto> orders = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Integer orderId = ((Number) row[0]).intValue();
+            String userName = (String) row[3];
+            String paymentStatus = (String) row[8];
+
+            orders.add(AdminOrderListRespDto.AdminOrderItemDto.builder()
+                    .paymentAt(toLocalDateTime(row[4]))
+                    .orderId(orderId)
+                    .orderNum((String) row[1])
+                    .userCode(row[2] != null ? ((Number) row[2]).longValue() : null)
+                    .orderUser(userName != null ? userName : "알 수 없는 사용자")
+                    .productInfo(toProductInfo(detailsByOrderId.get(orderId), mainImages, optionNames))
+                    .finalPrice(row[5] != null ? ((Number) row[5]).intValue() : null)
+                    .paymentStatus(paymentStatus != null ? paymentStatus : "정보없음")
+                    .deliveryStatus((String) row[6])
+                    .invoiceNum((String) row[7])
+                    .build());
+        }
+        return orders;
+    }
+
+    /**
+     * 상품정보 구성 (첫 번째 상품 + 외 N개)
+     */
+    private AdminOrderListRespDto.ProductInfoDto toProductInfo(List<OrderDetail> orderDetails,
+                                                               Map<Integer, String> mainImages,
+                                                               Int2ObjectMap<String> optionNames) {
+        if (orderDetails == null) {
+            return AdminOrderListRespDto.ProductInfoDto.builder()
+                    .productName("상품정보 없음")
+                    .productImgUrl(null)
+                    .optionSummary(null)
+                    .build();
+        }
+
+        OrderDetail firstOrderDetail = orderDetails.get(0);
+        Product firstProduct = firstOrderDetail.getProduct();
+
+        String productName = firstProduct != null ? firstProduct.getName() : "알 수 없는 상품";
+        if (orderDetails.size() > 1) {
+            productName += " 외 " + (orderDetails.size() - 1) + "개";
+        }
+
+        return AdminOrderListRespDto.ProductInfoDto.builder()
+                .productName(productName)
+                .productImgUrl(mainImages.get(firstOrderDetail.getProductId()))
+                .optionSummary(buildOptionSummary(firstOrderDetail, optionNames))
+                .build();
+    }
+
+    /**
+     * 옵션 요약 생성 (500ml, 블랙)
+     */
+    private String buildOptionSummary(OrderDetail orderDetail, Int2ObjectMap<String> optionNames) {
+        List<String> optionParts = new ArrayList<>();
+
+        if (orderDetail.hasOption1()) {
+            optionParts.add(optionNames.get(orderDetail.getOption1().intValue()));
+        }
+        if (orderDetail.hasOption2()) {
+            optionParts.add(optionNames.get(orderDetail.getOption2().intValue()));
+        }
+
+        return optionParts.isEmpty() ? null : String.join(", ", optionParts);
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -1,42 +1,36 @@
 package com.mongsom.dev.service.admin;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.mongsom.dev.common.dto.RespDto;
+import com.mongsom.dev.dto.admin.order.reqDto.AdminOrderCursorSearchReqDto;
 import com.mongsom.dev.dto.admin.order.reqDto.AdminOrderSearchReqDto;
+import com.mongsom.dev.dto.admin.order.respDto.AdminOrderCursorRespDto;
 import com.mongsom.dev.dto.admin.order.respDto.AdminOrderListRespDto;
-import com.mongsom.dev.entity.OrderItem;
-import com.mongsom.dev.entity.OrderDetail;
-import com.mongsom.dev.entity.Product;
-import com.mongsom.dev.entity.User;
-import com.mongsom.dev.entity.Payments;
 import com.mongsom.dev.repository.OrderItemRepository;
-import com.mongsom.dev.repository.OrderDetailRepository;
-import com.mongsom.dev.repository.UserRepository;
-import com.mongsom.dev.repository.PaymentsRepository;
-import com.mongsom.dev.repository.ProductOptionValueRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.ArrayList;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdminOrderService {
     
+    // 날짜 조건이 없을 때의 검색 구간 (인덱스 범위 조건 유지용)
+    private static final LocalDateTime SEARCH_MIN_DATE_TIME = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final LocalDateTime SEARCH_MAX_DATE_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+    
     private final OrderItemRepository orderItemRepository;
-    private final OrderDetailRepository orderDetailRepository;
-    private final UserRepository userRepository;
-    private final PaymentsRepository paymentsRepository;
-    private final ProductOptionValueRepository productOptionValueRepository;
+    private final AdminOrderListAssembler adminOrderListAssembler;
     
     /**
      * 관리자 주문 목록 조회
@@ -48,8 +42,8 @@ public class AdminOrderService {
                     searchDto.getStartDate(), searchDto.getEndDate(), 
                     searchDto.getSearchKeyword(), searchDto.getOrderStatus());
             
-            // 주문 목록 조회 (검색 조건 포함)
-            Page<OrderItem> orderItemPage = orderItemRepository.findAdminOrders(
+            // 주문 목록 조회 (검색 조건 포함, 주문자명/결제상태 포함)
+            Page<Object[]> orderItemPage = orderItemRepository.findAdminOrderRows(
                     searchDto.getStartDate(),
                     searchDto.getEndDate(),
                     searchDto.getSearchKeyword(),
@@ -57,11 +51,8 @@ public class AdminOrderService {
                     pageable
             );
             
-            // DTO 변환
-            List<AdminOrderListRespDto.AdminOrderItemDto> orders = orderItemPage.getContent()
-                    .stream()
-                    .map(this::convertToAdminOrderItemDto)
-                    .collect(Collectors.toList());
+            // DTO 변환 (대표 상품 정보 일괄 조회)
+            List<AdminOrderListRespDto.AdminOrderItemDto> orders = adminOrderListAssembler.toOrderItems(orderItemPage.getContent());
             
             // 페이지 정보 생성
             AdminOrderListRespDto.PaginationDto pagination = AdminOrderListRespDto.PaginationDto.builder()
@@ -96,128 +87,112 @@ public class AdminOrderService {
     }
     
     /**
-     * OrderItem을 AdminOrderItemDto로 변환
-     */
-    private AdminOrderListRespDto.AdminOrderItemDto convertToAdminOrderItemDto(OrderItem orderItem) {
-        // 1. 주문자 정보 조회 (user_mst)
-        String orderUser = "알 수 없는 사용자";
-        Optional<User> userOpt = userRepository.findByUserCode(orderItem.getUserCode());
-        if (userOpt.isPresent()) {
-            orderUser = userOpt.get().getName();
-        }
-        
-        // 2. 상품정보 조회
-        AdminOrderListRespDto.ProductInfoDto productInfo = buildProductInfo(orderItem);
-        
-        // 3. 결제상태 조회 (payments 테이블)
-        String paymentStatus = "정보없음";
-        Optional<Payments> paymentOpt = paymentsRepository.findByOrderId2(orderItem.getOrderId());
-        if (paymentOpt.isPresent()) {
-            paymentStatus = paymentOpt.get().getPaymentStatus();
-        }
-        
-        return AdminOrderListRespDto.AdminOrderItemDto.builder()
-                .paymentAt(orderItem.getPaymentAt())
-                .orderId(orderItem.getOrderId())
-                .orderNum(orderItem.getOrderNum())
-                .userCode(userOpt.get().getUserCode())
-                .orderUser(orderUser)
-                .productInfo(productInfo)
-                .finalPrice(orderItem.getFinalPrice())
-                .paymentStatus(paymentStatus)
-                .deliveryStatus(orderItem.getDeliveryStatus())
-                .invoiceNum(orderItem.getInvoiceNum())
-                .build();
-    }
-    
-    /**
-     * 상품정보 구성 (첫 번째 상품 + 외 N개)
+     * 관리자 주문 검색 (키셋 페이지네이션)
+     * 결제일시 반열림 구간 + 주문번호 앞부분 일치 + (payment_at, order_id) 기준 다음 페이지 조회
      */
-    private AdminOrderListRespDto.ProductInfoDto buildProductInfo(OrderItem orderItem) {
-        // 주문의 모든 상품 조회
-        List<OrderDetail> orderDetails = orderDetailRepository
-                .findByOrderIdOrderByOrderDetailIdAsc(orderItem.getOrderId());
-        
-        if (orderDetails.isEmpty()) {
-            return AdminOrderListRespDto.ProductInfoDto.builder()
-                    .productName("상품정보 없음")
-                    .productImgUrl(null)
-                    .optionSummary(null)
-                    .build();
-        }
-        
-        // 첫 번째 상품 정보
-        OrderDetail firstOrderDetail = orderDetails.get(0);
-        Product firstProduct = firstOrderDetail.getProduct();
-        
-        // 상품명 생성 (외 N개 포함)
-        String productName = firstProduct != null ? firstProduct.getName() : "알 수 없는 상품";
-        int totalProductCount = orderDetails.size();
-        if (totalProductCount > 1) {
-            productName += " 외 " + (totalProductCount - 1) + "개";
-        }
-        
-        // 대표 상품 이미지
-        String productImgUrl = null;
-        if (firstProduct != null && firstProduct.getProductImages() != null && 
-            !firstProduct.getProductImages().isEmpty()) {
-            productImgUrl = firstProduct.getProductImages().get(0).getProductImgUrl();
-        }
-        
-        // 옵션 요약 생성
-        String optionSummary = buildOptionSummary(firstOrderDetail);
-        
-        return AdminOrderListRespDto.ProductInfoDto.builder()
-                .productName(productName)
-                .productImgUrl(productImgUrl)
-                .optionSummary(optionSummary)
-                .build();
-    }
-    
-    /**
-     * 옵션 요약 생성 (500ml, 블랙)
-     */
-    private String buildOptionSummary(OrderDetail orderDetail) {
-        List<String> optionParts = new ArrayList<>();
-        
-        // 옵션1 이름 조회
-        if (orderDetail.hasOption1()) {
-            String option1Name = getOptionValueName(orderDetail.getOption1());
-            if (option1Name != null) {
-                optionParts.add(option1Name);
-            }
-        }
-        
-        // 옵션2 이름 조회
-        if (orderDetail.hasOption2()) {
-            String option2Name = getOptionValueName(orderDetail.getOption2());
-            if (option2Name != null) {
-                optionParts.add(option2Name);
+    @Transactional(readOnly = true)
+    public RespDto<AdminOrderCursorRespDto> searchAdminOrders(AdminOrderCursorSearchReqDto searchDto) {
+        try {
+            log.info("관리자 주문검색 시작 - startDate: {}, endDate: {}, orderNum: {}, status: {}, cursor: {}/{}",
+                    searchDto.getStartDate(), searchDto.getEndDate(), searchDto.getOrderNum(),
+                    searchDto.getOrderStatus(), searchDto.getCursorPaymentAt(), searchDto.getCursorOrderId());
+            
+            // 1. 조회 구간 [from, to)
+            LocalDateTime from = searchDto.getStartDate() != null
+                    ? searchDto.getStartDate().atStartOfDay() : SEARCH_MIN_DATE_TIME;
+            LocalDateTime to = searchDto.getEndDate() != null
+                    ? searchDto.getEndDate().plusDays(1).atStartOfDay() : SEARCH_MAX_DATE_TIME;
+            
+            // 2. 커서 (첫 페이지는 구간 끝에서 시작)
+            boolean firstPage = searchDto.getCursorPaymentAt() == null || searchDto.getCursorOrderId() == null;
+            LocalDateTime cursorPaymentAt = firstPage ? to : searchDto.getCursorPaymentAt();
+            Integer cursorOrderId = firstPage ? Integer.MAX_VALUE : searchDto.getCursorOrderId();
+            
+            String orderNumPrefix = hasText(searchDto.getOrderNum()) ? escapeLike(searchDto.getOrderNum().trim()) : null;
+            String orderStatus = hasText(searchDto.getOrderStatus()) ? searchDto.getOrderStatus() : null;
+            int size = searchDto.getSize();
+            
+            // 3. size + 1 건 조회로 다음 페이지 여부 판단
+            List<Object[]> rows = orderItemRepository.findAdminOrderRowsAfter(
+                    from, to, cursorPaymentAt, cursorOrderId, orderNumPrefix, orderStatus,
+                    PageRequest.of(0, size + 1));
+            
+            boolean hasNext = rows.size() > size;
+            if (hasNext) {
+                rows = rows.subList(0, size);
             }
+            
+            List<AdminOrderListRespDto.AdminOrderItemDto> orders = adminOrderListAssembler.toOrderItems(rows);
+            AdminOrderListRespDto.AdminOrderItemDto last = orders.isEmpty() ? null : orders.get(orders.size() - 1);
+            
+            // 4. 전체 건수는 요청한 경우에만 조회
+            Long totalElements = Boolean.TRUE.equals(searchDto.getWithCount())
+                    ? orderItemRepository.countAdminOrderRows(from, to, orderNumPrefix, orderStatus)
+                    : null;
+            
+            AdminOrderCursorRespDto responseData = AdminOrderCursorRespDto.builder()
+                    .orders(orders)
+                    .hasNext(hasNext)
+                    .nextCursorPaymentAt(hasNext ? last.getPaymentAt() : null)
+                    .nextCursorOrderId(hasNext ? last.getOrderId() : null)
+                    .totalElements(totalElements)
+                    .build();
+            
+            log.info("관리자 주문검색 완료 - {}건, hasNext: {}", orders.size(), hasNext);
+            
+            return RespDto.<AdminOrderCursorRespDto>builder()
+                    .code(1)
+                    .data(responseData)
+                    .build();
+            
+        } catch (Exception e) {
+            log.error("관리자 주문검색 실패", e);
+            return RespDto.<AdminOrderCursorRespDto>builder()
+                    .code(-1)
+                    .data(null)
+                    .build();
         }
-        
-        // 옵션이 없으면 null 반환
-        if (optionParts.isEmpty()) {
-            return null;
-        }
-        
-        // 콤마로 조합
-        return String.join(", ", optionParts);
     }
     
     /**
-     * 옵션 값 이름 조회 헬퍼 메서드
+     * 관리자 주문 목록 행 부분 조회 (실시간 알림의 orderIds)
+     * 삭제된 주문은 결과에서 빠지므로 클라이언트 목록에서도 제거
      */
-    private String getOptionValueName(Integer optionValueId) {
+    @Transactional(readOnly = true)
+    public RespDto<List<AdminOrderListRespDto.AdminOrderItemDto>> getAdminOrderRows(List<Integer> orderIds) {
         try {
-            if (optionValueId == null) return null;
+            if (orderIds.isEmpty()) {
+                return RespDto.<List<AdminOrderListRespDto.AdminOrderItemDto>>builder()
+                        .code(1)
+                        .data(List.of())
+                        .build();
+            }
             
-            Optional<String> valueNameOpt = productOptionValueRepository.findValueNameById(optionValueId);
-            return valueNameOpt.orElse("옵션-" + optionValueId);
+            List<AdminOrderListRespDto.AdminOrderItemDto> orders = adminOrderListAssembler.toOrderItems(
+                    orderItemRepository.findAdminOrderRowsByOrderIdIn(new LinkedHashSet<>(orderIds)));
+            
+            log.info("관리자 주문 행 조회 완료 - 요청: {}건, 조회: {}건", orderIds.size(), orders.size());
+            
+            return RespDto.<List<AdminOrderListRespDto.AdminOrderItemDto>>builder()
+                    .code(1)
+                    .data(orders)
+                    .build();
             
         } catch (Exception e) {
-            log.warn("옵션 이름 조회 실패 - optionValueId: {}", optionValueId, e);
-            return "옵션-" + optionValueId;
+            log.error("관리자 주문 행 조회 실패 - orderIds: {}", orderIds, e);
+            return RespDto.<List<AdminOrderListRespDto.AdminOrderItemDto>>builder()
+                    .code(-1)
+                    .data(null)
+                    .build();
         }
     }
-}
\ No newline at end of file
+    
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+    
+    // LIKE 접두사 검색용 (입력한 %, _ 는 문자 그대로 일치, 기본 이스케이프 문자 \)
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,8 +1,10 @@
 package com.mongsom.dev.service.admin;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -18,10 +20,9 @@ import com.mongsom.dev.dto.admin.product.respDto.AdminProductDetailRespDto;
 import com.mongsom.dev.dto.admin.product.respDto.AdminProductListRespDto;
 import com.mongsom.dev.dto.admin.product.respDto.AdminProductRegistRespDto;
 import com.mongsom.dev.dto.admin.product.respDto.AdminProductUpdateRespDto;
-import com.mongsom.dev.entity.OptionCombinationMapping;
+import com.mongsom.dev.dto.admin.product.respDto.ProductCacheStatsRespDto;
 import com.mongsom.dev.entity.Product;
 import com.mongsom.dev.entity.ProductImg;
-import com.mongsom.dev.entity.ProductOptionCombination;
 import com.mongsom.dev.entity.ProductOptionType;
 import com.mongsom.dev.entity.ProductOptionValue;
 import com.mongsom.dev.repository.CartRepository;
@@ -31,6 +32,10 @@ import com.mongsom.dev.repository.ProductOptionCombinationRepository;
 import com.mongsom.dev.repository.ProductOptionTypeRepository;
 import com.mongsom.dev.repository.ProductOptionValueRepository;
 import com.mongsom.dev.repository.ProductRepository;
+import com.mongsom.dev.service.OptionNameDictionary;
+import com.mongsom.dev.service.ProductDetailCache;
+import com.mongsom.dev.service.ProductStatsService;
+import com.mongsom.dev.service.search.SearchIndexService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +45,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class AdminProductService {
     
+    // 커서 첫 페이지 기준 시각 (모든 상품보다 이후)
+    private static final LocalDateTime CURSOR_MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+    
     private final ProductRepository productRepository;
     private final ProductOptionTypeRepository productOptionTypeRepository;
     private final ProductImgRepository productImgRepository;
@@ -47,6 +55,12 @@ public class AdminProductService {
     private final ProductOptionCombinationRepository productOptionCombinationRepository;
     private final OptionCombinationMappingRepository optionCombinationMappingRepository;
     private final CartRepository cartRepository;
+    private final ProductStatsService productStatsService;
+    private final ProductDetailCache productDetailCache;
+    private final OptionNameDictionary optionNameDictionary;
+    private final OptionCombinationGenerator optionCombinationGenerator;
+    private final ProductUpdateDiffer productUpdateDiffer;
+    private final SearchIndexService searchIndexService;
     
     /**
      * 상품 등록
@@ -152,6 +166,11 @@ public class AdminProductService {
             
             // 6. 최종 저장 (Cascade로 모든 연관 엔티티 자동 저장)
             productRepository.save(savedProduct);
+            
+            // 7. 정렬용 집계 행 생성, 상품 상세 캐시 무효화, 검색 색인
+            productStatsService.initProduct(productId);
+            productDetailCache.evict(productId);
+            searchIndexService.indexProduct(savedProduct);
             log.info("=== 상품 등록 완료 - productId: {} ===", productId);
             
             return RespDto.<AdminProductRegistRespDto>builder()
@@ -184,60 +203,9 @@ public class AdminProductService {
         
         if (allOptionValues.isEmpty()) return;
         
-        // 카테시안 곱으로 모든 조합 생성
-        List<List<ProductOptionValue>> combinations = cartesianProduct(allOptionValues);
-        
-        // 조합들을 저장 (재고 관련 로직 제거)
-        for (List<ProductOptionValue> combination : combinations) {
-            String combinationKey = combination.stream()
-                    .map(v -> v.getOptionValueId().toString())
-                    .sorted()
-                    .collect(Collectors.joining("-"));
-            
-            // 모든 옵션이 주문가능해야 조합도 주문가능
-            Integer stockStatus = combination.stream()
-                    .allMatch(v -> v.getStockStatus() == 1) ? 1 : 0;
-            
-            ProductOptionCombination combinationEntity = ProductOptionCombination.builder()
-                    .productId(product.getProductId())
-                    .combinationKey(combinationKey)
-                    .stockStatus(stockStatus)
-                    .isDeleted(0) // 기본값
-                    .build();
-            
-            productOptionCombinationRepository.save(combinationEntity);
-            
-            // 조합-옵션값 매핑 저장
-            for (ProductOptionValue value : combination) {
-                OptionCombinationMapping mapping = OptionCombinationMapping.builder()
-                        .combinationId(combinationEntity.getCombinationId())
-                        .optionValueId(value.getOptionValueId())
-                        .build();
-                
-                optionCombinationMappingRepository.save(mapping);
-            }
-        }
-    }
-
-    // 카테시안 곱 계산 헬퍼 메서드
-    private List<List<ProductOptionValue>> cartesianProduct(List<List<ProductOptionValue>> lists) {
-        if (lists.isEmpty()) {
-            return Arrays.asList(Arrays.asList());
-        }
-        
-        List<ProductOptionValue> head = lists.get(0);
-        List<List<ProductOptionValue>> tail = cartesianProduct(lists.subList(1, lists.size()));
-        
-        List<List<ProductOptionValue>> result = new ArrayList<>();
-        for (ProductOptionValue h : head) {
-            for (List<ProductOptionValue> t : tail) {
-                List<ProductOptionValue> combination = new ArrayList<>();
-                combination.add(h);
-                combination.addAll(t);
-                result.add(combination);
-            }
-        }
-        return result;
+        // 모든 조합 생성 후 일괄 저장
+        int combinationCount = optionCombinationGenerator.generate(product.getProductId(), allOptionValues);
+        log.info("옵션 조합 생성 완료 - productId: {}, 조합 수: {}", product.getProductId(), combinationCount);
     }
     
     /**
@@ -372,118 +340,23 @@ public class AdminProductService {
                     .deletedOptionValues(0)
                     .build();
             
-            // 3. 이미지 전체 삭제 후 재생성
+            // 3. 이미지 변경분 반영
             if (reqDto.getProductImages() != null && !reqDto.getProductImages().isEmpty()) {
-                log.info("이미지 전체 교체 시작 - 새 이미지 개수: {}", reqDto.getProductImages().size());
-                
-                // 3-1. 기존 이미지 전체 삭제
-                List<ProductImg> existingImages = productImgRepository.findByProductId(productId);
-                int deletedCount = existingImages.size();
-                productImgRepository.deleteByProductId(productId);
-                summary.setDeletedImages(deletedCount);
-                log.info("기존 이미지 전체 삭제 완료 - 삭제된 개수: {}", deletedCount);
-                
-                // 3-2. 새 이미지 생성
-                int addedCount = 0;
-                for (AdminProductUpdateReqDto.ProductImageDto imageDto : reqDto.getProductImages()) {
-                    if (imageDto.getIsDeleted() == 0) { // 삭제되지 않은 이미지만 생성
-                        ProductImg newImg = ProductImg.builder()
-                                .productId(productId)
-                                .productImgUrl(imageDto.getProductImgUrl())
-                                .build();
-                        productImgRepository.save(newImg);
-                        addedCount++;
-                    }
-                }
-                summary.setAddedImages(addedCount);
-                log.info("새 이미지 생성 완료 - 생성된 개수: {}", addedCount);
+                log.info("이미지 반영 시작 - 요청 이미지 개수: {}", reqDto.getProductImages().size());
+                productUpdateDiffer.applyImages(productId, reqDto.getProductImages(), summary);
             }
             
-            // 4. 옵션 수정 (기존 방식 유지)
+            // 4. 옵션 타입/값 변경분 반영 (삭제/품절된 옵션이 담긴 장바구니 정리 포함)
             if (reqDto.getOptionTypes() != null) {
                 log.info("옵션 수정 시작 - 옵션타입 개수: {}", reqDto.getOptionTypes().size());
-                
-                for (AdminProductUpdateReqDto.OptionTypeDto optionTypeDto : reqDto.getOptionTypes()) {
-                    if (optionTypeDto.getIsDeleted() == 1) {
-                        // 옵션 타입 삭제
-                        if (optionTypeDto.getOptionTypeId() != null) {
-                            productOptionTypeRepository.deleteById(optionTypeDto.getOptionTypeId());
-                            summary.setDeletedOptionTypes(summary.getDeletedOptionTypes() + 1);
-                            log.info("옵션타입 삭제 - ID: {}", optionTypeDto.getOptionTypeId());
-                        }
-                        continue;
-                    }
-                    
-                    ProductOptionType optionType;
-                    if (optionTypeDto.getOptionTypeId() == null) {
-                        // 신규 옵션 타입 생성
-                        optionType = ProductOptionType.builder()
-                                .productId(productId)
-                                .typeName(optionTypeDto.getTypeName())
-                                .isRequired(optionTypeDto.getIsRequired())
-                                .sortOrder(optionTypeDto.getSortOrder())
-                                .build();
-                        optionType = productOptionTypeRepository.save(optionType);
-                        summary.setAddedOptionTypes(summary.getAddedOptionTypes() + 1);
-                        log.info("옵션타입 추가 - 이름: {}", optionTypeDto.getTypeName());
-                    } else {
-                        // 기존 옵션 타입 수정
-                        optionType = productOptionTypeRepository.findById(optionTypeDto.getOptionTypeId())
-                                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 옵션 타입입니다."));
-                        optionType.updateAll(
-                            optionTypeDto.getTypeName(),
-                            optionTypeDto.getIsRequired(),
-                            optionTypeDto.getSortOrder()
-                        );
-                        optionType = productOptionTypeRepository.save(optionType);
-                        summary.setUpdatedOptionTypes(summary.getUpdatedOptionTypes() + 1);
-                        log.info("옵션타입 수정 - ID: {}", optionTypeDto.getOptionTypeId());
-                    }
-                    
-                    // 5. 옵션 값 수정
-                    if (optionTypeDto.getOptionValues() != null) {
-                        for (AdminProductUpdateReqDto.OptionValueDto optionValueDto : optionTypeDto.getOptionValues()) {
-                            if (optionValueDto.getIsDeleted() == 1) {
-                                // 옵션 값 삭제
-                                if (optionValueDto.getOptionValueId() != null) {
-                                    productOptionValueRepository.deleteById(optionValueDto.getOptionValueId());
-                                    summary.setDeletedOptionValues(summary.getDeletedOptionValues() + 1);
-                                    log.info("옵션값 삭제 - ID: {}", optionValueDto.getOptionValueId());
-                                }
-                            } else if (optionValueDto.getOptionValueId() == null) {
-                                // 신규 옵션 값 생성
-                                ProductOptionValue optionValue = ProductOptionValue.builder()
-                                        .optionTypeId(optionType.getOptionTypeId())
-                                        .valueName(optionValueDto.getValueName())
-                                        .priceAdjustment(optionValueDto.getPriceAdjustment())
-                                        .stockStatus(optionValueDto.getStockStatus())
-                                        .sortOrder(optionValueDto.getSortOrder())
-                                        .build();
-                                productOptionValueRepository.save(optionValue);
-                                summary.setAddedOptionValues(summary.getAddedOptionValues() + 1);
-                                log.info("옵션값 추가 - 이름: {}", optionValueDto.getValueName());
-                            } else {
-                                // 기존 옵션 값 수정
-                                ProductOptionValue optionValue = productOptionValueRepository.findById(optionValueDto.getOptionValueId())
-                                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 옵션 값입니다."));
-                                optionValue.updateAll(
-                                    optionValueDto.getValueName(),
-                                    optionValueDto.getPriceAdjustment(),
-                                    optionValueDto.getStockStatus(),
-                                    optionValueDto.getSortOrder()
-                                );
-                                productOptionValueRepository.save(optionValue);
-                                summary.setUpdatedOptionValues(summary.getUpdatedOptionValues() + 1);
-                                log.info("옵션값 수정 - ID: {}", optionValueDto.getOptionValueId());
-                            }
-                        }
-                    }
-                }
+                productUpdateDiffer.applyOptions(productId, reqDto.getOptionTypes(), summary);
                 log.info("옵션 수정 완료");
             }
             
-            // 6. 최종 저장
+            // 5. 최종 저장
             productRepository.save(product);
+            productDetailCache.evict(productId);
+            searchIndexService.indexProduct(product);
             log.info("=== 상품 수정 완료 - productId: {} ===", productId);
             
             // 장바구니 정리 로직
@@ -494,23 +367,6 @@ public class AdminProductService {
                         productId, deletedCount);
             }
             
-            // 옵션이 품절되면 해당 옵션 장바구니에서 삭제
-            if (reqDto.getOptionTypes() != null) {
-                for (AdminProductUpdateReqDto.OptionTypeDto optionType : reqDto.getOptionTypes()) {
-                    if (optionType.getOptionValues() != null) {
-                        for (AdminProductUpdateReqDto.OptionValueDto optionValue : optionType.getOptionValues()) {
-                            // 품절된 옵션이면서 기존 옵션(ID가 있는 경우)인 경우에만 장바구니 삭제
-                            if (optionValue.getStockStatus() == 0 && optionValue.getOptionValueId() != null) {
-                                int deleted1 = cartRepository.deleteByOption1(optionValue.getOptionValueId());
-                                int deleted2 = cartRepository.deleteByOption2(optionValue.getOptionValueId());
-                                log.info("품절 옵션 장바구니 삭제 완료 - optionValueId: {}, 삭제된 아이템: {}개", 
-                                        optionValue.getOptionValueId(), (deleted1 + deleted2));
-                            }
-                        }
-                    }
-                }
-            }
-            
             return RespDto.<AdminProductUpdateRespDto>builder()
                     .code(1)
                     .data(AdminProductUpdateRespDto.success(productId, summary))
@@ -560,11 +416,8 @@ public class AdminProductService {
                     .map(this::convertToProductSummary)
                     .collect(Collectors.toList());
             
-            // 각 상품의 옵션 타입명 조회 (N+1 해결을 위해 일괄 조회)
-            for (AdminProductListRespDto.ProductSummaryDto product : productSummaries) {
-                List<String> optionTypeNames = productRepository.findOptionTypeNamesByProductId(product.getProductId());
-                product.setOptionTypeNames(optionTypeNames);
-            }
+            // 옵션 타입명 일괄 조회 (N+1 방지)
+            attachOptionTypeNames(productSummaries);
             
             // 응답 생성
             AdminProductListRespDto response = AdminProductListRespDto.of(
@@ -592,6 +445,88 @@ public class AdminProductService {
         }
     }
     
+    /**
+     * 관리자 상품 목록 조회 (키셋 페이지네이션)
+     * 이전 페이지 마지막 상품의 (createdAt, productId) 다음부터 조회 - 깊은 페이지도 OFFSET 없이 인덱스 범위 스캔
+     */
+    @Transactional(readOnly = true)
+    public RespDto<AdminProductListRespDto> getProductListAfter(LocalDateTime cursorCreatedAt, Integer cursorProductId,
+                                                               Integer size, String name, Integer premium,
+                                                               Integer outOfStock, Integer paused) {
+        try {
+            log.info("=== 관리자 상품 목록 조회(커서) 시작 - cursor: {}/{}, 크기: {} ===", cursorCreatedAt, cursorProductId, size);
+            
+            // 첫 페이지는 가장 최근 상품부터
+            boolean firstPage = cursorCreatedAt == null || cursorProductId == null;
+            
+            // size + 1 건 조회로 다음 페이지 여부 판단
+            List<Object[]> rows = productRepository.findProductsWithDetailsAfter(
+                    firstPage ? CURSOR_MAX_CREATED_AT : cursorCreatedAt,
+                    firstPage ? Integer.MAX_VALUE : cursorProductId,
+                    name, premium, outOfStock, paused,
+                    PageRequest.of(0, size + 1));
+            
+            boolean hasNext = rows.size() > size;
+            if (hasNext) {
+                rows = rows.subList(0, size);
+            }
+            
+            List<AdminProductListRespDto.ProductSummaryDto> productSummaries = rows.stream()
+                    .map(this::convertToProductSummary)
+                    .collect(Collectors.toList());
+            attachOptionTypeNames(productSummaries);
+            
+            AdminProductListRespDto.ProductSummaryDto last = productSummaries.isEmpty()
+                    ? null : productSummaries.get(productSummaries.size() - 1);
+            
+            AdminProductListRespDto response = AdminProductListRespDto.builder()
+                    .products(productSummaries)
+                    .size(size)
+                    .hasNext(hasNext)
+                    .hasPrevious(!firstPage)
+                    .nextCursorCreatedAt(hasNext ? last.getCreatedAt() : null)
+                    .nextCursorProductId(hasNext ? last.getProductId() : null)
+                    .build();
+            
+            log.info("=== 상품 목록 조회(커서) 완료 - {}건, hasNext: {} ===", productSummaries.size(), hasNext);
+            
+            return RespDto.<AdminProductListRespDto>builder()
+                    .code(1)
+                    .data(response)
+                    .build();
+                    
+        } catch (Exception e) {
+            log.error("상품 목록 조회(커서) 실패 - error: {}", e.getMessage(), e);
+            
+            return RespDto.<AdminProductListRespDto>builder()
+                    .code(-1)
+                    .data(null)
+                    .build();
+        }
+    }
+    
+    /**
+     * 페이지 상품들의 옵션 타입명 일괄 조회 후 설정
+     */
+    private void attachOptionTypeNames(List<AdminProductListRespDto.ProductSummaryDto> productSummaries) {
+        if (productSummaries.isEmpty()) {
+            return;
+        }
+        
+        List<Integer> productIds = productSummaries.stream()
+                .map(AdminProductListRespDto.ProductSummaryDto::getProductId)
+                .collect(Collectors.toList());
+        
+        Map<Integer, List<String>> typeNamesByProductId = new HashMap<>();
+        for (Object[] row : productRepository.findOptionTypeNamesByProductIdIn(productIds)) {
+            typeNamesByProductId.computeIfAbsent((Integer) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+        
+        for (AdminProductListRespDto.ProductSummaryDto product : productSummaries) {
+            product.setOptionTypeNames(typeNamesByProductId.getOrDefault(product.getProductId(), new ArrayList<>()));
+        }
+    }
+    
     /**
      * Object[] 을 ProductSummaryDto로 변환
      */
@@ -645,6 +580,8 @@ public class AdminProductService {
             // 3. delete_status를 1로 변경
             product.softDelete(); // Product 엔티티에 이 메서드 추가 필요
             productRepository.save(product);
+            productDetailCache.evict(productId);
+            searchIndexService.indexProduct(product);
             
             log.info("상품 소프트 삭제 완료 - productId: {}, name: {}", productId, product.getName());
             
@@ -682,9 +619,13 @@ public class AdminProductService {
             // 해당 타입의 모든 옵션 값도 삭제
             List<ProductOptionValue> values = productOptionValueRepository.findByOptionTypeId(optionTypeId);
             values.forEach(ProductOptionValue::softDelete);
+            optionNameDictionary.evict(values.stream()
+                    .map(ProductOptionValue::getOptionValueId)
+                    .collect(Collectors.toList()));
             
             // 관련 조합들도 재생성 필요
             regenerateProductCombinations(optionType.getProductId());
+            productDetailCache.evict(optionType.getProductId());
             
             return RespDto.<Boolean>builder().code(1).data(true).build();
         } catch (Exception e) {
@@ -700,10 +641,12 @@ public class AdminProductService {
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 옵션 값입니다."));
             
             optionValue.softDelete();
+            optionNameDictionary.evict(optionValueId);
             
             // 관련 조합들 재생성
             ProductOptionType optionType = optionValue.getOptionType();
             regenerateProductCombinations(optionType.getProductId());
+            productDetailCache.evict(optionType.getProductId());
             
             return RespDto.<Boolean>builder().code(1).data(true).build();
         } catch (Exception e) {
@@ -712,8 +655,19 @@ public class AdminProductService {
         }
     }
 
+    /**
+     * 상품 상세 캐시 통계 조회 (캐시 크기 조정용)
+     */
+    public RespDto<ProductCacheStatsRespDto> getDetailCacheStats() {
+        return RespDto.<ProductCacheStatsRespDto>builder()
+                .code(1)
+                .data(productDetailCache.getStats())
+                .build();
+    }
+    
     private void regenerateProductCombinations(Integer productId) {
-        // 기존 조합들 삭제
+        // 기존 매핑/조합 일괄 삭제
+        optionCombinationMappingRepository.deleteByProductId(productId);
         productOptionCombinationRepository.deleteByProductId(productId);
         
         // 새로운 조합들 생성
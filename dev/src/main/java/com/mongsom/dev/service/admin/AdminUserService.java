@@ -15,8 +15,10 @@ import com.mongsom.dev.dto.admin.user.reqDto.AdminLoginReqDto;
 import com.mongsom.dev.dto.admin.user.reqDto.MileageChargeReqDto;
 import com.mongsom.dev.dto.admin.user.respDto.AdminUserListRespDto;
 import com.mongsom.dev.dto.admin.user.respDto.MileageChargeRespDto;
+import com.mongsom.dev.entity.MileageLedger;
 import com.mongsom.dev.entity.User;
 import com.mongsom.dev.repository.UserRepository;
+import com.mongsom.dev.service.MileageService;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +31,7 @@ public class AdminUserService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MileageService mileageService;
     
     /**
      * 관리자 회원 정보 조회 (페이지네이션 + 검색)
@@ -185,13 +188,19 @@ public class AdminUserService {
             }
             
             User user = userOpt.get();
-            Integer beforeMileage = user.getMileage();
             
-            // 2. 마일리지 충전
-            user.addMileage(reqDto.getChargeAmount());
-            userRepository.save(user);
+            // 2. 마일리지 충전 (잔액 증가 + 원장 기록, 회원 행 전체를 다시 저장하지 않음)
+            if (!mileageService.add(reqDto.getUserCode(), reqDto.getChargeAmount(), MileageLedger.REASON_ADMIN_CHARGE, null)) {
+                log.warn("마일리지 충전 불가 - userCode: {}, chargeAmount: {}", 
+                        reqDto.getUserCode(), reqDto.getChargeAmount());
+                return RespDto.<MileageChargeRespDto>builder()
+                        .code(-1)
+                        .data(MileageChargeRespDto.failure("충전 금액이 올바르지 않습니다."))
+                        .build();
+            }
             
-            Integer afterMileage = user.getMileage();
+            Integer afterMileage = mileageService.getBalance(reqDto.getUserCode());
+            Integer beforeMileage = afterMileage - reqDto.getChargeAmount();
             
             log.info("마일리지 충전 완료 - userCode: {}, 충전 전: {}, 충전 후: {}, 충전액: {}",
                     reqDto.getUserCode(), beforeMileage, afterMileage, reqDto.getChargeAmount());
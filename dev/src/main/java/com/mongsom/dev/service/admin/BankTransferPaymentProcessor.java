@@ -0,0 +1,61 @@
+package com.mongsom.dev.service.admin;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.mongsom.dev.entity.OrderItem;
+import com.mongsom.dev.repository.DeliveryJdbcRepository;
+import com.mongsom.dev.repository.PaymentsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 무통장입금 주문 결제완료 처리 (배송정보 수정, 송장 파일 업로드 공용)
+ * 호출하는 쪽 트랜잭션 안에서 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BankTransferPaymentProcessor {
+
+    public static final String PAYMENT_COMPLETED_STATUS = "결제완료";
+    public static final String BANK_TRANSFER_REASON = "무통장입금";
+
+    private final PaymentsRepository paymentsRepository;
+    private final DeliveryJdbcRepository deliveryJdbcRepository;
+
+    /**
+     * 결제완료로 바꾸는 무통장입금 주문인지 확인
+     */
+    public static boolean isBankTransferCompletion(String deliveryStatus, OrderItem orderItem) {
+        return PAYMENT_COMPLETED_STATUS.equals(deliveryStatus)
+                && BANK_TRANSFER_REASON.equals(orderItem.getDeliveryStatusReason());
+    }
+
+    /**
+     * 무통장입금 payments 테이블 일괄 처리
+     * 결제 정보가 있으면 계좌이체 결제완료로 수정, 없으면 새로 생성
+     */
+    public void processPayments(List<OrderItem> orderItems) {
+        if (orderItems.isEmpty()) {
+            return;
+        }
+        Set<Integer> orderIdsWithPayment = new HashSet<>(paymentsRepository.findOrderIdsWithPayment(
+                orderItems.stream().map(OrderItem::getOrderId).collect(Collectors.toList())));
+
+        Map<Boolean, List<OrderItem>> partitioned = orderItems.stream()
+                .collect(Collectors.partitioningBy(orderItem -> orderIdsWithPayment.contains(orderItem.getOrderId())));
+
+        deliveryJdbcRepository.updateBankTransferPayments(partitioned.get(true));
+        deliveryJdbcRepository.insertBankTransferPayments(partitioned.get(false));
+
+        log.info("무통장입금 Payment 처리 완료 - 수정: {}건, 생성: {}건",
+                partitioned.get(true).size(), partitioned.get(false).size());
+    }
+}
@@ -0,0 +1,284 @@
+package com.mongsom.dev.service.admin;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 택배사 송장 회신 파일(xlsx/csv) 스트리밍 읽기
+ * xlsx는 POI 이벤트(SAX) 방식, csv는 한 줄씩 읽어 행 단위로 넘기므로 파일 크기와 무관하게 메모리 사용량이 일정
+ * 첫 행은 헤더로 보고 "주문번호", "운송장번호"(또는 "송장번호") 열을 찾아 사용
+ */
+@Component
+public class InvoiceFileReader {
+
+    private static final String ORDER_NUM_HEADER = "주문번호";
+    private static final Set<String> INVOICE_NUM_HEADERS = Set.of("운송장번호", "송장번호");
+
+    // 한글 CSV는 택배사 프로그램에 따라 UTF-8 또는 MS949로 내려옴
+    private static final Charset FALLBACK_CSV_CHARSET = Charset.forName("MS949");
+    private static final int CHARSET_SNIFF_BYTES = 8 * 1024;
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class InvoiceRow {
+        private final int rowNum;          // 파일상 행 번호 (1부터, 헤더 포함)
+        private final String orderNum;
+        private final String invoiceNum;
+    }
+
+    /**
+     * 파일을 읽어 데이터 행마다 handler 호출
+     *
+     * @param fileName 원본 파일명 (확장자로 형식 판단)
+     */
+    public void read(File file, String fileName, Consumer<InvoiceRow> handler) throws IOException {
+        String lowerName = fileName != null ? fileName.toLowerCase() : "";
+        if (lowerName.endsWith(".xlsx")) {
+            readXlsx(file, handler);
+        } else if (lowerName.endsWith(".csv")) {
+            readCsv(file, handler);
+        } else {
+            throw new IllegalArgumentException("xlsx 또는 csv 파일만 업로드할 수 있습니다.");
+        }
+    }
+
+    private void readXlsx(File file, Consumer<InvoiceRow> handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            XSSFReader reader = new XSSFReader(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IllegalArgumentException("시트가 없는 파일입니다.");
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new SheetRowHandler(handler), new PlainNumberFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("엑셀 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private void readCsv(File file, Consumer<InvoiceRow> handler) throws IOException {
+        Charset charset = detectCsvCharset(file);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file.toPath()), charset))) {
+            ColumnMapper columns = new ColumnMapper(handler);
+            String line;
+            int rowNum = 0;
+            while ((line = reader.readLine()) != null) {
+                rowNum++;
+                if (rowNum == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                    line = line.substring(1); // BOM 제거
+                }
+                List<String> cells = splitCsvLine(line);
+                for (int col = 0; col < cells.size(); col++) {
+                    columns.cell(col, cells.get(col));
+                }
+                columns.endRow(rowNum);
+            }
+            columns.verifyHeader();
+        }
+    }
+
+    /**
+     * 앞부분이 올바른 UTF-8이면 UTF-8, 아니면 MS949
+     */
+    private Charset detectCsvCharset(File file) throws IOException {
+        byte[] head;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            head = in.readNBytes(CHARSET_SNIFF_BYTES);
+        }
+        // 읽기 경계에서 잘린 마지막 멀티바이트 문자는 판단에서 제외
+        int length = head.length;
+        if (length == CHARSET_SNIFF_BYTES) {
+            int lead = length - 1;
+            while (lead > 0 && lead > length - 4 && (head[lead] & 0xC0) == 0x80) {
+                lead--;
+            }
+            int b = head[lead] & 0xFF;
+            int expected = b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : b >= 0xC0 ? 2 : 1;
+            if (lead + expected > length) {
+                length = lead;
+            }
+        }
+        try {
+            StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(head, 0, length));
+            return StandardCharsets.UTF_8;
+        } catch (CharacterCodingException e) {
+            return FALLBACK_CSV_CHARSET;
+        }
+    }
+
+    /**
+     * CSV 한 줄 분리 (큰따옴표로 감싼 값, "" 이스케이프 지원 / 값 안의 줄바꿈은 미지원)
+     */
+    private List<String> splitCsvLine(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    /**
+     * 헤더 행에서 필요한 열 위치를 찾고, 이후 행은 해당 열 값만 모아 InvoiceRow로 전달
+     */
+    private static class ColumnMapper {
+
+        private final Consumer<InvoiceRow> handler;
+        private int orderNumCol = -1;
+        private int invoiceNumCol = -1;
+        private boolean headerRead;
+        private String orderNum;
+        private String invoiceNum;
+
+        ColumnMapper(Consumer<InvoiceRow> handler) {
+            this.handler = handler;
+        }
+
+        void cell(int col, String value) {
+            String trimmed = value != null ? value.trim() : null;
+            if (!headerRead) {
+                if (ORDER_NUM_HEADER.equals(trimmed)) {
+                    orderNumCol = col;
+                } else if (INVOICE_NUM_HEADERS.contains(trimmed)) {
+                    invoiceNumCol = col;
+                }
+            } else if (col == orderNumCol) {
+                orderNum = trimmed;
+            } else if (col == invoiceNumCol) {
+                invoiceNum = trimmed;
+            }
+        }
+
+        void endRow(int rowNum) {
+            if (!headerRead) {
+                headerRead = true;
+                verifyHeader();
+                return;
+            }
+            boolean blank = (orderNum == null || orderNum.isEmpty()) && (invoiceNum == null || invoiceNum.isEmpty());
+            if (!blank) {
+                handler.accept(new InvoiceRow(rowNum, orderNum, invoiceNum));
+            }
+            orderNum = null;
+            invoiceNum = null;
+        }
+
+        void verifyHeader() {
+            if (orderNumCol < 0 || invoiceNumCol < 0) {
+                throw new IllegalArgumentException("첫 행에 '주문번호'와 '운송장번호'(또는 '송장번호') 열이 있어야 합니다.");
+            }
+        }
+    }
+
+    /**
+     * XSSF 이벤트 → ColumnMapper 연결 (빈 행은 이벤트가 오지 않으므로 행 번호는 POI 기준 사용)
+     */
+    private static class SheetRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final ColumnMapper columns;
+        private int nextCol;
+
+        SheetRowHandler(Consumer<InvoiceRow> handler) {
+            this.columns = new ColumnMapper(handler);
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            nextCol = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            columns.endRow(rowNum + 1);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int col = cellReference != null ? new CellReference(cellReference).getCol() : nextCol;
+            nextCol = col + 1;
+            columns.cell(col, formattedValue);
+        }
+
+        @Override
+        public void endSheet() {
+            columns.verifyHeader();
+        }
+    }
+
+    /**
+     * 숫자 셀로 저장된 송장번호가 지수 표기(1.23457E+11)로 바뀌지 않도록 정수는 그대로 출력
+     */
+    private static class PlainNumberFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            if (value == Math.rint(value) && !Double.isInfinite(value) && "General".equalsIgnoreCase(formatString)) {
+                return new BigDecimal(value).toPlainString();
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.mongsom.dev.service.admin;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongsom.dev.common.dto.RespDto;
+import com.mongsom.dev.dto.admin.delivery.respDto.InvoiceImportRespDto;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 택배사 송장 회신 파일 업로드
+ * 업로드 파일은 임시 파일로 저장 후 백그라운드에서 스트리밍으로 읽고, CHUNK_SIZE 행씩 InvoiceImportWriter로 반영
+ * 진행 상황(처리/성공/실패 행 수, 행별 오류)은 작업 ID로 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InvoiceImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int ERROR_LIMIT = 1_000;
+
+    private final InvoiceFileReader invoiceFileReader;
+    private final InvoiceImportWriter invoiceImportWriter;
+
+    // 완료된 작업도 일정 시간 조회 가능하도록 유지
+    private final Cache<String, ImportJob> jobs = Caffeine.newBuilder()
+            .maximumSize(100)
+            .expireAfterWrite(Duration.ofHours(6))
+            .build();
+
+    // 업로드는 한 번에 하나씩 처리 (DB 부하 제한)
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "invoice-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 송장 파일 업로드 접수 (처리는 백그라운드에서 진행)
+     *
+     * @param deliveryCom    택배사 (null이면 기존 값 유지)
+     * @param deliveryStatus 변경할 배송상태 (null이면 기존 값 유지)
+     */
+    public RespDto<InvoiceImportRespDto> startImport(MultipartFile file, String deliveryCom, String deliveryStatus) {
+        String fileName = file.getOriginalFilename();
+        try {
+            if (file.isEmpty()) {
+                throw new IllegalArgumentException("빈 파일입니다.");
+            }
+            String lowerName = fileName != null ? fileName.toLowerCase() : "";
+            if (!lowerName.endsWith(".xlsx") && !lowerName.endsWith(".csv")) {
+                throw new IllegalArgumentException("xlsx 또는 csv 파일만 업로드할 수 있습니다.");
+            }
+
+            // 요청이 끝나면 MultipartFile이 정리되므로 임시 파일로 옮겨 둠
+            Path tempFile = Files.createTempFile("invoice-import-", lowerName.substring(lowerName.lastIndexOf('.')));
+            file.transferTo(tempFile);
+
+            ImportJob job = new ImportJob(UUID.randomUUID().toString(), fileName);
+            jobs.put(job.jobId, job);
+            executor.submit(() -> runImport(job, tempFile, deliveryCom, deliveryStatus));
+
+            log.info("송장 파일 업로드 접수 - jobId: {}, 파일: {}, 크기: {}bytes", job.jobId, fileName, file.getSize());
+
+            return RespDto.<InvoiceImportRespDto>builder()
+                    .code(1)
+                    .data(job.toRespDto())
+                    .build();
+
+        } catch (IllegalArgumentException e) {
+            log.warn("송장 파일 업로드 거부 - 파일: {}, 사유: {}", fileName, e.getMessage());
+            return RespDto.<InvoiceImportRespDto>builder()
+                    .code(-1)
+                    .data(InvoiceImportRespDto.builder().fileName(fileName).status("실패").message(e.getMessage()).build())
+                    .build();
+        } catch (Exception e) {
+            log.error("송장 파일 업로드 접수 실패 - 파일: {}", fileName, e);
+            return RespDto.<InvoiceImportRespDto>builder()
+                    .code(-1)
+                    .data(null)
+                    .build();
+        }
+    }
+
+    /**
+     * 업로드 진행 상황 조회
+     */
+    public RespDto<InvoiceImportRespDto> getImportStatus(String jobId) {
+        ImportJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            return RespDto.<InvoiceImportRespDto>builder()
+                    .code(-1)
+                    .data(null)
+                    .build();
+        }
+        return RespDto.<InvoiceImportRespDto>builder()
+                .code(1)
+                .data(job.toRespDto())
+                .build();
+    }
+
+    private void runImport(ImportJob job, Path tempFile, String deliveryCom, String deliveryStatus) {
+        job.status = "진행중";
+        job.startedAt = LocalDateTime.now();
+        log.info("송장 파일 반영 시작 - jobId: {}", job.jobId);
+
+        try {
+            List<InvoiceFileReader.InvoiceRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            invoiceFileReader.read(tempFile.toFile(), job.fileName, row -> {
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    applyChunk(job, chunk, deliveryCom, deliveryStatus);
+                }
+            });
+            if (!chunk.isEmpty()) {
+                applyChunk(job, chunk, deliveryCom, deliveryStatus);
+            }
+
+            job.status = "완료";
+            log.info("송장 파일 반영 완료 - jobId: {}, 처리: {}행, 성공: {}행, 실패: {}행",
+                    job.jobId, job.processedRows.get(), job.successRows.get(), job.failedRows.get());
+
+        } catch (IllegalArgumentException e) {
+            job.status = "실패";
+            job.message = e.getMessage();
+            log.warn("송장 파일 형식 오류 - jobId: {}, 사유: {}", job.jobId, e.getMessage());
+        } catch (Exception e) {
+            job.status = "실패";
+            job.message = "파일 처리 중 오류가 발생했습니다: " + e.getMessage();
+            log.error("송장 파일 반영 실패 - jobId: {}", job.jobId, e);
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e) {
+                log.warn("송장 임시 파일 삭제 실패 - {}", tempFile, e);
+            }
+        }
+    }
+
+    /**
+     * 청크 반영 후 진행률 갱신 (청크 단위 DB 오류는 해당 청크 행만 실패 처리하고 계속 진행)
+     */
+    private void applyChunk(ImportJob job, List<InvoiceFileReader.InvoiceRow> chunk,
+                            String deliveryCom, String deliveryStatus) {
+        List<InvoiceImportRespDto.RowErrorDto> errors;
+        try {
+            errors = invoiceImportWriter.applyChunk(chunk, deliveryCom, deliveryStatus);
+        } catch (Exception e) {
+            log.error("송장 청크 반영 실패 - jobId: {}, 행: {}~{}", job.jobId,
+                    chunk.get(0).getRowNum(), chunk.get(chunk.size() - 1).getRowNum(), e);
+            errors = chunk.stream()
+                    .map(row -> InvoiceImportRespDto.RowErrorDto.builder()
+                            .rowNum(row.getRowNum())
+                            .orderNum(row.getOrderNum())
+                            .message("반영 중 오류가 발생했습니다.")
+                            .build())
+                    .toList();
+        }
+
+        job.processedRows.addAndGet(chunk.size());
+        job.successRows.addAndGet(chunk.size() - errors.size());
+        job.failedRows.addAndGet(errors.size());
+        job.addErrors(errors);
+        chunk.clear();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 업로드 작업 진행 상황 (백그라운드 스레드가 갱신, 조회 요청이 읽음)
+     */
+    private static class ImportJob {
+
+        private final String jobId;
+        private final String fileName;
+        private final AtomicInteger processedRows = new AtomicInteger();
+        private final AtomicInteger successRows = new AtomicInteger();
+        private final AtomicInteger failedRows = new AtomicInteger();
+        private final List<InvoiceImportRespDto.RowErrorDto> errors = new ArrayList<>();
+        private volatile String status = "대기";
+        private volatile String message;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        ImportJob(String jobId, String fileName) {
+            this.jobId = jobId;
+            this.fileName = fileName;
+        }
+
+        synchronized void addErrors(List<InvoiceImportRespDto.RowErrorDto> chunkErrors) {
+            for (InvoiceImportRespDto.RowErrorDto error : chunkErrors) {
+                if (errors.size() >= ERROR_LIMIT) {
+                    return;
+                }
+                errors.add(error);
+            }
+        }
+
+        synchronized InvoiceImportRespDto toRespDto() {
+            return InvoiceImportRespDto.builder()
+                    .jobId(jobId)
+                    .fileName(fileName)
+                    .status(status)
+                    .processedRows(processedRows.get())
+                    .successRows(successRows.get())
+                    .failedRows(failedRows.get())
+                    .message(message)
+                    .errors(new ArrayList<>(errors))
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
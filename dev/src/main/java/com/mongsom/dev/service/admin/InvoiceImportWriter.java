@@ -0,0 +1,141 @@
+package com.mongsom.dev.service.admin;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mongsom.dev.dto.admin.delivery.respDto.InvoiceImportRespDto;
+import com.mongsom.dev.entity.OrderItem;
+import com.mongsom.dev.repository.DeliveryJdbcRepository;
+import com.mongsom.dev.repository.OrderItemRepository;
+import com.mongsom.dev.service.event.DomainEvent;
+import com.mongsom.dev.service.event.DomainEventPublisher;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 송장 파일 한 청크 반영 (청크마다 별도 트랜잭션)
+ * 주문번호 → 주문 ID는 IN 조회 한 번, 송장번호는 JDBC 배치 UPDATE 한 번으로 처리
+ * 결제완료로 바꾸는 무통장입금 주문은 배송정보 수정과 같이 결제일시/결제 정보까지 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class InvoiceImportWriter {
+
+    // order_item.invoice_num VARCHAR(255)
+    private static final int MAX_INVOICE_NUM_LENGTH = 255;
+
+    private final OrderItemRepository orderItemRepository;
+    private final DeliveryJdbcRepository deliveryJdbcRepository;
+    private final DomainEventPublisher domainEventPublisher;
+    private final BankTransferPaymentProcessor bankTransferPaymentProcessor;
+
+    /**
+     * @return 실패한 행 목록 (나머지 행은 반영됨)
+     */
+    @Transactional
+    public List<InvoiceImportRespDto.RowErrorDto> applyChunk(List<InvoiceFileReader.InvoiceRow> rows,
+                                                             String deliveryCom, String deliveryStatus) {
+        List<InvoiceImportRespDto.RowErrorDto> errors = new ArrayList<>();
+
+        // 1. 행 검증
+        List<InvoiceFileReader.InvoiceRow> validRows = new ArrayList<>(rows.size());
+        for (InvoiceFileReader.InvoiceRow row : rows) {
+            String message = validate(row);
+            if (message != null) {
+                errors.add(rowError(row, message));
+            } else {
+                validRows.add(row);
+            }
+        }
+        if (validRows.isEmpty()) {
+            return errors;
+        }
+
+        // 2. 주문번호 → 주문 ID/회원 일괄 조회
+        Set<String> orderNums = new LinkedHashSet<>();
+        validRows.forEach(row -> orderNums.add(row.getOrderNum()));
+        Map<String, Integer> orderIdByOrderNum = new HashMap<>();
+        Map<Integer, Long> userCodeByOrderId = new HashMap<>();
+        for (Object[] result : orderItemRepository.findOrderIdsByOrderNumIn(orderNums)) {
+            Integer orderId = ((Number) result[1]).intValue();
+            orderIdByOrderNum.put((String) result[0], orderId);
+            userCodeByOrderId.put(orderId, ((Number) result[2]).longValue());
+        }
+
+        // 3. 송장번호 일괄 반영 (같은 주문번호가 여러 행이면 마지막 행 기준)
+        Map<Integer, String> invoiceNumByOrderId = new LinkedHashMap<>();
+        for (InvoiceFileReader.InvoiceRow row : validRows) {
+            Integer orderId = orderIdByOrderNum.get(row.getOrderNum());
+            if (orderId == null) {
+                errors.add(rowError(row, "존재하지 않는 주문번호입니다."));
+            } else {
+                invoiceNumByOrderId.put(orderId, row.getInvoiceNum());
+            }
+        }
+        deliveryJdbcRepository.updateInvoices(invoiceNumByOrderId, deliveryCom, deliveryStatus);
+
+        // 4. 무통장입금 주문 결제완료 처리 (payment_at 현재 시간, payments 수정/생성)
+        if (BankTransferPaymentProcessor.PAYMENT_COMPLETED_STATUS.equals(deliveryStatus) && !invoiceNumByOrderId.isEmpty()) {
+            completeBankTransfers(invoiceNumByOrderId, deliveryCom, deliveryStatus);
+        }
+        
+        // 5. 배송상태를 바꾼 경우 배송상태 변경 이벤트 (마이페이지 배송 건수는 이벤트 소비자가 재계산)
+        if (deliveryStatus != null) {
+            domainEventPublisher.publishAll(invoiceNumByOrderId.keySet().stream()
+                    .map(orderId -> DomainEvent.deliveryStatusChanged(orderId, userCodeByOrderId.get(orderId), deliveryStatus))
+                    .toList());
+        }
+
+        return errors;
+    }
+
+    private void completeBankTransfers(Map<Integer, String> invoiceNumByOrderId, String deliveryCom,
+                                       String deliveryStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderItem> bankTransferOrders = new ArrayList<>();
+        for (OrderItem orderItem : orderItemRepository.findByOrderIdIn(invoiceNumByOrderId.keySet())) {
+            if (!BankTransferPaymentProcessor.isBankTransferCompletion(deliveryStatus, orderItem)) {
+                continue;
+            }
+            orderItem.setDeliveryStatus(deliveryStatus);
+            if (deliveryCom != null) {
+                orderItem.setDeliveryCom(deliveryCom);
+            }
+            orderItem.setInvoiceNum(invoiceNumByOrderId.get(orderItem.getOrderId()));
+            orderItem.setPaymentAt(now);
+            bankTransferOrders.add(orderItem);
+        }
+        deliveryJdbcRepository.updateDeliveryInfo(bankTransferOrders);
+        bankTransferPaymentProcessor.processPayments(bankTransferOrders);
+    }
+
+    private String validate(InvoiceFileReader.InvoiceRow row) {
+        if (row.getOrderNum() == null || row.getOrderNum().isEmpty()) {
+            return "주문번호가 없습니다.";
+        }
+        if (row.getInvoiceNum() == null || row.getInvoiceNum().isEmpty()) {
+            return "운송장번호가 없습니다.";
+        }
+        if (row.getInvoiceNum().length() > MAX_INVOICE_NUM_LENGTH) {
+            return "운송장번호는 " + MAX_INVOICE_NUM_LENGTH + "자를 초과할 수 없습니다.";
+        }
+        return null;
+    }
+
+    private InvoiceImportRespDto.RowErrorDto rowError(InvoiceFileReader.InvoiceRow row, String message) {
+        return InvoiceImportRespDto.RowErrorDto.builder()
+                .rowNum(row.getRowNum())
+                .orderNum(row.getOrderNum())
+                .message(message)
+                .build();
+    }
+}
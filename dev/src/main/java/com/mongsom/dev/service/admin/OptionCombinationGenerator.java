@@ -0,0 +1,106 @@
+package com.mongsom.dev.service.admin;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.mongsom.dev.entity.ProductOptionValue;
+import com.mongsom.dev.repository.OptionCombinationJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 옵션 조합 생성/저장
+ * 재귀 카테시안 곱 대신 인덱스 배열을 올려가며(odometer) 조합을 순회하고,
+ * 조합/매핑은 다중 행 INSERT로 저장 (조합 수와 무관하게 1,000행당 INSERT 1회)
+ */
+@Component
+@RequiredArgsConstructor
+public class OptionCombinationGenerator {
+
+    private final OptionCombinationJdbcRepository optionCombinationJdbcRepository;
+
+    /**
+     * 옵션 타입별 값 목록으로 모든 조합 생성 후 저장
+     * 조합 키는 옵션값 ID 문자열을 정렬해 "-"로 연결 (기존 키 형식 유지)
+     *
+     * @return 생성된 조합 수
+     */
+    public int generate(Integer productId, List<List<ProductOptionValue>> valuesByType) {
+        int typeCount = valuesByType.size();
+        if (typeCount == 0) {
+            return 0;
+        }
+
+        // 타입별 옵션값 ID, ID 문자열, 주문가능 여부를 미리 배열로 준비
+        int[][] ids = new int[typeCount][];
+        String[][] idStrings = new String[typeCount][];
+        boolean[][] orderable = new boolean[typeCount][];
+        int total = 1;
+        for (int t = 0; t < typeCount; t++) {
+            List<ProductOptionValue> values = valuesByType.get(t);
+            int size = values.size();
+            ids[t] = new int[size];
+            idStrings[t] = new String[size];
+            orderable[t] = new boolean[size];
+            for (int v = 0; v < size; v++) {
+                ProductOptionValue value = values.get(v);
+                ids[t][v] = value.getOptionValueId();
+                idStrings[t][v] = value.getOptionValueId().toString();
+                orderable[t][v] = value.getStockStatus() != null && value.getStockStatus() == 1;
+            }
+            total = Math.multiplyExact(total, size);
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        String[] keys = new String[total];
+        int[] stockStatuses = new int[total];
+        int[] mappingValueIds = new int[total * typeCount];
+
+        int[] idx = new int[typeCount];
+        String[] keyParts = new String[typeCount];
+        StringBuilder key = new StringBuilder();
+        for (int c = 0; c < total; c++) {
+            boolean allOrderable = true;
+            for (int t = 0; t < typeCount; t++) {
+                keyParts[t] = idStrings[t][idx[t]];
+                mappingValueIds[c * typeCount + t] = ids[t][idx[t]];
+                allOrderable &= orderable[t][idx[t]];
+            }
+
+            Arrays.sort(keyParts);
+            key.setLength(0);
+            for (int t = 0; t < typeCount; t++) {
+                if (t > 0) {
+                    key.append('-');
+                }
+                key.append(keyParts[t]);
+            }
+            keys[c] = key.toString();
+            // 모든 옵션이 주문가능해야 조합도 주문가능
+            stockStatuses[c] = allOrderable ? 1 : 0;
+
+            // 마지막 타입부터 인덱스 증가 (기존 카테시안 곱과 같은 순서)
+            for (int t = typeCount - 1; t >= 0 && ++idx[t] == ids[t].length; t--) {
+                idx[t] = 0;
+            }
+        }
+
+        optionCombinationJdbcRepository.insertCombinations(productId, keys, stockStatuses);
+
+        // IDENTITY 키는 연속 할당이 보장되지 않으므로 조합 키로 ID를 다시 조회해 매핑
+        Map<String, Integer> combinationIds = optionCombinationJdbcRepository.findCombinationIdsByProductId(productId);
+        int[] mappingCombinationIds = new int[mappingValueIds.length];
+        for (int c = 0; c < total; c++) {
+            int combinationId = combinationIds.get(keys[c]);
+            Arrays.fill(mappingCombinationIds, c * typeCount, (c + 1) * typeCount, combinationId);
+        }
+        optionCombinationJdbcRepository.insertMappings(mappingCombinationIds, mappingValueIds);
+
+        return total;
+    }
+}
@@ -0,0 +1,265 @@
+package com.mongsom.dev.service.admin;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.mongsom.dev.dto.admin.product.reqDto.AdminProductUpdateReqDto;
+import com.mongsom.dev.dto.admin.product.respDto.AdminProductUpdateRespDto;
+import com.mongsom.dev.entity.ProductImg;
+import com.mongsom.dev.entity.ProductOptionType;
+import com.mongsom.dev.entity.ProductOptionValue;
+import com.mongsom.dev.repository.CartRepository;
+import com.mongsom.dev.repository.ProductImgRepository;
+import com.mongsom.dev.repository.ProductJdbcRepository;
+import com.mongsom.dev.repository.ProductOptionTypeRepository;
+import com.mongsom.dev.repository.ProductOptionValueRepository;
+import com.mongsom.dev.service.OptionNameDictionary;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 수정 요청과 현재 이미지/옵션을 비교해 바뀐 행만 반영
+ * 현재 상태는 상품 단위로 한 번에 조회하고, 추가/수정/삭제는 종류별로 모아 일괄 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductUpdateDiffer {
+
+    private final ProductImgRepository productImgRepository;
+    private final ProductOptionTypeRepository productOptionTypeRepository;
+    private final ProductOptionValueRepository productOptionValueRepository;
+    private final ProductJdbcRepository productJdbcRepository;
+    private final CartRepository cartRepository;
+    private final OptionNameDictionary optionNameDictionary;
+
+    /**
+     * 이미지 반영 (productImgId 기준 비교)
+     * - ID 없음: 추가 (대표 이미지가 등록순(created_at)으로 정해지므로 기존 이미지 뒤에 붙음)
+     * - ID + isDeleted=1: 삭제, ID + URL 변경: 수정
+     * - 요청에 없는 기존 이미지는 삭제 (요청 이미지 목록이 수정 후 전체 목록)
+     */
+    public void applyImages(Integer productId, List<AdminProductUpdateReqDto.ProductImageDto> imageDtos,
+                            AdminProductUpdateRespDto.UpdateSummary summary) {
+        Map<Integer, ProductImg> existingImages = productImgRepository.findByProductId(productId).stream()
+                .collect(Collectors.toMap(ProductImg::getProductImgId, Function.identity()));
+
+        Map<Integer, ProductImg> changedImages = new LinkedHashMap<>();
+        List<String> addedUrls = new ArrayList<>();
+        Set<Integer> keptIds = new HashSet<>();
+        for (AdminProductUpdateReqDto.ProductImageDto imageDto : imageDtos) {
+            if (imageDto.getProductImgId() == null) {
+                if (imageDto.getIsDeleted() == 0) {
+                    addedUrls.add(imageDto.getProductImgUrl());
+                }
+                continue;
+            }
+            ProductImg existing = requireImage(existingImages, imageDto.getProductImgId());
+            if (imageDto.getIsDeleted() == 1) {
+                continue;
+            }
+            keptIds.add(existing.getProductImgId());
+            if (!Objects.equals(existing.getProductImgUrl(), imageDto.getProductImgUrl())) {
+                changedImages.put(existing.getProductImgId(), ProductImg.builder()
+                        .productImgId(existing.getProductImgId())
+                        .productImgUrl(imageDto.getProductImgUrl())
+                        .build());
+            }
+        }
+        List<Integer> deletedIds = existingImages.keySet().stream()
+                .filter(productImgId -> !keptIds.contains(productImgId))
+                .sorted()
+                .collect(Collectors.toList());
+
+        productJdbcRepository.updateImageUrls(new ArrayList<>(changedImages.values()));
+        productJdbcRepository.insertImages(productId, addedUrls);
+        if (!deletedIds.isEmpty()) {
+            productImgRepository.deleteByProductImgIdIn(deletedIds);
+        }
+
+        summary.setUpdatedImages(changedImages.size());
+        summary.setAddedImages(addedUrls.size());
+        summary.setDeletedImages(deletedIds.size());
+        log.info("이미지 반영 완료 - 수정: {}, 추가: {}, 삭제: {}", changedImages.size(), addedUrls.size(), deletedIds.size());
+    }
+
+    /**
+     * 옵션 타입/값 반영 (요청에 포함된 항목만 대상, 값이 같으면 수정하지 않음)
+     * 삭제되었거나 이번 수정으로 품절된 옵션 값이 담긴 장바구니만 삭제
+     */
+    public void applyOptions(Integer productId, List<AdminProductUpdateReqDto.OptionTypeDto> optionTypeDtos,
+                             AdminProductUpdateRespDto.UpdateSummary summary) {
+        // 1. 현재 옵션 타입/값 일괄 조회
+        Map<Integer, ProductOptionType> existingTypes = productOptionTypeRepository
+                .findAllByProductIdIncludingDeleted(productId).stream()
+                .collect(Collectors.toMap(ProductOptionType::getOptionTypeId, Function.identity()));
+        Map<Integer, ProductOptionValue> existingValues = existingTypes.isEmpty()
+                ? Map.of()
+                : productOptionValueRepository.findByOptionTypeIdInIncludingDeleted(existingTypes.keySet()).stream()
+                        .collect(Collectors.toMap(ProductOptionValue::getOptionValueId, Function.identity()));
+
+        // 2. 요청과 비교해 변경분 수집
+        List<Integer> deletedTypeIds = new ArrayList<>();
+        List<ProductOptionType> changedTypes = new ArrayList<>();
+        List<Integer> deletedValueIds = new ArrayList<>();
+        List<ProductOptionValue> addedValues = new ArrayList<>();
+        List<ProductOptionValue> changedValues = new ArrayList<>();
+        Set<Integer> removedValueIds = new LinkedHashSet<>();
+
+        for (AdminProductUpdateReqDto.OptionTypeDto optionTypeDto : optionTypeDtos) {
+            if (optionTypeDto.getIsDeleted() == 1) {
+                // 옵션 타입 삭제 (소속 옵션 값 포함)
+                if (optionTypeDto.getOptionTypeId() != null) {
+                    Integer optionTypeId = requireType(existingTypes, optionTypeDto.getOptionTypeId()).getOptionTypeId();
+                    deletedTypeIds.add(optionTypeId);
+                    existingValues.values().stream()
+                            .filter(value -> optionTypeId.equals(value.getOptionTypeId()))
+                            .forEach(value -> removedValueIds.add(value.getOptionValueId()));
+                }
+                continue;
+            }
+
+            Integer optionTypeId;
+            if (optionTypeDto.getOptionTypeId() == null) {
+                // 신규 옵션 타입 생성 (옵션 값 저장에 ID가 필요하므로 바로 저장)
+                ProductOptionType optionType = productOptionTypeRepository.save(ProductOptionType.builder()
+                        .productId(productId)
+                        .typeName(optionTypeDto.getTypeName())
+                        .isRequired(optionTypeDto.getIsRequired())
+                        .sortOrder(optionTypeDto.getSortOrder())
+                        .build());
+                optionTypeId = optionType.getOptionTypeId();
+                summary.setAddedOptionTypes(summary.getAddedOptionTypes() + 1);
+            } else {
+                ProductOptionType existing = requireType(existingTypes, optionTypeDto.getOptionTypeId());
+                optionTypeId = existing.getOptionTypeId();
+                if (!Objects.equals(existing.getTypeName(), optionTypeDto.getTypeName())
+                        || !Objects.equals(existing.getIsRequired(), optionTypeDto.getIsRequired())
+                        || !Objects.equals(existing.getSortOrder(), optionTypeDto.getSortOrder())) {
+                    changedTypes.add(ProductOptionType.builder()
+                            .optionTypeId(optionTypeId)
+                            .productId(productId)
+                            .typeName(optionTypeDto.getTypeName())
+                            .isRequired(optionTypeDto.getIsRequired())
+                            .sortOrder(optionTypeDto.getSortOrder())
+                            .build());
+                }
+            }
+
+            if (optionTypeDto.getOptionValues() == null) {
+                continue;
+            }
+            for (AdminProductUpdateReqDto.OptionValueDto optionValueDto : optionTypeDto.getOptionValues()) {
+                if (optionValueDto.getIsDeleted() == 1) {
+                    // 옵션 값 삭제
+                    if (optionValueDto.getOptionValueId() != null) {
+                        Integer optionValueId = requireValue(existingValues, optionValueDto.getOptionValueId()).getOptionValueId();
+                        deletedValueIds.add(optionValueId);
+                        removedValueIds.add(optionValueId);
+                    }
+                } else if (optionValueDto.getOptionValueId() == null) {
+                    // 신규 옵션 값
+                    addedValues.add(ProductOptionValue.builder()
+                            .optionTypeId(optionTypeId)
+                            .valueName(optionValueDto.getValueName())
+                            .priceAdjustment(optionValueDto.getPriceAdjustment())
+                            .stockStatus(optionValueDto.getStockStatus())
+                            .sortOrder(optionValueDto.getSortOrder())
+                            .build());
+                } else {
+                    // 기존 옵션 값 (바뀐 경우만 수정)
+                    ProductOptionValue existing = requireValue(existingValues, optionValueDto.getOptionValueId());
+                    if (!Objects.equals(existing.getValueName(), optionValueDto.getValueName())
+                            || !Objects.equals(existing.getPriceAdjustment(), optionValueDto.getPriceAdjustment())
+                            || !Objects.equals(existing.getStockStatus(), optionValueDto.getStockStatus())
+                            || !Objects.equals(existing.getSortOrder(), optionValueDto.getSortOrder())) {
+                        changedValues.add(ProductOptionValue.builder()
+                                .optionValueId(existing.getOptionValueId())
+                                .optionTypeId(existing.getOptionTypeId())
+                                .valueName(optionValueDto.getValueName())
+                                .priceAdjustment(optionValueDto.getPriceAdjustment())
+                                .stockStatus(optionValueDto.getStockStatus())
+                                .sortOrder(optionValueDto.getSortOrder())
+                                .build());
+                    }
+                    // 이번 수정으로 품절된 옵션
+                    if (optionValueDto.getStockStatus() == 0 && !Integer.valueOf(0).equals(existing.getStockStatus())) {
+                        removedValueIds.add(existing.getOptionValueId());
+                    }
+                }
+            }
+        }
+
+        // 3. 장바구니 정리 후 일괄 반영 (장바구니 → 옵션 값 → 옵션 타입 순으로 삭제)
+        if (!removedValueIds.isEmpty()) {
+            int deletedCount = cartRepository.deleteByOptionValueIdIn(removedValueIds);
+            log.info("삭제/품절 옵션 장바구니 삭제 완료 - optionValueIds: {}, 삭제된 아이템: {}개",
+                    removedValueIds, deletedCount);
+        }
+        productJdbcRepository.updateOptionTypes(changedTypes);
+        productJdbcRepository.insertOptionValues(addedValues);
+        productJdbcRepository.updateOptionValues(changedValues);
+        if (!deletedValueIds.isEmpty()) {
+            productOptionValueRepository.deleteByOptionValueIdIn(deletedValueIds);
+        }
+        if (!deletedTypeIds.isEmpty()) {
+            productOptionValueRepository.deleteByOptionTypeIdIn(deletedTypeIds);
+            productOptionTypeRepository.deleteByOptionTypeIdIn(deletedTypeIds);
+        }
+
+        // 4. 옵션명 캐시 정리
+        if (!deletedTypeIds.isEmpty()) {
+            optionNameDictionary.evictAll();
+        } else {
+            List<Integer> evictIds = new ArrayList<>(deletedValueIds);
+            changedValues.forEach(value -> evictIds.add(value.getOptionValueId()));
+            if (!evictIds.isEmpty()) {
+                optionNameDictionary.evict(evictIds);
+            }
+        }
+
+        summary.setUpdatedOptionTypes(summary.getUpdatedOptionTypes() + changedTypes.size());
+        summary.setDeletedOptionTypes(summary.getDeletedOptionTypes() + deletedTypeIds.size());
+        summary.setAddedOptionValues(summary.getAddedOptionValues() + addedValues.size());
+        summary.setUpdatedOptionValues(summary.getUpdatedOptionValues() + changedValues.size());
+        summary.setDeletedOptionValues(summary.getDeletedOptionValues() + deletedValueIds.size());
+        log.info("옵션 반영 완료 - 타입(추가: {}, 수정: {}, 삭제: {}), 값(추가: {}, 수정: {}, 삭제: {})",
+                summary.getAddedOptionTypes(), changedTypes.size(), deletedTypeIds.size(),
+                addedValues.size(), changedValues.size(), deletedValueIds.size());
+    }
+
+    private ProductImg requireImage(Map<Integer, ProductImg> existingImages, Integer productImgId) {
+        ProductImg productImg = existingImages.get(productImgId);
+        if (productImg == null) {
+            throw new IllegalArgumentException("존재하지 않는 이미지입니다.");
+        }
+        return productImg;
+    }
+
+    private ProductOptionType requireType(Map<Integer, ProductOptionType> existingTypes, Integer optionTypeId) {
+        ProductOptionType optionType = existingTypes.get(optionTypeId);
+        if (optionType == null) {
+            throw new IllegalArgumentException("존재하지 않는 옵션 타입입니다.");
+        }
+        return optionType;
+    }
+
+    private ProductOptionValue requireValue(Map<Integer, ProductOptionValue> existingValues, Integer optionValueId) {
+        ProductOptionValue optionValue = existingValues.get(optionValueId);
+        if (optionValue == null) {
+            throw new IllegalArgumentException("존재하지 않는 옵션 값입니다.");
+        }
+        return optionValue;
+    }
+}
@@ -0,0 +1,138 @@
+package com.mongsom.dev.service.event;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 도메인 이벤트 메시지 (outbox payload / Kafka 메시지 값, JSON)
+ * 이벤트 종류별로 필요한 필드만 채움
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DomainEvent {
+
+    private Long eventId; // outbox_event.event_id (릴레이가 발행 시 채움, 소비자 중복 판별용)
+    private DomainEventType eventType;
+    private Integer orderId;
+    private Long userCode;
+    private Integer productId;
+    private Integer changeId;
+    private String changeType; // 교환, 반품
+    private String previousStatus;
+    private LocalDateTime previousPaymentAt;
+    private String status;
+    private LocalDateTime paymentAt;
+    private Integer rating;
+    private Boolean hasPhoto;
+    private Boolean clearCart; // 장바구니 비우기 대상 여부
+    private LocalDateTime occurredAt;
+
+    /**
+     * 주문 생성 (무통장입금은 주문 생성 시점에 장바구니 비움)
+     */
+    public static DomainEvent orderCreated(Integer orderId, Long userCode, boolean clearCart) {
+        return DomainEvent.builder()
+                .eventType(DomainEventType.ORDER_CREATED)
+                .orderId(orderId)
+                .userCode(userCode)
+                .status("결제대기")
+                .clearCart(clearCart)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 결제 완료 (상태가 바뀌지 않았으면 previousStatus/status는 null)
+     */
+    public static DomainEvent paymentConfirmed(Integer orderId, Long userCode,
+                                               String previousStatus, LocalDateTime previousPaymentAt,
+                                               String status, LocalDateTime paymentAt) {
+        return DomainEvent.builder()
+                .eventType(DomainEventType.PAYMENT_CONFIRMED)
+                .orderId(orderId)
+                .userCode(userCode)
+                .previousStatus(previousStatus)
+                .previousPaymentAt(previousPaymentAt)
+                .status(status)
+                .paymentAt(paymentAt)
+                .clearCart(true)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static DomainEvent orderCancelled(Integer orderId, Long userCode, String previousStatus, LocalDateTime paymentAt) {
+        return DomainEvent.builder()
+                .eventType(DomainEventType.ORDER_CANCELLED)
+                .orderId(orderId)
+                .userCode(userCode)
+                .previousStatus(previousStatus)
+                .previousPaymentAt(paymentAt)
+                .status("주문취소")
+                .paymentAt(paymentAt)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static DomainEvent deliveryStatusChanged(Integer orderId, Long userCode, String status) {
+        return DomainEvent.builder()
+                .eventType(DomainEventType.DELIVERY_STATUS_CHANGED)
+                .orderId(orderId)
+                .userCode(userCode)
+                .status(status)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static DomainEvent reviewWritten(Integer productId, Long userCode, Integer rating, boolean hasPhoto) {
+        return DomainEvent.builder()
+                .eventType(DomainEventType.REVIEW_WRITTEN)
+                .productId(productId)
+                .userCode(userCode)
+                .rating(rating)
+                .hasPhoto(hasPhoto)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static DomainEvent changeRequested(Integer changeId, Integer orderId, Long userCode,
+                                              String changeType, String status) {
+        return DomainEvent.builder()
+                .eventType(DomainEventType.CHANGE_REQUESTED)
+                .changeId(changeId)
+                .orderId(orderId)
+                .userCode(userCode)
+                .changeType(changeType)
+                .status(status)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static DomainEvent changeStatusChanged(Integer changeId, Integer orderId, Long userCode, String changeType,
+                                                  String previousStatus, String status) {
+        return DomainEvent.builder()
+                .eventType(DomainEventType.CHANGE_STATUS_CHANGED)
+                .changeId(changeId)
+                .orderId(orderId)
+                .userCode(userCode)
+                .changeType(changeType)
+                .previousStatus(previousStatus)
+                .status(status)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Kafka 메시지 키 (같은 주문/상품 이벤트는 같은 파티션에서 순서 유지)
+     */
+    public String aggregateKey() {
+        return orderId != null ? "order-" + orderId : "product-" + productId;
+    }
+}
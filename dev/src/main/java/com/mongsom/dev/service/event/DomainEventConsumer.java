@@ -0,0 +1,69 @@
+package com.mongsom.dev.service.event;
+
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongsom.dev.config.KafkaConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도메인 이벤트 소비 (배치 수신, 최대 500건씩, 이벤트마다 별도 트랜잭션으로 반영)
+ * 반영 실패 시 실패한 위치를 BatchListenerFailedException으로 알려 앞선 이벤트는 커밋하고
+ * 실패한 이벤트만 재시도 후 DLT로 보낸 뒤 나머지를 이어서 처리 (KafkaConfig.domainEventErrorHandler)
+ * 로컬 전달(transport=local)은 DLT가 없으므로 실패한 이벤트는 오류 로그만 남기고 나머지를 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventConsumer {
+
+    private final DomainEventHandler domainEventHandler;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${domain-events.topic:mongsom.domain-events}",
+                   groupId = "${domain-events.consumer-group:mongsom-side-effects}",
+                   batch = "true",
+                   containerFactory = KafkaConfig.DOMAIN_EVENT_CONTAINER_FACTORY,
+                   autoStartup = "#{'${domain-events.transport:kafka}' == 'kafka'}",
+                   properties = {"max.poll.records=500", "auto.offset.reset=earliest"})
+    public void consume(List<String> messages) {
+        int applied = 0;
+        for (int i = 0; i < messages.size(); i++) {
+            DomainEvent event;
+            try {
+                event = objectMapper.readValue(messages.get(i), DomainEvent.class);
+            } catch (JsonProcessingException e) {
+                // 재시도 없이 DLT로 이동
+                throw new BatchListenerFailedException("도메인 이벤트 역직렬화 실패", e, i);
+            }
+            try {
+                if (domainEventHandler.handle(event)) {
+                    applied++;
+                }
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException("도메인 이벤트 반영 실패 - eventId: " + event.getEventId(), e, i);
+            }
+        }
+        log.debug("도메인 이벤트 반영 - 수신: {}건, 반영: {}건", messages.size(), applied);
+    }
+
+    // domain-events.transport=local (Kafka 없이 실행)
+    @EventListener
+    public void consumeLocal(LocalDomainEvents events) {
+        for (String message : events.getMessages()) {
+            try {
+                consume(List.of(message));
+            } catch (BatchListenerFailedException e) {
+                log.error("도메인 이벤트 로컬 반영 실패 - message: {}", message, e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.mongsom.dev.service.event;
+
+import java.util.Collections;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mongsom.dev.repository.CartRepository;
+import com.mongsom.dev.repository.DomainEventJdbcRepository;
+import com.mongsom.dev.service.DeliveryCountService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도메인 이벤트 후속 처리 (주문/결제 요청 트랜잭션에서 분리한 비핵심 작업)
+ * - 장바구니 비우기, 마이페이지 배송 건수
+ * - 소비 이력(processed_event) 기록과 반영을 한 트랜잭션으로 처리해 재수신 시 한 번만 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventHandler {
+
+    static final String CONSUMER = "side-effects";
+
+    private final DomainEventJdbcRepository domainEventJdbcRepository;
+    private final CartRepository cartRepository;
+    private final DeliveryCountService deliveryCountService;
+
+    /**
+     * 이벤트 한 건 반영 (이벤트마다 별도 트랜잭션, 한 건이 실패해도 앞서 반영한 이벤트는 유지)
+     *
+     * @return 새로 반영했으면 true, 이미 처리했거나 무시한 이벤트면 false
+     */
+    @Transactional
+    public boolean handle(DomainEvent event) {
+        if (event.getEventId() == null || event.getEventType() == null) {
+            log.warn("eventId/eventType 없는 이벤트 무시 - orderId: {}", event.getOrderId());
+            return false;
+        }
+        if (!domainEventJdbcRepository.markProcessed(CONSUMER, event.getEventId())) {
+            log.debug("이미 처리한 이벤트 - eventId: {}", event.getEventId());
+            return false;
+        }
+        apply(event);
+        return true;
+    }
+
+    private void apply(DomainEvent event) {
+        switch (event.getEventType()) {
+            case ORDER_CREATED, PAYMENT_CONFIRMED, ORDER_CANCELLED -> {
+                deliveryCountService.refresh(Collections.singletonList(event.getUserCode()));
+                if (Boolean.TRUE.equals(event.getClearCart())) {
+                    // 이벤트 발생 이후 새로 담은 상품은 남김
+                    int deletedCount = cartRepository.deleteByUserCodeAndCreatedAtBefore(
+                            event.getUserCode(), event.getOccurredAt());
+                    log.info("장바구니 삭제 완료 - userCode: {}, orderId: {}, 삭제된 항목 수: {}",
+                            event.getUserCode(), event.getOrderId(), deletedCount);
+                }
+            }
+            case DELIVERY_STATUS_CHANGED -> deliveryCountService.refresh(Collections.singletonList(event.getUserCode()));
+            case REVIEW_WRITTEN, CHANGE_REQUESTED, CHANGE_STATUS_CHANGED -> {
+                // 후속 처리 없음 (관리자 실시간 알림 전용)
+            }
+        }
+    }
+}
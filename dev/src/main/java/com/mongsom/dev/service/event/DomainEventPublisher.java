@@ -0,0 +1,52 @@
+package com.mongsom.dev.service.event;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongsom.dev.entity.OutboxEvent;
+import com.mongsom.dev.repository.DomainEventJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도메인 이벤트 발행 (outbox 기록)
+ * 호출자 트랜잭션 안에서 outbox_event에 기록만 하고, 커밋된 이벤트는 OutboxRelay가 Kafka로 전송
+ * 업무 변경이 롤백되면 이벤트도 함께 사라짐
+ */
+@Service
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final DomainEventJdbcRepository domainEventJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        publishAll(List.of(event));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        domainEventJdbcRepository.insertOutbox(events.stream().map(this::toOutboxEvent).toList());
+    }
+
+    private OutboxEvent toOutboxEvent(DomainEvent event) {
+        try {
+            return OutboxEvent.builder()
+                    .eventType(event.getEventType().name())
+                    .aggregateKey(event.aggregateKey())
+                    .payload(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("도메인 이벤트 직렬화 실패 - " + event.getEventType(), e);
+        }
+    }
+}
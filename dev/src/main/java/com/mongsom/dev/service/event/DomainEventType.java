@@ -0,0 +1,11 @@
+package com.mongsom.dev.service.event;
+
+public enum DomainEventType {
+    ORDER_CREATED,            // 주문 생성
+    PAYMENT_CONFIRMED,        // 결제 완료 (카드 승인 / 결제 정보 COMPLETED)
+    ORDER_CANCELLED,          // 주문 취소
+    DELIVERY_STATUS_CHANGED,  // 관리자 배송상태 변경 (일괄 수정 / 송장 파일)
+    REVIEW_WRITTEN,           // 리뷰 작성
+    CHANGE_REQUESTED,         // 교환/반품 신청
+    CHANGE_STATUS_CHANGED     // 관리자 교환/반품 상태 변경
+}
@@ -0,0 +1,17 @@
+package com.mongsom.dev.service.event;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Kafka 없이 실행할 때(domain-events.transport=local) OutboxRelay가 서버 안에서 바로 전달하는 이벤트 묶음
+ * 메시지 형식은 Kafka로 보내는 것과 같음 (payload + eventId)
+ */
+@Getter
+@RequiredArgsConstructor
+public class LocalDomainEvents {
+
+    private final List<String> messages;
+}
@@ -0,0 +1,169 @@
+package com.mongsom.dev.service.event;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mongsom.dev.entity.OutboxEvent;
+import com.mongsom.dev.repository.DomainEventJdbcRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox → Kafka 릴레이
+ * - 미발행 이벤트를 BATCH_SIZE건씩 선점(claim_token)해 비동기로 모두 보낸 뒤 flush 한 번으로 전송 (프로듀서 배치 활용)
+ *   서버가 여러 대여도 선점한 서버만 전송, 전송 도중 종료되어 남은 선점은 STALE_CLAIM 뒤 다시 선점
+ * - 전송 확인(ack)된 이벤트만 발행완료로 표시, 실패분은 다음 주기에 재전송
+ * - 표시 전 장애 시 같은 이벤트가 다시 전송될 수 있으므로 소비자는 eventId로 중복을 걸러야 함
+ * - 로컬 개발처럼 Kafka가 없으면 domain-events.transport=local로 두고 같은 메시지를 서버 안에서 바로 전달
+ *   (LocalDomainEvents → 소비자 @EventListener, Kafka 리스너는 시작하지 않음)
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private static final int BATCH_SIZE = 500;
+    private static final long SEND_TIMEOUT_SECONDS = 30;
+    private static final int RETENTION_DAYS = 7;
+    private static final Duration STALE_CLAIM = Duration.ofMinutes(5);
+
+    private final DomainEventJdbcRepository domainEventJdbcRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final boolean local;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public OutboxRelay(DomainEventJdbcRepository domainEventJdbcRepository,
+                       KafkaTemplate<String, String> kafkaTemplate,
+                       ObjectMapper objectMapper,
+                       @Value("${domain-events.topic:mongsom.domain-events}") String topic,
+                       @Value("${domain-events.transport:kafka}") String transport,
+                       ApplicationEventPublisher applicationEventPublisher) {
+        this.domainEventJdbcRepository = domainEventJdbcRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+        this.local = "local".equals(transport);
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    /**
+     * 미발행 이벤트 전송 (기본 0.5초 간격, 밀려 있으면 빌 때까지 연속 처리)
+     */
+    @Scheduled(fixedDelayString = "${domain-events.relay-interval-ms:500}")
+    public void relay() {
+        try {
+            int sent;
+            do {
+                sent = relayBatch();
+            } while (sent == BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("도메인 이벤트 릴레이 실패", e);
+        }
+    }
+
+    /**
+     * @return 이번 배치에서 모두 전송됐으면 전송 건수, 일부라도 실패했으면 0 (다음 주기에 재시도)
+     */
+    private int relayBatch() {
+        String claimToken = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = domainEventJdbcRepository.claimUnpublished(claimToken, now,
+                now.minus(STALE_CLAIM), BATCH_SIZE);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        if (local) {
+            return relayLocal(claimToken, events);
+        }
+
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            futures.add(kafkaTemplate.send(topic, event.getAggregateKey(), toMessage(event)));
+        }
+        kafkaTemplate.flush();
+
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                futures.get(i).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                publishedIds.add(events.get(i).getEventId());
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("도메인 이벤트 전송 실패 - eventId: {}, type: {}",
+                        events.get(i).getEventId(), events.get(i).getEventType(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        domainEventJdbcRepository.markPublished(publishedIds);
+        if (publishedIds.size() < events.size()) {
+            domainEventJdbcRepository.releaseClaim(claimToken);
+        }
+
+        log.debug("도메인 이벤트 전송 - {}건 중 {}건", events.size(), publishedIds.size());
+        return publishedIds.size() == events.size() ? events.size() : 0;
+    }
+
+    /**
+     * 서버 안에서 바로 전달 (소비자가 실패하면 선점 해제 후 다음 주기에 재전달)
+     */
+    private int relayLocal(String claimToken, List<OutboxEvent> events) {
+        List<String> messages = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            messages.add(toMessage(event));
+        }
+        try {
+            applicationEventPublisher.publishEvent(new LocalDomainEvents(messages));
+        } catch (Exception e) {
+            domainEventJdbcRepository.releaseClaim(claimToken);
+            log.warn("도메인 이벤트 로컬 전달 실패 - {}건", events.size(), e);
+            return 0;
+        }
+        domainEventJdbcRepository.markPublished(events.stream().map(OutboxEvent::getEventId).toList());
+        return events.size();
+    }
+
+    /**
+     * 발행 완료 outbox / 소비 이력 정리 (매일 새벽 4시 30분, 7일 보관)
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusDays(RETENTION_DAYS);
+        try {
+            int outbox = domainEventJdbcRepository.deletePublishedBefore(before);
+            int processed = domainEventJdbcRepository.deleteProcessedBefore(before);
+            log.info("도메인 이벤트 정리 완료 - outbox: {}건, 소비 이력: {}건", outbox, processed);
+        } catch (Exception e) {
+            log.error("도메인 이벤트 정리 실패", e);
+        }
+    }
+
+    // payload에 eventId를 붙여 메시지 생성
+    private String toMessage(OutboxEvent event) {
+        try {
+            ObjectNode message = (ObjectNode) objectMapper.readTree(event.getPayload());
+            message.put("eventId", event.getEventId());
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox payload 파싱 실패 - eventId: " + event.getEventId(), e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.mongsom.dev.service.search;
+
+/**
+ * 검색 색인 문서 종류 (search_token.doc_type)
+ */
+public enum SearchDocType {
+    NOTICE,
+    PRODUCT,
+    QNA
+}
@@ -0,0 +1,180 @@
+package com.mongsom.dev.service.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mongsom.dev.entity.Notice;
+import com.mongsom.dev.entity.Product;
+import com.mongsom.dev.entity.Qna;
+import com.mongsom.dev.repository.NoticeRepository;
+import com.mongsom.dev.repository.ProductRepository;
+import com.mongsom.dev.repository.QnaRepository;
+import com.mongsom.dev.repository.SearchIndexJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공지사항/상품/QNA 검색 색인
+ * - 등록/수정/삭제 시 같은 트랜잭션에서 해당 문서 토큰을 교체 (AdminNoticeService, AdminProductService, QnaService)
+ * - 검색은 검색어 토큰을 모두 포함한 문서를 가중치 합 순으로 페이징 (제목 토큰은 TITLE_BOOST배)
+ * - 비밀글 QNA는 제목만 색인 (검색으로 본문 내용을 추측할 수 없도록)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexService {
+
+    static final int TITLE_BOOST = 10;
+    static final int BODY_BOOST = 1;
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final SearchIndexJdbcRepository searchIndexJdbcRepository;
+    private final NoticeRepository noticeRepository;
+    private final ProductRepository productRepository;
+    private final QnaRepository qnaRepository;
+
+    @Transactional
+    public void indexNotice(Notice notice) {
+        Map<String, Integer> weights = new HashMap<>();
+        SearchTokenizer.addField(weights, notice.getTitle(), TITLE_BOOST);
+        SearchTokenizer.addField(weights, notice.getContents(), BODY_BOOST);
+        searchIndexJdbcRepository.replace(SearchDocType.NOTICE, notice.getNoticeId(), weights);
+    }
+
+    /**
+     * 삭제/판매중단 상품은 색인에서 제외 (판매 재개 시 수정 경로에서 다시 색인)
+     */
+    @Transactional
+    public void indexProduct(Product product) {
+        if ((product.getDeleteStatus() != null && product.getDeleteStatus() == 1)
+                || (product.getIsAvailable() != null && product.getIsAvailable() == 0)) {
+            searchIndexJdbcRepository.delete(SearchDocType.PRODUCT, product.getProductId());
+            return;
+        }
+        Map<String, Integer> weights = new HashMap<>();
+        SearchTokenizer.addField(weights, product.getName(), TITLE_BOOST);
+        SearchTokenizer.addField(weights, product.getContents(), BODY_BOOST);
+        searchIndexJdbcRepository.replace(SearchDocType.PRODUCT, product.getProductId(), weights);
+    }
+
+    @Transactional
+    public void indexQna(Qna qna) {
+        Map<String, Integer> weights = new HashMap<>();
+        SearchTokenizer.addField(weights, qna.getQnaTitle(), TITLE_BOOST);
+        if (!qna.isLocked()) {
+            SearchTokenizer.addField(weights, qna.getQnaContents(), BODY_BOOST);
+        }
+        searchIndexJdbcRepository.replace(SearchDocType.QNA, qna.getQnaCode(), weights);
+    }
+
+    @Transactional
+    public void remove(SearchDocType docType, Integer docId) {
+        searchIndexJdbcRepository.delete(docType, docId);
+    }
+
+    /**
+     * 순위순 문서 ID 페이지 (SearchTokenizer.isSearchable 검색어만)
+     */
+    public Page<Integer> search(SearchDocType docType, String keyword, Pageable pageable) {
+        List<String> tokens = SearchTokenizer.queryTokens(keyword);
+        if (tokens.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        List<Integer> docIds = searchIndexJdbcRepository.search(docType, tokens,
+                pageable.getOffset(), pageable.getPageSize());
+        // 첫 페이지가 다 차지 않으면 전체 건수는 이미 알고 있으므로 건수 조회 생략
+        long total = pageable.getOffset() == 0 && docIds.size() < pageable.getPageSize()
+                ? docIds.size()
+                : searchIndexJdbcRepository.count(docType, tokens);
+        return new PageImpl<>(docIds, pageable, total);
+    }
+
+    /**
+     * findAllById 결과를 검색 순위대로 정렬해 페이지로 변환 (그 사이 삭제된 문서는 제외)
+     */
+    public static <T> Page<T> toPage(Page<Integer> docIds, Collection<T> entities, Function<T, Integer> idOf) {
+        Map<Integer, T> byId = new HashMap<>();
+        for (T entity : entities) {
+            byId.put(idOf.apply(entity), entity);
+        }
+        List<T> ordered = new ArrayList<>(docIds.getNumberOfElements());
+        for (Integer docId : docIds.getContent()) {
+            T entity = byId.get(docId);
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return new PageImpl<>(ordered, docIds.getPageable(), docIds.getTotalElements());
+    }
+
+    /**
+     * 문서 종류별 전체 재색인 (REBUILD_PAGE_SIZE건씩)
+     * 문서별로 나눠 반영하므로 시작 시 완료 기록을 지우고 끝까지 색인한 뒤에만 다시 기록
+     * (도중에 서버가 종료되면 다음 기동 시 처음부터 다시 생성)
+     */
+    public void rebuild(SearchDocType docType) {
+        long start = System.currentTimeMillis();
+        searchIndexJdbcRepository.clearBuilt(docType);
+        searchIndexJdbcRepository.deleteAll(docType);
+
+        int indexed = 0;
+        Pageable pageable = PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by(switch (docType) {
+            case NOTICE -> "noticeId";
+            case PRODUCT -> "productId";
+            case QNA -> "qnaCode";
+        }));
+        while (true) {
+            List<?> documents = switch (docType) {
+                case NOTICE -> noticeRepository.findAll(pageable).getContent();
+                case PRODUCT -> productRepository.findByDeleteStatus(0, pageable).getContent();
+                case QNA -> qnaRepository.findAll(pageable).getContent();
+            };
+            for (Object document : documents) {
+                switch (docType) {
+                    case NOTICE -> indexNotice((Notice) document);
+                    case PRODUCT -> indexProduct((Product) document);
+                    case QNA -> indexQna((Qna) document);
+                }
+            }
+            indexed += documents.size();
+            if (documents.size() < REBUILD_PAGE_SIZE) {
+                break;
+            }
+            pageable = pageable.next();
+        }
+        searchIndexJdbcRepository.markBuilt(docType);
+        log.info("검색 색인 재생성 완료 - type: {}, 문서 수: {}, 소요: {}ms",
+                docType, indexed, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 기동 시 완료 기록이 없는 색인만 생성 (신규 배포, 재생성 중단)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildMissingOnStartup() {
+        for (SearchDocType docType : SearchDocType.values()) {
+            try {
+                if (!searchIndexJdbcRepository.isBuilt(docType)) {
+                    rebuild(docType);
+                }
+            } catch (Exception e) {
+                log.error("기동 시 검색 색인 생성 실패 - type: {}", docType, e);
+            }
+        }
+    }
+}
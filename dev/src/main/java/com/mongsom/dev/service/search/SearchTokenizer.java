@@ -0,0 +1,96 @@
+package com.mongsom.dev.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어/문서 토큰화 (2글자 단위 bigram)
+ * - 형태소 분석 없이 한글 부분 일치를 지원하기 위해 단어를 2글자씩 겹쳐 자름 ("몽솜이불" → 몽솜, 솜이, 이불)
+ * - 한 글자 단어는 그대로 토큰, HTML 태그/기호는 구분자로 처리
+ */
+public final class SearchTokenizer {
+
+    static final int TF_CAP = 5;            // 같은 토큰 반복으로 점수를 부풀리지 않도록 필드당 빈도 상한
+    static final int MAX_QUERY_TOKENS = 12; // 긴 검색어는 앞부분 토큰만 사용
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern ENTITY = Pattern.compile("&[a-zA-Z#0-9]+;");
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 필드 토큰을 가중치(boost × 빈도)로 누적
+     */
+    public static void addField(Map<String, Integer> weights, String text, int boost) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String word : words(text)) {
+            for (String token : tokens(word)) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+        }
+        frequencies.forEach((token, tf) -> weights.merge(token, boost * Math.min(tf, TF_CAP), Integer::sum));
+    }
+
+    /**
+     * 검색어 토큰 (모두 포함한 문서만 검색)
+     * 한 글자 단어는 색인 토큰과 맞지 않으므로 두 글자 이상 단어가 있으면 제외
+     */
+    public static List<String> queryTokens(String keyword) {
+        if (keyword == null) {
+            return List.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(keyword)) {
+            if (word.length() < 2) {
+                continue;
+            }
+            tokens.addAll(tokens(word));
+        }
+        List<String> result = new ArrayList<>(tokens);
+        return result.size() > MAX_QUERY_TOKENS ? result.subList(0, MAX_QUERY_TOKENS) : result;
+    }
+
+    /**
+     * 색인으로 검색 가능한 검색어인지 (두 글자 이상 단어 포함)
+     */
+    public static boolean isSearchable(String keyword) {
+        return !queryTokens(keyword).isEmpty();
+    }
+
+    static List<String> words(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        normalized = ENTITY.matcher(TAG.matcher(normalized).replaceAll(" ")).replaceAll(" ");
+
+        List<String> words = new ArrayList<>();
+        for (String word : SEPARATOR.split(normalized)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    static List<String> tokens(String word) {
+        int[] codePoints = word.codePoints().toArray();
+        if (codePoints.length == 1) {
+            return List.of(word);
+        }
+        List<String> tokens = new ArrayList<>(codePoints.length - 1);
+        for (int i = 0; i < codePoints.length - 1; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+        return tokens;
+    }
+}
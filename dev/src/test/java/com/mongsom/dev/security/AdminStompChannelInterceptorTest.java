@@ -0,0 +1,75 @@
+package com.mongsom.dev.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.mongsom.dev.entity.User;
+import com.mongsom.dev.repository.UserRepository;
+
+class AdminStompChannelInterceptorTest {
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private AdminStompChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findAdminByUserId("admin")).thenReturn(Optional.of(User.builder()
+                .userCode(1L).userId("admin").password(passwordEncoder.encode("secret")).provider("ADMIN").build()));
+        when(userRepository.findAdminByUserId("user")).thenReturn(Optional.empty());
+        interceptor = new AdminStompChannelInterceptor(userRepository, passwordEncoder);
+    }
+
+    @Test
+    void 관리자_계정으로만_연결한다() {
+        assertThatThrownBy(() -> interceptor.preSend(connect("admin", "wrong"), channel))
+                .isInstanceOf(MessagingException.class);
+        assertThatThrownBy(() -> interceptor.preSend(connect("user", "secret"), channel))
+                .isInstanceOf(MessagingException.class);
+        assertThatThrownBy(() -> interceptor.preSend(connect(null, null), channel))
+                .isInstanceOf(MessagingException.class);
+
+        Message<?> connected = interceptor.preSend(connect("admin", "secret"), channel);
+        assertThat(StompHeaderAccessor.wrap(connected).getUser()).isNotNull();
+    }
+
+    @Test
+    void 관리자로_연결하지_않은_세션은_관리자_토픽을_구독할_수_없다() {
+        StompHeaderAccessor anonymous = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        anonymous.setDestination("/topic/admin/orders");
+        assertThatThrownBy(() -> interceptor.preSend(message(anonymous), channel))
+                .isInstanceOf(MessagingException.class);
+
+        StompHeaderAccessor admin = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        admin.setDestination("/topic/admin/orders");
+        admin.setUser(StompHeaderAccessor.wrap(interceptor.preSend(connect("admin", "secret"), channel)).getUser());
+        assertThat(interceptor.preSend(message(admin), channel)).isNotNull();
+    }
+
+    private static Message<byte[]> connect(String login, String passcode) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setLogin(login);
+        accessor.setPasscode(passcode);
+        return message(accessor);
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,87 @@
+package com.mongsom.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mongsom.dev.dto.admin.order.respDto.AdminOrderFeedRespDto;
+import com.mongsom.dev.service.admin.AdminOrderFeedService;
+import com.mongsom.dev.service.event.DomainEvent;
+
+@ExtendWith(MockitoExtension.class)
+class AdminOrderFeedServiceTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void 전송_간격_동안의_이벤트를_한_건으로_합친다() throws Exception {
+        AdminOrderFeedService feed = new AdminOrderFeedService(messagingTemplate, objectMapper);
+
+        feed.consume(List.of(
+                objectMapper.writeValueAsString(DomainEvent.orderCreated(1, 10L, false)),
+                objectMapper.writeValueAsString(DomainEvent.paymentConfirmed(1, 10L, "결제대기", null, "결제완료",
+                        LocalDateTime.now())),
+                objectMapper.writeValueAsString(DomainEvent.orderCreated(2, 20L, true)),
+                objectMapper.writeValueAsString(DomainEvent.reviewWritten(7, 10L, 5, false)),
+                "{깨진 메시지"));
+        feed.offer(DomainEvent.changeRequested(5, 1, 10L, "교환", "교환신청"));
+        feed.flush();
+        feed.flush();
+
+        ArgumentCaptor<AdminOrderFeedRespDto> captor = ArgumentCaptor.forClass(AdminOrderFeedRespDto.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq(AdminOrderFeedService.TOPIC), captor.capture());
+        AdminOrderFeedRespDto sent = captor.getValue();
+        assertThat(sent.getNewOrderCount()).isEqualTo(2);
+        assertThat(sent.getPaymentConfirmedCount()).isEqualTo(1);
+        assertThat(sent.getChangeRequestCount()).isEqualTo(1);
+        assertThat(sent.getOrderIds()).containsExactly(1, 2);
+        assertThat(sent.getChangeIds()).containsExactly(5);
+        assertThat(sent.getOverflow()).isFalse();
+    }
+
+    @Test
+    void 변경_건수가_많으면_ID_목록_대신_overflow로_보낸다() {
+        AdminOrderFeedService feed = new AdminOrderFeedService(messagingTemplate, objectMapper);
+
+        for (int orderId = 1; orderId <= 500; orderId++) {
+            feed.offer(DomainEvent.deliveryStatusChanged(orderId, 10L, "배송중"));
+        }
+        feed.flush();
+
+        ArgumentCaptor<AdminOrderFeedRespDto> captor = ArgumentCaptor.forClass(AdminOrderFeedRespDto.class);
+        verify(messagingTemplate).convertAndSend(eq(AdminOrderFeedService.TOPIC), captor.capture());
+        assertThat(captor.getValue().getDeliveryStatusChangedCount()).isEqualTo(500);
+        assertThat(captor.getValue().getOverflow()).isTrue();
+        assertThat(captor.getValue().getOrderIds()).isEmpty();
+    }
+
+    @Test
+    void 이벤트가_없으면_보내지_않는다() {
+        AdminOrderFeedService feed = new AdminOrderFeedService(messagingTemplate, objectMapper);
+
+        feed.offer(DomainEvent.reviewWritten(7, 10L, 5, true));
+        feed.flush();
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+}
@@ -0,0 +1,167 @@
+package com.mongsom.dev.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * 관리자 주문 목록 조회 지연시간 비교 (H2 MariaDB 모드, 주문 10만 건)
+ * - 기존: 목록 조회 후 행마다 주문자/상세/상품/이미지/결제 조회
+ * - 변경: 주문자명/결제상태를 포함한 목록 조회 1회 + 상세·상품, 이미지 IN 조회
+ * 실행: BENCHMARK=true ./gradlew test --tests '*AdminOrderListBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AdminOrderListBenchmarkTest {
+
+    private static final int ORDER_COUNT = 100_000;
+    private static final int USER_COUNT = 5_000;
+    private static final int PRODUCT_COUNT = 300;
+    private static final int PAGE_SIZE = 100;
+    private static final int ITERATIONS = 200;
+
+    private H2TestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        database = H2TestDatabase.create("admin_order_bench");
+        jdbcTemplate = database.getJdbcTemplate();
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+
+        jdbcTemplate.execute("CREATE TABLE user_mst (user_code BIGINT PRIMARY KEY, name VARCHAR(50), phone VARCHAR(20))");
+        jdbcTemplate.execute("CREATE TABLE product (product_id INT PRIMARY KEY, name VARCHAR(100))");
+        jdbcTemplate.execute("CREATE TABLE product_img (product_img_id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "product_id INT NOT NULL, product_img_url VARCHAR(500), created_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE order_item (order_id INT PRIMARY KEY, order_num VARCHAR(255), "
+                + "user_code BIGINT, payment_at TIMESTAMP, final_price INT, delivery_status VARCHAR(20), invoice_num VARCHAR(50))");
+        jdbcTemplate.execute("CREATE TABLE order_detail (order_detail_id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "order_id INT NOT NULL, product_id INT NOT NULL, option1 INT, option2 INT, quantity INT)");
+        jdbcTemplate.execute("CREATE TABLE payments (payment_id INT AUTO_INCREMENT PRIMARY KEY, order_id INT NOT NULL, "
+                + "payment_status VARCHAR(20))");
+        jdbcTemplate.execute("CREATE INDEX idx_order_item_payment_at ON order_item (payment_at)");
+        jdbcTemplate.execute("CREATE INDEX idx_order_detail_order_id ON order_detail (order_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_product_img_product_id ON product_img (product_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_payments_order_id ON payments (order_id)");
+
+        Random random = new Random(42);
+        batch("INSERT INTO user_mst VALUES (?, ?, ?)", USER_COUNT,
+                i -> new Object[] {(long) i, "사용자" + i, "010-0000-" + i});
+        batch("INSERT INTO product VALUES (?, ?)", PRODUCT_COUNT, i -> new Object[] {i, "상품" + i});
+        batch("INSERT INTO product_img (product_id, product_img_url, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)",
+                PRODUCT_COUNT * 3, i -> new Object[] {i / 3, "https://img/" + i + ".jpg"});
+        batch("INSERT INTO order_item VALUES (?, ?, ?, DATEADD('MINUTE', ?, TIMESTAMP '2024-01-01 00:00:00'), ?, '배송준비중', NULL)",
+                ORDER_COUNT, i -> new Object[] {i, "mongsom_" + i, (long) random.nextInt(USER_COUNT), i, 30000});
+        batch("INSERT INTO payments (order_id, payment_status) VALUES (?, '결제완료')", ORDER_COUNT, i -> new Object[] {i});
+        batch("INSERT INTO order_detail (order_id, product_id, option1, option2, quantity) VALUES (?, ?, NULL, NULL, 1)",
+                ORDER_COUNT * 2, i -> new Object[] {i / 2, random.nextInt(PRODUCT_COUNT)});
+    }
+
+    @AfterAll
+    void tearDown() {
+        database.drop();
+    }
+
+    @Test
+    void 관리자_주문목록_지연시간_비교() {
+        // 워밍업
+        for (int i = 0; i < 20; i++) {
+            loadPageBefore(i);
+            loadPageAfter(i);
+        }
+
+        Random random = new Random(7);
+        long[] before = new long[ITERATIONS];
+        long[] after = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            int page = random.nextInt(ORDER_COUNT / PAGE_SIZE);
+
+            long start = System.nanoTime();
+            loadPageBefore(page);
+            before[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            loadPageAfter(page);
+            after[i] = System.nanoTime() - start;
+        }
+
+        System.out.printf("orders=%,d page=%d | before p50=%.2fms p99=%.2fms%n",
+                ORDER_COUNT, PAGE_SIZE, percentile(before, 50), percentile(before, 99));
+        System.out.printf("orders=%,d page=%d | after  p50=%.2fms p99=%.2fms%n",
+                ORDER_COUNT, PAGE_SIZE, percentile(after, 50), percentile(after, 99));
+    }
+
+    // 기존 방식: 목록 조회 후 행마다 주문자, 상세, 상품, 이미지, 결제 조회
+    private void loadPageBefore(int page) {
+        List<Map<String, Object>> orders = jdbcTemplate.queryForList(
+                "SELECT oi.* FROM order_item oi LEFT JOIN user_mst u ON oi.user_code = u.user_code "
+                        + "ORDER BY oi.payment_at DESC LIMIT ? OFFSET ?", PAGE_SIZE, page * PAGE_SIZE);
+        for (Map<String, Object> order : orders) {
+            Object orderId = order.get("ORDER_ID");
+            jdbcTemplate.queryForList("SELECT * FROM user_mst WHERE user_code = ?", order.get("USER_CODE"));
+            List<Map<String, Object>> details = jdbcTemplate.queryForList(
+                    "SELECT * FROM order_detail WHERE order_id = ? ORDER BY order_detail_id", orderId);
+            if (!details.isEmpty()) {
+                Object productId = details.get(0).get("PRODUCT_ID");
+                jdbcTemplate.queryForList("SELECT * FROM product WHERE product_id = ?", productId);
+                jdbcTemplate.queryForList("SELECT * FROM product_img WHERE product_id = ?", productId);
+            }
+            jdbcTemplate.queryForList("SELECT * FROM payments WHERE order_id = ?", orderId);
+        }
+    }
+
+    // 변경 방식: 주문자명/결제상태 포함 목록 조회 + 상세·상품 IN 조회 + 이미지 IN 조회
+    private void loadPageAfter(int page) {
+        List<Map<String, Object>> orders = jdbcTemplate.queryForList(
+                "SELECT oi.order_id, oi.order_num, oi.user_code, u.name, oi.payment_at, oi.final_price, "
+                        + "oi.delivery_status, oi.invoice_num, p.payment_status FROM order_item oi "
+                        + "LEFT JOIN user_mst u ON oi.user_code = u.user_code "
+                        + "LEFT JOIN payments p ON p.order_id = oi.order_id "
+                        + "ORDER BY oi.payment_at DESC LIMIT ? OFFSET ?", PAGE_SIZE, page * PAGE_SIZE);
+        List<Object> orderIds = orders.stream().map(order -> order.get("ORDER_ID")).toList();
+
+        List<Map<String, Object>> details = namedJdbcTemplate.queryForList(
+                "SELECT od.*, pr.name FROM order_detail od LEFT JOIN product pr ON pr.product_id = od.product_id "
+                        + "WHERE od.order_id IN (:orderIds) ORDER BY od.order_id, od.order_detail_id",
+                new MapSqlParameterSource("orderIds", orderIds));
+        List<Object> productIds = details.stream().map(detail -> detail.get("PRODUCT_ID")).distinct().toList();
+
+        namedJdbcTemplate.queryForList(
+                "SELECT * FROM product_img WHERE product_id IN (:productIds) ORDER BY product_id, created_at",
+                new MapSqlParameterSource("productIds", productIds));
+    }
+
+    private void batch(String sql, int count, IntFunction<Object[]> row) {
+        List<Object[]> args = new ArrayList<>(1_000);
+        for (int i = 0; i < count; i++) {
+            args.add(row.apply(i));
+            if (args.size() == 1_000) {
+                jdbcTemplate.batchUpdate(sql, args);
+                args.clear();
+            }
+        }
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, args);
+        }
+    }
+
+    private double percentile(long[] nanos, int percentile) {
+        long[] sorted = Arrays.copyOf(nanos, nanos.length);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
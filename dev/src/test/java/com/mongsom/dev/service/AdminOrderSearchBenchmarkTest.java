@@ -0,0 +1,114 @@
+package com.mongsom.dev.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 관리자 주문 검색 지연시간 - order_item 크기 증가에 따른 비교 (H2 MariaDB 모드)
+ * - 기존: DATE(payment_at) BETWEEN + OFFSET 페이징 + 매 페이지 COUNT(*)
+ * - 변경: 반열림 구간 + (payment_at, order_id) 키셋 페이지네이션, 건수 생략
+ * 실행: BENCHMARK=true ./gradlew test --tests '*AdminOrderSearchBenchmarkTest'
+ * 최대 행 수: BENCHMARK_MAX_ORDERS (기본 2,000,000)
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class AdminOrderSearchBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGE_DEPTH = 500;
+    private static final int ITERATIONS = 50;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final H2TestDatabase database = H2TestDatabase.create("admin_search_bench");
+    private final JdbcTemplate jdbcTemplate = database.getJdbcTemplate();
+
+    @AfterEach
+    void tearDown() {
+        database.drop();
+    }
+
+    @Test
+    void 주문_수_증가에_따른_검색_지연시간() {
+        int maxOrders = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_MAX_ORDERS", "2000000"));
+
+        jdbcTemplate.execute("CREATE TABLE order_item (order_id INT PRIMARY KEY, order_num VARCHAR(255) NOT NULL, "
+                + "user_code BIGINT, payment_at TIMESTAMP, final_price INT, delivery_status VARCHAR(20))");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX uk_order_item_order_num ON order_item (order_num)");
+        jdbcTemplate.execute("CREATE INDEX idx_order_item_payment_at ON order_item (payment_at, order_id)");
+
+        int seeded = 0;
+        for (int target = Math.min(250_000, maxOrders); seeded < maxOrders; target = Math.min(target * 2, maxOrders)) {
+            seed(seeded, target);
+            seeded = target;
+
+            // 최근 30일 구간, PAGE_DEPTH 페이지 깊이에서 측정
+            LocalDateTime to = BASE_TIME.plusMinutes(seeded);
+            LocalDateTime from = to.minusDays(30);
+            Map<String, Object> cursor = jdbcTemplate.queryForMap(
+                    "SELECT payment_at, order_id FROM order_item WHERE payment_at >= ? AND payment_at < ? "
+                            + "ORDER BY payment_at DESC, order_id DESC LIMIT 1 OFFSET ?",
+                    Timestamp.valueOf(from), Timestamp.valueOf(to), PAGE_SIZE * PAGE_DEPTH);
+
+            double before = p50(() -> {
+                jdbcTemplate.queryForList("SELECT * FROM order_item WHERE DATE(payment_at) BETWEEN ? AND ? "
+                                + "ORDER BY payment_at DESC LIMIT ? OFFSET ?",
+                        from.toLocalDate(), to.toLocalDate(), PAGE_SIZE, PAGE_SIZE * PAGE_DEPTH);
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_item WHERE DATE(payment_at) BETWEEN ? AND ?",
+                        Long.class, from.toLocalDate(), to.toLocalDate());
+            });
+            double after = p50(() -> jdbcTemplate.queryForList(
+                    "SELECT * FROM order_item WHERE payment_at >= ? AND payment_at < ? "
+                            + "AND (payment_at < ? OR (payment_at = ? AND order_id < ?)) "
+                            + "ORDER BY payment_at DESC, order_id DESC LIMIT ?",
+                    Timestamp.valueOf(from), Timestamp.valueOf(to),
+                    cursor.get("PAYMENT_AT"), cursor.get("PAYMENT_AT"), cursor.get("ORDER_ID"), PAGE_SIZE));
+
+            System.out.printf("orders=%,d | before(DATE+OFFSET+COUNT) p50=%.2fms | after(keyset) p50=%.2fms%n",
+                    seeded, before, after);
+        }
+    }
+
+    // 1분 간격 결제 주문 [fromId, toId) 추가
+    private void seed(int fromId, int toId) {
+        Random random = new Random(fromId);
+        List<Object[]> args = new ArrayList<>(5_000);
+        for (int id = fromId; id < toId; id++) {
+            args.add(new Object[] {id, "mongsom_" + id, (long) random.nextInt(10_000),
+                    Timestamp.valueOf(BASE_TIME.plusMinutes(id)), 30000, "배송완료"});
+            if (args.size() == 5_000) {
+                insert(args);
+            }
+        }
+        if (!args.isEmpty()) {
+            insert(args);
+        }
+    }
+
+    private void insert(List<Object[]> args) {
+        jdbcTemplate.batchUpdate("INSERT INTO order_item VALUES (?, ?, ?, ?, ?, ?)", args);
+        args.clear();
+    }
+
+    private double p50(Runnable query) {
+        for (int i = 0; i < 5; i++) {
+            query.run();
+        }
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[ITERATIONS / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,117 @@
+package com.mongsom.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.mongsom.dev.common.dto.RespDto;
+import com.mongsom.dev.dto.cart.respDto.CartRespDto;
+import com.mongsom.dev.repository.CartRepository;
+import com.mongsom.dev.repository.ProductImgRepository;
+import com.mongsom.dev.repository.ProductOptionValueRepository;
+import com.mongsom.dev.repository.ProductRepository;
+import com.mongsom.dev.repository.UserRepository;
+
+/**
+ * 장바구니 조회 (H2 + Hibernate, 실제 실행된 SQL 수 확인)
+ * 옵션 타입까지 fetch join 하지 않으면 줄마다 지연 로딩 쿼리가 늘어 실패
+ */
+class CartServiceTest {
+
+    private static final Long USER_CODE = 1L;
+
+    private H2JpaTestDatabase database;
+    private CartService cartService;
+
+    @BeforeEach
+    void setUp() {
+        database = H2JpaTestDatabase.create("cart_service");
+        cartService = new CartService(database.repository(CartRepository.class),
+                new ProductMainImageLoader(database.repository(ProductImgRepository.class)),
+                database.repository(UserRepository.class), database.repository(ProductRepository.class),
+                database.repository(ProductOptionValueRepository.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.drop();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void 장바구니_크기와_상관없이_쿼리_수가_일정하다(int lineCount) {
+        for (int i = 1; i <= lineCount; i++) {
+            insertProduct(i);
+            insertOption(i * 10 + 1, i, "색상", "블랙");
+            insertOption(i * 10 + 2, i, "사이즈", "L");
+            insertCart(i, i, i * 10 + 1, i * 10 + 2);
+        }
+
+        // 조회 요청과 같이 트랜잭션(영속성 컨텍스트) 안에서 실행 - 지연 로딩도 쿼리로 집계됨
+        database.statistics().clear();
+        RespDto<CartRespDto> result = database.getTransactionTemplate().execute(status -> cartService.getCart(USER_CODE));
+
+        assertThat(result.getCode()).isEqualTo(1);
+        assertThat(result.getData().getCartItems()).hasSize(lineCount);
+        assertThat(result.getData().getCartItems())
+                .allSatisfy(item -> assertThat(item.getSelectedOptions()).hasSize(2));
+        // 장바구니(상품/옵션 값/옵션 타입 fetch join) 1회 + 대표 이미지 1회
+        assertThat(database.statistics().getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 옵션_타입명과_대표_이미지를_조립한다() {
+        insertProduct(7);
+        insertOption(71, 7, "색상", "블랙");
+        insertCart(1, 7, 71, null);
+        LocalDateTime createdAt = LocalDateTime.now();
+        insertImage(7, "https://img/7-a.jpg", createdAt);
+        insertImage(7, "https://img/7-b.jpg", createdAt.plusSeconds(1));
+
+        CartRespDto.CartItemDto item = database.getTransactionTemplate()
+                .execute(status -> cartService.getCart(USER_CODE))
+                .getData().getCartItems().get(0);
+
+        assertThat(item.getMainImageUrl()).isEqualTo("https://img/7-a.jpg");
+        assertThat(item.getSelectedOptions()).hasSize(1);
+        assertThat(item.getSelectedOptions().get(0).getOptionTypeName()).isEqualTo("색상");
+        assertThat(item.getSelectedOptions().get(0).getOptionValueName()).isEqualTo("블랙");
+        assertThat(item.getTotalPrice()).isEqualTo(2 * 11000);
+    }
+
+    private void insertProduct(int productId) {
+        database.getJdbcTemplate().update("INSERT INTO product (product_id, name, base_price, sales_margin, "
+                        + "discount_per, discount_price, stock_status, is_available, premium, delete_status) "
+                        + "VALUES (?, ?, 10000, 0, 0, 10000, 1, 1, 0, 0)",
+                productId, "상품" + productId);
+    }
+
+    // 옵션 타입과 값을 같은 ID로 생성 (줄마다 다른 옵션 타입)
+    private void insertOption(int optionId, int productId, String typeName, String valueName) {
+        database.getJdbcTemplate().update("INSERT INTO product_option_type (option_type_id, product_id, type_name, "
+                        + "sort_order, is_required, is_deleted) VALUES (?, ?, ?, 0, 1, 0)",
+                optionId, productId, typeName);
+        database.getJdbcTemplate().update("INSERT INTO product_option_value (option_value_id, option_type_id, "
+                        + "value_name, price_adjustment, stock_status, sort_order, is_deleted) VALUES (?, ?, ?, 500, 1, 0, 0)",
+                optionId, optionId, valueName);
+    }
+
+    private void insertCart(int cartId, int productId, Integer option1, Integer option2) {
+        database.getJdbcTemplate().update("INSERT INTO cart (cart_id, user_code, product_id, option1, option2, "
+                        + "quantity, base_price, option_price, total_unit_price, check_status) "
+                        + "VALUES (?, ?, ?, ?, ?, 2, 10000, 1000, 11000, 1)",
+                cartId, USER_CODE, productId, option1, option2);
+    }
+
+    private void insertImage(int productId, String url, LocalDateTime createdAt) {
+        database.getJdbcTemplate().update("INSERT INTO product_img (product_id, product_img_url, created_at) "
+                + "VALUES (?, ?, ?)", productId, url, Timestamp.valueOf(createdAt));
+    }
+}
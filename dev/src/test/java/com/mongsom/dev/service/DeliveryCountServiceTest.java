@@ -0,0 +1,107 @@
+package com.mongsom.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongsom.dev.dto.delivery.respDto.DeliveryCountRespDto;
+import com.mongsom.dev.repository.CartRepository;
+import com.mongsom.dev.repository.DomainEventJdbcRepository;
+import com.mongsom.dev.repository.UserDeliveryCountRepository;
+import com.mongsom.dev.service.event.DomainEvent;
+import com.mongsom.dev.service.event.DomainEventHandler;
+
+/**
+ * 마이페이지 배송 건수 (H2 MariaDB 모드, 실제 재계산 SQL)
+ * 집계가 주문에서 먼저 만들어진 뒤 같은 주문의 이벤트가 늦게 소비되어도 두 번 세지 않는지 검증
+ */
+class DeliveryCountServiceTest {
+
+    private static final Long USER_CODE = 10L;
+
+    private H2JpaTestDatabase database;
+    private DeliveryCountService deliveryCountService;
+    private DomainEventHandler domainEventHandler;
+    private long nextEventId = 1;
+
+    @BeforeEach
+    void setUp() {
+        database = H2JpaTestDatabase.create("delivery_count");
+        database.getJdbcTemplate().execute("CREATE TABLE processed_event (consumer VARCHAR(50) NOT NULL, "
+                + "event_id BIGINT NOT NULL, processed_at TIMESTAMP, PRIMARY KEY (consumer, event_id))");
+
+        deliveryCountService = new DeliveryCountService(database.repository(UserDeliveryCountRepository.class));
+        domainEventHandler = new DomainEventHandler(new DomainEventJdbcRepository(database.getJdbcTemplate()),
+                mock(CartRepository.class), deliveryCountService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.drop();
+    }
+
+    @Test
+    void 조회로_생성된_집계에_이미_포함된_주문의_이벤트는_다시_더하지_않는다() {
+        LocalDateTime paymentAt = LocalDateTime.now();
+        // 주문 커밋 직후 (결제완료 이벤트는 아직 outbox에 있음) 첫 마이페이지 조회
+        insertOrder(1, "결제완료", paymentAt);
+        assertThat(counts().getPaymentCompleted()).isEqualTo(1);
+
+        handle(DomainEvent.paymentConfirmed(1, USER_CODE, "결제대기", null, "결제완료", paymentAt));
+
+        assertThat(counts().getPaymentCompleted()).isEqualTo(1);
+    }
+
+    @Test
+    void 기동_시_전체_재계산_뒤에_소비된_이벤트도_다시_더하지_않는다() {
+        LocalDateTime paymentAt = LocalDateTime.now();
+        insertOrder(1, "결제완료", paymentAt);
+        insertOrder(2, "배송중", paymentAt.minusDays(3));
+        deliveryCountService.sweepExpired(); // 기동 후 첫 스윕 = 전체 재계산
+
+        handle(DomainEvent.paymentConfirmed(1, USER_CODE, "결제대기", null, "결제완료", paymentAt));
+        handle(DomainEvent.deliveryStatusChanged(2, USER_CODE, "배송중"));
+
+        DeliveryCountRespDto counts = counts();
+        assertThat(counts.getPaymentCompleted()).isEqualTo(1);
+        assertThat(counts.getShipping()).isEqualTo(1);
+    }
+
+    @Test
+    void 이벤트는_소비_시점의_주문_상태로_집계한다() {
+        LocalDateTime paymentAt = LocalDateTime.now();
+        insertOrder(1, "결제완료", paymentAt);
+        assertThat(counts().getPaymentCompleted()).isEqualTo(1);
+
+        // 결제완료 이벤트가 소비되기 전에 주문이 취소됨
+        database.getJdbcTemplate().update("UPDATE order_item SET delivery_status = '주문취소' WHERE order_id = 1");
+        handle(DomainEvent.paymentConfirmed(1, USER_CODE, "결제대기", null, "결제완료", paymentAt));
+
+        assertThat(counts().getPaymentCompleted()).isZero();
+    }
+
+    // 마이페이지 조회와 같이 트랜잭션 안에서 조회
+    private DeliveryCountRespDto counts() {
+        return database.getTransactionTemplate().execute(status -> deliveryCountService.getCounts(USER_CODE));
+    }
+
+    // 소비자와 같이 이벤트마다 트랜잭션으로 반영
+    private void handle(DomainEvent event) {
+        event.setEventId(nextEventId++);
+        database.getTransactionTemplate().executeWithoutResult(status -> domainEventHandler.handle(event));
+    }
+
+    private void insertOrder(int orderId, String deliveryStatus, LocalDateTime paymentAt) {
+        database.getJdbcTemplate().update("INSERT INTO order_item (order_id, order_num, user_code, received_user_name, "
+                        + "received_user_phone, received_user_address, received_user_address2, total_price, "
+                        + "delivery_price, total_discount_price, final_price, used_mileage, delivery_status, payment_at) "
+                        + "VALUES (?, ?, ?, '수령인', '010-0000-0000', '주소', '상세주소', 10000, 0, 0, 10000, 0, ?, ?)",
+                orderId, "ORDER-" + orderId, USER_CODE, deliveryStatus, Timestamp.valueOf(paymentAt));
+    }
+}
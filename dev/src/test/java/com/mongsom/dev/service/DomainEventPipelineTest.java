@@ -0,0 +1,250 @@
+package com.mongsom.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.backoff.FixedBackOff;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mongsom.dev.config.KafkaConfig;
+import com.mongsom.dev.repository.CartRepository;
+import com.mongsom.dev.repository.DomainEventJdbcRepository;
+import com.mongsom.dev.service.event.DomainEvent;
+import com.mongsom.dev.service.event.DomainEventConsumer;
+import com.mongsom.dev.service.event.DomainEventHandler;
+import com.mongsom.dev.service.event.DomainEventPublisher;
+import com.mongsom.dev.service.event.DomainEventType;
+import com.mongsom.dev.service.event.OutboxRelay;
+
+/**
+ * outbox → 임베디드 Kafka → 소비자 (outbox/소비 이력은 H2 MariaDB 모드)
+ */
+@EmbeddedKafka(partitions = 1, topics = {DomainEventPipelineTest.RELAY_TOPIC, DomainEventPipelineTest.CONSUME_TOPIC,
+        DomainEventPipelineTest.FAILURE_TOPIC, DomainEventPipelineTest.FAILURE_TOPIC + KafkaConfig.DEAD_LETTER_SUFFIX})
+class DomainEventPipelineTest {
+
+    static final String RELAY_TOPIC = "domain-events-relay";
+    static final String CONSUME_TOPIC = "domain-events-consume";
+    static final String FAILURE_TOPIC = "domain-events-failure";
+
+    private EmbeddedKafkaBroker broker;
+    private H2TestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ObjectMapper objectMapper;
+    private DefaultKafkaProducerFactory<String, String> producerFactory;
+    private DomainEventJdbcRepository domainEventJdbcRepository;
+    private DomainEventPublisher domainEventPublisher;
+
+    private final CartRepository cartRepository = mock(CartRepository.class);
+    private final DeliveryCountService deliveryCountService = mock(DeliveryCountService.class);
+
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker broker) {
+        this.broker = broker;
+        database = H2TestDatabase.create("domain_event");
+        jdbcTemplate = database.getJdbcTemplate();
+        transactionTemplate = database.getTransactionTemplate();
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        jdbcTemplate.execute("CREATE TABLE outbox_event (event_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "event_type VARCHAR(40) NOT NULL, aggregate_key VARCHAR(40) NOT NULL, payload TEXT NOT NULL, "
+                + "created_at TIMESTAMP, published_at TIMESTAMP, claim_token VARCHAR(36), claimed_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE processed_event (consumer VARCHAR(50) NOT NULL, event_id BIGINT NOT NULL, "
+                + "processed_at TIMESTAMP, PRIMARY KEY (consumer, event_id))");
+
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerFactory = new DefaultKafkaProducerFactory<>(producerProps);
+
+        domainEventJdbcRepository = new DomainEventJdbcRepository(jdbcTemplate);
+        domainEventPublisher = new DomainEventPublisher(domainEventJdbcRepository, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        producerFactory.destroy();
+        database.drop();
+    }
+
+    @Test
+    void 커밋된_이벤트만_기록_순서대로_한_번_발행한다() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> domainEventPublisher.publishAll(List.of(
+                DomainEvent.orderCreated(1, 10L, true),
+                DomainEvent.paymentConfirmed(1, 10L, "결제대기", null, "결제완료", LocalDateTime.now()),
+                DomainEvent.reviewWritten(7, 10L, 5, false))));
+        // 롤백된 업무 변경의 이벤트는 발행되지 않아야 함
+        transactionTemplate.executeWithoutResult(status -> {
+            domainEventPublisher.publish(DomainEvent.orderCreated(2, 20L, false));
+            status.setRollbackOnly();
+        });
+
+        OutboxRelay relay = relay(RELAY_TOPIC);
+        relay.relay();
+        relay.relay();
+
+        List<DomainEvent> received = poll(RELAY_TOPIC, 4, Duration.ofSeconds(5));
+        assertThat(received).extracting(DomainEvent::getEventType).containsExactly(
+                DomainEventType.ORDER_CREATED, DomainEventType.PAYMENT_CONFIRMED, DomainEventType.REVIEW_WRITTEN);
+        assertThat(received).extracting(DomainEvent::getEventId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(received.get(1).getPreviousStatus()).isEqualTo("결제대기");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_event WHERE published_at IS NULL", Integer.class)).isZero();
+    }
+
+    @Test
+    void 재수신한_이벤트는_한_번만_반영한다() throws Exception {
+        LocalDateTime paymentAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> domainEventPublisher.publishAll(List.of(
+                DomainEvent.paymentConfirmed(1, 10L, "결제대기", null, "결제완료", paymentAt),
+                DomainEvent.deliveryStatusChanged(2, 20L, "배송중"),
+                DomainEvent.deliveryStatusChanged(3, 20L, "배송중"),
+                DomainEvent.reviewWritten(7, 10L, 4, true))));
+        relay(CONSUME_TOPIC).relay();
+
+        List<String> messages = pollMessages(CONSUME_TOPIC, 4, Duration.ofSeconds(10));
+        assertThat(messages).hasSize(4);
+
+        DomainEventConsumer consumer = new DomainEventConsumer(handler(), objectMapper);
+        consumer.consume(messages);
+        consumer.consume(messages); // 오프셋 커밋 전 장애로 같은 배치를 다시 받은 경우
+
+        verify(deliveryCountService, times(1)).refresh(List.of(10L));
+        verify(cartRepository, times(1)).deleteByUserCodeAndCreatedAtBefore(eq(10L), any(LocalDateTime.class));
+        verify(deliveryCountService, times(2)).refresh(List.of(20L));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM processed_event", Integer.class)).isEqualTo(4);
+    }
+
+    @Test
+    void 반영에_실패한_이벤트만_DLT로_보내고_나머지는_반영한다() {
+        transactionTemplate.executeWithoutResult(status -> domainEventPublisher.publishAll(List.of(
+                DomainEvent.orderCreated(1, 10L, true),
+                DomainEvent.deliveryStatusChanged(3, 30L, "배송중"),
+                DomainEvent.deliveryStatusChanged(2, 20L, "배송중"))));
+        relay(FAILURE_TOPIC).relay();
+        doThrow(new IllegalStateException("배송 건수 반영 실패")).when(deliveryCountService).refresh(List.of(30L));
+
+        DomainEventConsumer consumer = new DomainEventConsumer(handler(), objectMapper);
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("side-effects-" + FAILURE_TOPIC, "false", broker);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        ContainerProperties containerProperties = new ContainerProperties(FAILURE_TOPIC);
+        containerProperties.setMessageListener((BatchMessageListener<String, String>) records ->
+                consumer.consume(records.stream().map(ConsumerRecord::value).toList()));
+        KafkaMessageListenerContainer<String, String> container = new KafkaMessageListenerContainer<>(
+                new DefaultKafkaConsumerFactory<>(consumerProps), containerProperties);
+        container.setCommonErrorHandler(KafkaConfig.domainEventErrorHandler(
+                new KafkaTemplate<>(producerFactory), new FixedBackOff(0L, 1L)));
+
+        container.start();
+        try {
+            // 실패한 이벤트 뒤의 이벤트도 반영
+            verify(deliveryCountService, timeout(10_000)).refresh(List.of(20L));
+        } finally {
+            container.stop();
+        }
+
+        verify(cartRepository, times(1)).deleteByUserCodeAndCreatedAtBefore(eq(10L), any(LocalDateTime.class));
+        verify(deliveryCountService, times(2)).refresh(List.of(30L)); // 최초 + 재시도 1회
+        List<String> deadLetters = pollMessages(FAILURE_TOPIC + KafkaConfig.DEAD_LETTER_SUFFIX, 1, Duration.ofSeconds(5));
+        assertThat(deadLetters).hasSize(1);
+        assertThat(deadLetters.get(0)).contains("DELIVERY_STATUS_CHANGED").contains("\"orderId\":3");
+        // 실패한 이벤트는 소비 이력도 롤백
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM processed_event", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void 선점된_이벤트는_다른_릴레이가_가져가지_않는다() {
+        transactionTemplate.executeWithoutResult(status -> domainEventPublisher.publishAll(List.of(
+                DomainEvent.orderCreated(1, 10L, true),
+                DomainEvent.orderCreated(2, 20L, true))));
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(domainEventJdbcRepository.claimUnpublished("relay-a", now, now.minusMinutes(5), 10)).hasSize(2);
+        assertThat(domainEventJdbcRepository.claimUnpublished("relay-b", now, now.minusMinutes(5), 10)).isEmpty();
+        // 선점한 서버가 멈춘 뒤 선점 유효시간이 지나면 다른 서버가 인수
+        assertThat(domainEventJdbcRepository.claimUnpublished("relay-b", now, now.plusSeconds(1), 10)).hasSize(2);
+    }
+
+    /**
+     * 운영과 같이 이벤트마다 트랜잭션으로 반영 (실패 시 소비 이력도 롤백)
+     */
+    private DomainEventHandler handler() {
+        return new DomainEventHandler(domainEventJdbcRepository, cartRepository, deliveryCountService) {
+            @Override
+            public boolean handle(DomainEvent event) {
+                return transactionTemplate.execute(status -> super.handle(event));
+            }
+        };
+    }
+
+    private OutboxRelay relay(String topic) {
+        return new OutboxRelay(domainEventJdbcRepository, new KafkaTemplate<>(producerFactory), objectMapper, topic,
+                "kafka", event -> { });
+    }
+
+    private List<DomainEvent> poll(String topic, int maxRecords, Duration timeout) throws Exception {
+        List<DomainEvent> events = new ArrayList<>();
+        for (String message : pollMessages(topic, maxRecords, timeout)) {
+            events.add(objectMapper.readValue(message, DomainEvent.class));
+        }
+        return events;
+    }
+
+    /**
+     * 토픽 처음부터 maxRecords건을 받거나 timeout이 지날 때까지 수신
+     */
+    private List<String> pollMessages(String topic, int maxRecords, Duration timeout) {
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("test-" + topic, "false", broker);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+
+        List<String> messages = new ArrayList<>();
+        try (Consumer<String, String> consumer =
+                     new DefaultKafkaConsumerFactory<String, String>(consumerProps).createConsumer()) {
+            broker.consumeFromAnEmbeddedTopic(consumer, topic);
+            long deadline = System.nanoTime() + timeout.toNanos();
+            while (messages.size() < maxRecords && System.nanoTime() < deadline) {
+                for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(200))) {
+                    messages.add(record.value());
+                }
+            }
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,125 @@
+package com.mongsom.dev.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.mongsom.dev.dto.export.OrderExportDto;
+
+/**
+ * XSSF(전체 메모리) vs SXSSF(스트리밍) 엑셀 생성 비교
+ * 실행: BENCHMARK=true ./gradlew test --tests '*ExcelExportBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ExcelExportBenchmarkTest {
+
+    private final ExcelExportService excelExportService = new ExcelExportService();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 50_000, 200_000})
+    void 엑셀_생성_힙_시간_비교(int rowCount) throws Exception {
+        Result xssf = measure(() -> writeWithXssf(rowCount, OutputStream.nullOutputStream()));
+        Result sxssf = measure(() -> excelExportService.writeOrderExcel(
+                rows(rowCount), "결제완료", OutputStream.nullOutputStream()));
+
+        System.out.printf("rows=%,d | XSSF  peakHeap=%,dMB time=%,dms%n", rowCount, xssf.peakHeapMb, xssf.elapsedMs);
+        System.out.printf("rows=%,d | SXSSF peakHeap=%,dMB time=%,dms%n", rowCount, sxssf.peakHeapMb, sxssf.elapsedMs);
+    }
+
+    private Stream<OrderExportDto> rows(int rowCount) {
+        return IntStream.range(0, rowCount).mapToObj(i -> OrderExportDto.builder()
+                .orderNum("mongsom_" + i)
+                .receiverName("홍길동")
+                .receiverPhone("010-1234-5678")
+                .receiverTel("010-1234-5678")
+                .receiverAddress("서울특별시 강남구 테헤란로 123 몽솜빌딩 " + i + "호")
+                .productName("몽솜 프리미엄 이불 세트")
+                .productOption("색상: 아이보리 / 사이즈: 퀸")
+                .quantity(1)
+                .deliveryMessage("문 앞에 놓아주세요")
+                .shippingType("010")
+                .packageCount(1)
+                .shippingCost(2750)
+                .build());
+    }
+
+    // 기존 방식: XSSFWorkbook 전체 메모리 생성 + autoSize
+    private void writeWithXssf(int rowCount, OutputStream out) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("sheet");
+            int[] rowIndex = {1};
+            rows(rowCount).forEach(order -> {
+                Row row = sheet.createRow(rowIndex[0]++);
+                row.createCell(0).setCellValue(order.getOrderNum());
+                row.createCell(1).setCellValue(order.getReceiverName());
+                row.createCell(2).setCellValue(order.getReceiverPhone());
+                row.createCell(3).setCellValue(order.getReceiverTel());
+                row.createCell(4).setCellValue(order.getReceiverAddress());
+                row.createCell(5).setCellValue(order.getProductName());
+                row.createCell(6).setCellValue(order.getProductOption());
+                row.createCell(7).setCellValue(order.getQuantity());
+                row.createCell(8).setCellValue(order.getDeliveryMessage());
+                row.createCell(9).setCellValue(order.getShippingType());
+                row.createCell(10).setCellValue(order.getPackageCount());
+                row.createCell(11).setCellValue(order.getShippingCost());
+            });
+            for (int i = 0; i < 12; i++) {
+                sheet.autoSizeColumn(i);
+            }
+            workbook.write(buffer);
+            out.write(buffer.toByteArray());
+        }
+    }
+
+    private Result measure(ThrowingRunnable task) throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.setDaemon(true);
+        sampler.start();
+
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        return new Result((peak.get() - baseline) / (1024 * 1024), elapsedMs);
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private record Result(long peakHeapMb, long elapsedMs) {
+    }
+}
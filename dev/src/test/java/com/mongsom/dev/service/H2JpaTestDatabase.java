@@ -0,0 +1,87 @@
+package com.mongsom.dev.service;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.TransactionalRepositoryProxyPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.Getter;
+
+/**
+ * 테스트용 H2 + Hibernate 환경 (전체 엔티티로 스키마 생성, 외래키 제약은 생략)
+ * - 리포지토리는 운영과 같이 트랜잭션 프록시를 씌워 생성 (repository())
+ * - 실제 실행된 SQL 수는 Hibernate 통계로 확인 (statistics())
+ */
+@Getter
+final class H2JpaTestDatabase {
+
+    private static final String TRANSACTION_MANAGER = "transactionManager";
+
+    private final H2TestDatabase database;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final JpaRepositoryFactory repositoryFactory;
+
+    private H2JpaTestDatabase(H2TestDatabase database) {
+        this.database = database;
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(database.getDataSource());
+        factoryBean.setPackagesToScan("com.mongsom.dev.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.hbm2ddl.default_constraint_mode", "NO_CONSTRAINT",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName(),
+                "hibernate.generate_statistics", "true"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton(TRANSACTION_MANAGER, transactionManager);
+        repositoryFactory = new JpaRepositoryFactory(entityManager);
+        repositoryFactory.addRepositoryProxyPostProcessor(
+                new TransactionalRepositoryProxyPostProcessor(beanFactory, TRANSACTION_MANAGER, true));
+    }
+
+    static H2JpaTestDatabase create(String name) {
+        return new H2JpaTestDatabase(H2TestDatabase.create(name));
+    }
+
+    <T> T repository(Class<T> repositoryInterface) {
+        return repositoryFactory.getRepository(repositoryInterface);
+    }
+
+    // 시드 데이터 입력용 (트랜잭션 안에서 호출하면 JPA와 같은 커넥션 사용)
+    JdbcTemplate getJdbcTemplate() {
+        return database.getJdbcTemplate();
+    }
+
+    Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    void drop() {
+        entityManagerFactory.close();
+        database.drop();
+    }
+}
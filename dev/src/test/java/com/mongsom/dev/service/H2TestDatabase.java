@@ -0,0 +1,41 @@
+package com.mongsom.dev.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.Getter;
+
+/**
+ * 테스트용 H2 인메모리 DB (MariaDB 모드)
+ * 테스트 클래스마다 다른 이름으로 만들고, 테이블은 각 테스트에서 생성한 뒤 drop()으로 모두 삭제
+ */
+@Getter
+final class H2TestDatabase {
+
+    private final DriverManagerDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private H2TestDatabase(String url) {
+        dataSource = new DriverManagerDataSource(url, "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    static H2TestDatabase create(String name) {
+        return new H2TestDatabase("jdbc:h2:mem:" + name + ";MODE=MariaDB;DB_CLOSE_DELAY=-1");
+    }
+
+    /**
+     * H2 설정 추가 (예: "LOCK_TIMEOUT=30000")
+     */
+    static H2TestDatabase create(String name, String settings) {
+        return new H2TestDatabase("jdbc:h2:mem:" + name + ";MODE=MariaDB;DB_CLOSE_DELAY=-1;" + settings);
+    }
+
+    void drop() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+}
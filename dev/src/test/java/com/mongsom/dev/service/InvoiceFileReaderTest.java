@@ -0,0 +1,80 @@
+package com.mongsom.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.mongsom.dev.service.admin.InvoiceFileReader;
+
+class InvoiceFileReaderTest {
+
+    private final InvoiceFileReader reader = new InvoiceFileReader();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 엑셀에서_주문번호와_숫자형_송장번호를_읽는다() throws Exception {
+        File file = tempDir.resolve("invoice.xlsx").toFile();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file.toPath())) {
+            Sheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("수하인명");
+            header.createCell(1).setCellValue("주문번호");
+            header.createCell(2).setCellValue("운송장번호");
+            Row first = sheet.createRow(1);
+            first.createCell(0).setCellValue("홍길동");
+            first.createCell(1).setCellValue("mongsom_1");
+            first.createCell(2).setCellValue(123456789012d);
+            Row second = sheet.createRow(3); // 빈 행 다음 행
+            second.createCell(1).setCellValue("mongsom_2");
+            second.createCell(2).setCellValue("98765-4321");
+            workbook.write(out);
+        }
+
+        List<InvoiceFileReader.InvoiceRow> rows = read(file, "invoice.xlsx");
+
+        assertThat(rows).extracting(InvoiceFileReader.InvoiceRow::getRowNum).containsExactly(2, 4);
+        assertThat(rows).extracting(InvoiceFileReader.InvoiceRow::getOrderNum).containsExactly("mongsom_1", "mongsom_2");
+        assertThat(rows).extracting(InvoiceFileReader.InvoiceRow::getInvoiceNum).containsExactly("123456789012", "98765-4321");
+    }
+
+    @Test
+    void MS949_CSV를_읽는다() throws Exception {
+        File file = tempDir.resolve("invoice.csv").toFile();
+        Files.writeString(file.toPath(), "송장번호,주문번호,비고\n111,mongsom_1,\"메모, 쉼표\"\n\n222,mongsom_2,\n",
+                Charset.forName("MS949"));
+
+        List<InvoiceFileReader.InvoiceRow> rows = read(file, "invoice.csv");
+
+        assertThat(rows).extracting(InvoiceFileReader.InvoiceRow::getOrderNum).containsExactly("mongsom_1", "mongsom_2");
+        assertThat(rows).extracting(InvoiceFileReader.InvoiceRow::getInvoiceNum).containsExactly("111", "222");
+    }
+
+    @Test
+    void 필수_헤더가_없으면_거부한다() throws Exception {
+        File file = tempDir.resolve("invoice.csv").toFile();
+        Files.writeString(file.toPath(), "주문번호,수량\nmongsom_1,1\n");
+
+        assertThatThrownBy(() -> read(file, "invoice.csv")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<InvoiceFileReader.InvoiceRow> read(File file, String fileName) throws Exception {
+        List<InvoiceFileReader.InvoiceRow> rows = new ArrayList<>();
+        reader.read(file, fileName, rows::add);
+        return rows;
+    }
+}
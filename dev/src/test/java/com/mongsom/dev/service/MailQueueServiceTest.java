@@ -0,0 +1,144 @@
+package com.mongsom.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.ServerSocket;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.mongsom.dev.entity.MailQueue;
+import com.mongsom.dev.repository.MailQueueJdbcRepository;
+
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * 메일 발송 큐 (H2 MariaDB 모드 + GreenMail 로컬 SMTP)
+ */
+class MailQueueServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private H2TestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private MailQueueJdbcRepository mailQueueJdbcRepository;
+
+    @BeforeEach
+    void setUp() {
+        database = H2TestDatabase.create("mail_queue");
+        jdbcTemplate = database.getJdbcTemplate();
+        mailQueueJdbcRepository = new MailQueueJdbcRepository(jdbcTemplate);
+
+        jdbcTemplate.execute("CREATE TABLE mail_queue (mail_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "mail_type VARCHAR(30) NOT NULL, recipient VARCHAR(255) NOT NULL, subject VARCHAR(255) NOT NULL, "
+                + "body TEXT, status VARCHAR(10) NOT NULL, attempt_count INT NOT NULL DEFAULT 0, "
+                + "next_attempt_at TIMESTAMP NOT NULL, claim_token VARCHAR(36), claimed_at TIMESTAMP, "
+                + "last_error VARCHAR(500), created_at TIMESTAMP, sent_at TIMESTAMP)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.drop();
+    }
+
+    @Test
+    void 대기_메일을_발송하고_본문을_지운다() throws Exception {
+        MailQueueService mailQueueService = newService(ServerSetupTest.SMTP.getPort());
+        for (int i = 1; i <= 5; i++) {
+            mailQueueService.enqueue(MailQueue.TYPE_TEMP_PASSWORD, "user" + i + "@mongsom.co.kr",
+                    "몽솜 임시 비밀번호 안내", "비밀번호는 temp" + i + " 입니다.");
+        }
+
+        mailQueueService.drain();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(5);
+        assertThat(received[0].getSubject()).isEqualTo("몽솜 임시 비밀번호 안내");
+        assertThat(jdbcTemplate.queryForList("SELECT status, body, attempt_count FROM mail_queue"))
+                .allSatisfy(row -> {
+                    assertThat(row.get("STATUS")).isEqualTo(MailQueue.STATUS_SENT);
+                    assertThat(row.get("BODY")).isNull();
+                    assertThat(((Number) row.get("ATTEMPT_COUNT")).intValue()).isEqualTo(1);
+                });
+
+        // 이미 발송한 메일은 다시 선점하지 않음
+        mailQueueService.drain();
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
+    }
+
+    @Test
+    void SMTP_장애면_늦춰서_재시도하고_복구되면_발송한다() throws Exception {
+        MailQueueService failing = newService(closedPort());
+        failing.enqueue(MailQueue.TYPE_TEMP_PASSWORD, "user@mongsom.co.kr", "몽솜 임시 비밀번호 안내", "본문");
+
+        LocalDateTime before = LocalDateTime.now();
+        failing.drain();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT status, attempt_count, next_attempt_at, last_error, body FROM mail_queue");
+        assertThat(row.get("STATUS")).isEqualTo(MailQueue.STATUS_PENDING);
+        assertThat(((Number) row.get("ATTEMPT_COUNT")).intValue()).isEqualTo(1);
+        assertThat(((Timestamp) row.get("NEXT_ATTEMPT_AT")).toLocalDateTime()).isAfter(before.plusSeconds(25));
+        assertThat(row.get("LAST_ERROR")).isNotNull();
+        assertThat(row.get("BODY")).isEqualTo("본문");
+
+        // 재시도 시각 전에는 발송하지 않음
+        MailQueueService recovered = newService(ServerSetupTest.SMTP.getPort());
+        recovered.drain();
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+
+        jdbcTemplate.update("UPDATE mail_queue SET next_attempt_at = ?", Timestamp.valueOf(LocalDateTime.now()));
+        recovered.drain();
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM mail_queue", String.class))
+                .isEqualTo(MailQueue.STATUS_SENT);
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘으면_실패_처리한다() throws Exception {
+        MailQueueService failing = newService(closedPort());
+        failing.enqueue(MailQueue.TYPE_TEMP_PASSWORD, "user@mongsom.co.kr", "몽솜 임시 비밀번호 안내", "본문");
+        jdbcTemplate.update("UPDATE mail_queue SET attempt_count = ?", MailQueueService.MAX_ATTEMPTS - 1);
+
+        failing.drain();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT status, attempt_count, body FROM mail_queue");
+        assertThat(row.get("STATUS")).isEqualTo(MailQueue.STATUS_FAILED);
+        assertThat(((Number) row.get("ATTEMPT_COUNT")).intValue()).isEqualTo(MailQueueService.MAX_ATTEMPTS);
+        assertThat(row.get("BODY")).isNull();
+    }
+
+    @Test
+    void 재시도_간격은_두_배씩_늘고_1시간을_넘지_않는다() {
+        assertThat(MailQueueService.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(MailQueueService.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(MailQueueService.backoff(5)).isEqualTo(Duration.ofMinutes(8));
+        assertThat(MailQueueService.backoff(10)).isEqualTo(Duration.ofHours(1));
+    }
+
+    private MailQueueService newService(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        mailSender.getJavaMailProperties().put("mail.smtp.timeout", "2000");
+        return new MailQueueService(mailQueueJdbcRepository, mailSender, 50, 2, "noreply@mongsom.co.kr");
+    }
+
+    private static int closedPort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.mongsom.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mongsom.dev.entity.MileageLedger;
+import com.mongsom.dev.repository.MileageJdbcRepository;
+
+/**
+ * 같은 회원 마일리지 동시 차감 (H2 MariaDB 모드)
+ * - 조건부 UPDATE(MileageService): 유실/음수 잔액 없이 원장과 잔액이 일치하는지 검증
+ * - 처리량 비교: 기존 조회 후 저장(read-modify-write) vs 조건부 UPDATE, 동시 1/16/64건
+ * 처리량 비교 실행: BENCHMARK=true ./gradlew test --tests '*MileageContentionTest'
+ */
+class MileageContentionTest {
+
+    private static final long USER_CODE = 1L;
+    private static final int BENCHMARK_TOTAL_OPS = 20_000;
+
+    private H2TestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private MileageService mileageService;
+
+    @BeforeEach
+    void setUp() {
+        database = H2TestDatabase.create("mileage_contention", "LOCK_TIMEOUT=30000");
+        jdbcTemplate = database.getJdbcTemplate();
+        transactionTemplate = database.getTransactionTemplate();
+        mileageService = new MileageService(new MileageJdbcRepository(jdbcTemplate));
+
+        jdbcTemplate.execute("CREATE TABLE user_mst (user_code BIGINT PRIMARY KEY, name VARCHAR(50), "
+                + "mileage INT NOT NULL DEFAULT 0)");
+        jdbcTemplate.execute("CREATE TABLE mileage_ledger (ledger_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "user_code BIGINT NOT NULL, amount INT NOT NULL, balance_after INT NOT NULL, "
+                + "reason VARCHAR(20) NOT NULL, order_id INT, created_at TIMESTAMP)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.drop();
+    }
+
+    @Test
+    void 동시_차감에도_잔액과_원장이_일치한다() throws Exception {
+        int balance = 1_000;
+        int threads = 64;
+        int attemptsPerThread = 25; // 총 1,600회 시도 → 1,000회만 성공해야 함
+        jdbcTemplate.update("INSERT INTO user_mst (user_code, name, mileage) VALUES (?, '회원', ?)", USER_CODE, balance);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        runConcurrently(threads, attemptsPerThread, () -> {
+            Boolean deducted = transactionTemplate.execute(status ->
+                    mileageService.deduct(USER_CODE, 1, MileageLedger.REASON_ORDER_USE, null));
+            if (Boolean.TRUE.equals(deducted)) {
+                succeeded.incrementAndGet();
+            }
+        });
+
+        assertThat(succeeded.get()).isEqualTo(balance);
+        assertThat(mileageService.getBalance(USER_CODE)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mileage_ledger", Integer.class)).isEqualTo(balance);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(amount) FROM mileage_ledger", Integer.class)).isEqualTo(-balance);
+        // 차감마다 잔액이 정확히 1씩 줄었으면 변경 후 잔액은 0~999가 한 번씩만 나옴
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT balance_after) FROM mileage_ledger", Integer.class))
+                .isEqualTo(balance);
+        assertThat(jdbcTemplate.queryForObject("SELECT MIN(balance_after) FROM mileage_ledger", Integer.class)).isZero();
+    }
+
+    @Test
+    void 잔액이_부족하면_차감하지_않고_원장도_남기지_않는다() {
+        jdbcTemplate.update("INSERT INTO user_mst (user_code, name, mileage) VALUES (?, '회원', 500)", USER_CODE);
+
+        boolean deducted = mileageService.deduct(USER_CODE, 501, MileageLedger.REASON_ORDER_USE, 10);
+        boolean added = mileageService.add(USER_CODE, 300, MileageLedger.REASON_ORDER_CANCEL_REFUND, 10);
+
+        assertThat(deducted).isFalse();
+        assertThat(added).isTrue();
+        assertThat(mileageService.getBalance(USER_CODE)).isEqualTo(800);
+        assertThat(jdbcTemplate.queryForList("SELECT amount, balance_after, reason, order_id FROM mileage_ledger"))
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(((Number) row.get("AMOUNT")).intValue()).isEqualTo(300);
+                    assertThat(((Number) row.get("BALANCE_AFTER")).intValue()).isEqualTo(800);
+                    assertThat(row.get("REASON")).isEqualTo(MileageLedger.REASON_ORDER_CANCEL_REFUND);
+                    assertThat(((Number) row.get("ORDER_ID")).intValue()).isEqualTo(10);
+                });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 16, 64})
+    @EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+    void 동시_차감_처리량_비교(int threads) throws Exception {
+        int attemptsPerThread = BENCHMARK_TOTAL_OPS / threads;
+        int totalOps = attemptsPerThread * threads;
+
+        // 기존: 회원 조회 후 잔액 계산해서 저장
+        resetBalance(totalOps);
+        AtomicInteger beforeSucceeded = new AtomicInteger();
+        double before = runConcurrently(threads, attemptsPerThread, () -> {
+            Boolean deducted = transactionTemplate.execute(status -> {
+                Integer mileage = jdbcTemplate.queryForObject(
+                        "SELECT mileage FROM user_mst WHERE user_code = ?", Integer.class, USER_CODE);
+                if (mileage < 1) {
+                    return false;
+                }
+                jdbcTemplate.update("UPDATE user_mst SET mileage = ? WHERE user_code = ?", mileage - 1, USER_CODE);
+                return true;
+            });
+            if (Boolean.TRUE.equals(deducted)) {
+                beforeSucceeded.incrementAndGet();
+            }
+        });
+        int beforeLost = mileageService.getBalance(USER_CODE) - (totalOps - beforeSucceeded.get());
+
+        // 변경: 조건부 UPDATE + 원장 INSERT
+        resetBalance(totalOps);
+        AtomicInteger afterSucceeded = new AtomicInteger();
+        double after = runConcurrently(threads, attemptsPerThread, () -> {
+            Boolean deducted = transactionTemplate.execute(status ->
+                    mileageService.deduct(USER_CODE, 1, MileageLedger.REASON_ORDER_USE, null));
+            if (Boolean.TRUE.equals(deducted)) {
+                afterSucceeded.incrementAndGet();
+            }
+        });
+        int afterLost = mileageService.getBalance(USER_CODE) - (totalOps - afterSucceeded.get());
+
+        System.out.printf("threads=%d | before %,.0f ops/sec (유실 %d건) | after %,.0f ops/sec (유실 %d건, 원장 포함)%n",
+                threads, before, beforeLost, after, afterLost);
+        assertThat(afterLost).isZero();
+    }
+
+    private void resetBalance(int balance) {
+        jdbcTemplate.update("DELETE FROM mileage_ledger");
+        jdbcTemplate.update("MERGE INTO user_mst (user_code, name, mileage) KEY (user_code) VALUES (?, '회원', ?)",
+                USER_CODE, balance);
+    }
+
+    /**
+     * threads개 스레드가 동시에 시작해 각각 attemptsPerThread번 실행
+     *
+     * @return 초당 처리 건수
+     */
+    private double runConcurrently(int threads, int attemptsPerThread, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        task.run();
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+            return (long) threads * attemptsPerThread / ((System.nanoTime() - begin) / 1_000_000_000.0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
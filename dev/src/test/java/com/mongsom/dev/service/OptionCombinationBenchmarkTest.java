@@ -0,0 +1,149 @@
+package com.mongsom.dev.service;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.mongsom.dev.entity.ProductOptionValue;
+import com.mongsom.dev.repository.OptionCombinationJdbcRepository;
+import com.mongsom.dev.service.admin.OptionCombinationGenerator;
+
+/**
+ * 옵션 조합 생성/저장 시간 비교 (H2 MariaDB 모드, 조합 100 / 1,000 / 10,000개)
+ * - 기존: 재귀 카테시안 곱 + 조합/매핑 행마다 INSERT
+ * - 변경: OptionCombinationGenerator (인덱스 배열 순회 + 다중 행 INSERT)
+ * 실행: BENCHMARK=true ./gradlew test --tests '*OptionCombinationBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class OptionCombinationBenchmarkTest {
+
+    private static final int VALUES_PER_TYPE = 10;
+
+    private final H2TestDatabase database = H2TestDatabase.create("option_combination_bench");
+    private final JdbcTemplate jdbcTemplate = database.getJdbcTemplate();
+    private final OptionCombinationGenerator generator =
+            new OptionCombinationGenerator(new OptionCombinationJdbcRepository(jdbcTemplate));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE product_option_combination (combination_id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "product_id INT NOT NULL, combination_key VARCHAR(100) NOT NULL, stock_status INT, "
+                + "is_deleted INT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE option_combination_mapping (mapping_id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "combination_id INT NOT NULL, option_value_id INT NOT NULL, created_at TIMESTAMP, "
+                + "UNIQUE (combination_id, option_value_id))");
+        jdbcTemplate.execute("CREATE INDEX idx_poc_product_id ON product_option_combination (product_id)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.drop();
+    }
+
+    @Test
+    void 조합_수에_따른_생성_시간_비교() {
+        // 워밍업
+        for (int i = 0; i < 3; i++) {
+            generateBefore(-1 - i, optionValues(3));
+            generator.generate(-100 - i, optionValues(3));
+        }
+
+        int productId = 1;
+        for (int typeCount = 2; typeCount <= 4; typeCount++) {
+            List<List<ProductOptionValue>> values = optionValues(typeCount);
+
+            long start = System.nanoTime();
+            int beforeCount = generateBefore(productId++, values);
+            double before = (System.nanoTime() - start) / 1_000_000.0;
+
+            start = System.nanoTime();
+            int afterCount = generator.generate(productId++, values);
+            double after = (System.nanoTime() - start) / 1_000_000.0;
+
+            if (beforeCount != afterCount) {
+                throw new IllegalStateException("조합 수 불일치 - before: " + beforeCount + ", after: " + afterCount);
+            }
+            System.out.printf("combinations=%,d | before(recursive+row insert)=%.2fms | after(batched)=%.2fms%n",
+                    afterCount, before, after);
+        }
+    }
+
+    // 옵션 타입 typeCount개, 타입당 값 VALUES_PER_TYPE개 (1개는 품절)
+    private List<List<ProductOptionValue>> optionValues(int typeCount) {
+        List<List<ProductOptionValue>> valuesByType = new ArrayList<>();
+        for (int t = 0; t < typeCount; t++) {
+            List<ProductOptionValue> values = new ArrayList<>();
+            for (int v = 0; v < VALUES_PER_TYPE; v++) {
+                values.add(ProductOptionValue.builder()
+                        .optionValueId(t * 100 + v + 1)
+                        .optionTypeId(t + 1)
+                        .valueName("값" + v)
+                        .stockStatus(v == 0 ? 0 : 1)
+                        .build());
+            }
+            valuesByType.add(values);
+        }
+        return valuesByType;
+    }
+
+    // 기존 방식: 재귀 카테시안 곱 + 조합 INSERT(생성 키 조회) + 매핑 행마다 INSERT
+    private int generateBefore(int productId, List<List<ProductOptionValue>> valuesByType) {
+        List<List<ProductOptionValue>> combinations = cartesianProduct(valuesByType);
+        for (List<ProductOptionValue> combination : combinations) {
+            String combinationKey = combination.stream()
+                    .map(v -> v.getOptionValueId().toString())
+                    .sorted()
+                    .collect(Collectors.joining("-"));
+            int stockStatus = combination.stream().allMatch(v -> v.getStockStatus() == 1) ? 1 : 0;
+
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement("INSERT INTO product_option_combination "
+                        + "(product_id, combination_key, stock_status, is_deleted, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, 0, NOW(), NOW())", Statement.RETURN_GENERATED_KEYS);
+                ps.setInt(1, productId);
+                ps.setString(2, combinationKey);
+                ps.setInt(3, stockStatus);
+                return ps;
+            }, keyHolder);
+            int combinationId = keyHolder.getKey().intValue();
+
+            for (ProductOptionValue value : combination) {
+                jdbcTemplate.update("INSERT INTO option_combination_mapping (combination_id, option_value_id, created_at) "
+                        + "VALUES (?, ?, NOW())", combinationId, value.getOptionValueId());
+            }
+        }
+        return combinations.size();
+    }
+
+    private List<List<ProductOptionValue>> cartesianProduct(List<List<ProductOptionValue>> lists) {
+        if (lists.isEmpty()) {
+            return Arrays.asList(Arrays.asList());
+        }
+
+        List<ProductOptionValue> head = lists.get(0);
+        List<List<ProductOptionValue>> tail = cartesianProduct(lists.subList(1, lists.size()));
+
+        List<List<ProductOptionValue>> result = new ArrayList<>();
+        for (ProductOptionValue h : head) {
+            for (List<ProductOptionValue> t : tail) {
+                List<ProductOptionValue> combination = new ArrayList<>();
+                combination.add(h);
+                combination.addAll(t);
+                result.add(combination);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,134 @@
+package com.mongsom.dev.service;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mongsom.dev.entity.OrderDetail;
+import com.mongsom.dev.repository.OrderDetailJdbcRepository;
+
+/**
+ * 주문 생성 쓰기 경로 비교 (H2 MariaDB 모드)
+ * - 기존: order_item INSERT(IDENTITY) + 주문번호 UPDATE + 상세 행별 INSERT + payments INSERT
+ * - 변경: 시퀀스 블록 ID + order_item INSERT 1회 + 상세 다중 행 INSERT 1회 + payments INSERT
+ * 실행: BENCHMARK=true ./gradlew test --tests '*OrderCreateBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class OrderCreateBenchmarkTest {
+
+    private static final int ORDER_COUNT = 5_000;
+
+    private H2TestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = H2TestDatabase.create("order_bench");
+        jdbcTemplate = database.getJdbcTemplate();
+        transactionTemplate = database.getTransactionTemplate();
+
+        jdbcTemplate.execute("CREATE TABLE order_item (order_id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "order_num VARCHAR(255) NOT NULL UNIQUE, user_code BIGINT NOT NULL, final_price INT NOT NULL, "
+                + "delivery_status VARCHAR(50) NOT NULL, created_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE order_detail (order_detail_id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "order_id INT NOT NULL, user_code BIGINT NOT NULL, product_id INT NOT NULL, option1 INT, option2 INT, "
+                + "quantity INT NOT NULL, base_price INT NOT NULL, option_price INT NOT NULL, "
+                + "unit_total_price INT NOT NULL, line_total_price INT NOT NULL, review_status INT, "
+                + "order_status INT, created_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE payments (payment_id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "order_id INT NOT NULL, user_code BIGINT NOT NULL, payment_amount INT, payment_status VARCHAR(50))");
+        jdbcTemplate.execute("CREATE SEQUENCE order_item_seq START WITH 1000000 INCREMENT BY 50");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.drop();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20})
+    void 주문_생성_처리량_비교(int lineCount) {
+        OrderIdAllocator orderIdAllocator = new OrderIdAllocator(jdbcTemplate, 50);
+        OrderDetailJdbcRepository orderDetailJdbcRepository = new OrderDetailJdbcRepository(jdbcTemplate);
+
+        // 워밍업
+        run(200, () -> createOrderBefore(lineCount));
+        run(200, () -> createOrderAfter(orderIdAllocator, orderDetailJdbcRepository, lineCount));
+
+        double before = run(ORDER_COUNT, () -> createOrderBefore(lineCount));
+        double after = run(ORDER_COUNT, () -> createOrderAfter(orderIdAllocator, orderDetailJdbcRepository, lineCount));
+
+        System.out.printf("lines=%d | before %,.0f orders/sec | after %,.0f orders/sec (x%.2f)%n",
+                lineCount, before, after, after / before);
+    }
+
+    // 기존 방식: IDENTITY INSERT 후 주문번호 UPDATE, 상세 행별 INSERT
+    private void createOrderBefore(int lineCount) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO order_item (order_num, user_code, final_price, delivery_status, created_at) "
+                            + "VALUES ('temp', ?, ?, '결제대기', CURRENT_TIMESTAMP)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, 1L);
+            ps.setInt(2, 68000);
+            return ps;
+        }, keyHolder);
+        int orderId = keyHolder.getKey().intValue();
+        jdbcTemplate.update("UPDATE order_item SET order_num = ? WHERE order_id = ?", "mongsom_" + orderId, orderId);
+
+        for (OrderDetail detail : details(orderId, lineCount)) {
+            jdbcTemplate.update("INSERT INTO order_detail (order_id, user_code, product_id, option1, option2, quantity, "
+                    + "base_price, option_price, unit_total_price, line_total_price, review_status, order_status, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                    detail.getOrderId(), detail.getUserCode(), detail.getProductId(), detail.getOption1(),
+                    detail.getOption2(), detail.getQuantity(), detail.getBasePrice(), detail.getOptionPrice(),
+                    detail.getUnitTotalPrice(), detail.getLineTotalPrice(), detail.getReviewStatus(), detail.getOrderStatus());
+        }
+
+        insertPayment(orderId);
+    }
+
+    // 변경 방식: 발급 ID로 주문번호까지 INSERT 1회, 상세 다중 행 INSERT 1회
+    private void createOrderAfter(OrderIdAllocator orderIdAllocator,
+                                  OrderDetailJdbcRepository orderDetailJdbcRepository, int lineCount) {
+        int orderId = orderIdAllocator.nextId();
+        jdbcTemplate.update("INSERT INTO order_item (order_id, order_num, user_code, final_price, delivery_status, created_at) "
+                + "VALUES (?, ?, ?, ?, '결제대기', CURRENT_TIMESTAMP)", orderId, "mongsom_" + orderId, 1L, 68000);
+        orderDetailJdbcRepository.insertAll(details(orderId, lineCount));
+        insertPayment(orderId);
+    }
+
+    private void insertPayment(int orderId) {
+        jdbcTemplate.update("INSERT INTO payments (order_id, user_code, payment_amount, payment_status) VALUES (?, ?, 0, '대기중')",
+                orderId, 1L);
+    }
+
+    private List<OrderDetail> details(int orderId, int lineCount) {
+        List<OrderDetail> details = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            details.add(OrderDetail.createOrderDetail(orderId, 1L, i + 1, 10 + i, null, 2, 30000, 1000));
+        }
+        return details;
+    }
+
+    private double run(int orderCount, Runnable createOrder) {
+        long start = System.nanoTime();
+        for (int i = 0; i < orderCount; i++) {
+            transactionTemplate.executeWithoutResult(status -> createOrder.run());
+        }
+        return orderCount / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,174 @@
+package com.mongsom.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongsom.dev.common.dto.RespDto;
+import com.mongsom.dev.dto.payment.reqDto.PaymentConfirmReqDto;
+import com.mongsom.dev.entity.MileageLedger;
+import com.mongsom.dev.entity.OrderItem;
+import com.mongsom.dev.entity.Payments;
+import com.mongsom.dev.repository.OrderItemRepository;
+import com.mongsom.dev.repository.PaymentsRepository;
+import com.mongsom.dev.service.event.DomainEventPublisher;
+
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceTest {
+
+    @Mock
+    private TossPaymentClient tossPaymentClient;
+
+    @Mock
+    private PaymentIdempotencyService paymentIdempotencyService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private PaymentsRepository paymentsRepository;
+
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @Mock
+    private MileageService mileageService;
+
+    @InjectMocks
+    private PaymentService paymentService;
+
+    private final PaymentConfirmReqDto reqDto = PaymentConfirmReqDto.builder()
+            .userCode(1L)
+            .paymentKey("pk_1")
+            .orderId("mongsom_1")
+            .amount(68000)
+            .build();
+
+    @Test
+    void 동시_중복_승인_요청은_토스를_한_번만_호출한다() throws Exception {
+        CompletableFuture<Map<String, Object>> pending = new CompletableFuture<>();
+        when(paymentIdempotencyService.claim("pk_1", "mongsom_1")).thenReturn(PaymentIdempotencyService.Claim.acquired());
+        when(tossPaymentClient.confirm("pk_1", "mongsom_1", 68000)).thenReturn(pending);
+
+        CompletableFuture<RespDto<String>> first = paymentService.confirmPayment(reqDto);
+        CompletableFuture<RespDto<String>> second = paymentService.confirmPayment(reqDto);
+
+        assertThat(second).isSameAs(first);
+
+        pending.complete(Map.of("status", "ABORTED"));
+
+        assertThat(first.get(1, TimeUnit.SECONDS).getCode()).isEqualTo(-1);
+        verify(tossPaymentClient, times(1)).confirm(anyString(), anyString(), anyInt());
+        verify(paymentIdempotencyService, times(1)).claim(anyString(), anyString());
+        verify(paymentIdempotencyService, times(1)).complete(eq("pk_1"), any());
+    }
+
+    @Test
+    void 완료된_승인은_저장된_결과를_반환한다() throws Exception {
+        RespDto<String> stored = RespDto.<String>builder().code(1).data("결제가 승인되었습니다.").build();
+        when(paymentIdempotencyService.claim("pk_1", "mongsom_1")).thenReturn(PaymentIdempotencyService.Claim.completed(stored));
+
+        RespDto<String> result = paymentService.confirmPayment(reqDto).get(1, TimeUnit.SECONDS);
+
+        assertThat(result.getCode()).isEqualTo(1);
+        assertThat(result.getData()).isEqualTo("결제가 승인되었습니다.");
+        verifyNoInteractions(tossPaymentClient, transactionTemplate, orderItemRepository, mileageService, domainEventPublisher);
+    }
+
+    @Test
+    void PG_타임아웃이면_선점을_해제해_재시도를_허용한다() throws Exception {
+        when(paymentIdempotencyService.claim("pk_1", "mongsom_1")).thenReturn(PaymentIdempotencyService.Claim.acquired());
+        when(tossPaymentClient.confirm("pk_1", "mongsom_1", 68000))
+                .thenReturn(CompletableFuture.failedFuture(new java.net.http.HttpTimeoutException("request timed out")));
+
+        RespDto<String> result = paymentService.confirmPayment(reqDto).get(1, TimeUnit.SECONDS);
+
+        assertThat(result.getCode()).isEqualTo(-1);
+        verify(paymentIdempotencyService).release("pk_1");
+        verify(paymentIdempotencyService, never()).complete(anyString(), any());
+    }
+
+    @Test
+    void PG_승인_후_마일리지_차감에_실패하면_결과를_확정하지_않고_롤백한다() throws Exception {
+        when(paymentIdempotencyService.claim("pk_1", "mongsom_1")).thenReturn(PaymentIdempotencyService.Claim.acquired());
+        when(tossPaymentClient.confirm("pk_1", "mongsom_1", 68000)).thenReturn(CompletableFuture.completedFuture(approved()));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(orderItemRepository.findByOrderNum("mongsom_1")).thenReturn(Optional.of(OrderItem.builder()
+                .orderId(1)
+                .userCode(1L)
+                .usedMileage(3000)
+                .deliveryStatus("결제대기")
+                .build()));
+        when(mileageService.deduct(1L, 3000, MileageLedger.REASON_ORDER_USE, 1)).thenReturn(false);
+
+        RespDto<String> result = paymentService.confirmPayment(reqDto).get(1, TimeUnit.SECONDS);
+
+        assertThat(result.getCode()).isEqualTo(-1);
+        assertThat(result.getData()).isEqualTo("마일리지 차감에 실패했습니다.");
+        verify(paymentIdempotencyService).markPgApproved("pk_1");
+        verify(paymentIdempotencyService).release("pk_1");
+        verify(paymentIdempotencyService, never()).complete(anyString(), any());
+        verify(orderItemRepository, never()).save(any());
+        verifyNoInteractions(domainEventPublisher);
+    }
+
+    @Test
+    void PG_승인_완료_건_재시도는_승인_대신_결제_조회로_반영한다() throws Exception {
+        when(paymentIdempotencyService.claim("pk_1", "mongsom_1")).thenReturn(PaymentIdempotencyService.Claim.acquired(true));
+        when(tossPaymentClient.getPayment("pk_1")).thenReturn(CompletableFuture.completedFuture(approved()));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(orderItemRepository.findByOrderNum("mongsom_1")).thenReturn(Optional.of(OrderItem.builder()
+                .orderId(1)
+                .userCode(1L)
+                .usedMileage(0)
+                .deliveryStatus("결제대기")
+                .build()));
+        when(paymentsRepository.findByOrderId(1)).thenReturn(List.of(new Payments()));
+
+        RespDto<String> result = paymentService.confirmPayment(reqDto).get(1, TimeUnit.SECONDS);
+
+        assertThat(result.getCode()).isEqualTo(1);
+        verify(tossPaymentClient, never()).confirm(anyString(), anyString(), anyInt());
+        verify(paymentIdempotencyService).complete("pk_1", result);
+    }
+
+    private Map<String, Object> approved() {
+        return Map.of(
+                "status", "DONE",
+                "orderId", "mongsom_1",
+                "paymentKey", "pk_1",
+                "method", "간편결제",
+                "totalAmount", 68000);
+    }
+}
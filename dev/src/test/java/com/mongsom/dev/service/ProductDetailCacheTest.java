@@ -0,0 +1,220 @@
+package com.mongsom.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mongsom.dev.common.dto.RespDto;
+import com.mongsom.dev.dto.admin.product.reqDto.AdminProductUpdateReqDto;
+import com.mongsom.dev.dto.admin.product.respDto.ProductCacheStatsRespDto;
+import com.mongsom.dev.dto.product.respDto.ProductDetailRespDto;
+import com.mongsom.dev.entity.Product;
+import com.mongsom.dev.entity.ProductOptionType;
+import com.mongsom.dev.entity.ProductOptionValue;
+import com.mongsom.dev.repository.CartRepository;
+import com.mongsom.dev.repository.OptionCombinationMappingRepository;
+import com.mongsom.dev.repository.ProductImgRepository;
+import com.mongsom.dev.repository.ProductOptionCombinationRepository;
+import com.mongsom.dev.repository.ProductOptionTypeRepository;
+import com.mongsom.dev.repository.ProductOptionValueRepository;
+import com.mongsom.dev.repository.ProductRepository;
+import com.mongsom.dev.service.admin.AdminProductService;
+import com.mongsom.dev.service.admin.OptionCombinationGenerator;
+import com.mongsom.dev.service.admin.ProductUpdateDiffer;
+import com.mongsom.dev.service.search.SearchIndexService;
+
+/**
+ * 상품 상세 캐시 (적중/미스 통계, 크기/TTL 만료, 관리자 수정 커밋 후 무효화)
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductDetailCacheTest {
+
+    private static final Integer PRODUCT_ID = 1;
+    private static final long MAX_SIZE = 2;
+    private static final long TTL_SECONDS = 600;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductOptionTypeRepository productOptionTypeRepository;
+
+    @Mock
+    private ProductImgRepository productImgRepository;
+
+    @Mock
+    private ProductOptionValueRepository productOptionValueRepository;
+
+    @Mock
+    private ProductOptionCombinationRepository productOptionCombinationRepository;
+
+    @Mock
+    private OptionCombinationMappingRepository optionCombinationMappingRepository;
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private ProductStatsService productStatsService;
+
+    @Mock
+    private OptionNameDictionary optionNameDictionary;
+
+    @Mock
+    private OptionCombinationGenerator optionCombinationGenerator;
+
+    @Mock
+    private ProductUpdateDiffer productUpdateDiffer;
+
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private H2TestDatabase database;
+    private ProductDetailCache productDetailCache;
+    private AdminProductService adminProductService;
+
+    @BeforeEach
+    void setUp() {
+        database = H2TestDatabase.create("product_detail_cache");
+        // 크기 초과 정리를 호출 스레드에서 바로 실행해 결과를 확인
+        productDetailCache = new ProductDetailCache(MAX_SIZE, TTL_SECONDS, nanoTime::get, Runnable::run);
+        adminProductService = new AdminProductService(productRepository, productOptionTypeRepository,
+                productImgRepository, productOptionValueRepository, productOptionCombinationRepository,
+                optionCombinationMappingRepository, cartRepository, productStatsService, productDetailCache,
+                optionNameDictionary, optionCombinationGenerator, productUpdateDiffer, searchIndexService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.drop();
+    }
+
+    @Test
+    void 적중과_미스를_통계에_기록한다() {
+        assertThat(productDetailCache.get(PRODUCT_ID)).isNull();
+        productDetailCache.put(PRODUCT_ID, detail(PRODUCT_ID));
+        assertThat(productDetailCache.get(PRODUCT_ID)).isNotNull();
+        assertThat(productDetailCache.get(PRODUCT_ID)).isNotNull();
+
+        ProductCacheStatsRespDto stats = productDetailCache.getStats();
+        assertThat(stats.getHitCount()).isEqualTo(2);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getSize()).isEqualTo(1);
+        assertThat(stats.getMaxSize()).isEqualTo(MAX_SIZE);
+        assertThat(stats.getTtlSeconds()).isEqualTo(TTL_SECONDS);
+    }
+
+    @Test
+    void 최대_크기를_넘으면_하나를_내보낸다() {
+        for (int productId = 1; productId <= MAX_SIZE + 1; productId++) {
+            productDetailCache.put(productId, detail(productId));
+        }
+
+        ProductCacheStatsRespDto stats = productDetailCache.getStats();
+        assertThat(stats.getSize()).isEqualTo(MAX_SIZE);
+        assertThat(stats.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void TTL이_지나면_만료된다() {
+        productDetailCache.put(PRODUCT_ID, detail(PRODUCT_ID));
+
+        nanoTime.addAndGet(Duration.ofSeconds(TTL_SECONDS - 1).toNanos());
+        assertThat(productDetailCache.get(PRODUCT_ID)).isNotNull();
+
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(productDetailCache.get(PRODUCT_ID)).isNull();
+    }
+
+    @Test
+    void 상품_수정은_커밋_전에_다시_채워진_캐시도_커밋_후_제거한다() {
+        when(productRepository.findByIdOnly(PRODUCT_ID)).thenReturn(Optional.of(product()));
+        AdminProductUpdateReqDto reqDto = AdminProductUpdateReqDto.builder()
+                .name("수정 상품")
+                .basePrice(10000)
+                .premium(0)
+                .stockStatus(1)
+                .isAvailable(1)
+                .build();
+
+        assertEvictedAfterCommit(() -> adminProductService.updateProduct(PRODUCT_ID, reqDto));
+    }
+
+    @Test
+    void 상품_삭제는_커밋_전에_다시_채워진_캐시도_커밋_후_제거한다() {
+        when(productRepository.findByIdOnly(PRODUCT_ID)).thenReturn(Optional.of(product()));
+
+        assertEvictedAfterCommit(() -> adminProductService.softDeleteProduct(PRODUCT_ID));
+    }
+
+    @Test
+    void 옵션_타입_삭제는_커밋_전에_다시_채워진_캐시도_커밋_후_제거한다() {
+        when(productOptionTypeRepository.findById(10)).thenReturn(Optional.of(optionType()));
+        when(productOptionValueRepository.findByOptionTypeId(10)).thenReturn(List.of());
+
+        assertEvictedAfterCommit(() -> adminProductService.deleteOptionType(10));
+    }
+
+    @Test
+    void 옵션_값_삭제는_커밋_전에_다시_채워진_캐시도_커밋_후_제거한다() {
+        ProductOptionValue optionValue = ProductOptionValue.builder()
+                .optionValueId(100)
+                .valueName("빨강")
+                .build();
+        optionValue.setOptionType(optionType());
+        when(productOptionValueRepository.findById(100)).thenReturn(Optional.of(optionValue));
+
+        assertEvictedAfterCommit(() -> adminProductService.deleteOptionValue(100));
+    }
+
+    // 관리자 변경 트랜잭션 안에서 다른 요청이 이전 상세로 캐시를 다시 채워도 커밋 후에는 비어 있어야 함
+    private void assertEvictedAfterCommit(Supplier<RespDto<?>> adminChange) {
+        productDetailCache.put(PRODUCT_ID, detail(PRODUCT_ID));
+
+        database.getTransactionTemplate().executeWithoutResult(status -> {
+            assertThat(adminChange.get().getCode()).isEqualTo(1);
+            assertThat(productDetailCache.get(PRODUCT_ID)).isNull();
+
+            productDetailCache.put(PRODUCT_ID, detail(PRODUCT_ID));
+            assertThat(productDetailCache.get(PRODUCT_ID)).isNotNull();
+        });
+
+        assertThat(productDetailCache.get(PRODUCT_ID)).isNull();
+    }
+
+    private Product product() {
+        return Product.builder()
+                .productId(PRODUCT_ID)
+                .name("상품")
+                .basePrice(10000)
+                .build();
+    }
+
+    private ProductOptionType optionType() {
+        return ProductOptionType.builder()
+                .optionTypeId(10)
+                .productId(PRODUCT_ID)
+                .typeName("색상")
+                .build();
+    }
+
+    private ProductDetailRespDto detail(Integer productId) {
+        return ProductDetailRespDto.builder()
+                .productId(productId)
+                .name("상품")
+                .build();
+    }
+}
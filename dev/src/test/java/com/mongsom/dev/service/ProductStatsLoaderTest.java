@@ -0,0 +1,102 @@
+package com.mongsom.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.mongsom.dev.entity.Product;
+import com.mongsom.dev.repository.ProductImgRepository;
+import com.mongsom.dev.repository.ProductStatsRepository;
+
+/**
+ * 상품 목록 통계 일괄 조회 (H2 + Hibernate, 실제 실행된 SQL 수 확인)
+ */
+class ProductStatsLoaderTest {
+
+    private H2JpaTestDatabase database;
+    private ProductStatsLoader productStatsLoader;
+
+    @BeforeEach
+    void setUp() {
+        database = H2JpaTestDatabase.create("product_stats_loader");
+        productStatsLoader = new ProductStatsLoader(database.repository(ProductStatsRepository.class),
+                new ProductMainImageLoader(database.repository(ProductImgRepository.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.drop();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 100})
+    void 페이지_크기와_상관없이_쿼리_수가_일정하다(int pageSize) {
+        List<Product> products = new ArrayList<>();
+        LocalDateTime createdAt = LocalDateTime.now();
+        for (int i = 1; i <= pageSize; i++) {
+            products.add(product(i));
+            insertImage(i, "https://img/" + i + ".jpg", createdAt);
+            // 집계 행이 없는 상품도 섞어서 조회
+            if (i % 2 == 1) {
+                insertStats(i, i, 1, 5, 1);
+            }
+        }
+
+        database.statistics().clear();
+        Map<Integer, ProductStatsLoader.StatsView> statsMap = database.getTransactionTemplate()
+                .execute(status -> productStatsLoader.load(products));
+
+        assertThat(statsMap).hasSize(pageSize);
+        // product_stats PK IN 조회 1회 + 대표 이미지 1회
+        assertThat(database.statistics().getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 상품별_통계를_조립한다() {
+        insertStats(1, 5, 3, 13, 3);
+        insertStats(2, 7, 0, 0, 0);
+        LocalDateTime createdAt = LocalDateTime.now();
+        insertImage(1, "https://img/1-a.jpg", createdAt);
+        insertImage(1, "https://img/1-b.jpg", createdAt.plusSeconds(1));
+
+        Map<Integer, ProductStatsLoader.StatsView> statsMap = database.getTransactionTemplate()
+                .execute(status -> productStatsLoader.load(List.of(product(1), product(2), product(3))));
+
+        assertThat(statsMap.get(1).getReviewCount()).isEqualTo(3);
+        assertThat(statsMap.get(1).getAverageRating()).isEqualTo(4.3);
+        assertThat(statsMap.get(1).getOrderCount()).isEqualTo(5);
+        assertThat(statsMap.get(1).getMainImageUrl()).isEqualTo("https://img/1-a.jpg");
+        assertThat(statsMap.get(2).getReviewCount()).isZero();
+        assertThat(statsMap.get(2).getAverageRating()).isZero();
+        assertThat(statsMap.get(2).getOrderCount()).isEqualTo(7);
+        assertThat(statsMap.get(2).getMainImageUrl()).isNull();
+        assertThat(statsMap.get(3).getOrderCount()).isZero();
+    }
+
+    private Product product(int productId) {
+        return Product.builder().productId(productId).name("상품" + productId).basePrice(1000).build();
+    }
+
+    private void insertStats(int productId, int orderCount, int reviewCount, long ratingSum, int ratedCount) {
+        database.getJdbcTemplate().update("INSERT INTO product_stats (product_id, order_count, review_count, "
+                        + "rating_sum, rated_count, rating_1_count, rating_2_count, rating_3_count, rating_4_count, "
+                        + "rating_5_count, photo_review_count, qna_count, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, 0, 0, 0, 0, 0, 0, 0, NOW())",
+                productId, orderCount, reviewCount, ratingSum, ratedCount);
+    }
+
+    private void insertImage(int productId, String url, LocalDateTime createdAt) {
+        database.getJdbcTemplate().update("INSERT INTO product_img (product_id, product_img_url, created_at) "
+                + "VALUES (?, ?, ?)", productId, url, Timestamp.valueOf(createdAt));
+    }
+}
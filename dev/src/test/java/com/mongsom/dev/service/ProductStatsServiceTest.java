@@ -0,0 +1,81 @@
+package com.mongsom.dev.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mongsom.dev.repository.ProductStatsRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStatsServiceTest {
+
+    private static final Integer PRODUCT_ID = 1;
+
+    @Mock
+    private ProductStatsRepository productStatsRepository;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @InjectMocks
+    private ProductStatsService productStatsService;
+
+    @Test
+    void 리뷰_작성은_개수_평점_분포_포토를_함께_증가시킨다() {
+        productStatsService.reviewAdded(PRODUCT_ID, 4, true);
+
+        verify(productStatsRepository).addReviewSummary(PRODUCT_ID, 1, 4, 1, 0, 0, 0, 1, 0, 1);
+        verify(productDetailCache).evict(PRODUCT_ID);
+    }
+
+    @Test
+    void 평점이_없는_리뷰는_개수만_반영한다() {
+        productStatsService.reviewRemoved(PRODUCT_ID, null, false);
+
+        verify(productStatsRepository).addReviewSummary(PRODUCT_ID, -1, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    @Test
+    void 리뷰_수정은_평점과_포토_변경분만_반영한다() {
+        productStatsService.reviewUpdated(PRODUCT_ID, 3, true, 5, false);
+
+        verify(productStatsRepository).addReviewSummary(PRODUCT_ID, 0, 2, 0, 0, 0, -1, 0, 1, -1);
+    }
+
+    @Test
+    void 변경이_없는_수정은_쓰지_않는다() {
+        productStatsService.reviewUpdated(PRODUCT_ID, 5, true, 5, true);
+
+        verify(productStatsRepository, never()).addReviewSummary(any(), any(), any(), any(), any(),
+                any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void 대사는_불일치_상품만_재계산한다() {
+        when(productStatsRepository.findDriftedProductIds()).thenReturn(List.of(3, 7));
+
+        productStatsService.reconcile();
+
+        verify(productStatsRepository).rebuildByProductIdIn(List.of(3, 7));
+        verify(productStatsRepository, never()).insertMissing();
+        verify(productDetailCache).evict(3);
+        verify(productDetailCache).evict(7);
+    }
+
+    @Test
+    void 기동_시에는_집계_행이_없는_상품만_생성한다() {
+        productStatsService.backfillOnStartup();
+
+        verify(productStatsRepository).insertMissing();
+        verify(productStatsRepository, never()).rebuildByProductIdIn(any());
+    }
+}
@@ -0,0 +1,179 @@
+package com.mongsom.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mongsom.dev.dto.admin.product.reqDto.AdminProductUpdateReqDto;
+import com.mongsom.dev.dto.admin.product.respDto.AdminProductUpdateRespDto;
+import com.mongsom.dev.entity.ProductImg;
+import com.mongsom.dev.entity.ProductOptionType;
+import com.mongsom.dev.entity.ProductOptionValue;
+import com.mongsom.dev.repository.CartRepository;
+import com.mongsom.dev.repository.ProductImgRepository;
+import com.mongsom.dev.repository.ProductJdbcRepository;
+import com.mongsom.dev.repository.ProductOptionTypeRepository;
+import com.mongsom.dev.repository.ProductOptionValueRepository;
+import com.mongsom.dev.service.admin.ProductUpdateDiffer;
+
+@ExtendWith(MockitoExtension.class)
+class ProductUpdateDifferTest {
+
+    private static final Integer PRODUCT_ID = 1;
+
+    @Mock
+    private ProductImgRepository productImgRepository;
+
+    @Mock
+    private ProductOptionTypeRepository productOptionTypeRepository;
+
+    @Mock
+    private ProductOptionValueRepository productOptionValueRepository;
+
+    @Mock
+    private ProductJdbcRepository productJdbcRepository;
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private OptionNameDictionary optionNameDictionary;
+
+    @InjectMocks
+    private ProductUpdateDiffer productUpdateDiffer;
+
+    @Test
+    void 이미지는_ID로_비교해_URL이_바뀐_것만_수정하고_신규는_추가한다() {
+        when(productImgRepository.findByProductId(PRODUCT_ID)).thenReturn(List.of(
+                image(11, "a.jpg"), image(12, "b.jpg"), image(13, "c.jpg")));
+        AdminProductUpdateRespDto.UpdateSummary summary = emptySummary();
+
+        productUpdateDiffer.applyImages(PRODUCT_ID, List.of(
+                imageDto(11, "a.jpg", 0), imageDto(12, "x.jpg", 0), imageDto(13, "c.jpg", 1),
+                imageDto(null, "d.jpg", 0)), summary);
+
+        ArgumentCaptor<List<ProductImg>> updated = listCaptor();
+        verify(productJdbcRepository).updateImageUrls(updated.capture());
+        assertThat(updated.getValue()).extracting(ProductImg::getProductImgId).containsExactly(12);
+        assertThat(updated.getValue()).extracting(ProductImg::getProductImgUrl).containsExactly("x.jpg");
+        verify(productJdbcRepository).insertImages(PRODUCT_ID, List.of("d.jpg"));
+        verify(productImgRepository).deleteByProductImgIdIn(List.of(13));
+        assertThat(summary.getUpdatedImages()).isEqualTo(1);
+        assertThat(summary.getAddedImages()).isEqualTo(1);
+        assertThat(summary.getDeletedImages()).isEqualTo(1);
+    }
+
+    @Test
+    void 첫_이미지를_지우면_그_행만_삭제하고_나머지는_건드리지_않는다() {
+        List<ProductImg> existing = new ArrayList<>();
+        List<AdminProductUpdateReqDto.ProductImageDto> request = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            existing.add(image(11 + i, "img" + i + ".jpg"));
+            request.add(imageDto(11 + i, "img" + i + ".jpg", i == 0 ? 1 : 0));
+        }
+        when(productImgRepository.findByProductId(PRODUCT_ID)).thenReturn(existing);
+        AdminProductUpdateRespDto.UpdateSummary summary = emptySummary();
+
+        productUpdateDiffer.applyImages(PRODUCT_ID, request, summary);
+
+        verify(productJdbcRepository).updateImageUrls(List.of());
+        verify(productJdbcRepository).insertImages(PRODUCT_ID, List.of());
+        verify(productImgRepository).deleteByProductImgIdIn(List.of(11));
+        assertThat(summary.getUpdatedImages()).isZero();
+        assertThat(summary.getDeletedImages()).isEqualTo(1);
+    }
+
+    @Test
+    void 요청에서_빠진_기존_이미지는_삭제한다() {
+        when(productImgRepository.findByProductId(PRODUCT_ID)).thenReturn(List.of(
+                image(11, "a.jpg"), image(12, "b.jpg"), image(13, "c.jpg")));
+        AdminProductUpdateRespDto.UpdateSummary summary = emptySummary();
+
+        productUpdateDiffer.applyImages(PRODUCT_ID, List.of(imageDto(11, "a.jpg", 0), imageDto(13, "c.jpg", 0)), summary);
+
+        verify(productJdbcRepository).updateImageUrls(List.of());
+        verify(productImgRepository).deleteByProductImgIdIn(List.of(12));
+    }
+
+    @Test
+    void 옵션은_바뀐_값만_수정하고_삭제_품절된_값의_장바구니만_지운다() {
+        when(productOptionTypeRepository.findAllByProductIdIncludingDeleted(PRODUCT_ID)).thenReturn(List.of(
+                ProductOptionType.builder().optionTypeId(10).productId(PRODUCT_ID).typeName("색상")
+                        .isRequired(1).sortOrder(0).build()));
+        when(productOptionValueRepository.findByOptionTypeIdInIncludingDeleted(anyCollection())).thenReturn(List.of(
+                optionValue(101, "블랙", 1), optionValue(102, "화이트", 1), optionValue(103, "레드", 1)));
+        AdminProductUpdateRespDto.UpdateSummary summary = emptySummary();
+
+        productUpdateDiffer.applyOptions(PRODUCT_ID, List.of(AdminProductUpdateReqDto.OptionTypeDto.builder()
+                .optionTypeId(10).typeName("색상").isRequired(1).sortOrder(0)
+                .optionValues(List.of(
+                        optionValueDto(101, "블랙", 1, 0),   // 변경 없음
+                        optionValueDto(102, "화이트", 0, 0), // 품절 전환
+                        optionValueDto(103, "레드", 1, 1),   // 삭제
+                        optionValueDto(null, "블루", 1, 0))) // 신규
+                .build()), summary);
+
+        ArgumentCaptor<List<ProductOptionValue>> updated = listCaptor();
+        verify(productJdbcRepository).updateOptionValues(updated.capture());
+        assertThat(updated.getValue()).extracting(ProductOptionValue::getOptionValueId).containsExactly(102);
+        verify(productJdbcRepository).updateOptionTypes(List.of());
+
+        ArgumentCaptor<Collection<Integer>> cartOptionIds = ArgumentCaptor.forClass(Collection.class);
+        verify(cartRepository).deleteByOptionValueIdIn(cartOptionIds.capture());
+        assertThat(cartOptionIds.getValue()).containsExactlyInAnyOrder(102, 103);
+        verify(productOptionValueRepository).deleteByOptionValueIdIn(List.of(103));
+        verify(productOptionTypeRepository, never()).deleteByOptionTypeIdIn(any());
+        verify(productOptionTypeRepository, never()).save(any());
+
+        assertThat(summary.getAddedOptionValues()).isEqualTo(1);
+        assertThat(summary.getUpdatedOptionValues()).isEqualTo(1);
+        assertThat(summary.getDeletedOptionValues()).isEqualTo(1);
+        assertThat(summary.getUpdatedOptionTypes()).isZero();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> ArgumentCaptor<List<T>> listCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+    }
+
+    private AdminProductUpdateRespDto.UpdateSummary emptySummary() {
+        return AdminProductUpdateRespDto.UpdateSummary.builder()
+                .updatedImages(0).addedImages(0).deletedImages(0)
+                .updatedOptionTypes(0).addedOptionTypes(0).deletedOptionTypes(0)
+                .updatedOptionValues(0).addedOptionValues(0).deletedOptionValues(0)
+                .build();
+    }
+
+    private ProductImg image(Integer id, String url) {
+        return ProductImg.builder().productImgId(id).productId(PRODUCT_ID).productImgUrl(url).build();
+    }
+
+    private AdminProductUpdateReqDto.ProductImageDto imageDto(Integer id, String url, int isDeleted) {
+        return AdminProductUpdateReqDto.ProductImageDto.builder().productImgId(id).productImgUrl(url)
+                .isDeleted(isDeleted).build();
+    }
+
+    private ProductOptionValue optionValue(Integer id, String name, int stockStatus) {
+        return ProductOptionValue.builder().optionValueId(id).optionTypeId(10).valueName(name)
+                .priceAdjustment(0).stockStatus(stockStatus).sortOrder(0).build();
+    }
+
+    private AdminProductUpdateReqDto.OptionValueDto optionValueDto(Integer id, String name, int stockStatus, int isDeleted) {
+        return AdminProductUpdateReqDto.OptionValueDto.builder().optionValueId(id).valueName(name)
+                .priceAdjustment(0).stockStatus(stockStatus).sortOrder(0).isDeleted(isDeleted).build();
+    }
+}
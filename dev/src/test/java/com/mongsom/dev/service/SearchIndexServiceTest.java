@@ -0,0 +1,246 @@
+package com.mongsom.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.mongsom.dev.entity.Notice;
+import com.mongsom.dev.entity.Product;
+import com.mongsom.dev.entity.Qna;
+import com.mongsom.dev.repository.NoticeRepository;
+import com.mongsom.dev.repository.ProductRepository;
+import com.mongsom.dev.repository.QnaRepository;
+import com.mongsom.dev.repository.SearchIndexJdbcRepository;
+import com.mongsom.dev.service.search.SearchDocType;
+import com.mongsom.dev.service.search.SearchIndexService;
+import com.mongsom.dev.service.search.SearchTokenizer;
+
+/**
+ * 검색 색인 (H2 MariaDB 모드)
+ * - 토큰화, 순위, 수정/비밀글 반영, 페이징 검증
+ * - 지연시간 비교: 공지사항 10만 건에서 기존 LIKE '%kw%' vs 색인 검색
+ * 지연시간 비교 실행: BENCHMARK=true ./gradlew test --tests '*SearchIndexServiceTest'
+ */
+class SearchIndexServiceTest {
+
+    private static final int BENCHMARK_DOCUMENTS = 100_000;
+    private static final int BENCHMARK_RUNS = 20;
+
+    private H2TestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private SearchIndexJdbcRepository searchIndexJdbcRepository;
+    private SearchIndexService searchIndexService;
+    private NoticeRepository noticeRepository;
+    private ProductRepository productRepository;
+    private QnaRepository qnaRepository;
+
+    @BeforeEach
+    void setUp() {
+        database = H2TestDatabase.create("search_index");
+        jdbcTemplate = database.getJdbcTemplate();
+        searchIndexJdbcRepository = new SearchIndexJdbcRepository(jdbcTemplate);
+        noticeRepository = mock(NoticeRepository.class);
+        productRepository = mock(ProductRepository.class);
+        qnaRepository = mock(QnaRepository.class);
+        searchIndexService = new SearchIndexService(searchIndexJdbcRepository,
+                noticeRepository, productRepository, qnaRepository);
+
+        jdbcTemplate.execute("CREATE TABLE search_token (doc_type VARCHAR(10) NOT NULL, token VARCHAR(8) NOT NULL, "
+                + "doc_id INT NOT NULL, weight INT NOT NULL, PRIMARY KEY (doc_type, token, doc_id))");
+        jdbcTemplate.execute("CREATE INDEX idx_search_token_doc ON search_token (doc_type, doc_id)");
+        jdbcTemplate.execute("CREATE TABLE search_index_state (doc_type VARCHAR(10) PRIMARY KEY, built_at TIMESTAMP)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.drop();
+    }
+
+    @Test
+    void 단어를_두_글자씩_겹쳐_토큰으로_자른다() {
+        assertThat(SearchTokenizer.queryTokens("<p>몽솜이불&nbsp;SET!</p> 세일"))
+                .containsExactly("몽솜", "솜이", "이불", "se", "et", "세일");
+        assertThat(SearchTokenizer.queryTokens("이 불")).isEmpty();
+        assertThat(SearchTokenizer.isSearchable("불")).isFalse();
+        assertThat(SearchTokenizer.isSearchable("이불")).isTrue();
+    }
+
+    @Test
+    void 제목_일치를_본문_일치보다_위에_둔다() {
+        searchIndexService.indexNotice(notice(1, "배송 안내", "이불 세탁 방법 안내, 이불은 찬물에"));
+        searchIndexService.indexNotice(notice(2, "여름 이불 세일", "기간 한정"));
+        searchIndexService.indexNotice(notice(3, "교환 정책", "교환은 7일 이내"));
+
+        assertThat(search(SearchDocType.NOTICE, "이불").getContent()).containsExactly(2, 1);
+        assertThat(search(SearchDocType.NOTICE, "이불 세일").getContent()).containsExactly(2);
+        assertThat(search(SearchDocType.NOTICE, "담요").getContent()).isEmpty();
+    }
+
+    @Test
+    void 수정하면_이전_토큰은_검색되지_않는다() {
+        searchIndexService.indexNotice(notice(1, "여름 이불 세일", "기간 한정"));
+        searchIndexService.indexNotice(notice(1, "겨울 담요 세일", "기간 한정"));
+
+        assertThat(search(SearchDocType.NOTICE, "이불").getContent()).isEmpty();
+        assertThat(search(SearchDocType.NOTICE, "담요").getContent()).containsExactly(1);
+
+        searchIndexService.remove(SearchDocType.NOTICE, 1);
+        assertThat(search(SearchDocType.NOTICE, "담요").getContent()).isEmpty();
+    }
+
+    @Test
+    void 비밀글은_제목만_검색된다() {
+        searchIndexService.indexQna(qna(1, "배송 문의", "주소 변경 요청합니다", 1));
+        searchIndexService.indexQna(qna(2, "재입고 문의", "주소 변경 가능할까요", 0));
+
+        assertThat(search(SearchDocType.QNA, "주소 변경").getContent()).containsExactly(2);
+        assertThat(search(SearchDocType.QNA, "배송").getContent()).containsExactly(1);
+    }
+
+    @Test
+    void 페이지와_전체_건수를_돌려준다() {
+        for (int noticeId = 1; noticeId <= 25; noticeId++) {
+            searchIndexService.indexNotice(notice(noticeId, "몽솜 공지 " + noticeId, null));
+        }
+
+        Page<Integer> second = searchIndexService.search(SearchDocType.NOTICE, "공지", PageRequest.of(1, 10));
+        assertThat(second.getTotalElements()).isEqualTo(25);
+        assertThat(second.getContent()).hasSize(10);
+        assertThat(second.getContent().get(0)).isEqualTo(15); // 점수가 같으면 최신(큰 ID) 순
+
+        Page<Integer> first = searchIndexService.search(SearchDocType.NOTICE, "몽솜 공지 7", PageRequest.of(0, 10));
+        assertThat(first.getTotalElements()).isEqualTo(25); // 한 글자 단어(7)는 제외
+    }
+
+    @Test
+    void 판매중단_상품은_검색되지_않는다() {
+        searchIndexService.indexProduct(product(1, "여름 이불", 1));
+        searchIndexService.indexProduct(product(2, "겨울 이불", 0));
+        assertThat(search(SearchDocType.PRODUCT, "이불").getContent()).containsExactly(1);
+
+        searchIndexService.indexProduct(product(2, "겨울 이불", 1)); // 판매 재개
+        assertThat(search(SearchDocType.PRODUCT, "이불").getContent()).containsExactly(2, 1);
+    }
+
+    @Test
+    void 완료_기록이_없는_색인만_기동_시_다시_생성한다() {
+        when(noticeRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(notice(1, "여름 이불 세일", null))));
+        when(productRepository.findByDeleteStatus(eq(0), any(Pageable.class))).thenReturn(Page.empty());
+        when(qnaRepository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+        // 이전 재생성이 도중에 중단되어 일부 토큰만 남은 상태
+        searchIndexService.indexNotice(notice(9, "겨울 담요", null));
+
+        searchIndexService.buildMissingOnStartup();
+        assertThat(search(SearchDocType.NOTICE, "이불").getContent()).containsExactly(1);
+        assertThat(search(SearchDocType.NOTICE, "담요").getContent()).isEmpty();
+
+        searchIndexService.buildMissingOnStartup();
+        verify(noticeRepository, times(1)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+    void 공지사항_10만건_LIKE_대비_색인_검색_지연시간() {
+        jdbcTemplate.execute("CREATE TABLE notice (notice_id INT PRIMARY KEY, title VARCHAR(255), "
+                + "contents TEXT, created_at TIMESTAMP)");
+
+        String[] vocabulary = {"몽솜", "이불", "담요", "베개", "침구", "세트", "여름", "겨울", "배송", "안내",
+                "교환", "반품", "세일", "이벤트", "쿠폰", "적립", "포인트", "신상품", "재입고", "품절",
+                "세탁", "방법", "주의", "사항", "공지", "점검", "휴무", "택배", "지연", "결제"};
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        long indexStart = System.nanoTime();
+        for (int noticeId = 1; noticeId <= BENCHMARK_DOCUMENTS; noticeId++) {
+            String title = words(vocabulary, random, 3) + " " + noticeId;
+            String contents = words(vocabulary, random, 12);
+            rows.add(new Object[] {noticeId, title, contents});
+            searchIndexService.indexNotice(notice(noticeId, title, contents));
+            if (rows.size() == 1_000) {
+                jdbcTemplate.batchUpdate("INSERT INTO notice (notice_id, title, contents, created_at) "
+                        + "VALUES (?, ?, ?, CURRENT_TIMESTAMP)", rows);
+                rows.clear();
+            }
+        }
+        System.out.printf("색인 생성: %d건, %dms, 토큰 행 %d%n", BENCHMARK_DOCUMENTS,
+                (System.nanoTime() - indexStart) / 1_000_000,
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM search_token", Long.class));
+
+        Map<String, long[]> results = new HashMap<>();
+        for (String keyword : new String[] {"재입고 이벤트", "겨울 이불", "몽솜"}) {
+            PageRequest pageable = PageRequest.of(0, 10);
+            long likeTotal = 0;
+            long indexTotal = 0;
+            for (int run = 0; run < BENCHMARK_RUNS + 3; run++) {
+                long start = System.nanoTime();
+                String pattern = "%" + keyword + "%";
+                jdbcTemplate.queryForList("SELECT notice_id FROM notice WHERE title LIKE ? OR contents LIKE ? "
+                        + "ORDER BY created_at DESC LIMIT 10", Integer.class, pattern, pattern);
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notice WHERE title LIKE ? OR contents LIKE ?",
+                        Long.class, pattern, pattern);
+                long like = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                Page<Integer> page = searchIndexService.search(SearchDocType.NOTICE, keyword, pageable);
+                long index = System.nanoTime() - start;
+                assertThat(page.getContent()).isNotEmpty();
+
+                if (run >= 3) { // 워밍업 3회 제외
+                    likeTotal += like;
+                    indexTotal += index;
+                }
+            }
+            results.put(keyword, new long[] {likeTotal / BENCHMARK_RUNS / 1_000, indexTotal / BENCHMARK_RUNS / 1_000});
+        }
+        results.forEach((keyword, micros) -> System.out.printf("검색어 [%s] LIKE: %dus, 색인: %dus%n",
+                keyword, micros[0], micros[1]));
+    }
+
+    private Page<Integer> search(SearchDocType docType, String keyword) {
+        return searchIndexService.search(docType, keyword, PageRequest.of(0, 10));
+    }
+
+    private static Notice notice(int noticeId, String title, String contents) {
+        return Notice.builder().noticeId(noticeId).title(title).contents(contents).writer("관리자").build();
+    }
+
+    private static Product product(int productId, String name, int isAvailable) {
+        return Product.builder().productId(productId).name(name).deleteStatus(0).isAvailable(isAvailable).build();
+    }
+
+    private static Qna qna(int qnaCode, String title, String contents, int lockStatus) {
+        return Qna.builder().qnaCode(qnaCode).userCode(1L).qnaTitle(title).qnaWriter("회원")
+                .qnaContents(contents).lockStatus(lockStatus).build();
+    }
+
+    private static String words(String[] vocabulary, Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(vocabulary[random.nextInt(vocabulary.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,149 @@
+package com.mongsom.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 로컬 스텁 PG 서버로 TossPaymentClient 타임아웃/오류/동시성 제한 검증
+ */
+class TossPaymentClientTest {
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long delayMs;
+    private volatile int statusCode;
+    private volatile String responseBody;
+    private volatile CountDownLatch release;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        delayMs = 0;
+        statusCode = 200;
+        responseBody = "{\"status\":\"DONE\",\"orderId\":\"mongsom_1\",\"totalAmount\":68000}";
+        release = null;
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/payments", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 승인_성공_응답을_파싱한다() throws Exception {
+        Map<String, Object> body = client(1000, 5).confirm("pk_1", "mongsom_1", 68000).get(5, TimeUnit.SECONDS);
+
+        assertThat(body.get("status")).isEqualTo("DONE");
+        assertThat(body.get("totalAmount")).isEqualTo(68000);
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void PG_오류_응답은_TossApiException으로_전달된다() {
+        statusCode = 400;
+        responseBody = "{\"code\":\"ALREADY_PROCESSED_PAYMENT\",\"message\":\"이미 처리된 결제 입니다.\"}";
+
+        CompletableFuture<Map<String, Object>> future = client(1000, 5).confirm("pk_1", "mongsom_1", 68000);
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOfSatisfying(TossPaymentClient.TossApiException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(400);
+                    assertThat(e.getResponseBody()).contains("ALREADY_PROCESSED_PAYMENT");
+                });
+    }
+
+    @Test
+    void 느린_PG_응답은_타임아웃으로_끊는다() {
+        delayMs = 2000;
+        TossPaymentClient client = client(300, 5);
+
+        long start = System.nanoTime();
+        CompletableFuture<Map<String, Object>> future = client.confirm("pk_1", "mongsom_1", 68000);
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(HttpTimeoutException.class);
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(1500);
+        assertThat(client.availablePermits()).isEqualTo(5);
+    }
+
+    @Test
+    void 동시_요청_한도를_넘으면_거절한다() throws Exception {
+        release = new CountDownLatch(1);
+        TossPaymentClient client = client(5000, 2);
+
+        CompletableFuture<Map<String, Object>> first = client.confirm("pk_1", "mongsom_1", 1000);
+        CompletableFuture<Map<String, Object>> second = client.confirm("pk_2", "mongsom_2", 1000);
+        CompletableFuture<Map<String, Object>> third = client.confirm("pk_3", "mongsom_3", 1000);
+
+        assertThatThrownBy(() -> third.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).get("status")).isEqualTo("DONE");
+        assertThat(second.get(5, TimeUnit.SECONDS).get("status")).isEqualTo("DONE");
+        assertThat(client.availablePermits()).isEqualTo(2);
+    }
+
+    private TossPaymentClient client(long readTimeoutMs, int maxConcurrency) {
+        return new TossPaymentClient(new ObjectMapper(), "test_sk",
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                1000, readTimeoutMs, maxConcurrency, 100);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            if (release != null) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            if (delayMs > 0) {
+                Thread.sleep(delayMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] bytes = responseBody.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        try {
+            exchange.sendResponseHeaders(statusCode, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            // 클라이언트 타임아웃으로 연결이 먼저 끊긴 경우
+        } finally {
+            exchange.close();
+        }
+    }
+}